@@ -0,0 +1,74 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fortnite.pronos.benchmark.SyntheticIngestionData;
+
+/**
+ * Leaderboard page parsing with both implementations, and deduplication of the scraped rows. One
+ * operation handles a synthetic page (or row list) of {@code rows} rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FortniteTrackerHtmlParserBenchmark {
+
+  private static final String REGION = "EU";
+
+  @State(Scope.Benchmark)
+  public static class Page {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"jsoup", "streaming"})
+    public String parser;
+
+    FortniteTrackerHtmlParser htmlParser;
+    String html;
+
+    @Setup
+    public void setUp() {
+      htmlParser =
+          "streaming".equals(parser)
+              ? new FortniteTrackerStreamingHtmlParser()
+              : new FortniteTrackerHtmlParser();
+      html = SyntheticIngestionData.leaderboardHtml(rows);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Rows {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    final FortniteTrackerHtmlParser htmlParser = new FortniteTrackerHtmlParser();
+    List<ScrapedRow> scraped;
+
+    @Setup
+    public void setUp() {
+      scraped = htmlParser.parse(SyntheticIngestionData.leaderboardHtml(rows), REGION, 0);
+    }
+  }
+
+  @Benchmark
+  public List<ScrapedRow> parse(Page page) {
+    return page.htmlParser.parse(page.html, REGION, 0);
+  }
+
+  @Benchmark
+  public Map<String, ScrapedRow> deduplicate(Rows rows) {
+    return rows.htmlParser.deduplicate(rows.scraped);
+  }
+}
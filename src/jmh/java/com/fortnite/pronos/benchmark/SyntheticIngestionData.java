@@ -0,0 +1,119 @@
+package com.fortnite.pronos.benchmark;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic inputs for the ingestion benchmarks. The same {@code rows} always gives the same
+ * data, so runs before and after a change measure identical work.
+ *
+ * <p>Nicknames mimic what FortniteTracker returns: mostly plain ASCII, some with separators or
+ * upper case, a few with accents, and about 5% repeated in another case to exercise deduplication.
+ */
+public final class SyntheticIngestionData {
+
+  public static final String CSV_HEADER = "nickname,region,points,rank,snapshot_date";
+
+  private static final String[] REGIONS = {"EU", "NAC", "NAW", "BR", "ASIA", "OCE", "ME"};
+  private static final String[] STEMS = {
+    "Bugha", "Aqua", "Mongraal", "clix", "Mero", "Peterbot", "Queasy", "Malibuca", "Veno", "Khanada"
+  };
+  private static final String[] DECORATIONS = {"", "_", " ", ".", "-TTV", " Héllo", "Zoë"};
+  private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2026, 1, 15);
+  private static final long SEED = 42L;
+
+  private SyntheticIngestionData() {}
+
+  /** {@code rows} distinct-ish nicknames; roughly one in twenty repeats an earlier one. */
+  public static String[] nicknames(int rows) {
+    SplittableRandom random = new SplittableRandom(SEED);
+    String[] nicknames = new String[rows];
+    for (int i = 0; i < rows; i++) {
+      if (i > 0 && random.nextInt(20) == 0) {
+        nicknames[i] = nicknames[random.nextInt(i)].toUpperCase(Locale.ROOT);
+      } else {
+        String stem = STEMS[random.nextInt(STEMS.length)];
+        String decoration = DECORATIONS[random.nextInt(DECORATIONS.length)];
+        nicknames[i] = stem + decoration + i;
+      }
+    }
+    return nicknames;
+  }
+
+  public static String region(int row) {
+    return REGIONS[row % REGIONS.length];
+  }
+
+  /** Points decrease with the rank, like on a real leaderboard. */
+  public static int points(int rank) {
+    return 100_000 - rank;
+  }
+
+  /** A PR CSV with {@code rows} valid lines, in the format {@code PrCsvParser} expects. */
+  public static String prCsv(int rows) {
+    String[] nicknames = nicknames(rows);
+    StringBuilder csv = new StringBuilder(rows * 48).append(CSV_HEADER).append('\n');
+    for (int i = 0; i < rows; i++) {
+      int rank = i + 1;
+      csv.append('"')
+          .append(nicknames[i].replace(",", ""))
+          .append("\",")
+          .append(region(i))
+          .append(',')
+          .append(points(rank))
+          .append(',')
+          .append(rank)
+          .append(',')
+          .append(SNAPSHOT_DATE)
+          .append('\n');
+    }
+    return csv.toString();
+  }
+
+  /**
+   * A FortniteTracker leaderboard page with {@code rows} body rows, using the same markup as the
+   * live site (see {@code scraping/golden/ft-realistic-page.html}).
+   */
+  public static String leaderboardHtml(int rows) {
+    String[] nicknames = nicknames(rows);
+    StringBuilder html = new StringBuilder(rows * 640);
+    html.append("<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"UTF-8\">")
+        .append("<title>Fortnite Power Rankings | FortniteTracker</title>")
+        .append("<script>window.__INITIAL_STATE__ = {\"rows\": \"<tbody><tr>\"};</script>")
+        .append("</head><body><div class=\"trn-card\"><table class=\"trn-table\">\n")
+        .append("<thead><tr class=\"trn-table__row\"><th>Rank</th><th>Player</th>")
+        .append("<th class=\"column--highlight\">Points</th>")
+        .append("<th class=\"column--right\">Events</th>")
+        .append("</tr></thead>\n<tbody>\n");
+    for (int i = 0; i < rows; i++) {
+      int rank = i + 1;
+      String nickname = escapeHtml(nicknames[i]);
+      html.append("  <tr class=\"trn-table__row\">\n")
+          .append("    <td class=\"trn-table__column leaderboard-rank\" placement=\"")
+          .append(rank)
+          .append("\">")
+          .append(rank)
+          .append("</td>\n    <td class=\"trn-table__column\">\n")
+          .append("      <div class=\"leaderboard-user\">\n")
+          .append("        <img class=\"leaderboard-user__avatar\" src=\"/images/avatar/")
+          .append(rank)
+          .append(".png\" alt=\"\">\n")
+          .append("        <a class=\"leaderboard-user__nickname\" href=\"/profile/all/")
+          .append(rank)
+          .append("\">")
+          .append(nickname)
+          .append("</a>\n      </div>\n    </td>\n")
+          .append("    <td class=\"trn-table__column column--highlight\"><div>")
+          .append(String.format(Locale.ROOT, "%,d", points(rank)))
+          .append("</div></td>\n    <td class=\"trn-table__column column--right\">")
+          .append(rank % 40)
+          .append("</td>\n  </tr>\n");
+    }
+    return html.append("</tbody></table></div></body></html>\n").toString();
+  }
+
+  private static String escapeHtml(String text) {
+    return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+  }
+}
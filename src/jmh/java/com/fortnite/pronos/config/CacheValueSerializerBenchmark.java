@@ -0,0 +1,84 @@
+package com.fortnite.pronos.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fortnite.pronos.benchmark.SyntheticIngestionData;
+import com.fortnite.pronos.dto.player.CataloguePlayerDto;
+import com.fortnite.pronos.model.Player;
+
+/**
+ * Encodes and decodes a catalogue of {@code players} entries with the JSON serializer the caches
+ * used before and with {@link CataloguePlayerRedisSerializer}. The payload sizes of both are
+ * printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CacheValueSerializerBenchmark {
+
+  private static final int TRANCHES = 7;
+
+  @Param({"50", "500", "5000"})
+  public int players;
+
+  private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+  private final CataloguePlayerRedisSerializer binary = new CataloguePlayerRedisSerializer(json);
+  private List<CataloguePlayerDto> catalogue;
+  private byte[] jsonBytes;
+  private byte[] binaryBytes;
+
+  @Setup
+  public void setUp() {
+    String[] nicknames = SyntheticIngestionData.nicknames(players);
+    Player.Region[] regions = Player.Region.values();
+    catalogue = new ArrayList<>(players);
+    for (int player = 0; player < players; player++) {
+      catalogue.add(
+          new CataloguePlayerDto(
+              UUID.randomUUID(),
+              nicknames[player],
+              regions[player % regions.length].name(),
+              String.valueOf(1 + player % TRANCHES),
+              player % 10 == 0,
+              2025));
+    }
+    jsonBytes = json.serialize(catalogue);
+    binaryBytes = binary.serialize(catalogue);
+    System.out.printf(
+        "%n%d players: json=%d bytes, binary=%d bytes%n",
+        players, jsonBytes.length, binaryBytes.length);
+  }
+
+  @Benchmark
+  public byte[] jsonEncode() {
+    return json.serialize(catalogue);
+  }
+
+  @Benchmark
+  public byte[] binaryEncode() {
+    return binary.serialize(catalogue);
+  }
+
+  @Benchmark
+  public Object jsonDecode() {
+    return json.deserialize(jsonBytes);
+  }
+
+  @Benchmark
+  public Object binaryDecode() {
+    return binary.deserialize(binaryBytes);
+  }
+}
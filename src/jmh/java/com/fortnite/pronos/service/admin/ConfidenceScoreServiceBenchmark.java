@@ -0,0 +1,61 @@
+package com.fortnite.pronos.service.admin;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fortnite.pronos.benchmark.SyntheticIngestionData;
+import com.fortnite.pronos.domain.player.identity.model.PlayerIdentityEntry;
+
+/**
+ * Scores {@code rows} identity candidates per operation: a third match exactly, a third partially
+ * and a third not at all, so every branch of {@link ConfidenceScoreService#compute} is exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConfidenceScoreServiceBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int rows;
+
+  private final ConfidenceScoreService service = new ConfidenceScoreService();
+  private PlayerIdentityEntry[] entries;
+  private String[] epicIds;
+
+  @Setup
+  public void setUp() {
+    String[] nicknames = SyntheticIngestionData.nicknames(rows);
+    LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 12, 0);
+    entries = new PlayerIdentityEntry[rows];
+    epicIds = new String[rows];
+    for (int i = 0; i < rows; i++) {
+      entries[i] =
+          new PlayerIdentityEntry(
+              UUID.randomUUID(), nicknames[i], SyntheticIngestionData.region(i), createdAt);
+      epicIds[i] =
+          switch (i % 3) {
+            case 0 -> nicknames[i];
+            case 1 -> nicknames[i] + "_alt";
+            default -> nicknames[(i + rows / 2) % rows];
+          };
+    }
+  }
+
+  @Benchmark
+  public void compute(Blackhole blackhole) {
+    for (int i = 0; i < rows; i++) {
+      blackhole.consume(service.compute(entries[i], epicIds[i]));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fortnite.pronos.benchmark.SyntheticIngestionData;
+
+/** One operation parses a whole synthetic PR CSV of {@code rows} lines. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrCsvParserBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int rows;
+
+  private final PrCsvParser parser = new PrCsvParser();
+  private String csv;
+
+  @Setup
+  public void setUp() {
+    csv = SyntheticIngestionData.prCsv(rows);
+  }
+
+  @Benchmark
+  public PrCsvParser.ParseResult parse() {
+    return parser.parse(new StringReader(csv));
+  }
+
+  @Benchmark
+  public PrCsvParser.StreamSummary parseInChunks(Blackhole blackhole) {
+    return parser.parseInChunks(
+        new StringReader(csv), PrCsvParser.DEFAULT_CHUNK_SIZE, blackhole::consume);
+  }
+}
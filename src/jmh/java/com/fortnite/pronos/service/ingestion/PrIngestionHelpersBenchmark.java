@@ -0,0 +1,49 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fortnite.pronos.benchmark.SyntheticIngestionData;
+
+/**
+ * Per-row helpers of {@link PrIngestionRowProcessor}; one operation covers {@code rows} rows, as
+ * in one ingestion run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrIngestionHelpersBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int rows;
+
+  private String[] nicknames;
+
+  @Setup
+  public void setUp() {
+    nicknames = SyntheticIngestionData.nicknames(rows);
+  }
+
+  @Benchmark
+  public void trancheFromRank(Blackhole blackhole) {
+    for (int rank = 1; rank <= rows; rank++) {
+      blackhole.consume(PrIngestionRowProcessor.trancheFromRank(rank));
+    }
+  }
+
+  @Benchmark
+  public void buildUsername(Blackhole blackhole) {
+    for (String nickname : nicknames) {
+      blackhole.consume(PrIngestionRowProcessor.buildUsername(nickname));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fortnite.pronos.model.PlayerSeasonPoints;
+
+/**
+ * The scoring half of a leaderboard build: index a season's points by player, then total the
+ * rosters of every team. Compares the {@code HashMap<UUID, Integer>} the leaderboards used before
+ * with {@link PlayerPointsMap}. Run with {@code -prof gc} to compare allocation per build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlayerPointsMapBenchmark {
+
+  private static final int PLAYERS_PER_TEAM = 5;
+
+  @Param({"10000"})
+  public int players;
+
+  @Param({"50000"})
+  public int teams;
+
+  private List<PlayerSeasonPoints> rows;
+  private UUID[][] rosters;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(7);
+    rows = new ArrayList<>(players);
+    for (int i = 0; i < players; i++) {
+      rows.add(new PlayerSeasonPoints(UUID.randomUUID(), random.nextInt(50_000)));
+    }
+    rosters = new UUID[teams][PLAYERS_PER_TEAM];
+    for (UUID[] roster : rosters) {
+      for (int slot = 0; slot < PLAYERS_PER_TEAM; slot++) {
+        roster[slot] = rows.get(random.nextInt(players)).playerId();
+      }
+    }
+  }
+
+  @Benchmark
+  public long[] boxedHashMap() {
+    Map<UUID, Integer> points = new HashMap<>();
+    for (PlayerSeasonPoints row : rows) {
+      points.put(row.playerId(), row.points());
+    }
+    long[] totals = new long[teams];
+    for (int team = 0; team < teams; team++) {
+      for (UUID player : rosters[team]) {
+        Integer playerPoints = points.getOrDefault(player, 0);
+        totals[team] += playerPoints != null ? playerPoints.longValue() : 0L;
+      }
+    }
+    return totals;
+  }
+
+  @Benchmark
+  public long[] primitiveMap() {
+    PlayerPointsMap points = PlayerPointsMap.of(rows);
+    long[] totals = new long[teams];
+    for (int team = 0; team < teams; team++) {
+      for (UUID player : rosters[team]) {
+        totals[team] += points.get(player);
+      }
+    }
+    return totals;
+  }
+}
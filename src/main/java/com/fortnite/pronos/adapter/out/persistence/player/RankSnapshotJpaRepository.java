@@ -1,12 +1,19 @@
 package com.fortnite.pronos.adapter.out.persistence.player;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface RankSnapshotJpaRepository extends JpaRepository<RankSnapshotEntity, UUID> {
@@ -22,6 +29,17 @@ public interface RankSnapshotJpaRepository extends JpaRepository<RankSnapshotEnt
       @Param("region") String region,
       @Param("since") LocalDate since);
 
+  @Query(
+      "SELECT r FROM RankSnapshotEntity r "
+          + "WHERE r.playerId IN :playerIds "
+          + "AND r.region = :region "
+          + "AND r.snapshotDate >= :since "
+          + "ORDER BY r.snapshotDate ASC")
+  List<RankSnapshotEntity> findByPlayersAndRegionSince(
+      @Param("playerIds") Collection<UUID> playerIds,
+      @Param("region") String region,
+      @Param("since") LocalDate since);
+
   @Query(
       "SELECT r FROM RankSnapshotEntity r "
           + "WHERE r.playerId = :playerId "
@@ -30,6 +48,14 @@ public interface RankSnapshotJpaRepository extends JpaRepository<RankSnapshotEnt
   List<RankSnapshotEntity> findByPlayerSince(
       @Param("playerId") UUID playerId, @Param("since") LocalDate since);
 
+  /** (player id, region, snapshot date, rank, PR) of every snapshot since {@code since}. */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+      "SELECT r.playerId, r.region, r.snapshotDate, r.rank, r.prValue "
+          + "FROM RankSnapshotEntity r "
+          + "WHERE r.snapshotDate >= :since")
+  Stream<Object[]> streamSince(@Param("since") LocalDate since);
+
   @Query(
       "SELECT r FROM RankSnapshotEntity r "
           + "WHERE r.playerId = :playerId "
@@ -38,4 +64,86 @@ public interface RankSnapshotJpaRepository extends JpaRepository<RankSnapshotEnt
           + "LIMIT 1")
   Optional<RankSnapshotEntity> findLatestOnOrBefore(
       @Param("playerId") UUID playerId, @Param("date") LocalDate date);
+
+  /**
+   * For each of {@code playerIds}, the PR of its latest snapshot on or before {@code start} (bound
+   * 0) and on or before {@code end} (bound 1), as rows of (player_id, bound, pr_value). Snapshots
+   * of several regions on the same day are ordered by region.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT w.player_id, w.bound, w.pr_value
+          FROM (
+            SELECT r.player_id, b.bound, r.pr_value,
+                   ROW_NUMBER() OVER (
+                     PARTITION BY r.player_id, b.bound
+                     ORDER BY r.snapshot_date DESC, r.region
+                   ) AS position
+            FROM rank_snapshots r
+            JOIN (VALUES (0, CAST(:start AS DATE)), (1, CAST(:end AS DATE))) AS b(bound, upto)
+              ON r.snapshot_date <= b.upto
+            WHERE r.player_id IN (:playerIds)
+          ) w
+          WHERE w.position = 1
+          """)
+  List<Object[]> findLatestPrAtBounds(
+      @Param("playerIds") Collection<UUID> playerIds,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end);
+
+  /**
+   * Every player's PR in its latest snapshot on or before {@code date}, as rows of (player_id,
+   * pr_value), with the same region tie-break as {@link #findLatestPrAtBounds}.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT w.player_id, w.pr_value
+          FROM (
+            SELECT r.player_id, r.pr_value,
+                   ROW_NUMBER() OVER (
+                     PARTITION BY r.player_id
+                     ORDER BY r.snapshot_date DESC, r.region
+                   ) AS position
+            FROM rank_snapshots r
+            WHERE r.snapshot_date <= :date
+          ) w
+          WHERE w.position = 1
+          """)
+  List<Object[]> findLatestPrOfEveryPlayer(@Param("date") LocalDate date);
+
+  /** Same as {@link #findLatestPrOfEveryPlayer}, restricted to {@code playerIds}. */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT w.player_id, w.pr_value
+          FROM (
+            SELECT r.player_id, r.pr_value,
+                   ROW_NUMBER() OVER (
+                     PARTITION BY r.player_id
+                     ORDER BY r.snapshot_date DESC, r.region
+                   ) AS position
+            FROM rank_snapshots r
+            WHERE r.snapshot_date <= :date AND r.player_id IN (:playerIds)
+          ) w
+          WHERE w.position = 1
+          """)
+  List<Object[]> findLatestPrOfPlayers(
+      @Param("playerIds") Collection<UUID> playerIds, @Param("date") LocalDate date);
+
+  /**
+   * A {@code uuid} column of a native query row: PostgreSQL returns a {@link UUID}, H2 its 16 raw
+   * bytes.
+   */
+  static UUID uuidColumn(Object value) {
+    if (value instanceof byte[] bytes) {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      return new UUID(buffer.getLong(), buffer.getLong());
+    }
+    return (UUID) value;
+  }
 }
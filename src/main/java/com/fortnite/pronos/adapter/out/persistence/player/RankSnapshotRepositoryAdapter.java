@@ -1,14 +1,22 @@
 package com.fortnite.pronos.adapter.out.persistence.player;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fortnite.pronos.domain.player.model.PrWindow;
 import com.fortnite.pronos.domain.player.model.RankSnapshot;
 import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+import com.fortnite.pronos.repository.PrSnapshotRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,8 +24,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RankSnapshotRepositoryAdapter implements RankSnapshotRepositoryPort {
 
+  /** Bound of the player id {@code IN} list, well under the bind parameter limits. */
+  private static final int PLAYER_ID_CHUNK_SIZE = 1_000;
+
   private final RankSnapshotJpaRepository jpaRepository;
   private final RankSnapshotEntityMapper mapper;
+  private final PrSnapshotRepository prSnapshotRepository;
 
   @Override
   public List<RankSnapshot> findByPlayerAndRegion(UUID playerId, String region, int days) {
@@ -27,6 +39,18 @@ public class RankSnapshotRepositoryAdapter implements RankSnapshotRepositoryPort
         .toList();
   }
 
+  @Override
+  public List<RankSnapshot> findByPlayersAndRegion(
+      Collection<UUID> playerIds, String region, int days) {
+    if (playerIds.isEmpty()) {
+      return List.of();
+    }
+    LocalDate since = LocalDate.now().minusDays(days);
+    return jpaRepository.findByPlayersAndRegionSince(playerIds, region, since).stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
   @Override
   public List<RankSnapshot> findByPlayerRecent(UUID playerId, int days) {
     LocalDate since = LocalDate.now().minusDays(days);
@@ -38,8 +62,75 @@ public class RankSnapshotRepositoryAdapter implements RankSnapshotRepositoryPort
     return mapper.toDomain(jpaRepository.save(mapper.toEntity(snapshot)));
   }
 
+  @Override
+  public List<RankSnapshot> copyFromIngestionRun(UUID runId) {
+    return prSnapshotRepository.copyRunToRankSnapshots(runId);
+  }
+
   @Override
   public Optional<RankSnapshot> findLatestOnOrBefore(UUID playerId, LocalDate date) {
     return jpaRepository.findLatestOnOrBefore(playerId, date).map(mapper::toDomain);
   }
+
+  @Override
+  public List<PrWindow> findPrWindows(Collection<UUID> playerIds, LocalDate start, LocalDate end) {
+    if (playerIds.isEmpty()) {
+      return List.of();
+    }
+    Map<UUID, Integer> startPr = new HashMap<>();
+    Map<UUID, Integer> endPr = new HashMap<>();
+    for (Object[] row : jpaRepository.findLatestPrAtBounds(playerIds, start, end)) {
+      Map<UUID, Integer> bound = ((Number) row[1]).intValue() == 0 ? startPr : endPr;
+      bound.put(RankSnapshotJpaRepository.uuidColumn(row[0]), ((Number) row[2]).intValue());
+    }
+    List<PrWindow> windows = new ArrayList<>(startPr.size());
+    startPr.forEach(
+        (playerId, pr) -> {
+          Integer endValue = endPr.get(playerId);
+          if (endValue != null) {
+            windows.add(new PrWindow(playerId, pr, endValue));
+          }
+        });
+    return windows;
+  }
+
+  @Override
+  public Map<UUID, Integer> findPrByPlayerOnOrBefore(LocalDate date) {
+    List<Object[]> rows = jpaRepository.findLatestPrOfEveryPlayer(date);
+    Map<UUID, Integer> prByPlayer = HashMap.newHashMap(rows.size());
+    putPrRows(rows, prByPlayer);
+    return prByPlayer;
+  }
+
+  @Override
+  public Map<UUID, Integer> findPrByPlayerOnOrBefore(Collection<UUID> playerIds, LocalDate date) {
+    List<UUID> ids = List.copyOf(playerIds);
+    Map<UUID, Integer> prByPlayer = HashMap.newHashMap(ids.size());
+    for (int from = 0; from < ids.size(); from += PLAYER_ID_CHUNK_SIZE) {
+      List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + PLAYER_ID_CHUNK_SIZE));
+      putPrRows(jpaRepository.findLatestPrOfPlayers(chunk, date), prByPlayer);
+    }
+    return prByPlayer;
+  }
+
+  private static void putPrRows(List<Object[]> rows, Map<UUID, Integer> prByPlayer) {
+    for (Object[] row : rows) {
+      prByPlayer.put(RankSnapshotJpaRepository.uuidColumn(row[0]), ((Number) row[1]).intValue());
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void forEachSince(LocalDate since, SnapshotRowSink sink) {
+    try (Stream<Object[]> rows = jpaRepository.streamSince(since)) {
+      rows.forEach(
+          row ->
+              sink.accept(
+                  (UUID) row[0],
+                  (String) row[1],
+                  (LocalDate) row[2],
+                  ((Number) row[3]).intValue(),
+                  ((Number) row[4]).intValue()));
+    }
+  }
 }
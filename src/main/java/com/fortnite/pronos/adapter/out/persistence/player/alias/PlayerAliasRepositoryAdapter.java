@@ -23,6 +23,13 @@ public class PlayerAliasRepositoryAdapter implements PlayerAliasRepositoryPort {
     return mapper.toDomain(saved);
   }
 
+  @Override
+  public List<PlayerAliasEntry> saveAll(List<PlayerAliasEntry> entries) {
+    List<PlayerAliasEntity> saved =
+        jpaRepository.saveAll(entries.stream().map(mapper::toEntity).toList());
+    return saved.stream().map(mapper::toDomain).toList();
+  }
+
   @Override
   public List<PlayerAliasEntry> findByPlayerId(UUID playerId) {
     return jpaRepository.findByPlayerId(playerId).stream().map(mapper::toDomain).toList();
@@ -53,6 +53,13 @@ public class PlayerIdentityRepositoryAdapter implements PlayerIdentityRepository
     return mapper.toDomain(saved);
   }
 
+  @Override
+  public List<PlayerIdentityEntry> saveAll(List<PlayerIdentityEntry> entries) {
+    List<PlayerIdentityEntity> saved =
+        jpaRepository.saveAll(entries.stream().map(mapper::toEntity).toList());
+    return saved.stream().map(mapper::toDomain).toList();
+  }
+
   @Override
   public List<RegionalStatRow> countByRegionAndStatus() {
     return jpaRepository.countByRegionAndStatus().stream()
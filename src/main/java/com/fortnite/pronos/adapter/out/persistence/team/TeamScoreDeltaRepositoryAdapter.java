@@ -1,5 +1,6 @@
 package com.fortnite.pronos.adapter.out.persistence.team;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +37,13 @@ public class TeamScoreDeltaRepositoryAdapter implements TeamScoreDeltaRepository
     return jpaRepository.findByGameIdAndParticipantId(gameId, participantId).map(this::toDomain);
   }
 
+  @Override
+  public void replaceForGame(
+      UUID gameId, LocalDate periodStart, LocalDate periodEnd, List<TeamScoreDelta> deltas) {
+    jpaRepository.deleteOtherPeriods(gameId, periodStart, periodEnd);
+    jpaRepository.upsertDeltas(deltas.stream().map(this::toEntity).toList());
+  }
+
   private TeamScoreDeltaEntity toEntity(TeamScoreDelta delta) {
     TeamScoreDeltaEntity entity = new TeamScoreDeltaEntity();
     entity.setId(delta.getId());
@@ -0,0 +1,50 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the region CSV fallback cache ({@code ingestion.pr.csv-cache.*}).
+ *
+ * <p>Env vars: INGESTION_PR_CSV_CACHE_PERSISTENT, INGESTION_PR_CSV_CACHE_DIRECTORY,
+ * INGESTION_PR_CSV_CACHE_RETENTION_DAYS
+ */
+@Component
+@ConfigurationProperties(prefix = "ingestion.pr.csv-cache")
+public class CsvCacheProperties {
+
+  private static final int DEFAULT_RETENTION_DAYS = 7;
+
+  /** Keep snapshots on disk (true) or only in memory until the next restart (false). */
+  private boolean persistent = true;
+
+  /** Root directory of the on-disk snapshots, one sub-directory per region. */
+  private String directory = "data/csv-cache";
+
+  /** Number of daily snapshots kept per region. */
+  private int retentionDays = DEFAULT_RETENTION_DAYS;
+
+  public boolean isPersistent() {
+    return persistent;
+  }
+
+  public void setPersistent(boolean persistent) {
+    this.persistent = persistent;
+  }
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public int getRetentionDays() {
+    return retentionDays;
+  }
+
+  public void setRetentionDays(int retentionDays) {
+    this.retentionDays = retentionDays;
+  }
+}
@@ -0,0 +1,47 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+/** Collects the ASCII digits of one element's text, like {@code digitsOnly(element.text())}. */
+final class DigitCapture {
+  private final StringBuilder digits = new StringBuilder(16);
+  private boolean seen;
+  private int depth = -1;
+
+  void reset() {
+    digits.setLength(0);
+    seen = false;
+    depth = -1;
+  }
+
+  /** Starts capturing at {@code depth} if this is the first matching element of the row. */
+  void startIfFirst(boolean matches, int elementDepth) {
+    if (matches && !seen) {
+      seen = true;
+      depth = elementDepth;
+    }
+  }
+
+  /** Starts capturing the first element of its kind opened inside {@code parent}. */
+  void startIfInside(DigitCapture parent, int elementDepth) {
+    startIfFirst(parent.depth >= 0, elementDepth);
+  }
+
+  void endAt(int elementDepth) {
+    if (depth == elementDepth) {
+      depth = -1;
+    }
+  }
+
+  void append(int codePoint) {
+    if (depth >= 0 && codePoint >= '0' && codePoint <= '9') {
+      digits.append((char) codePoint);
+    }
+  }
+
+  boolean seen() {
+    return seen;
+  }
+
+  String digits() {
+    return digits.toString();
+  }
+}
@@ -0,0 +1,207 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fortnite.pronos.model.PrRegion;
+import com.fortnite.pronos.service.ingestion.CsvCachePort;
+
+/**
+ * Durable CSV cache: one gzip-compressed snapshot per region and day under {@code
+ * <directory>/<REGION>/<yyyy-MM-dd>.csv.gz}.
+ *
+ * <p>Writes go to a temporary file renamed atomically over the target, so a crash never leaves a
+ * half-written snapshot. Reads are memory-mapped and walk the snapshots newest first: a file that
+ * fails gzip CRC validation or decompresses to nothing is skipped in favour of the previous day.
+ * Snapshots older than {@code retentionDays} are pruned on every save.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "ingestion.pr.csv-cache.persistent",
+    havingValue = "true",
+    matchIfMissing = true)
+public class FileSystemCsvCacheAdapter implements CsvCachePort {
+
+  private static final Logger log = LoggerFactory.getLogger(FileSystemCsvCacheAdapter.class);
+  private static final String SNAPSHOT_SUFFIX = ".csv.gz";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final CsvCacheProperties props;
+  private final Clock clock;
+
+  @Autowired
+  public FileSystemCsvCacheAdapter(CsvCacheProperties props) {
+    this(props, Clock.systemUTC());
+  }
+
+  FileSystemCsvCacheAdapter(CsvCacheProperties props, Clock clock) {
+    this.props = props;
+    this.clock = clock;
+  }
+
+  @Override
+  public void save(PrRegion region, String csv) {
+    Path regionDir = regionDirectory(region);
+    LocalDate today = LocalDate.now(clock);
+    Path target = regionDir.resolve(today + SNAPSHOT_SUFFIX);
+    try {
+      Files.createDirectories(regionDir);
+      Path temp = Files.createTempFile(regionDir, today.toString(), TEMP_SUFFIX);
+      try {
+        try (OutputStream out =
+            new GZIPOutputStream(Files.newOutputStream(temp, StandardOpenOption.WRITE))) {
+          out.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+        moveAtomically(temp, target);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+      log.debug("Saved CSV snapshot region={} file={}", region, target);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write CSV snapshot for region " + region, e);
+    }
+    pruneExpired(region, today);
+  }
+
+  @Override
+  public Optional<String> load(PrRegion region) {
+    for (Path snapshot : snapshotsNewestFirst(region)) {
+      Optional<String> csv = readSnapshot(snapshot);
+      if (csv.isPresent()) {
+        return csv;
+      }
+      log.warn("Skipping unreadable CSV snapshot region={} file={}", region, snapshot);
+    }
+    return Optional.empty();
+  }
+
+  private Optional<String> readSnapshot(Path snapshot) {
+    try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+      ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      ByteArrayOutputStream csv = new ByteArrayOutputStream(Math.max(32, mapped.capacity() * 4));
+      try (InputStream in = new GZIPInputStream(new ByteBufferInputStream(mapped))) {
+        in.transferTo(csv);
+      }
+      if (csv.size() == 0) {
+        return Optional.empty();
+      }
+      return Optional.of(csv.toString(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      // Truncated or corrupted gzip stream (CRC/length mismatch): treat as invalid.
+      log.debug("Invalid CSV snapshot file={}: {}", snapshot, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private List<Path> snapshotsNewestFirst(PrRegion region) {
+    List<Path> snapshots = listSnapshots(regionDirectory(region));
+    snapshots.sort(Comparator.comparing(FileSystemCsvCacheAdapter::snapshotDate).reversed());
+    return snapshots;
+  }
+
+  private void pruneExpired(PrRegion region, LocalDate today) {
+    LocalDate oldestKept = today.minusDays(Math.max(1, props.getRetentionDays()) - 1L);
+    for (Path snapshot : listSnapshots(regionDirectory(region))) {
+      if (snapshotDate(snapshot).isBefore(oldestKept)) {
+        try {
+          Files.deleteIfExists(snapshot);
+          log.debug("Pruned expired CSV snapshot region={} file={}", region, snapshot);
+        } catch (IOException e) {
+          log.warn("Failed to prune CSV snapshot file={}: {}", snapshot, e.getMessage());
+        }
+      }
+    }
+  }
+
+  private List<Path> listSnapshots(Path regionDir) {
+    List<Path> snapshots = new ArrayList<>();
+    if (!Files.isDirectory(regionDir)) {
+      return snapshots;
+    }
+    try (DirectoryStream<Path> stream =
+        Files.newDirectoryStream(regionDir, "*" + SNAPSHOT_SUFFIX)) {
+      for (Path path : stream) {
+        if (snapshotDate(path) != LocalDate.MIN) {
+          snapshots.add(path);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Failed to list CSV snapshots in {}: {}", regionDir, e.getMessage());
+    }
+    return snapshots;
+  }
+
+  private static LocalDate snapshotDate(Path snapshot) {
+    String name = snapshot.getFileName().toString();
+    try {
+      return LocalDate.parse(name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()));
+    } catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+      return LocalDate.MIN;
+    }
+  }
+
+  private Path regionDirectory(PrRegion region) {
+    return Paths.get(props.getDirectory()).resolve(region.name());
+  }
+
+  private static void moveAtomically(Path source, Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /** Streams a (memory-mapped) buffer without copying it onto the heap first. */
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
+}
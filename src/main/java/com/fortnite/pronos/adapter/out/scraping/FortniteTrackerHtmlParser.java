@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -22,10 +21,8 @@ import org.slf4j.LoggerFactory;
 class FortniteTrackerHtmlParser {
 
   private static final Logger log = LoggerFactory.getLogger(FortniteTrackerHtmlParser.class);
-  private static final Pattern DIACRITICS_PATTERN =
-      Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
-  private static final Pattern ZERO_WIDTH_PATTERN = Pattern.compile("[\\u200B-\\u200D\\uFEFF]");
-  private static final Pattern DIGITS_ONLY_PATTERN = Pattern.compile("[^0-9]");
+  private static final char COMBINING_MARKS_FIRST = '\u0300';
+  private static final char COMBINING_MARKS_LAST = '\u036F';
 
   /**
    * Parses an HTML page from FortniteTracker into a list of scraped rows.
@@ -85,7 +82,7 @@ class FortniteTrackerHtmlParser {
     } else {
       pointsText = "";
     }
-    String pointsClean = DIGITS_ONLY_PATTERN.matcher(pointsText).replaceAll("");
+    String pointsClean = digitsOnly(pointsText);
 
     if (player.isEmpty() || pointsClean.isEmpty()) {
       return null;
@@ -93,10 +90,25 @@ class FortniteTrackerHtmlParser {
     return new ScrapedRow(player, region, Integer.parseInt(pointsClean), rank);
   }
 
+  /** Keeps the ASCII digits of {@code text}, e.g. {@code "12,500 pts"} becomes {@code "12500"}. */
+  static String digitsOnly(String text) {
+    StringBuilder digits = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits.append(c);
+      }
+    }
+    return digits.toString();
+  }
+
   /**
    * Normalizes a player nickname: NFKD decomposition, diacritic removal, zero-width char removal,
    * collapse whitespace, lowercase.
    *
+   * <p>Pure-ASCII names (the vast majority) skip the decomposition entirely since NFKD leaves them
+   * unchanged.
+   *
    * @param value raw nickname
    * @return normalized nickname
    */
@@ -104,10 +116,36 @@ class FortniteTrackerHtmlParser {
     if (value == null) {
       return "";
     }
+    if (isAscii(value)) {
+      return value.trim().toLowerCase();
+    }
     String nfkd = Normalizer.normalize(value, Normalizer.Form.NFKD);
-    String noDiacritics = DIACRITICS_PATTERN.matcher(nfkd).replaceAll("");
-    String noZeroWidth = ZERO_WIDTH_PATTERN.matcher(noDiacritics).replaceAll("");
-    return noZeroWidth.trim().toLowerCase();
+    StringBuilder kept = new StringBuilder(nfkd.length());
+    for (int i = 0; i < nfkd.length(); i++) {
+      char c = nfkd.charAt(i);
+      if (!isCombiningMark(c) && !isZeroWidth(c)) {
+        kept.append(c);
+      }
+    }
+    return kept.toString().trim().toLowerCase();
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0x7F) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Same range as {@code \p{InCombiningDiacriticalMarks}}. */
+  private static boolean isCombiningMark(char c) {
+    return c >= COMBINING_MARKS_FIRST && c <= COMBINING_MARKS_LAST;
+  }
+
+  private static boolean isZeroWidth(char c) {
+    return (c >= '\u200B' && c <= '\u200D') || c == '\uFEFF';
   }
 
   /**
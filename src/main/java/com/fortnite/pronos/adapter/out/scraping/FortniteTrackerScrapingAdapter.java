@@ -4,11 +4,17 @@ import java.net.URI;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -41,16 +47,25 @@ public class FortniteTrackerScrapingAdapter implements PrRegionCsvSourcePort {
   private final RestTemplate restTemplate;
   private final FortniteTrackerHtmlParser htmlParser;
   private final ProxyUrlBuilder urlBuilder;
+  private final ProviderKeyBudget keyBudget;
 
   public FortniteTrackerScrapingAdapter(
       FortniteTrackerScrapingProperties props,
       @Qualifier("restTemplateForScraping") RestTemplate restTemplate) {
     this.props = props;
     this.restTemplate = restTemplate;
-    this.htmlParser = new FortniteTrackerHtmlParser();
-    this.urlBuilder = new ProxyUrlBuilder();
+    this.htmlParser =
+        props.isStreamingHtmlParser()
+            ? new FortniteTrackerStreamingHtmlParser()
+            : new FortniteTrackerHtmlParser();
+    this.urlBuilder = new ProxyUrlBuilder(props.getScrapedoBaseUrl());
+    this.keyBudget = new ProviderKeyBudget(props);
   }
 
+  /**
+   * Fetches all pages of a region concurrently, one virtual thread per page. Actual HTTP
+   * concurrency is bounded per provider by the shared {@link ProviderKeyBudget}.
+   */
   @Override
   public Optional<String> fetchCsv(PrRegion region) {
     List<String> providers = getAvailableProviders();
@@ -62,12 +77,25 @@ public class FortniteTrackerScrapingAdapter implements PrRegionCsvSourcePort {
     String regionCode = region.name();
     List<ScrapedRow> allRows = new ArrayList<>();
 
-    for (int page = 1; page <= props.getPagesPerRegion(); page++) {
-      Optional<List<ScrapedRow>> pageRows = fetchPageWithRetry(regionCode, page);
-      if (pageRows.isPresent()) {
-        allRows.addAll(pageRows.get());
-      } else {
-        log.warn("All retries exhausted for region={} page={} — skipping page", regionCode, page);
+    try (ExecutorService pageExecutor =
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ft-page-" + regionCode + "-", 1).factory())) {
+      List<CompletableFuture<Optional<List<ScrapedRow>>>> pages = new ArrayList<>();
+      for (int page = 1; page <= props.getPagesPerRegion(); page++) {
+        pages.add(fetchPageAsync(regionCode, page, pageExecutor));
+      }
+      for (int page = 1; page <= pages.size(); page++) {
+        Optional<List<ScrapedRow>> pageRows = awaitPage(pages.get(page - 1));
+        if (Thread.currentThread().isInterrupted()) {
+          log.warn("Scraping interrupted for region={} — abandoning remaining pages", regionCode);
+          pages.forEach(pending -> pending.cancel(true));
+          return Optional.empty();
+        }
+        if (pageRows.isPresent()) {
+          allRows.addAll(pageRows.get());
+        } else {
+          log.warn("All retries exhausted for region={} page={} — skipping page", regionCode, page);
+        }
       }
     }
 
@@ -86,71 +114,130 @@ public class FortniteTrackerScrapingAdapter implements PrRegionCsvSourcePort {
     return Optional.of(csv);
   }
 
+  /** Interruptible wait so a caller-side timeout can abandon the region. */
+  private Optional<List<ScrapedRow>> awaitPage(CompletableFuture<Optional<List<ScrapedRow>>> page) {
+    try {
+      return page.get();
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (ExecutionException e) {
+      throw new CompletionException(e.getCause());
+    }
+  }
+
   Optional<List<ScrapedRow>> fetchPageWithRetry(String region, int page) {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      return fetchPageAsync(region, page, executor).join();
+    }
+  }
+
+  /**
+   * Runs the retry loop of one page as a chain of attempts. Backoff delays are scheduled with
+   * {@link CompletableFuture#delayedExecutor} so no thread sleeps between attempts.
+   */
+  CompletableFuture<Optional<List<ScrapedRow>>> fetchPageAsync(
+      String region, int page, Executor executor) {
     String targetUrl =
         urlBuilder.buildTarget(region, page, props.getPlatform(), props.getTimeframe());
-    int ordinalOffset = (page - 1) * 100;
-    Set<String> exhaustedKeys = new HashSet<>();
+    return attemptAsync(new PageRequest(region, page, targetUrl), 0, executor, executor);
+  }
 
-    for (int attempt = 0; attempt < props.getMaxAttempts(); attempt++) {
-      List<String> activeProviders = getActiveProviders(exhaustedKeys);
-      if (activeProviders.isEmpty()) {
-        log.warn(
-            "All keys exhausted for region={} page={} — stopping early after {} attempts",
-            region,
-            page,
-            attempt);
-        break;
-      }
+  private CompletableFuture<Optional<List<ScrapedRow>>> attemptAsync(
+      PageRequest request, int attempt, Executor runOn, Executor executor) {
+    if (attempt >= props.getMaxAttempts()) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+    return CompletableFuture.supplyAsync(() -> runAttempt(request, attempt), runOn)
+        .thenCompose(
+            outcome ->
+                switch (outcome.next()) {
+                  case DONE -> CompletableFuture.completedFuture(outcome.rows());
+                  case RETRY_NOW -> attemptAsync(request, attempt + 1, executor, executor);
+                  case RETRY_AFTER_BACKOFF ->
+                      attemptAsync(
+                          request,
+                          attempt + 1,
+                          CompletableFuture.delayedExecutor(
+                              backoffMillis(attempt), TimeUnit.MILLISECONDS, executor),
+                          executor);
+                });
+  }
 
-      String provider = pickProviderFrom(activeProviders, region, page, attempt);
-      String key = pickActiveKey(provider, attempt, exhaustedKeys);
-      if (key == null) {
-        continue; // safety: all keys for this provider just became exhausted
-      }
-      String proxyUrl = urlBuilder.build(provider, targetUrl, key, props.getRequestTimeoutMs());
-
-      try {
-        ResponseEntity<String> resp =
-            restTemplate.exchange(
-                URI.create(proxyUrl), HttpMethod.GET, buildRequestEntity(attempt), String.class);
-        if (resp.getStatusCode().is2xxSuccessful() && resp.getBody() != null) {
-          List<ScrapedRow> parsed = htmlParser.parse(resp.getBody(), region, ordinalOffset);
-          if (!parsed.isEmpty()) {
-            return Optional.of(parsed);
-          }
-          log.warn(
-              "Scraping attempt {}/{} returned 0 rows for region={} page={} via {}",
-              attempt + 1,
-              props.getMaxAttempts(),
-              region,
-              page,
-              provider);
-        }
-      } catch (Exception e) {
-        if (isQuotaError(e)) {
-          exhaustedKeys.add(provider + ":" + key);
-          log.warn(
-              "Key quota exhausted for provider={} — blacklisting for this session ({} keys blacklisted)",
-              provider,
-              exhaustedKeys.size());
-          continue; // no backoff for quota errors — switch key immediately
+  private AttemptOutcome runAttempt(PageRequest request, int attempt) {
+    String region = request.region();
+    int page = request.page();
+    List<String> activeProviders = getActiveProviders(keyBudget.exhaustedKeys());
+    if (activeProviders.isEmpty()) {
+      log.warn(
+          "All keys exhausted for region={} page={} — stopping early after {} attempts",
+          region,
+          page,
+          attempt);
+      return AttemptOutcome.giveUp();
+    }
+
+    String provider = pickProviderFrom(activeProviders, region, page, attempt);
+    try {
+      keyBudget.acquire(provider);
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      return AttemptOutcome.giveUp();
+    }
+    // Key is picked once the slot is held so it reflects quota errors seen by concurrent pages.
+    String key = pickActiveKey(provider, attempt, keyBudget.exhaustedKeys());
+    if (key == null) {
+      keyBudget.release(provider);
+      return AttemptOutcome.RETRY_NOW; // safety: all keys for this provider just became exhausted
+    }
+    try {
+      String proxyUrl =
+          urlBuilder.build(provider, request.targetUrl(), key, props.getRequestTimeoutMs());
+      ResponseEntity<String> resp =
+          restTemplate.exchange(
+              URI.create(proxyUrl), HttpMethod.GET, buildRequestEntity(attempt), String.class);
+      if (resp.getStatusCode().is2xxSuccessful() && resp.getBody() != null) {
+        List<ScrapedRow> parsed = htmlParser.parse(resp.getBody(), region, (page - 1) * 100);
+        if (!parsed.isEmpty()) {
+          return new AttemptOutcome(AttemptOutcome.Next.DONE, Optional.of(parsed));
         }
         log.warn(
-            "Scraping attempt {}/{} failed for region={} page={} via {}: {}",
+            "Scraping attempt {}/{} returned 0 rows for region={} page={} via {}",
             attempt + 1,
             props.getMaxAttempts(),
             region,
             page,
+            provider);
+      }
+    } catch (Exception e) {
+      if (isQuotaError(e)) {
+        keyBudget.markExhausted(provider, key);
+        log.warn(
+            "Key quota exhausted for provider={} — blacklisting for this session ({} keys blacklisted)",
             provider,
-            e.getMessage());
+            keyBudget.exhaustedKeys().size());
+        return AttemptOutcome.RETRY_NOW; // no backoff for quota errors — switch key immediately
       }
-
-      if (attempt < props.getMaxAttempts() - 1) {
-        sleepBackoff(attempt);
+      if (isRateLimited(e)) {
+        keyBudget.markRateLimited(provider, key);
+        log.warn(
+            "Key rate limited for provider={} — skipping it for {} ms",
+            provider,
+            props.getKeyRateLimitTtlMs());
+        return AttemptOutcome.RETRY_NOW;
       }
+      log.warn(
+          "Scraping attempt {}/{} failed for region={} page={} via {}: {}",
+          attempt + 1,
+          props.getMaxAttempts(),
+          region,
+          page,
+          provider,
+          e.getMessage());
+    } finally {
+      keyBudget.release(provider);
     }
-    return Optional.empty();
+    return AttemptOutcome.RETRY_AFTER_BACKOFF;
   }
 
   List<String> getActiveProviders(Set<String> exhaustedKeys) {
@@ -183,12 +270,17 @@ public class FortniteTrackerScrapingAdapter implements PrRegionCsvSourcePort {
     return activeKeys.get(attempt % activeKeys.size());
   }
 
+  /** Quota spent for the session: the provider says so, whatever the HTTP status. */
   boolean isQuotaError(Exception e) {
     String msg = e.getMessage();
     return msg != null
-        && (msg.contains("429")
-            || msg.contains("QUOTA_LIMIT_REACHED")
-            || msg.toLowerCase().contains("quota"));
+        && (msg.contains("QUOTA_LIMIT_REACHED") || msg.toLowerCase().contains("quota"));
+  }
+
+  /** A 429 without a quota signal: the key is throttled, not spent. */
+  boolean isRateLimited(Exception e) {
+    String msg = e.getMessage();
+    return msg != null && msg.contains("429");
   }
 
   String pickProvider(String region, int page, int attempt) {
@@ -272,14 +364,26 @@ public class FortniteTrackerScrapingAdapter implements PrRegionCsvSourcePort {
     return new HttpEntity<>(headers);
   }
 
-  private void sleepBackoff(int attempt) {
-    long millis =
-        (long) (BACKOFF_BASE_MS * Math.pow(BACKOFF_MULTIPLIER, attempt))
-            + (long) (Math.random() * BACKOFF_JITTER_MS);
-    try {
-      Thread.sleep(millis);
-    } catch (InterruptedException ie) {
-      Thread.currentThread().interrupt();
+  private long backoffMillis(int attempt) {
+    return (long) (BACKOFF_BASE_MS * Math.pow(BACKOFF_MULTIPLIER, attempt))
+        + (long) (Math.random() * BACKOFF_JITTER_MS);
+  }
+
+  private record PageRequest(String region, int page, String targetUrl) {}
+
+  private record AttemptOutcome(Next next, Optional<List<ScrapedRow>> rows) {
+    private static final AttemptOutcome RETRY_NOW = new AttemptOutcome(Next.RETRY_NOW, null);
+    private static final AttemptOutcome RETRY_AFTER_BACKOFF =
+        new AttemptOutcome(Next.RETRY_AFTER_BACKOFF, null);
+
+    private static AttemptOutcome giveUp() {
+      return new AttemptOutcome(Next.DONE, Optional.empty());
+    }
+
+    private enum Next {
+      DONE,
+      RETRY_NOW,
+      RETRY_AFTER_BACKOFF
     }
   }
 }
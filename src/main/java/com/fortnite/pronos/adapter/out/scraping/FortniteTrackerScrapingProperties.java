@@ -21,6 +21,9 @@ public class FortniteTrackerScrapingProperties {
   private static final int DEFAULT_MAX_ATTEMPTS = 8;
   private static final int DEFAULT_REQUEST_TIMEOUT_MS = 60_000;
   private static final int DEFAULT_PAGES_PER_REGION = 4;
+  private static final int DEFAULT_PROVIDER_CONCURRENCY = 2;
+  private static final long DEFAULT_KEY_BLACKLIST_TTL_MS = 6 * 60 * 60 * 1000L;
+  private static final long DEFAULT_KEY_RATE_LIMIT_TTL_MS = 60_000L;
 
   /** Comma-separated Scrapfly API keys. */
   private String scrapflyKeys = "";
@@ -49,6 +52,21 @@ public class FortniteTrackerScrapingProperties {
   /** Comma-separated User-Agent strings for rotation. Empty = use default. */
   private String userAgents = "";
 
+  /** Maximum in-flight requests per provider, shared across pages and regions. */
+  private int providerConcurrency = DEFAULT_PROVIDER_CONCURRENCY;
+
+  /** How long a quota-exhausted key stays blacklisted, in milliseconds. */
+  private long keyBlacklistTtlMs = DEFAULT_KEY_BLACKLIST_TTL_MS;
+
+  /** How long a key answered with a plain 429 (rate limit, no quota signal) is skipped, in ms. */
+  private long keyRateLimitTtlMs = DEFAULT_KEY_RATE_LIMIT_TTL_MS;
+
+  /** Parse pages with the single-pass scanner instead of a full JSoup DOM (same output). */
+  private boolean streamingHtmlParser = true;
+
+  /** Scrape.do endpoint. Only overridden to point at a local stub. */
+  private String scrapedoBaseUrl = ProxyUrlBuilder.SCRAPEDO_BASE;
+
   public List<String> getScrapflyKeyList() {
     return parseKeys(scrapflyKeys);
   }
@@ -143,4 +161,44 @@ public class FortniteTrackerScrapingProperties {
   public List<String> getUserAgentList() {
     return parseKeys(userAgents);
   }
+
+  public int getProviderConcurrency() {
+    return providerConcurrency;
+  }
+
+  public void setProviderConcurrency(int providerConcurrency) {
+    this.providerConcurrency = providerConcurrency;
+  }
+
+  public long getKeyBlacklistTtlMs() {
+    return keyBlacklistTtlMs;
+  }
+
+  public void setKeyBlacklistTtlMs(long keyBlacklistTtlMs) {
+    this.keyBlacklistTtlMs = keyBlacklistTtlMs;
+  }
+
+  public long getKeyRateLimitTtlMs() {
+    return keyRateLimitTtlMs;
+  }
+
+  public void setKeyRateLimitTtlMs(long keyRateLimitTtlMs) {
+    this.keyRateLimitTtlMs = keyRateLimitTtlMs;
+  }
+
+  public boolean isStreamingHtmlParser() {
+    return streamingHtmlParser;
+  }
+
+  public void setStreamingHtmlParser(boolean streamingHtmlParser) {
+    this.streamingHtmlParser = streamingHtmlParser;
+  }
+
+  public String getScrapedoBaseUrl() {
+    return scrapedoBaseUrl;
+  }
+
+  public void setScrapedoBaseUrl(String scrapedoBaseUrl) {
+    this.scrapedoBaseUrl = scrapedoBaseUrl;
+  }
 }
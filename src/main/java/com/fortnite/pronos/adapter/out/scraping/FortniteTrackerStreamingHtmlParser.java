@@ -0,0 +1,474 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drop-in replacement for {@link FortniteTrackerHtmlParser} that scans the page once, tag by tag,
+ * instead of building a JSoup DOM and running CSS selects per {@code <tr>}.
+ *
+ * <p>Only the state needed for the leaderboard rows is kept: the table section, the open cell and
+ * the elements open inside it. Per row it tracks the first {@code placement} attribute on a {@code
+ * leaderboard-rank} element, the {@code leaderboard-user__nickname} text and the digits of the
+ * first {@code column--highlight} / {@code column--right} cell (and of the first {@code <div>} in
+ * each). Text is whitespace-normalised exactly like {@code Element.text()}.
+ *
+ * <p>Markup whose JSoup tree the scanner cannot reproduce with certainty (nested tables, implied
+ * rows, misnested tags, foster-parented content, unknown entities…) makes the whole page fall back
+ * to the JSoup parser, so the output is always identical to {@link FortniteTrackerHtmlParser}.
+ */
+class FortniteTrackerStreamingHtmlParser extends FortniteTrackerHtmlParser {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(FortniteTrackerStreamingHtmlParser.class);
+
+  @Override
+  List<ScrapedRow> parse(String html, String region, int pageOrdinalOffset) {
+    try {
+      List<ScrapedRow> rows = scan(html, region, pageOrdinalOffset);
+      if (rows == null) {
+        log.warn(
+            "No tbody rows found for region={} — HTML structure may have changed or page is empty",
+            region);
+        return List.of();
+      }
+      return rows;
+    } catch (UnsupportedMarkupException e) {
+      log.debug("Streaming parser fell back to JSoup for region={}: {}", region, e.getMessage());
+      return super.parse(html, region, pageOrdinalOffset);
+    }
+  }
+
+  /**
+   * Scans without the JSoup fallback.
+   *
+   * @return parsed rows, or {@code null} when the page has no {@code tbody} row at all
+   * @throws UnsupportedMarkupException when the page needs the JSoup tree builder
+   */
+  List<ScrapedRow> scan(String html, String region, int pageOrdinalOffset) {
+    return new Scanner(html, region, pageOrdinalOffset).scan();
+  }
+
+  /** Thrown when the page leaves the subset of HTML the scanner reproduces exactly. */
+  static final class UnsupportedMarkupException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedMarkupException(String reason) {
+      super(reason, null, false, false);
+    }
+  }
+
+  /** Single-use scan state for one page. */
+  private static final class Scanner extends StreamingHtmlTokenizer {
+
+    private static final String RANK_CLASS = "leaderboard-rank";
+    private static final String NICKNAME_CLASS = "leaderboard-user__nickname";
+    private static final String HIGHLIGHT_CLASS = "column--highlight";
+    private static final String RIGHT_CLASS = "column--right";
+    private static final int MAX_CELL_DEPTH = 32;
+
+    private static final int SECTION_NONE = 0;
+    private static final int SECTION_BODY = 1;
+    private static final int SECTION_HEAD = 2;
+
+    private final String region;
+    private final int pageOrdinalOffset;
+    private final List<ScrapedRow> result = new ArrayList<>();
+
+    private boolean inTable;
+    private int section = SECTION_NONE;
+    private boolean inRow;
+    private boolean bodyRow;
+    private int rowIndex = -1;
+    private int cellTag = HtmlTags.NONE;
+    private final int[] cellStack = new int[MAX_CELL_DEPTH];
+    private int cellDepth;
+
+    // Per-row capture state, reset by openRow().
+    private String placement;
+    private int nicknameCount;
+    private int nicknameDepth;
+    private final NormalisedText nickname = new NormalisedText();
+    private final DigitCapture highlightCell = new DigitCapture();
+    private final DigitCapture highlightDiv = new DigitCapture();
+    private final DigitCapture rightCell = new DigitCapture();
+    private final DigitCapture rightDiv = new DigitCapture();
+
+    private Scanner(String html, String region, int pageOrdinalOffset) {
+      super(html);
+      this.region = region;
+      this.pageOrdinalOffset = pageOrdinalOffset;
+    }
+
+    /** Returns the parsed rows, or {@code null} when the page has no {@code tbody} row at all. */
+    private List<ScrapedRow> scan() {
+      tokenize();
+      closeTable();
+      return rowIndex < 0 ? null : result;
+    }
+
+    // ---------------------------------------------------------------- tree construction
+
+    @Override
+    void startTag(int tag) {
+      if (tag == HtmlTags.TEMPLATE || tag == HtmlTags.PLAINTEXT) {
+        throw new UnsupportedMarkupException("<" + HtmlTags.name(tag) + ">");
+      }
+      if (!inTable) {
+        if (tag == HtmlTags.TABLE) {
+          inTable = true;
+          section = SECTION_NONE;
+        }
+        return;
+      }
+      if (tag == HtmlTags.BODY || tag == HtmlTags.HTML) {
+        return; // merged into the existing element by the tree builder
+      }
+      if (inCell()) {
+        startTagInCell(tag);
+      } else if (inRow) {
+        startTagInRow(tag);
+      } else {
+        startTagInTable(tag);
+      }
+    }
+
+    private void startTagInTable(int tag) {
+      switch (tag) {
+        case HtmlTags.TBODY -> section = SECTION_BODY;
+        case HtmlTags.THEAD, HtmlTags.TFOOT -> section = SECTION_HEAD;
+        case HtmlTags.TR -> openRow();
+        case HtmlTags.SCRIPT, HtmlTags.STYLE -> checkNotCaptured(tag);
+        case HtmlTags.COLGROUP, HtmlTags.COL -> {
+          // column definitions carry no row content
+        }
+        default -> throw unsupportedIn(tag, "table");
+      }
+    }
+
+    private void startTagInRow(int tag) {
+      switch (tag) {
+        case HtmlTags.TD, HtmlTags.TH -> openCell(tag);
+        case HtmlTags.TR -> {
+          closeRow();
+          openRow();
+        }
+        case HtmlTags.TBODY, HtmlTags.THEAD, HtmlTags.TFOOT -> {
+          closeRow();
+          startTagInTable(tag);
+        }
+        case HtmlTags.SCRIPT, HtmlTags.STYLE -> checkNotCaptured(tag);
+        default -> throw unsupportedIn(tag, "row");
+      }
+    }
+
+    private void startTagInCell(int tag) {
+      switch (tag) {
+        case HtmlTags.TD, HtmlTags.TH -> {
+          closeCell();
+          openCell(tag);
+        }
+        case HtmlTags.TR, HtmlTags.TBODY, HtmlTags.THEAD, HtmlTags.TFOOT -> {
+          closeCell();
+          startTagInRow(tag);
+        }
+        case HtmlTags.SCRIPT, HtmlTags.STYLE -> checkNotCaptured(tag);
+        default -> openInCellElement(tag);
+      }
+    }
+
+    private void openInCellElement(int tag) {
+      if (!HtmlTags.isAllowedInCell(tag)) {
+        throw unsupportedIn(tag, "cell");
+      }
+      if (nicknameDepth >= 0) {
+        throw new UnsupportedMarkupException("element inside nickname");
+      }
+      boolean isVoid = HtmlTags.isVoid(tag);
+      if (selfClosing() && !isVoid) {
+        throw new UnsupportedMarkupException("self-closing <" + HtmlTags.name(tag) + ">");
+      }
+      if (tag == HtmlTags.A && cellContains(HtmlTags.A)) {
+        throw new UnsupportedMarkupException("nested <a>");
+      }
+      int depth = cellDepth + 1;
+      inspectElement(depth, isVoid);
+      if (tag == HtmlTags.DIV) {
+        highlightDiv.startIfInside(highlightCell, depth);
+        rightDiv.startIfInside(rightCell, depth);
+      }
+      if (!isVoid) {
+        if (cellDepth == MAX_CELL_DEPTH) {
+          throw new UnsupportedMarkupException("cell nesting too deep");
+        }
+        cellStack[cellDepth++] = tag;
+      }
+    }
+
+    @Override
+    void endTag(int tag) {
+      boolean ignored =
+          tag == HtmlTags.BODY
+              || tag == HtmlTags.HTML
+              || tag == HtmlTags.COLGROUP
+              || HtmlTags.isRawText(tag);
+      if (!inTable || ignored) {
+        return;
+      }
+      if (tag == HtmlTags.TABLE) {
+        closeTable();
+        return;
+      }
+      if (inCell()) {
+        endTagInCell(tag);
+      } else if (inRow) {
+        endTagInRow(tag);
+      } else {
+        endTagInTable(tag);
+      }
+    }
+
+    private void endTagInTable(int tag) {
+      boolean closesSection =
+          (tag == HtmlTags.TBODY && section == SECTION_BODY)
+              || ((tag == HtmlTags.THEAD || tag == HtmlTags.TFOOT) && section == SECTION_HEAD);
+      if (!closesSection) {
+        throw unsupportedIn(tag, "table end");
+      }
+      section = SECTION_NONE;
+    }
+
+    private void endTagInRow(int tag) {
+      if (tag == HtmlTags.TR) {
+        closeRow();
+        return;
+      }
+      if (HtmlTags.isSection(tag)) {
+        closeRow();
+        endTagInTable(tag);
+        return;
+      }
+      throw unsupportedIn(tag, "row end");
+    }
+
+    private void endTagInCell(int tag) {
+      if (tag == cellTag) {
+        closeCell();
+      } else if (tag == HtmlTags.TR || HtmlTags.isSection(tag)) {
+        closeCell();
+        endTagInRow(tag);
+      } else if (!HtmlTags.isAllowedInCell(tag) || tag == HtmlTags.BR) {
+        throw unsupportedIn(tag, "cell end");
+      } else if (cellDepth > 0 && cellStack[cellDepth - 1] == tag) {
+        popTo(cellDepth - 1);
+      } else if (cellContains(tag)) {
+        throw new UnsupportedMarkupException("misnested </" + HtmlTags.name(tag) + ">");
+      }
+      // Otherwise a stray end tag: the tree builder ignores it too.
+    }
+
+    private void openRow() {
+      if (section == SECTION_NONE) {
+        section = SECTION_BODY; // implied <tbody>
+      }
+      inRow = true;
+      bodyRow = section == SECTION_BODY;
+      if (bodyRow) {
+        rowIndex++;
+      }
+      placement = null;
+      nicknameCount = 0;
+      nicknameDepth = -1;
+      nickname.reset();
+      highlightCell.reset();
+      highlightDiv.reset();
+      rightCell.reset();
+      rightDiv.reset();
+      if (classContains(NICKNAME_CLASS)) {
+        throw new UnsupportedMarkupException("nickname class on <tr>");
+      }
+      inspectRank();
+    }
+
+    private void openCell(int tag) {
+      cellTag = tag;
+      cellDepth = 0;
+      inspectElement(0, false);
+      if (tag == HtmlTags.TD) {
+        highlightCell.startIfFirst(classContains(HIGHLIGHT_CLASS), 0);
+        rightCell.startIfFirst(classContains(RIGHT_CLASS), 0);
+      }
+    }
+
+    private void closeCell() {
+      popTo(0);
+      endCaptures(0);
+      cellTag = HtmlTags.NONE;
+    }
+
+    private void closeRow() {
+      if (inCell()) {
+        closeCell();
+      }
+      inRow = false;
+      if (bodyRow) {
+        emitRow();
+      }
+    }
+
+    private void closeTable() {
+      if (inRow) {
+        closeRow();
+      }
+      inTable = false;
+      section = SECTION_NONE;
+    }
+
+    private void popTo(int depth) {
+      while (cellDepth > depth) {
+        endCaptures(cellDepth);
+        cellDepth--;
+      }
+    }
+
+    private void endCaptures(int depth) {
+      if (nicknameDepth == depth) {
+        nicknameDepth = -1;
+      }
+      highlightCell.endAt(depth);
+      highlightDiv.endAt(depth);
+      rightCell.endAt(depth);
+      rightDiv.endAt(depth);
+    }
+
+    private boolean inCell() {
+      return cellTag != HtmlTags.NONE;
+    }
+
+    private boolean cellContains(int tag) {
+      for (int i = 0; i < cellDepth; i++) {
+        if (cellStack[i] == tag) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void checkNotCaptured(int tag) {
+      if (nicknameDepth >= 0) {
+        throw new UnsupportedMarkupException("element inside nickname");
+      }
+      if (classContains(NICKNAME_CLASS) || classContains(RANK_CLASS)) {
+        throw new UnsupportedMarkupException("leaderboard class on <" + HtmlTags.name(tag) + ">");
+      }
+    }
+
+    // ---------------------------------------------------------------- row fields
+
+    private void inspectElement(int depth, boolean isVoid) {
+      inspectRank();
+      if (classContains(NICKNAME_CLASS)) {
+        if (++nicknameCount > 1) {
+          throw new UnsupportedMarkupException("several nickname elements in one row");
+        }
+        if (!isVoid) {
+          nicknameDepth = depth;
+        }
+      }
+    }
+
+    private void inspectRank() {
+      if (placement == null && hasPlacementAttribute() && classContains(RANK_CLASS)) {
+        placement = placementAttribute();
+        if (placement.indexOf('&') >= 0) {
+          throw new UnsupportedMarkupException("entity in placement attribute");
+        }
+      }
+    }
+
+    private void emitRow() {
+      try {
+        int rank =
+            placement == null || placement.isEmpty()
+                ? pageOrdinalOffset + rowIndex + 1
+                : Integer.parseInt(placement);
+        String player = nicknameCount == 0 ? "" : nickname.value();
+        String points = pointsDigits();
+        if (!player.isEmpty() && !points.isEmpty()) {
+          result.add(new ScrapedRow(player, region, Integer.parseInt(points), rank));
+        }
+      } catch (NumberFormatException e) {
+        log.debug(
+            "Skipping malformed row at index {} for region={}: {}",
+            rowIndex,
+            region,
+            e.getMessage());
+      }
+    }
+
+    private String pointsDigits() {
+      if (highlightDiv.seen()) {
+        return highlightDiv.digits();
+      }
+      if (highlightCell.seen()) {
+        return highlightCell.digits();
+      }
+      if (rightDiv.seen()) {
+        return rightDiv.digits();
+      }
+      return rightCell.seen() ? rightCell.digits() : "";
+    }
+
+    // ---------------------------------------------------------------- character data
+
+    @Override
+    void characters(int from, int to) {
+      if (inCell()) {
+        cellText(from, to);
+      } else if (inTable) {
+        tableText(from, to);
+      }
+    }
+
+    private void cellText(int from, int to) {
+      int i = from;
+      while (i < to) {
+        int codePoint;
+        char c = html.charAt(i);
+        if (c == '&') {
+          long decoded = decodeEntity(i, to);
+          codePoint = (int) (decoded >>> 32);
+          i = (int) decoded;
+        } else if (c == 0) {
+          throw new UnsupportedMarkupException("NUL in text");
+        } else {
+          codePoint = html.codePointAt(i);
+          i += Character.charCount(codePoint);
+        }
+        if (nicknameDepth >= 0) {
+          nickname.append(codePoint);
+        }
+        highlightCell.append(codePoint);
+        highlightDiv.append(codePoint);
+        rightCell.append(codePoint);
+        rightDiv.append(codePoint);
+      }
+    }
+
+    /** Text directly inside a table, section or row must be inter-element whitespace. */
+    private void tableText(int from, int to) {
+      for (int i = from; i < to; i++) {
+        if (!isWhitespace(html.charAt(i))) {
+          throw new UnsupportedMarkupException("text outside cells");
+        }
+      }
+    }
+
+    private UnsupportedMarkupException unsupportedIn(int tag, String context) {
+      return new UnsupportedMarkupException("<" + HtmlTags.name(tag) + "> in " + context);
+    }
+  }
+}
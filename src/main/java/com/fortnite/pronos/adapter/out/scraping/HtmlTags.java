@@ -0,0 +1,139 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+/** Tag names the scanner distinguishes; everything else is {@link #OTHER}. */
+final class HtmlTags {
+  static final int NONE = -1;
+  static final int OTHER = 0;
+  static final int TABLE = 1;
+  static final int TBODY = 2;
+  static final int THEAD = 3;
+  static final int TFOOT = 4;
+  static final int TR = 5;
+  static final int TD = 6;
+  static final int TH = 7;
+  static final int COLGROUP = 8;
+  static final int COL = 9;
+  static final int BODY = 10;
+  static final int HTML = 11;
+  static final int SCRIPT = 12;
+  static final int STYLE = 13;
+  static final int TEXTAREA = 14;
+  static final int TITLE = 15;
+  static final int XMP = 16;
+  static final int IFRAME = 17;
+  static final int NOEMBED = 18;
+  static final int NOFRAMES = 19;
+  static final int PLAINTEXT = 20;
+  static final int TEMPLATE = 21;
+  static final int A = 22;
+  static final int DIV = 23;
+  static final int BR = 24;
+  // Phrasing elements with no implicit open/close behaviour inside a cell.
+  static final int FIRST_PHRASING = 25;
+  // Void elements (no end tag, no content).
+  static final int FIRST_VOID = 52;
+
+  private static final String[] NAMES = {
+    "",
+    "table",
+    "tbody",
+    "thead",
+    "tfoot",
+    "tr",
+    "td",
+    "th",
+    "colgroup",
+    "col",
+    "body",
+    "html",
+    "script",
+    "style",
+    "textarea",
+    "title",
+    "xmp",
+    "iframe",
+    "noembed",
+    "noframes",
+    "plaintext",
+    "template",
+    "a",
+    "div",
+    "br",
+    // FIRST_PHRASING
+    "span",
+    "b",
+    "strong",
+    "i",
+    "em",
+    "small",
+    "sub",
+    "sup",
+    "u",
+    "s",
+    "abbr",
+    "time",
+    "bdi",
+    "bdo",
+    "mark",
+    "code",
+    "kbd",
+    "q",
+    "cite",
+    "dfn",
+    "data",
+    "var",
+    "samp",
+    "ins",
+    "del",
+    "label",
+    "picture",
+    // FIRST_VOID
+    "img",
+    "wbr",
+    "input",
+    "hr",
+    "source"
+  };
+
+  private HtmlTags() {}
+
+  static int lookup(String html, int start, int end) {
+    int length = end - start;
+    for (int id = 1; id < NAMES.length; id++) {
+      String name = NAMES[id];
+      if (name.length() == length && html.regionMatches(true, start, name, 0, length)) {
+        return isAscii(html, start, end) ? id : OTHER;
+      }
+    }
+    return OTHER;
+  }
+
+  static String name(int tag) {
+    return tag > OTHER ? NAMES[tag] : "unknown";
+  }
+
+  static boolean isSection(int tag) {
+    return tag == TBODY || tag == THEAD || tag == TFOOT;
+  }
+
+  static boolean isRawText(int tag) {
+    return tag >= SCRIPT && tag <= NOFRAMES;
+  }
+
+  static boolean isAllowedInCell(int tag) {
+    return tag == A || tag == DIV || tag == BR || tag >= FIRST_PHRASING;
+  }
+
+  static boolean isVoid(int tag) {
+    return tag == BR || tag >= FIRST_VOID;
+  }
+
+  private static boolean isAscii(String html, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (html.charAt(i) > 0x7F) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -3,6 +3,7 @@ package com.fortnite.pronos.adapter.out.scraping;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.fortnite.pronos.model.PrRegion;
@@ -11,9 +12,11 @@ import com.fortnite.pronos.service.ingestion.CsvCachePort;
 /**
  * In-memory CSV cache per region. Cache is volatile: cleared on application restart. Intended as a
  * short-term fallback when live scraping returns empty (e.g., proxy quota exhausted). Not
- * persistent — do not rely on this cache surviving a restart or redeploy.
+ * persistent — do not rely on this cache surviving a restart or redeploy. Only active with {@code
+ * ingestion.pr.csv-cache.persistent=false}; {@link FileSystemCsvCacheAdapter} is the default.
  */
 @Component
+@ConditionalOnProperty(name = "ingestion.pr.csv-cache.persistent", havingValue = "false")
 public class InMemoryCsvCacheAdapter implements CsvCachePort {
 
   private final ConcurrentHashMap<PrRegion, String> cache = new ConcurrentHashMap<>();
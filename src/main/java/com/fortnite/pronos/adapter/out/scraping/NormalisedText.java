@@ -0,0 +1,36 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+/**
+ * Text of a single element with JSoup's {@code Element.text()} whitespace rules: runs of whitespace
+ * (including no-break space) collapse to one space, zero-width space and soft hyphen are dropped,
+ * and the result is trimmed.
+ */
+final class NormalisedText {
+  private final StringBuilder text = new StringBuilder(32);
+  private boolean lastWasWhite;
+
+  void reset() {
+    text.setLength(0);
+    lastWasWhite = false;
+  }
+
+  void append(int codePoint) {
+    if (isActuallyWhitespace(codePoint)) {
+      if (!lastWasWhite) {
+        text.append(' ');
+        lastWasWhite = true;
+      }
+    } else if (codePoint != 0x200B && codePoint != 0xAD) {
+      text.appendCodePoint(codePoint);
+      lastWasWhite = false;
+    }
+  }
+
+  String value() {
+    return text.toString().trim();
+  }
+
+  private static boolean isActuallyWhitespace(int c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == 0xA0;
+  }
+}
@@ -0,0 +1,72 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+
+/**
+ * Scraping budget shared by every page and region fetched through the adapter.
+ *
+ * <p>Keys that hit their quota are blacklisted for {@code keyBlacklistTtlMs} (one scraping session)
+ * instead of per page, keys that are only rate limited for the shorter {@code keyRateLimitTtlMs},
+ * and each provider gets at most {@code providerConcurrency} in-flight requests. Not a Spring bean
+ * — owned by {@link FortniteTrackerScrapingAdapter}.
+ */
+class ProviderKeyBudget {
+
+  private final FortniteTrackerScrapingProperties props;
+  private final LongSupplier clockMillis;
+  private final Map<String, Long> exhaustedUntil = new ConcurrentHashMap<>();
+  private final Map<String, Semaphore> providerPermits = new ConcurrentHashMap<>();
+
+  ProviderKeyBudget(FortniteTrackerScrapingProperties props) {
+    this(props, System::currentTimeMillis);
+  }
+
+  ProviderKeyBudget(FortniteTrackerScrapingProperties props, LongSupplier clockMillis) {
+    this.props = props;
+    this.clockMillis = clockMillis;
+  }
+
+  /** Blacklists {@code provider:key} until the session TTL elapses. */
+  void markExhausted(String provider, String key) {
+    skip(provider, key, props.getKeyBlacklistTtlMs());
+  }
+
+  /** Skips {@code provider:key} for the short rate-limit TTL; a longer blacklist is kept. */
+  void markRateLimited(String provider, String key) {
+    skip(provider, key, props.getKeyRateLimitTtlMs());
+  }
+
+  /** Snapshot of the currently blacklisted {@code provider:key} slots. */
+  Set<String> exhaustedKeys() {
+    long now = clockMillis.getAsLong();
+    exhaustedUntil.values().removeIf(until -> until <= now);
+    return new HashSet<>(exhaustedUntil.keySet());
+  }
+
+  /** Blocks until the provider has a free request slot. */
+  void acquire(String provider) throws InterruptedException {
+    permitsFor(provider).acquire();
+  }
+
+  void release(String provider) {
+    permitsFor(provider).release();
+  }
+
+  private Semaphore permitsFor(String provider) {
+    return providerPermits.computeIfAbsent(
+        provider, p -> new Semaphore(Math.max(1, props.getProviderConcurrency())));
+  }
+
+  private void skip(String provider, String key, long ttlMs) {
+    exhaustedUntil.merge(slot(provider, key), clockMillis.getAsLong() + ttlMs, Math::max);
+  }
+
+  static String slot(String provider, String key) {
+    return provider + ":" + key;
+  }
+}
@@ -13,7 +13,21 @@ class ProxyUrlBuilder {
   private static final String FT_BASE_URL = "https://fortnitetracker.com/events/powerrankings";
   private static final String SCRAPFLY_BASE = "https://api.scrapfly.io/scrape";
   private static final String SCRAPERAPI_BASE = "https://api.scraperapi.com/";
-  private static final String SCRAPEDO_BASE = "http://api.scrape.do/";
+  static final String SCRAPEDO_BASE = "http://api.scrape.do/";
+
+  private final String scrapedoBase;
+
+  ProxyUrlBuilder() {
+    this(SCRAPEDO_BASE);
+  }
+
+  /**
+   * @param scrapedoBase Scrape.do endpoint; overridable so a local stub can stand in for the proxy
+   */
+  ProxyUrlBuilder(String scrapedoBase) {
+    this.scrapedoBase =
+        scrapedoBase == null || scrapedoBase.isBlank() ? SCRAPEDO_BASE : scrapedoBase;
+  }
 
   /**
    * Builds the FortniteTracker target URL for a given region and page.
@@ -75,7 +89,7 @@ class ProxyUrlBuilder {
   }
 
   private String buildScrapedo(String targetUrl, String key) {
-    return SCRAPEDO_BASE + "?url=" + encode(targetUrl) + "&token=" + encode(key);
+    return scrapedoBase + "?url=" + encode(targetUrl) + "&token=" + encode(key);
   }
 
   private static String encode(String value) {
@@ -0,0 +1,407 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import com.fortnite.pronos.adapter.out.scraping.FortniteTrackerStreamingHtmlParser.UnsupportedMarkupException;
+
+/**
+ * Tokenizer half of {@link FortniteTrackerStreamingHtmlParser}: walks the page once and reports
+ * start tags, end tags and character data to the tree-construction subclass.
+ *
+ * <p>Only the {@code class} and {@code placement} attributes are kept, as offsets into the page.
+ * Anything the HTML tokenizer would treat specially (unterminated tags or comments, escaped script
+ * data, ambiguous character references…) throws {@link UnsupportedMarkupException}.
+ */
+abstract class StreamingHtmlTokenizer {
+
+  final String html;
+  final int length;
+  private int pos;
+
+  // Attributes of the tag being scanned, as offsets into html (-1 when absent).
+  private int classStart;
+  private int classEnd;
+  private int placementStart;
+  private int placementEnd;
+  private boolean selfClosing;
+
+  StreamingHtmlTokenizer(String html) {
+    this.html = html;
+    this.length = html.length();
+  }
+
+  /** Called once the tag name and attributes have been read; raw text is skipped afterwards. */
+  abstract void startTag(int tag);
+
+  abstract void endTag(int tag);
+
+  /** Undecoded character data in {@code [from, to)}; see {@link #decodeEntity}. */
+  abstract void characters(int from, int to);
+
+  /** Tokenizes the whole page. */
+  final void tokenize() {
+    while (pos < length) {
+      if (html.charAt(pos) == '<') {
+        markup();
+      } else {
+        text();
+      }
+    }
+  }
+
+  private void text() {
+    int end = html.indexOf('<', pos);
+    if (end < 0) {
+      end = length;
+    }
+    characters(pos, end);
+    pos = end;
+  }
+
+  private void markup() {
+    if (pos + 1 >= length) {
+      literalLessThan();
+      return;
+    }
+    char next = html.charAt(pos + 1);
+    if (isAsciiLetter(next)) {
+      startTagOpen();
+    } else if (next == '/') {
+      endTagOpen();
+    } else if (next == '!') {
+      markupDeclaration();
+    } else if (next == '?') {
+      pos = skipPast('>', pos + 2);
+    } else if (next > 0x7F && Character.isLetter(next)) {
+      throw new UnsupportedMarkupException("non-ASCII tag name");
+    } else {
+      literalLessThan();
+    }
+  }
+
+  private void literalLessThan() {
+    characters(pos, pos + 1);
+    pos++;
+  }
+
+  private void markupDeclaration() {
+    if (html.startsWith("<!--", pos)) {
+      int bodyStart = pos + 4;
+      if (html.startsWith(">", bodyStart) || html.startsWith("->", bodyStart)) {
+        pos = skipPast('>', bodyStart);
+        return;
+      }
+      int end = html.indexOf("-->", bodyStart);
+      int bang = html.indexOf("--!>", bodyStart);
+      if (end < 0 || (bang >= 0 && bang < end)) {
+        throw new UnsupportedMarkupException("unterminated comment");
+      }
+      pos = end + 3;
+    } else {
+      pos = skipPast('>', pos + 2);
+    }
+  }
+
+  private void endTagOpen() {
+    if (pos + 2 >= length) {
+      throw new UnsupportedMarkupException("end tag at end of input");
+    }
+    char first = html.charAt(pos + 2);
+    if (first == '>') {
+      pos += 3;
+      return;
+    }
+    if (!isAsciiLetter(first)) {
+      if (first > 0x7F && Character.isLetter(first)) {
+        throw new UnsupportedMarkupException("non-ASCII tag name");
+      }
+      pos = skipPast('>', pos + 2);
+      return;
+    }
+    int nameStart = pos + 2;
+    int nameEnd = tagNameEnd(nameStart);
+    int tag = HtmlTags.lookup(html, nameStart, nameEnd);
+    pos = nameEnd;
+    attributes();
+    endTag(tag);
+  }
+
+  private void startTagOpen() {
+    int nameStart = pos + 1;
+    int nameEnd = tagNameEnd(nameStart);
+    int tag = HtmlTags.lookup(html, nameStart, nameEnd);
+    pos = nameEnd;
+    attributes();
+    startTag(tag);
+    if (HtmlTags.isRawText(tag)) {
+      skipRawText(nameStart, nameEnd);
+    }
+  }
+
+  private int tagNameEnd(int from) {
+    int i = from;
+    while (i < length) {
+      char c = html.charAt(i);
+      if (isWhitespace(c) || c == '/' || c == '>') {
+        return i;
+      }
+      if (c == '<' || c == 0) {
+        throw new UnsupportedMarkupException("unusual tag name");
+      }
+      i++;
+    }
+    throw new UnsupportedMarkupException("tag at end of input");
+  }
+
+  /** Scans the attributes of the current tag up to and including its closing {@code >}. */
+  private void attributes() {
+    classStart = -1;
+    classEnd = -1;
+    placementStart = -1;
+    placementEnd = -1;
+    selfClosing = false;
+    while (true) {
+      pos = skipWhitespace(pos);
+      requireInput();
+      char c = html.charAt(pos);
+      if (c == '>') {
+        pos++;
+        return;
+      }
+      if (c == '/') {
+        pos++;
+        requireInput();
+        if (html.charAt(pos) == '>') {
+          selfClosing = true;
+          pos++;
+          return;
+        }
+        continue;
+      }
+      attribute();
+    }
+  }
+
+  private void attribute() {
+    int nameStart = pos;
+    pos++; // the first character always belongs to the name, even '='
+    while (pos < length) {
+      char c = html.charAt(pos);
+      if (isWhitespace(c) || c == '/' || c == '>' || c == '=') {
+        break;
+      }
+      pos++;
+    }
+    int nameEnd = pos;
+    pos = skipWhitespace(pos);
+    requireInput();
+    int valueStart = pos;
+    int valueEnd = pos;
+    if (html.charAt(pos) == '=') {
+      pos = skipWhitespace(pos + 1);
+      requireInput();
+      char quote = html.charAt(pos);
+      if (quote == '"' || quote == '\'') {
+        valueStart = pos + 1;
+        valueEnd = html.indexOf(quote, valueStart);
+        if (valueEnd < 0) {
+          throw new UnsupportedMarkupException("unterminated attribute value");
+        }
+        pos = valueEnd + 1;
+      } else if (quote != '>') {
+        valueStart = pos;
+        while (pos < length && !isWhitespace(html.charAt(pos)) && html.charAt(pos) != '>') {
+          pos++;
+        }
+        valueEnd = pos;
+      }
+    }
+    // Duplicate attributes: the first one wins, like in the tree builder.
+    if (classStart < 0 && equalsAsciiIgnoreCase(nameStart, nameEnd, "class")) {
+      classStart = valueStart;
+      classEnd = valueEnd;
+    } else if (placementStart < 0 && equalsAsciiIgnoreCase(nameStart, nameEnd, "placement")) {
+      placementStart = valueStart;
+      placementEnd = valueEnd;
+    }
+  }
+
+  private void skipRawText(int nameStart, int nameEnd) {
+    int nameLength = nameEnd - nameStart;
+    int i = pos;
+    while (true) {
+      int lt = html.indexOf("</", i);
+      if (lt < 0) {
+        throw new UnsupportedMarkupException("unterminated raw text element");
+      }
+      int after = lt + 2 + nameLength;
+      if (html.regionMatches(true, lt + 2, html, nameStart, nameLength)
+          && after < length
+          && (isWhitespace(html.charAt(after))
+              || html.charAt(after) == '/'
+              || html.charAt(after) == '>')) {
+        if (html.indexOf("<!--", pos) >= 0 && html.indexOf("<!--", pos) < lt) {
+          throw new UnsupportedMarkupException("escaped script data");
+        }
+        pos = lt;
+        return;
+      }
+      i = lt + 2;
+    }
+  }
+
+  // ---------------------------------------------------------------- current tag
+
+  final boolean selfClosing() {
+    return selfClosing;
+  }
+
+  final boolean hasPlacementAttribute() {
+    return placementStart >= 0;
+  }
+
+  final String placementAttribute() {
+    return html.substring(placementStart, placementEnd);
+  }
+
+  final boolean classContains(String needle) {
+    if (classStart < 0) {
+      return false;
+    }
+    int needleLength = needle.length();
+    for (int i = classStart; i < classEnd; i++) {
+      char c = html.charAt(i);
+      if (c > 0x7F || c == '&') {
+        throw new UnsupportedMarkupException("unusual class attribute");
+      }
+    }
+    for (int i = classStart; i + needleLength <= classEnd; i++) {
+      if (html.regionMatches(true, i, needle, 0, needleLength)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // ---------------------------------------------------------------- character references
+
+  /**
+   * Decodes the character reference at {@code at}; returns the code point in the high half and the
+   * index after the reference in the low half. Only unambiguous references are accepted.
+   */
+  final long decodeEntity(int at, int limit) {
+    int i = at + 1;
+    if (i < limit && html.charAt(i) == '#') {
+      return decodeNumericEntity(at, i + 1, limit);
+    }
+    int nameEnd = i;
+    while (nameEnd < limit && isAsciiLetterOrDigit(html.charAt(nameEnd))) {
+      nameEnd++;
+    }
+    if (nameEnd == i) {
+      return ((long) '&' << 32) | i; // a lone '&' is literal text
+    }
+    if (nameEnd >= limit || html.charAt(nameEnd) != ';') {
+      throw new UnsupportedMarkupException("unterminated character reference");
+    }
+    int codePoint = NamedEntity.lookup(html, i, nameEnd);
+    if (codePoint < 0) {
+      throw new UnsupportedMarkupException("unsupported character reference");
+    }
+    return ((long) codePoint << 32) | (nameEnd + 1);
+  }
+
+  private long decodeNumericEntity(int at, int from, int limit) {
+    int radix = 10;
+    int i = from;
+    if (i < limit && (html.charAt(i) == 'x' || html.charAt(i) == 'X')) {
+      radix = 16;
+      i++;
+    }
+    int digitsStart = i;
+    int value = 0;
+    while (i < limit && Character.digit(html.charAt(i), radix) >= 0 && html.charAt(i) < 0x80) {
+      if (i - digitsStart >= 7) {
+        throw new UnsupportedMarkupException("numeric reference out of range");
+      }
+      value = value * radix + Character.digit(html.charAt(i), radix);
+      i++;
+    }
+    if (i == digitsStart || i >= limit || html.charAt(i) != ';') {
+      throw new UnsupportedMarkupException("malformed numeric reference at " + at);
+    }
+    boolean plain =
+        (value >= 0x20 && value < 0x7F)
+            || (value >= 0xA0 && value < 0xD800)
+            || (value >= 0xE000 && value < 0xFDD0)
+            || (value > 0xFDEF && value <= 0x10FFFF && (value & 0xFFFE) != 0xFFFE);
+    if (!plain) {
+      throw new UnsupportedMarkupException("numeric reference to a special code point");
+    }
+    return ((long) value << 32) | (i + 1);
+  }
+
+  // ---------------------------------------------------------------- helpers
+
+  private void requireInput() {
+    if (pos >= length) {
+      throw new UnsupportedMarkupException("tag at end of input");
+    }
+  }
+
+  private int skipPast(char c, int from) {
+    int end = html.indexOf(c, from);
+    return end < 0 ? length : end + 1;
+  }
+
+  private int skipWhitespace(int from) {
+    int i = from;
+    while (i < length && isWhitespace(html.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private boolean equalsAsciiIgnoreCase(int start, int end, String lowerName) {
+    return end - start == lowerName.length()
+        && html.regionMatches(true, start, lowerName, 0, lowerName.length())
+        && isAsciiRange(start, end);
+  }
+
+  private boolean isAsciiRange(int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (html.charAt(i) > 0x7F) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return isAsciiLetter(c) || (c >= '0' && c <= '9');
+  }
+
+  /** The handful of named character references the scanner decodes itself. */
+  private static final class NamedEntity {
+    private static final String[] NAMES = {"amp", "lt", "gt", "quot", "apos", "nbsp", "shy"};
+    private static final int[] CODE_POINTS = {'&', '<', '>', '"', '\'', 0xA0, 0xAD};
+
+    private NamedEntity() {}
+
+    static int lookup(String html, int start, int end) {
+      for (int i = 0; i < NAMES.length; i++) {
+        String name = NAMES[i];
+        if (end - start == name.length() && html.startsWith(name, start)) {
+          return CODE_POINTS[i];
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.fortnite.pronos.config;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -11,11 +12,15 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -68,20 +73,29 @@ public class CacheConfig {
           CACHE_CATALOGUE_ALL,
           CACHE_CATALOGUE_REGION);
 
+  /**
+   * Redis caches behind a per-node on-heap L1 ({@code cache.near.*}). Puts and evictions are
+   * published on the invalidation channel so the other nodes drop their local copy.
+   */
   @Bean
   @Primary
   @ConditionalOnProperty(name = "spring.data.redis.host")
-  public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+  public TwoTierCacheManager redisCacheManager(
+      RedisConnectionFactory redisConnectionFactory, NearCacheProperties nearCache) {
+    GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
     RedisCacheConfiguration defaultConfig =
         RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(DEFAULT_TTL_MINUTES))
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(
                     new StringRedisSerializer()))
-            .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(
-                    new GenericJackson2JsonRedisSerializer()))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(json))
             .disableCachingNullValues();
+    // Catalogue lists are stored in a compact binary form; every other cache stays JSON.
+    RedisCacheConfiguration catalogueConfig =
+        defaultConfig.serializeValuesWith(
+            RedisSerializationContext.SerializationPair.fromSerializer(
+                new CataloguePlayerRedisSerializer(json)));
 
     Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
     cacheConfigurations.put(
@@ -112,15 +126,41 @@ public class CacheConfig {
     cacheConfigurations.put(
         CACHE_DASHBOARD, defaultConfig.entryTtl(Duration.ofMinutes(DASHBOARD_TTL_MINUTES)));
     cacheConfigurations.put(
-        CACHE_CATALOGUE_ALL, defaultConfig.entryTtl(Duration.ofHours(CATALOGUE_TTL_HOURS)));
+        CACHE_CATALOGUE_ALL, catalogueConfig.entryTtl(Duration.ofHours(CATALOGUE_TTL_HOURS)));
     cacheConfigurations.put(
-        CACHE_CATALOGUE_REGION, defaultConfig.entryTtl(Duration.ofHours(CATALOGUE_TTL_HOURS)));
+        CACHE_CATALOGUE_REGION, catalogueConfig.entryTtl(Duration.ofHours(CATALOGUE_TTL_HOURS)));
+
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(defaultConfig)
+            .withInitialCacheConfigurations(cacheConfigurations)
+            .build();
+    redisCacheManager.initializeCaches();
 
-    return RedisCacheManager.builder(redisConnectionFactory)
-        .cacheDefaults(defaultConfig)
-        .withInitialCacheConfigurations(cacheConfigurations)
-        .transactionAware()
-        .build();
+    StringRedisTemplate invalidations = new StringRedisTemplate(redisConnectionFactory);
+    TwoTierCacheManager cacheManager =
+        new TwoTierCacheManager(
+            redisCacheManager,
+            nearCache,
+            message -> invalidations.convertAndSend(nearCache.getInvalidationChannel(), message));
+    cacheManager.setTransactionAware(true);
+    return cacheManager;
+  }
+
+  @Bean
+  @Lazy(false)
+  @ConditionalOnProperty(name = "spring.data.redis.host")
+  public RedisMessageListenerContainer nearCacheInvalidationListener(
+      RedisConnectionFactory redisConnectionFactory,
+      TwoTierCacheManager cacheManager,
+      NearCacheProperties nearCache) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(
+        (message, pattern) ->
+            cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(nearCache.getInvalidationChannel()));
+    return container;
   }
 
   @Bean
@@ -0,0 +1,40 @@
+package com.fortnite.pronos.config;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fortnite.pronos.dto.player.CataloguePlayerDto;
+
+/** Binary form of the {@code catalogue-all} and {@code catalogue-region} cache values. */
+final class CataloguePlayerRedisSerializer extends CompactListRedisSerializer<CataloguePlayerDto> {
+
+  static final int FORMAT_VERSION = 1;
+
+  CataloguePlayerRedisSerializer(RedisSerializer<Object> fallback) {
+    super(CataloguePlayerDto.class, FORMAT_VERSION, fallback);
+  }
+
+  @Override
+  void writeElement(DataOutputStream out, CataloguePlayerDto player) throws IOException {
+    writeUuid(out, player.id());
+    writeString(out, player.nickname());
+    writeString(out, player.region());
+    writeString(out, player.tranche());
+    out.writeBoolean(player.locked());
+    writeInteger(out, player.currentSeason());
+  }
+
+  @Override
+  CataloguePlayerDto readElement(DataInputStream in, int version) throws IOException {
+    return new CataloguePlayerDto(
+        readUuid(in),
+        readString(in),
+        readString(in),
+        readString(in),
+        in.readBoolean(),
+        readInteger(in));
+  }
+}
@@ -0,0 +1,139 @@
+package com.fortnite.pronos.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis value serializer writing a {@code List} of one DTO type as compact binary instead of JSON
+ * with type hints.
+ *
+ * <p>Layout: a marker byte, the format version, the element count, then each element as written by
+ * {@link #writeElement}. Strings are length-prefixed UTF-8 and UUIDs two longs, each behind a
+ * presence byte. Any other value (or a list holding something else) is written with the {@code
+ * fallback} JSON serializer, and both forms are read back. A payload written by a newer format
+ * version is treated as a cache miss, so nodes on different versions can share Redis during a
+ * rolling deploy.
+ */
+@Slf4j
+abstract class CompactListRedisSerializer<T> implements RedisSerializer<Object> {
+
+  /** First byte of a binary payload; JSON starts with a printable character. */
+  static final byte MARKER = (byte) 0xB1;
+
+  private final Class<T> elementType;
+  private final int formatVersion;
+  private final RedisSerializer<Object> fallback;
+
+  CompactListRedisSerializer(
+      Class<T> elementType, int formatVersion, RedisSerializer<Object> fallback) {
+    this.elementType = elementType;
+    this.formatVersion = formatVersion;
+    this.fallback = fallback;
+  }
+
+  /** Writes one element in the current format version. */
+  abstract void writeElement(DataOutputStream out, T element) throws IOException;
+
+  /** Reads one element written by {@code version}, which is at most the current one. */
+  abstract T readElement(DataInputStream in, int version) throws IOException;
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (!(value instanceof List<?> list) || !list.stream().allMatch(elementType::isInstance)) {
+      return fallback.serialize(value);
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + list.size() * 64);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(MARKER);
+      out.writeByte(formatVersion);
+      out.writeInt(list.size());
+      for (Object element : list) {
+        writeElement(out, elementType.cast(element));
+      }
+    } catch (IOException e) {
+      throw new SerializationException("Could not write " + elementType.getSimpleName(), e);
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] != MARKER) {
+      return fallback.deserialize(bytes);
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      in.readByte();
+      int version = in.readUnsignedByte();
+      if (version > formatVersion) {
+        log.debug("Ignoring {} cache value written in format v{}", elementType, version);
+        return null;
+      }
+      int size = in.readInt();
+      List<T> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readElement(in, version));
+      }
+      return list;
+    } catch (IOException e) {
+      throw new SerializationException("Could not read " + elementType.getSimpleName(), e);
+    }
+  }
+
+  static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(utf8.length);
+    out.write(utf8);
+  }
+
+  static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] utf8 = new byte[length];
+    in.readFully(utf8);
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+
+  static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeLong(value.getMostSignificantBits());
+      out.writeLong(value.getLeastSignificantBits());
+    }
+  }
+
+  static UUID readUuid(DataInputStream in) throws IOException {
+    return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+  }
+
+  static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeInt(value);
+    }
+  }
+
+  static Integer readInteger(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readInt() : null;
+  }
+}
@@ -0,0 +1,54 @@
+package com.fortnite.pronos.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** On-heap L1 kept in front of the Redis caches ({@code cache.near.*}). */
+@Component
+@ConfigurationProperties(prefix = "cache.near")
+public class NearCacheProperties {
+
+  /** When false, every read goes to Redis as before. */
+  private boolean enabled = true;
+
+  /** Entries kept per cache; the least recently read one is dropped beyond that. */
+  private int maxEntries = 1_000;
+
+  /** Upper bound on how stale an L1 entry can be if an invalidation message is lost. */
+  private long ttlSeconds = 30L;
+
+  /** Redis pub/sub channel carrying evictions between nodes. */
+  private String invalidationChannel = "fortnite-pronos:cache-invalidation";
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  public long getTtlSeconds() {
+    return ttlSeconds;
+  }
+
+  public void setTtlSeconds(long ttlSeconds) {
+    this.ttlSeconds = ttlSeconds;
+  }
+
+  public String getInvalidationChannel() {
+    return invalidationChannel;
+  }
+
+  public void setInvalidationChannel(String invalidationChannel) {
+    this.invalidationChannel = invalidationChannel;
+  }
+}
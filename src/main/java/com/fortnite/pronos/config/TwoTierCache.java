@@ -0,0 +1,187 @@
+package com.fortnite.pronos.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * A remote {@link Cache} (Redis) with a bounded on-heap copy of recently read entries in front of
+ * it, so hot keys skip the network round trip and the deserialisation.
+ *
+ * <p>Writes go to the remote cache first, then replace or drop the local copy and ask {@link
+ * TwoTierCacheManager} to evict it on the other nodes. A local entry lives at most {@code ttl},
+ * which bounds staleness when an invalidation message is lost. Local keys are the string form of
+ * the cache key, the same form {@code RedisCache} stores them under.
+ */
+final class TwoTierCache implements Cache {
+
+  private final Cache remote;
+  private final TwoTierCacheManager owner;
+  private final Duration ttl;
+  private final Clock clock;
+  private final Map<String, Local> local;
+
+  TwoTierCache(Cache remote, TwoTierCacheManager owner, int maxEntries, Duration ttl, Clock clock) {
+    this.remote = remote;
+    this.owner = owner;
+    this.ttl = ttl;
+    this.clock = clock;
+    this.local =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Local> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  @Override
+  public String getName() {
+    return remote.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return remote.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = localKey(key);
+    ValueWrapper value = localGet(localKey);
+    if (value == null) {
+      value = remote.get(key);
+      if (value != null) {
+        localPut(localKey, value);
+      }
+    }
+    return value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    String localKey = localKey(key);
+    ValueWrapper cached = localGet(localKey);
+    if (cached != null) {
+      return (T) cached.get();
+    }
+    T value = remote.get(key, valueLoader);
+    localPut(localKey, new SimpleValueWrapper(value));
+    return value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    remote.put(key, value);
+    String localKey = localKey(key);
+    localPut(localKey, new SimpleValueWrapper(value));
+    owner.publishEviction(getName(), localKey);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    ValueWrapper existing = remote.putIfAbsent(key, value);
+    evictLocalAndPeers(key);
+    return existing;
+  }
+
+  @Override
+  public void evict(Object key) {
+    remote.evict(key);
+    evictLocalAndPeers(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    boolean present = remote.evictIfPresent(key);
+    evictLocalAndPeers(key);
+    return present;
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    clearLocal();
+    owner.publishClear(getName());
+  }
+
+  @Override
+  public boolean invalidate() {
+    boolean present = remote.invalidate();
+    clearLocal();
+    owner.publishClear(getName());
+    return present;
+  }
+
+  /** Drops the local copy of {@code localKey} only; used for evictions published by peers. */
+  void evictLocal(String localKey) {
+    synchronized (local) {
+      local.remove(localKey);
+    }
+  }
+
+  void clearLocal() {
+    synchronized (local) {
+      local.clear();
+    }
+  }
+
+  int localSize() {
+    synchronized (local) {
+      return local.size();
+    }
+  }
+
+  private void evictLocalAndPeers(Object key) {
+    String localKey = localKey(key);
+    evictLocal(localKey);
+    owner.publishEviction(getName(), localKey);
+  }
+
+  private ValueWrapper localGet(String localKey) {
+    Instant now = clock.instant();
+    synchronized (local) {
+      Local entry = local.get(localKey);
+      if (entry == null) {
+        return null;
+      }
+      if (!now.isBefore(entry.expiresAt())) {
+        local.remove(localKey);
+        return null;
+      }
+      return entry.value();
+    }
+  }
+
+  private void localPut(String localKey, ValueWrapper value) {
+    Local entry = new Local(value, clock.instant().plus(ttl));
+    synchronized (local) {
+      local.put(localKey, entry);
+    }
+  }
+
+  private static String localKey(Object key) {
+    return String.valueOf(key);
+  }
+
+  private record Local(ValueWrapper value, Instant expiresAt) {}
+}
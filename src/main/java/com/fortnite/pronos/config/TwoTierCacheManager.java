@@ -0,0 +1,119 @@
+package com.fortnite.pronos.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts a {@link TwoTierCache} in front of every cache of a remote {@link CacheManager} (Redis).
+ *
+ * <p>Local copies are kept consistent across nodes by invalidation messages. Every put, evict or
+ * clear is handed to {@code publisher}, and {@link #onInvalidation} applies the messages of the
+ * other nodes. Messages are {@code nodeId \n cacheName [\n key]}; without a key the whole cache is
+ * cleared. When publishing fails, peers catch up within {@code cache.near.ttl-seconds}.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+  private static final char SEPARATOR = '\n';
+
+  private final CacheManager remote;
+  private final NearCacheProperties properties;
+  private final Consumer<String> publisher;
+  private final Clock clock;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, TwoTierCache> nearCaches = new ConcurrentHashMap<>();
+
+  public TwoTierCacheManager(
+      CacheManager remote, NearCacheProperties properties, Consumer<String> publisher) {
+    this(remote, properties, publisher, Clock.systemUTC());
+  }
+
+  TwoTierCacheManager(
+      CacheManager remote,
+      NearCacheProperties properties,
+      Consumer<String> publisher,
+      Clock clock) {
+    this.remote = remote;
+    this.properties = properties;
+    this.publisher = publisher;
+    this.clock = clock;
+  }
+
+  @Override
+  protected Collection<? extends Cache> loadCaches() {
+    List<Cache> caches = new ArrayList<>();
+    for (String name : remote.getCacheNames()) {
+      Cache cache = nearCache(remote.getCache(name));
+      if (cache != null) {
+        caches.add(cache);
+      }
+    }
+    return caches;
+  }
+
+  @Override
+  protected Cache getMissingCache(String name) {
+    return nearCache(remote.getCache(name));
+  }
+
+  /** Applies an invalidation published on the channel; this node's own messages are ignored. */
+  public void onInvalidation(String message) {
+    String[] parts = message.split(String.valueOf(SEPARATOR), 3);
+    if (parts.length < 2 || nodeId.equals(parts[0])) {
+      return;
+    }
+    TwoTierCache cache = nearCaches.get(parts[1]);
+    if (cache == null) {
+      return;
+    }
+    if (parts.length == 2) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(parts[2]);
+    }
+  }
+
+  void publishEviction(String cacheName, String key) {
+    publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+  }
+
+  void publishClear(String cacheName) {
+    publish(nodeId + SEPARATOR + cacheName);
+  }
+
+  private Cache nearCache(Cache remoteCache) {
+    if (remoteCache == null || !properties.isEnabled()) {
+      return remoteCache;
+    }
+    return nearCaches.computeIfAbsent(
+        remoteCache.getName(),
+        name ->
+            new TwoTierCache(
+                remoteCache,
+                this,
+                Math.max(1, properties.getMaxEntries()),
+                Duration.ofSeconds(properties.getTtlSeconds()),
+                clock));
+  }
+
+  private void publish(String message) {
+    try {
+      publisher.accept(message);
+    } catch (RuntimeException e) {
+      log.warn("Near cache invalidation not published: {}", e.getMessage());
+    }
+  }
+}
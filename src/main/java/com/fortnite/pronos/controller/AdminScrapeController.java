@@ -3,6 +3,7 @@ package com.fortnite.pronos.controller;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import jakarta.validation.constraints.Max;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -33,6 +35,9 @@ import com.fortnite.pronos.service.ingestion.ScrapingDryRunService;
 @Validated
 public class AdminScrapeController {
 
+  private static final String SCHEDULER_DISABLED =
+      "Scheduled ingestion is disabled (ingestion.pr.scheduled.enabled=false)";
+
   private final ScrapeLogService scrapeLogService;
   private final UnresolvedAlertService unresolvedAlertService;
   private final ScrapingDryRunService scrapingDryRunService;
@@ -76,10 +81,7 @@ public class AdminScrapeController {
   public ResponseEntity<Object> triggerIngestion() {
     if (orchestrationService.isEmpty()) {
       return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-          .body(
-              Map.of(
-                  "error",
-                  "Scheduled ingestion is disabled (ingestion.pr.scheduled.enabled=false)"));
+          .body(Map.of("error", SCHEDULER_DISABLED));
     }
     MultiRegionIngestionResult result = orchestrationService.get().runAllRegions();
     Map<String, String> failures =
@@ -91,4 +93,24 @@ public class AdminScrapeController {
             result.status().name(), result.regionsProcessed(), failures, result.durationMs());
     return ResponseEntity.ok(dto);
   }
+
+  /**
+   * Resumes a checkpointed run (ingestion.pr.checkpointed=true) of {@code region} from its last
+   * committed chunk. An unknown run answers 400; a run that already finished, or whose cached CSV
+   * has since been replaced, answers 409.
+   */
+  @PostMapping("/runs/{runId}/resume")
+  public ResponseEntity<Object> resumeRun(@PathVariable UUID runId, @RequestParam String region) {
+    if (orchestrationService.isEmpty()) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(Map.of("error", SCHEDULER_DISABLED));
+    }
+    PrRegion prRegion;
+    try {
+      prRegion = PrRegion.valueOf(region.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body("Unknown region: " + region);
+    }
+    return ResponseEntity.ok(orchestrationService.get().resumeRegion(prRegion, runId));
+  }
 }
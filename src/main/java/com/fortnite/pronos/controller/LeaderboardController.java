@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +14,8 @@ import com.fortnite.pronos.dto.LeaderboardEntryDTO;
 import com.fortnite.pronos.dto.LeaderboardStatsDTO;
 import com.fortnite.pronos.dto.PlayerLeaderboardEntryDTO;
 import com.fortnite.pronos.dto.PronostiqueurLeaderboardEntryDTO;
+import com.fortnite.pronos.dto.leaderboard.LeaderboardPageDto;
+import com.fortnite.pronos.service.cache.LeaderboardCacheService;
 import com.fortnite.pronos.service.leaderboard.LeaderboardDebugService;
 import com.fortnite.pronos.service.leaderboard.LeaderboardStatsService;
 import com.fortnite.pronos.service.leaderboard.PlayerLeaderboardService;
@@ -34,6 +37,7 @@ public class LeaderboardController {
   private final PronostiqueurLeaderboardService pronostiqueurLeaderboardService;
   private final LeaderboardStatsService statsService;
   private final LeaderboardDebugService debugService;
+  private final LeaderboardCacheService leaderboardCacheService;
 
   /** Obtenir le leaderboard complet */
   @GetMapping
@@ -55,7 +59,11 @@ public class LeaderboardController {
       if (gameId != null && !gameId.trim().isEmpty()) {
         entries = teamLeaderboardService.getLeaderboardByGame(UUID.fromString(gameId));
       } else {
-        entries = teamLeaderboardService.getLeaderboard(season);
+        entries =
+            leaderboardCacheService.get(
+                LeaderboardCacheService.TEAMS,
+                season,
+                () -> teamLeaderboardService.getLeaderboard(season));
       }
 
       // Filtrer par région si nécessaire
@@ -110,6 +118,56 @@ public class LeaderboardController {
     }
   }
 
+  /** Les {@code k} premières équipes, sans charger le reste du classement */
+  @GetMapping("/top")
+  public ResponseEntity<LeaderboardPageDto> getTopTeams(
+      @RequestParam(defaultValue = "2025") Integer season,
+      @RequestParam(defaultValue = "10") Integer k,
+      @RequestParam(required = false) String gameId,
+      @RequestParam(defaultValue = "true") boolean players) {
+    log.info("[LEADERBOARD] Top {} - Saison: {}, GameId: {}", k, season, gameId);
+    return page(() -> teamLeaderboardService.getTopTeams(season, toGameId(gameId), k, players));
+  }
+
+  /** Une page du classement : {@code limit} équipes à partir du rang {@code offset + 1} */
+  @GetMapping("/page")
+  public ResponseEntity<LeaderboardPageDto> getLeaderboardPage(
+      @RequestParam(defaultValue = "2025") Integer season,
+      @RequestParam(defaultValue = "0") Integer offset,
+      @RequestParam(defaultValue = "50") Integer limit,
+      @RequestParam(required = false) String gameId,
+      @RequestParam(defaultValue = "true") boolean players) {
+    log.info(
+        "[LEADERBOARD] Page offset={} limit={} - Saison: {}, GameId: {}",
+        offset,
+        limit,
+        season,
+        gameId);
+    return page(
+        () ->
+            teamLeaderboardService.getLeaderboardPage(
+                season, toGameId(gameId), offset, limit, players));
+  }
+
+  /** Une équipe et ses {@code radius} voisins de chaque côté dans le classement */
+  @GetMapping("/team/{teamId}/neighbours")
+  public ResponseEntity<LeaderboardPageDto> getTeamNeighbours(
+      @PathVariable String teamId,
+      @RequestParam(defaultValue = "5") Integer radius,
+      @RequestParam(defaultValue = "true") boolean players) {
+    log.info("[LEADERBOARD] Voisins de l'équipe {} (radius={})", teamId, radius);
+
+    try {
+      return ResponseEntity.ok(teamLeaderboardService.getTeamNeighbours(teamId, radius, players));
+    } catch (IllegalArgumentException e) {
+      log.warn("[WARN] Requête de voisinage invalide: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    } catch (Exception e) {
+      log.error("Erreur lors de la récupération des voisins de l'équipe", e);
+      return ResponseEntity.notFound().build();
+    }
+  }
+
   /** Obtenir les statistiques du leaderboard */
   @GetMapping("/stats")
   public ResponseEntity<LeaderboardStatsDTO> getLeaderboardStats(
@@ -178,7 +236,10 @@ public class LeaderboardController {
 
     try {
       List<PronostiqueurLeaderboardEntryDTO> entries =
-          pronostiqueurLeaderboardService.getPronostiqueurLeaderboard(season);
+          leaderboardCacheService.get(
+              LeaderboardCacheService.PRONOSTIQUEURS,
+              season,
+              () -> pronostiqueurLeaderboardService.getPronostiqueurLeaderboard(season));
       log.info("[OK] Classement pronostiqueurs retourné: {} utilisateurs", entries.size());
       return ResponseEntity.ok(entries);
 
@@ -208,7 +269,11 @@ public class LeaderboardController {
       if (gameId != null && !gameId.trim().isEmpty()) {
         entries = playerLeaderboardService.getPlayerLeaderboardByGame(UUID.fromString(gameId));
       } else {
-        entries = playerLeaderboardService.getPlayerLeaderboard(season);
+        entries =
+            leaderboardCacheService.get(
+                LeaderboardCacheService.PLAYERS,
+                season,
+                () -> playerLeaderboardService.getPlayerLeaderboard(season));
       }
 
       // Filtrer par région si nécessaire
@@ -262,4 +327,20 @@ public class LeaderboardController {
       return ResponseEntity.ok(debug);
     }
   }
+
+  private ResponseEntity<LeaderboardPageDto> page(Supplier<LeaderboardPageDto> query) {
+    try {
+      return ResponseEntity.ok(query.get());
+    } catch (IllegalArgumentException e) {
+      log.warn("[WARN] Page de leaderboard invalide: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    } catch (Exception e) {
+      log.error("[ERROR] Erreur lors de la récupération d'une page du leaderboard", e);
+      return ResponseEntity.internalServerError().build();
+    }
+  }
+
+  private static UUID toGameId(String gameId) {
+    return gameId != null && !gameId.trim().isEmpty() ? UUID.fromString(gameId.trim()) : null;
+  }
 }
@@ -16,6 +16,7 @@ import com.fortnite.pronos.dto.FortnitePlayerDataDto;
 import com.fortnite.pronos.dto.player.CataloguePlayerDto;
 import com.fortnite.pronos.dto.player.PlayerDetailDto;
 import com.fortnite.pronos.dto.player.PlayerDto;
+import com.fortnite.pronos.dto.player.PlayerSparklineResponse;
 import com.fortnite.pronos.dto.player.RankSnapshotResponse;
 import com.fortnite.pronos.model.Player;
 import com.fortnite.pronos.service.RankSnapshotService;
@@ -185,6 +186,29 @@ public class PlayerController {
     return ResponseEntity.ok(rankSnapshotService.getSparkline(id, region, days));
   }
 
+  @Operation(
+      summary = "Get rank sparklines of several players",
+      description =
+          "Batch variant of /{id}/sparkline for catalogue and draft pages: one lookup for up to 200"
+              + " players, answered in request order with dates and ranks as parallel arrays")
+  @ApiResponse(responseCode = "200", description = "Sparkline data retrieved")
+  @ApiResponse(responseCode = "400", description = "More than 200 player ids")
+  @GetMapping("/sparklines")
+  public ResponseEntity<List<PlayerSparklineResponse>> getSparklines(
+      @Parameter(description = "Player unique identifiers, comma separated (max 200)") @RequestParam
+          List<UUID> ids,
+      @Parameter(description = "Fortnite region", example = "EU") @RequestParam(defaultValue = "EU")
+          String region,
+      @Parameter(description = "Number of past days (max 90)", example = "14")
+          @RequestParam(defaultValue = "14")
+          int days) {
+    try {
+      return ResponseEntity.ok(rankSnapshotService.getSparklines(ids, region, days));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   @Operation(
       summary = "Get player statistics",
       description = "Retrieve aggregated statistics about all players")
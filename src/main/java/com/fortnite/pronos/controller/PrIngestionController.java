@@ -39,7 +39,8 @@ public class PrIngestionController {
       @RequestBody(required = false) String csv,
       @RequestParam(defaultValue = "LOCAL_PR_CSV") String source,
       @RequestParam(defaultValue = "2025") int season,
-      @RequestParam(defaultValue = "true") boolean writeScores) {
+      @RequestParam(defaultValue = "true") boolean writeScores,
+      @RequestParam(defaultValue = "false") boolean bulkWrites) {
     if (csv == null || csv.isBlank()) {
       log.warn("PR ingestion rejected: empty CSV body");
       return ResponseEntity.badRequest().body(Map.of("error", "csv_body_required"));
@@ -56,7 +57,7 @@ public class PrIngestionController {
 
     PrIngestionResult result =
         ingestionService.ingest(
-            new StringReader(csv), new PrIngestionConfig(source, season, writeScores));
+            new StringReader(csv), new PrIngestionConfig(source, season, writeScores, bulkWrites));
 
     log.info(
         "PR ingestion response: status={}, playersCreated={}, snapshots={}",
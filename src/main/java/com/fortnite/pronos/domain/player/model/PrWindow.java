@@ -0,0 +1,20 @@
+package com.fortnite.pronos.domain.player.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object holding a player's PR at both ends of a period: the PR of its latest rank snapshot
+ * on or before the start date and on or before the end date.
+ */
+public record PrWindow(UUID playerId, int startPr, int endPr) {
+
+  public PrWindow {
+    Objects.requireNonNull(playerId, "playerId cannot be null");
+  }
+
+  /** PR gained (or lost, when negative) over the period. */
+  public int delta() {
+    return endPr - startPr;
+  }
+}
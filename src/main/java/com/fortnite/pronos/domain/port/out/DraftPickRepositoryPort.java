@@ -1,7 +1,10 @@
 package com.fortnite.pronos.domain.port.out;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.fortnite.pronos.model.Draft;
@@ -42,6 +45,24 @@ public interface DraftPickRepositoryPort {
    */
   List<UUID> findPlayerIdsByDraftIdAndParticipantId(UUID draftId, UUID participantId);
 
+  /**
+   * Returns the UUIDs of the players picked in a given draft, grouped by the participant who picked
+   * them, in one query. Picks whose player no longer exists are left out.
+   */
+  Map<UUID, List<UUID>> findPlayerIdsByParticipantForDraft(UUID draftId);
+
+  /**
+   * Returns the ids of the drafts in which any of {@code playerIds} was picked. Used to find the
+   * games an ingestion run affects.
+   */
+  Set<UUID> findDraftIdsPickingAnyOf(Collection<UUID> playerIds);
+
+  /**
+   * Returns the ids of the players picked in any of {@code draftIds}. Used to bound the PR pre-load
+   * of a delta batch run to the players its games hold.
+   */
+  Set<UUID> findPlayerIdsPickedInAnyOf(Collection<UUID> draftIds);
+
   /** Removes the pick for the given player from the given draft. No-op if absent. */
   void deleteByDraftIdAndPlayerId(UUID draftId, UUID playerId);
 
@@ -9,5 +9,10 @@ public interface PlayerAliasRepositoryPort {
 
   PlayerAliasEntry save(PlayerAliasEntry entry);
 
+  /** Saves the entries as one batch; adapters override the one-by-one default. */
+  default List<PlayerAliasEntry> saveAll(List<PlayerAliasEntry> entries) {
+    return entries.stream().map(this::save).toList();
+  }
+
   List<PlayerAliasEntry> findByPlayerId(UUID playerId);
 }
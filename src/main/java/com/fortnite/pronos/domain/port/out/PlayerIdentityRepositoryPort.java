@@ -22,6 +22,11 @@ public interface PlayerIdentityRepositoryPort {
 
   PlayerIdentityEntry save(PlayerIdentityEntry entry);
 
+  /** Saves the entries as one batch; adapters override the one-by-one default. */
+  default List<PlayerIdentityEntry> saveAll(List<PlayerIdentityEntry> entries) {
+    return entries.stream().map(this::save).toList();
+  }
+
   /** Returns (region, status, count) triplets for all regions with entries. */
   List<RegionalStatRow> countByRegionAndStatus();
 
@@ -1,14 +1,18 @@
 package com.fortnite.pronos.domain.port.out;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.fortnite.pronos.domain.player.model.PrWindow;
 import com.fortnite.pronos.domain.player.model.RankSnapshot;
 
 /**
- * Output port for RankSnapshot persistence. Table is append-only: only INSERT + SELECT, no UPDATE.
+ * Output port for RankSnapshot persistence. Rows are appended one day at a time; only a day that an
+ * ingestion run writes again has its row overwritten.
  */
 public interface RankSnapshotRepositoryPort {
 
@@ -18,6 +22,12 @@ public interface RankSnapshotRepositoryPort {
    */
   List<RankSnapshot> findByPlayerAndRegion(UUID playerId, String region, int days);
 
+  /**
+   * Returns snapshots of all {@code playerIds} in the given region over the last {@code days} days
+   * in one query, ordered by snapshotDate ASC. Used by the batch sparkline endpoint.
+   */
+  List<RankSnapshot> findByPlayersAndRegion(Collection<UUID> playerIds, String region, int days);
+
   /**
    * Returns all snapshots for the given player across all regions over the last {@code days} days,
    * ordered by snapshotDate ASC. Used for building the PR-per-region profile view.
@@ -26,9 +36,44 @@ public interface RankSnapshotRepositoryPort {
 
   RankSnapshot save(RankSnapshot snapshot);
 
+  /**
+   * Copies the PR snapshots written by the ingestion run {@code runId} into the rank snapshots,
+   * inserting the missing days and overwriting those whose rank or PR changed. Returns the copied
+   * snapshots, empty when the run changed nothing.
+   */
+  List<RankSnapshot> copyFromIngestionRun(UUID runId);
+
   /**
    * Returns the most recent snapshot for the given player with snapshotDate &lt;= date, or empty if
    * none exists. Used to handle weekend/ingestion gaps in competition period calculations.
    */
   Optional<RankSnapshot> findLatestOnOrBefore(UUID playerId, LocalDate date);
+
+  /**
+   * Returns, for each of {@code playerIds} that has a snapshot on or before both dates, its PR at
+   * {@code start} and at {@code end} as {@link #findLatestOnOrBefore} would read them, in one
+   * query. Players lacking either snapshot are left out.
+   */
+  List<PrWindow> findPrWindows(Collection<UUID> playerIds, LocalDate start, LocalDate end);
+
+  /**
+   * Returns every player's PR at {@code date}, read like {@link #findLatestOnOrBefore}, keyed by
+   * player id. Players without a snapshot on or before that date are absent.
+   */
+  Map<UUID, Integer> findPrByPlayerOnOrBefore(LocalDate date);
+
+  /** Same as {@link #findPrByPlayerOnOrBefore(LocalDate)}, restricted to {@code playerIds}. */
+  Map<UUID, Integer> findPrByPlayerOnOrBefore(Collection<UUID> playerIds, LocalDate date);
+
+  /**
+   * Streams every snapshot dated on or after {@code since} into {@code sink}, in no particular
+   * order, without materialising them as {@link RankSnapshot}s. Used to load the in-memory store.
+   */
+  void forEachSince(LocalDate since, SnapshotRowSink sink);
+
+  /** Receives the columns of one snapshot row. */
+  @FunctionalInterface
+  interface SnapshotRowSink {
+    void accept(UUID playerId, String region, LocalDate snapshotDate, int rank, int prValue);
+  }
 }
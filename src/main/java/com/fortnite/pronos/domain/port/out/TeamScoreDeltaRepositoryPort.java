@@ -1,5 +1,6 @@
 package com.fortnite.pronos.domain.port.out;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +15,12 @@ public interface TeamScoreDeltaRepositoryPort {
   List<TeamScoreDelta> findByGameId(UUID gameId);
 
   Optional<TeamScoreDelta> findByGameIdAndParticipantId(UUID gameId, UUID participantId);
+
+  /**
+   * Stores {@code deltas}, all of {@code gameId} and of the period {@code periodStart} to {@code
+   * periodEnd}, as one batched upsert keyed by (game, participant, period). Rows of the game for
+   * another period are removed first, so each participant keeps a single row.
+   */
+  void replaceForGame(
+      UUID gameId, LocalDate periodStart, LocalDate periodEnd, List<TeamScoreDelta> deltas);
 }
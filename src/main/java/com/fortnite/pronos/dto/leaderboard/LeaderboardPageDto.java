@@ -0,0 +1,22 @@
+package com.fortnite.pronos.dto.leaderboard;
+
+import java.util.List;
+
+import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A window of the team leaderboard.
+ *
+ * <p>Returned by the top-K, page and neighbours endpoints; {@code totalEntries} is the size of the
+ * whole board so clients can page without fetching it.
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardPageDto {
+  private int fromRank;
+  private int totalEntries;
+  private List<LeaderboardEntryDTO> entries;
+}
@@ -0,0 +1,12 @@
+package com.fortnite.pronos.dto.player;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sparkline of one player in the batch endpoint, as parallel arrays sorted ascending by date:
+ * {@code ranks[i]} was recorded on {@code dates[i]}. Both are empty when the player has no snapshot
+ * in the window.
+ */
+public record PlayerSparklineResponse(UUID playerId, List<LocalDate> dates, int[] ranks) {}
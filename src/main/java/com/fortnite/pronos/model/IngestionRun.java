@@ -48,6 +48,22 @@ public class IngestionRun {
   @Column(name = "error_message")
   private String errorMessage;
 
+  /** Chunks written and committed so far by a checkpointed run. */
+  @Column(name = "committed_chunks")
+  private Integer committedChunks;
+
+  /** Parsed CSV rows covered by the committed chunks; a resumed run starts after them. */
+  @Column(name = "committed_rows")
+  private Integer committedRows;
+
+  /** Rows rejected by the committed chunks, kept so a resumed run reports the whole run. */
+  @Column(name = "skipped_rows")
+  private Integer skippedRows;
+
+  /** SHA-256 of the CSV a checkpointed run started on; a resume must replay the same content. */
+  @Column(name = "csv_sha256", length = 64)
+  private String csvSha256;
+
   @PrePersist
   void applyDefaults() {
     if (source == null || source.isBlank()) {
@@ -0,0 +1,9 @@
+package com.fortnite.pronos.model;
+
+import java.util.UUID;
+
+/**
+ * A player's points for one season, read straight from its {@code scores} row (the table holds one
+ * row per player and season, so no aggregation is needed).
+ */
+public record PlayerSeasonPoints(UUID playerId, int points) {}
@@ -1,7 +1,13 @@
 package com.fortnite.pronos.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,6 +27,9 @@ import com.fortnite.pronos.model.Player;
 public interface DraftPickRepository
     extends JpaRepository<DraftPick, UUID>, DraftPickRepositoryPort {
 
+  /** Bound of an {@code IN} list, well under the bind parameter limits of both engines. */
+  int PLAYER_ID_CHUNK_SIZE = 1_000;
+
   /** Trouver les picks d'un draft */
   List<DraftPick> findByDraft(Draft draft);
 
@@ -59,6 +68,53 @@ public interface DraftPickRepository
   List<UUID> findPlayerIdsByDraftIdAndParticipantId(
       @Param("draftId") UUID draftId, @Param("participantId") UUID participantId);
 
+  /** Returns (participant id, player id) for every pick of the given draft whose player exists. */
+  @Query(
+      "SELECT dp.participant.id, p.id FROM DraftPick dp JOIN dp.player p"
+          + " WHERE dp.draft.id = :draftId")
+  List<Object[]> findParticipantPlayerIdsByDraftId(@Param("draftId") UUID draftId);
+
+  @Override
+  default Map<UUID, List<UUID>> findPlayerIdsByParticipantForDraft(UUID draftId) {
+    Map<UUID, List<UUID>> playerIds = new HashMap<>();
+    for (Object[] row : findParticipantPlayerIdsByDraftId(draftId)) {
+      playerIds.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((UUID) row[1]);
+    }
+    return playerIds;
+  }
+
+  /** Draft ids picking any of {@code playerIds}; the port method splits larger inputs. */
+  @Query("SELECT DISTINCT dp.draft.id FROM DraftPick dp WHERE dp.player.id IN :playerIds")
+  List<UUID> findDraftIdsByPlayerIdIn(@Param("playerIds") Collection<UUID> playerIds);
+
+  @Override
+  default Set<UUID> findDraftIdsPickingAnyOf(Collection<UUID> playerIds) {
+    List<UUID> ids = List.copyOf(playerIds);
+    Set<UUID> draftIds = new HashSet<>();
+    for (int from = 0; from < ids.size(); from += PLAYER_ID_CHUNK_SIZE) {
+      draftIds.addAll(
+          findDraftIdsByPlayerIdIn(
+              ids.subList(from, Math.min(ids.size(), from + PLAYER_ID_CHUNK_SIZE))));
+    }
+    return draftIds;
+  }
+
+  /** Player ids picked in any of {@code draftIds}; the port method splits larger inputs. */
+  @Query("SELECT DISTINCT dp.player.id FROM DraftPick dp WHERE dp.draft.id IN :draftIds")
+  List<UUID> findPlayerIdsByDraftIdIn(@Param("draftIds") Collection<UUID> draftIds);
+
+  @Override
+  default Set<UUID> findPlayerIdsPickedInAnyOf(Collection<UUID> draftIds) {
+    List<UUID> ids = List.copyOf(draftIds);
+    Set<UUID> playerIds = new HashSet<>();
+    for (int from = 0; from < ids.size(); from += PLAYER_ID_CHUNK_SIZE) {
+      playerIds.addAll(
+          findPlayerIdsByDraftIdIn(
+              ids.subList(from, Math.min(ids.size(), from + PLAYER_ID_CHUNK_SIZE))));
+    }
+    return playerIds;
+  }
+
   /** Removes the pick for the given player from the given draft. */
   @Modifying
   @Query("DELETE FROM DraftPick dp WHERE dp.draft.id = :draftId AND dp.player.id = :playerId")
@@ -0,0 +1,57 @@
+package com.fortnite.pronos.repository;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+
+/**
+ * Shared plumbing of the multi-row native upsert fragments: chunking, {@code VALUES} expansion and
+ * the PostgreSQL / H2 dialect switch.
+ */
+abstract class NativeUpsertRepositoryImpl {
+
+  static final int MAX_ROWS_PER_STATEMENT = 500;
+
+  @PersistenceContext protected EntityManager entityManager;
+
+  private volatile Boolean postgres;
+
+  /** Writes {@code rows} one chunk of at most {@link #MAX_ROWS_PER_STATEMENT} at a time. */
+  static <T> int executeChunked(List<T> rows, ToIntFunction<List<T>> chunkWriter) {
+    int written = 0;
+    for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+      int to = Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT);
+      written += chunkWriter.applyAsInt(rows.subList(from, to));
+    }
+    return written;
+  }
+
+  /** Expands a tuple template whose named parameters carry a {@code %1$d} row suffix. */
+  static String valuesClause(int rowCount, String tupleTemplate) {
+    StringBuilder values = new StringBuilder();
+    for (int i = 0; i < rowCount; i++) {
+      if (i > 0) {
+        values.append(", ");
+      }
+      values.append(tupleTemplate.formatted(i));
+    }
+    return values.toString();
+  }
+
+  protected boolean isPostgres() {
+    Boolean detected = postgres;
+    if (detected == null) {
+      String product =
+          entityManager
+              .unwrap(Session.class)
+              .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+      detected = product != null && product.contains("PostgreSQL");
+      postgres = detected;
+    }
+    return detected;
+  }
+}
@@ -0,0 +1,41 @@
+package com.fortnite.pronos.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.fortnite.pronos.model.Player;
+
+/** Set-based reads and writes backing the bulk PR ingestion mode. */
+public interface PrIngestionBulkRepository
+    extends Repository<Player, UUID>, PrIngestionNativeRepository {
+
+  @Query(
+      "SELECT p.id, p.nickname, p.region, p.tranche, p.currentSeason "
+          + "FROM Player p WHERE p.nickname IN :nicknames")
+  List<Object[]> findIngestionStateByNicknameInRaw(
+      @Param("nicknames") Collection<String> nicknames);
+
+  /**
+   * Loads the ingestion-relevant columns of the given nicknames as detached {@link Player}
+   * instances, so in-memory resolution never triggers dirty checking on managed entities.
+   */
+  default List<Player> findDetachedByNicknameIn(Collection<String> nicknames) {
+    return findIngestionStateByNicknameInRaw(nicknames).stream()
+        .map(
+            row -> {
+              Player player = new Player();
+              player.setId((UUID) row[0]);
+              player.setNickname((String) row[1]);
+              player.setRegion((Player.Region) row[2]);
+              player.setTranche((String) row[3]);
+              player.setCurrentSeason((Integer) row[4]);
+              return player;
+            })
+        .toList();
+  }
+}
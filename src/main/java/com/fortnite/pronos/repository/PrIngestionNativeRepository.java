@@ -0,0 +1,29 @@
+package com.fortnite.pronos.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.repository.Repository;
+
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.PrSnapshot;
+import com.fortnite.pronos.model.Score;
+
+/**
+ * Multi-row upserts used by the bulk PR ingestion path. Each call is split into chunks and issues
+ * one statement per chunk ({@code INSERT ... ON CONFLICT} on PostgreSQL, {@code MERGE} on H2).
+ *
+ * <p>Callers must pass at most one element per conflict key: PostgreSQL rejects a statement that
+ * updates the same row twice.
+ */
+public interface PrIngestionNativeRepository extends Repository<Player, UUID> {
+
+  /** Inserts new players or updates region, tranche and season of existing ones (by nickname). */
+  int upsertPlayers(List<Player> players);
+
+  /** Inserts or updates snapshots keyed by (player, region, snapshot date). */
+  int upsertSnapshots(List<PrSnapshot> snapshots);
+
+  /** Inserts or updates scores keyed by (player, season). */
+  int upsertScores(List<Score> scores);
+}
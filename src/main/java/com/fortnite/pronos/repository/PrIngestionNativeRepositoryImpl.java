@@ -0,0 +1,178 @@
+package com.fortnite.pronos.repository;
+
+import java.util.List;
+
+import jakarta.persistence.Query;
+
+import org.springframework.stereotype.Repository;
+
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.PrSnapshot;
+import com.fortnite.pronos.model.Score;
+
+@Repository
+class PrIngestionNativeRepositoryImpl extends NativeUpsertRepositoryImpl
+    implements PrIngestionNativeRepository {
+
+  // Explicit casts let both engines type the parameters of a VALUES list.
+  private static final String PLAYER_TUPLE =
+      "(CAST(:id%1$d AS UUID), CAST(:username%1$d AS VARCHAR), CAST(:nickname%1$d AS VARCHAR), "
+          + "CAST(:region%1$d AS VARCHAR), CAST(:tranche%1$d AS VARCHAR), "
+          + "CAST(:season%1$d AS INTEGER))";
+
+  private static final String SNAPSHOT_TUPLE =
+      "(CAST(:playerId%1$d AS UUID), CAST(:region%1$d AS VARCHAR), "
+          + "CAST(:snapshotDate%1$d AS DATE), CAST(:id%1$d AS UUID), "
+          + "CAST(:points%1$d AS INTEGER), CAST(:prValue%1$d AS INTEGER), "
+          + "CAST(:rank%1$d AS INTEGER), CAST(:collectedAt%1$d AS TIMESTAMP WITH TIME ZONE), "
+          + "CAST(:runId%1$d AS UUID))";
+
+  private static final String SCORE_TUPLE =
+      "(CAST(:playerId%1$d AS UUID), CAST(:season%1$d AS INTEGER), "
+          + "CAST(:points%1$d AS INTEGER), CAST(:date%1$d AS DATE), "
+          + "CAST(:timestamp%1$d AS TIMESTAMP WITH TIME ZONE))";
+
+  private static final String POSTGRES_PLAYERS_UPSERT =
+      """
+      INSERT INTO players (id, username, nickname, region, tranche, current_season, locked)
+      SELECT s.id, s.username, s.nickname, CAST(s.region AS region_enum), s.tranche,
+             s.current_season, FALSE
+      FROM (VALUES %s) AS s(id, username, nickname, region, tranche, current_season)
+      ON CONFLICT (nickname) DO UPDATE SET
+        region = EXCLUDED.region,
+        tranche = EXCLUDED.tranche,
+        current_season = EXCLUDED.current_season
+      """;
+
+  private static final String H2_PLAYERS_MERGE =
+      """
+      MERGE INTO players t
+      USING (VALUES %s) AS s(id, username, nickname, region, tranche, current_season)
+      ON t.nickname = s.nickname
+      WHEN MATCHED THEN UPDATE SET
+        region = s.region, tranche = s.tranche, current_season = s.current_season
+      WHEN NOT MATCHED THEN INSERT (id, username, nickname, region, tranche, current_season, locked)
+        VALUES (s.id, s.username, s.nickname, s.region, s.tranche, s.current_season, FALSE)
+      """;
+
+  private static final String POSTGRES_SNAPSHOTS_UPSERT =
+      """
+      INSERT INTO pr_snapshots (
+        player_id, region, snapshot_date, id, points, pr_value, rank, collected_at, run_id
+      ) VALUES %s
+      ON CONFLICT (player_id, region, snapshot_date) DO UPDATE SET
+        points = EXCLUDED.points,
+        pr_value = EXCLUDED.pr_value,
+        rank = EXCLUDED.rank,
+        collected_at = EXCLUDED.collected_at,
+        run_id = EXCLUDED.run_id
+      """;
+
+  private static final String H2_SNAPSHOTS_MERGE =
+      """
+      MERGE INTO pr_snapshots t
+      USING (VALUES %s)
+        AS s(player_id, region, snapshot_date, id, points, pr_value, rank, collected_at, run_id)
+      ON t.player_id = s.player_id AND t.region = s.region AND t.snapshot_date = s.snapshot_date
+      WHEN MATCHED THEN UPDATE SET
+        points = s.points, pr_value = s.pr_value, rank = s.rank,
+        collected_at = s.collected_at, run_id = s.run_id
+      WHEN NOT MATCHED THEN INSERT (
+        player_id, region, snapshot_date, id, points, pr_value, rank, collected_at, run_id
+      ) VALUES (
+        s.player_id, s.region, s.snapshot_date, s.id, s.points, s.pr_value, s.rank,
+        s.collected_at, s.run_id
+      )
+      """;
+
+  private static final String POSTGRES_SCORES_UPSERT =
+      """
+      INSERT INTO scores (player_id, season, points, date, timestamp) VALUES %s
+      ON CONFLICT (player_id, season) DO UPDATE SET
+        points = EXCLUDED.points,
+        date = EXCLUDED.date,
+        timestamp = EXCLUDED.timestamp
+      """;
+
+  private static final String H2_SCORES_MERGE =
+      """
+      MERGE INTO scores t
+      USING (VALUES %s) AS s(player_id, season, points, score_date, score_timestamp)
+      ON t.player_id = s.player_id AND t.season = s.season
+      WHEN MATCHED THEN UPDATE SET
+        points = s.points, date = s.score_date, timestamp = s.score_timestamp
+      WHEN NOT MATCHED THEN INSERT (player_id, season, points, date, timestamp)
+        VALUES (s.player_id, s.season, s.points, s.score_date, s.score_timestamp)
+      """;
+
+  @Override
+  public int upsertPlayers(List<Player> players) {
+    return executeChunked(players, this::upsertPlayerChunk);
+  }
+
+  @Override
+  public int upsertSnapshots(List<PrSnapshot> snapshots) {
+    return executeChunked(snapshots, this::upsertSnapshotChunk);
+  }
+
+  @Override
+  public int upsertScores(List<Score> scores) {
+    return executeChunked(scores, this::upsertScoreChunk);
+  }
+
+  private int upsertPlayerChunk(List<Player> chunk) {
+    String template = isPostgres() ? POSTGRES_PLAYERS_UPSERT : H2_PLAYERS_MERGE;
+    Query query =
+        entityManager.createNativeQuery(
+            template.formatted(valuesClause(chunk.size(), PLAYER_TUPLE)));
+    for (int i = 0; i < chunk.size(); i++) {
+      Player player = chunk.get(i);
+      query
+          .setParameter("id" + i, player.getId())
+          .setParameter("username" + i, player.getUsername())
+          .setParameter("nickname" + i, player.getNickname())
+          .setParameter("region" + i, player.getRegion().name())
+          .setParameter("tranche" + i, player.getTranche())
+          .setParameter("season" + i, player.getCurrentSeason());
+    }
+    return query.executeUpdate();
+  }
+
+  private int upsertSnapshotChunk(List<PrSnapshot> chunk) {
+    String template = isPostgres() ? POSTGRES_SNAPSHOTS_UPSERT : H2_SNAPSHOTS_MERGE;
+    Query query =
+        entityManager.createNativeQuery(
+            template.formatted(valuesClause(chunk.size(), SNAPSHOT_TUPLE)));
+    for (int i = 0; i < chunk.size(); i++) {
+      PrSnapshot snapshot = chunk.get(i);
+      query
+          .setParameter("playerId" + i, snapshot.getPlayer().getId())
+          .setParameter("region" + i, snapshot.getRegion().name())
+          .setParameter("snapshotDate" + i, snapshot.getSnapshotDate())
+          .setParameter("id" + i, snapshot.getId())
+          .setParameter("points" + i, snapshot.getPoints())
+          .setParameter("prValue" + i, snapshot.getPrValue())
+          .setParameter("rank" + i, snapshot.getRank())
+          .setParameter("collectedAt" + i, snapshot.getCollectedAt())
+          .setParameter("runId" + i, snapshot.getRun() != null ? snapshot.getRun().getId() : null);
+    }
+    return query.executeUpdate();
+  }
+
+  private int upsertScoreChunk(List<Score> chunk) {
+    String template = isPostgres() ? POSTGRES_SCORES_UPSERT : H2_SCORES_MERGE;
+    Query query =
+        entityManager.createNativeQuery(
+            template.formatted(valuesClause(chunk.size(), SCORE_TUPLE)));
+    for (int i = 0; i < chunk.size(); i++) {
+      Score score = chunk.get(i);
+      query
+          .setParameter("playerId" + i, score.getPlayer().getId())
+          .setParameter("season" + i, score.getSeason())
+          .setParameter("points" + i, score.getPoints())
+          .setParameter("date" + i, score.getDate())
+          .setParameter("timestamp" + i, score.getTimestamp());
+    }
+    return query.executeUpdate();
+  }
+}
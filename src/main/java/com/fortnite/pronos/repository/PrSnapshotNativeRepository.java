@@ -1,11 +1,23 @@
 package com.fortnite.pronos.repository;
 
+import java.util.List;
+import java.util.UUID;
+
 import org.springframework.data.repository.Repository;
 
+import com.fortnite.pronos.domain.player.model.RankSnapshot;
 import com.fortnite.pronos.model.PrSnapshot;
 
 public interface PrSnapshotNativeRepository
     extends Repository<PrSnapshot, PrSnapshot.PrSnapshotId> {
 
   void persist(PrSnapshot snapshot);
+
+  /**
+   * Copies the snapshots last written by {@code runId} into {@code rank_snapshots}, where the
+   * sparklines and team deltas read them: rows missing there are inserted and rows holding another
+   * rank or PR are overwritten (one multi-row upsert per chunk). Returns the rows copied; rows
+   * already identical are left out.
+   */
+  List<RankSnapshot> copyRunToRankSnapshots(UUID runId);
 }
@@ -1,19 +1,61 @@
 package com.fortnite.pronos.repository;
 
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 
 import org.springframework.stereotype.Repository;
 
+import com.fortnite.pronos.domain.player.model.RankSnapshot;
 import com.fortnite.pronos.model.PrSnapshot;
 
 @Repository
-class PrSnapshotNativeRepositoryImpl implements PrSnapshotNativeRepository {
+class PrSnapshotNativeRepositoryImpl extends NativeUpsertRepositoryImpl
+    implements PrSnapshotNativeRepository {
 
-  @PersistenceContext private EntityManager entityManager;
+  /** Snapshots of the run that {@code rank_snapshots} lacks or holds with another rank or PR. */
+  private static final String RUN_ROWS_TO_COPY =
+      """
+      SELECT p.player_id, CAST(p.region AS VARCHAR(10)), p.rank, p.pr_value, p.snapshot_date
+      FROM pr_snapshots p
+      LEFT JOIN rank_snapshots r
+        ON r.player_id = p.player_id
+        AND r.region = CAST(p.region AS VARCHAR(10))
+        AND r.snapshot_date = p.snapshot_date
+      WHERE p.run_id = :runId
+        AND p.rank >= 1
+        AND (r.id IS NULL OR r.rank <> p.rank OR r.pr_value <> p.pr_value)
+      """;
+
+  private static final String RANK_TUPLE =
+      "(CAST(:id%1$d AS UUID), CAST(:playerId%1$d AS UUID), CAST(:region%1$d AS VARCHAR(10)), "
+          + "CAST(:rank%1$d AS INTEGER), CAST(:prValue%1$d AS INTEGER), "
+          + "CAST(:snapshotDate%1$d AS DATE))";
+
+  private static final String POSTGRES_RANK_UPSERT =
+      """
+      INSERT INTO rank_snapshots (id, player_id, region, rank, pr_value, snapshot_date)
+      VALUES %s
+      ON CONFLICT (player_id, region, snapshot_date) DO UPDATE SET
+        rank = EXCLUDED.rank,
+        pr_value = EXCLUDED.pr_value
+      """;
+
+  private static final String H2_RANK_MERGE =
+      """
+      MERGE INTO rank_snapshots t
+      USING (VALUES %s) AS s(id, player_id, region, rank, pr_value, snapshot_date)
+      ON t.player_id = s.player_id AND t.region = s.region AND t.snapshot_date = s.snapshot_date
+      WHEN MATCHED THEN UPDATE SET rank = s.rank, pr_value = s.pr_value
+      WHEN NOT MATCHED THEN INSERT (id, player_id, region, rank, pr_value, snapshot_date)
+        VALUES (s.id, s.player_id, s.region, s.rank, s.pr_value, s.snapshot_date)
+      """;
 
   @Override
   public void persist(PrSnapshot snapshot) {
@@ -62,4 +104,55 @@ class PrSnapshotNativeRepositoryImpl implements PrSnapshotNativeRepository {
         .setParameter("runId", snapshot.getRun() != null ? snapshot.getRun().getId() : null)
         .executeUpdate();
   }
+
+  @Override
+  public List<RankSnapshot> copyRunToRankSnapshots(UUID runId) {
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows =
+        entityManager
+            .createNativeQuery(RUN_ROWS_TO_COPY)
+            .setParameter("runId", runId)
+            .getResultList();
+    List<RankSnapshot> copied = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      copied.add(
+          new RankSnapshot(
+              toUuid(row[0]),
+              (String) row[1],
+              ((Number) row[2]).intValue(),
+              ((Number) row[3]).intValue(),
+              toLocalDate(row[4])));
+    }
+    executeChunked(copied, this::upsertRankChunk);
+    return copied;
+  }
+
+  private int upsertRankChunk(List<RankSnapshot> chunk) {
+    String template = isPostgres() ? POSTGRES_RANK_UPSERT : H2_RANK_MERGE;
+    Query query =
+        entityManager.createNativeQuery(template.formatted(valuesClause(chunk.size(), RANK_TUPLE)));
+    for (int i = 0; i < chunk.size(); i++) {
+      RankSnapshot snapshot = chunk.get(i);
+      query
+          .setParameter("id" + i, snapshot.getId())
+          .setParameter("playerId" + i, snapshot.getPlayerId())
+          .setParameter("region" + i, snapshot.getRegion())
+          .setParameter("rank" + i, snapshot.getRank())
+          .setParameter("prValue" + i, snapshot.getPrValue())
+          .setParameter("snapshotDate" + i, snapshot.getSnapshotDate());
+    }
+    return query.executeUpdate();
+  }
+
+  private static UUID toUuid(Object value) {
+    if (value instanceof byte[] bytes) {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      return new UUID(buffer.getLong(), buffer.getLong());
+    }
+    return (UUID) value;
+  }
+
+  private static LocalDate toLocalDate(Object value) {
+    return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+  }
 }
@@ -2,6 +2,8 @@ package com.fortnite.pronos.repository;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Repository;
 
 import com.fortnite.pronos.domain.port.out.ScoreRepositoryPort;
 import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.PlayerSeasonPoints;
 import com.fortnite.pronos.model.Score;
 
 @Repository
@@ -84,16 +87,30 @@ public interface ScoreRepository extends JpaRepository<Score, Score.ScoreId>, Sc
       "SELECT s.player.id, SUM(s.points) FROM Score s WHERE s.season = :season GROUP BY s.player.id")
   List<Object[]> findAllBySeasonGroupedByPlayerRaw(@Param("season") int season);
 
+  /** Points of every player with a score in {@code season}, one element per {@code scores} row. */
+  @Query(
+      "SELECT new com.fortnite.pronos.model.PlayerSeasonPoints(s.player.id, s.points) "
+          + "FROM Score s WHERE s.season = :season")
+  List<PlayerSeasonPoints> findSeasonPoints(@Param("season") int season);
+
+  /** Points in {@code season} of {@code playerIds} only, for standings scoped to one game. */
+  @Query(
+      "SELECT new com.fortnite.pronos.model.PlayerSeasonPoints(s.player.id, s.points) "
+          + "FROM Score s WHERE s.season = :season AND s.player.id IN :playerIds")
+  List<PlayerSeasonPoints> findSeasonPointsOf(
+      @Param("season") int season, @Param("playerIds") Collection<UUID> playerIds);
+
   /**
-   * Récupère tous les scores groupés par joueur pour une saison donnée - OPTIMISÉ Évite le problème
-   * N+1 queries en récupérant tout en une seule requête
+   * Récupère les points de tous les joueurs pour une saison donnée en une seule requête. La clé
+   * primaire (player_id, season) garantit une ligne par joueur : pas de GROUP BY à recalculer.
    */
   default Map<UUID, Integer> findAllBySeasonGroupedByPlayer(int season) {
-    List<Object[]> results = findAllBySeasonGroupedByPlayerRaw(season);
-    return results.stream()
-        .collect(
-            java.util.stream.Collectors.toMap(
-                row -> (UUID) row[0], row -> row[1] != null ? ((Number) row[1]).intValue() : 0));
+    List<PlayerSeasonPoints> rows = findSeasonPoints(season);
+    Map<UUID, Integer> points = HashMap.newHashMap(rows.size());
+    for (PlayerSeasonPoints row : rows) {
+      points.put(row.playerId(), row.points());
+    }
+    return points;
   }
 
   Optional<Score> findTopByPlayerIdAndTimestampLessThanEqualOrderByTimestampDesc(
@@ -1,19 +1,34 @@
 package com.fortnite.pronos.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fortnite.pronos.model.TeamScoreDeltaEntity;
 
 /** JPA repository for the team_score_deltas table. */
 @Repository
-public interface TeamScoreDeltaJpaRepository extends JpaRepository<TeamScoreDeltaEntity, UUID> {
+public interface TeamScoreDeltaJpaRepository
+    extends JpaRepository<TeamScoreDeltaEntity, UUID>, TeamScoreDeltaNativeRepository {
 
   List<TeamScoreDeltaEntity> findByGameId(UUID gameId);
 
   Optional<TeamScoreDeltaEntity> findByGameIdAndParticipantId(UUID gameId, UUID participantId);
+
+  /** Removes the game's deltas computed for any period other than the given one. */
+  @Modifying
+  @Query(
+      "DELETE FROM TeamScoreDeltaEntity d WHERE d.gameId = :gameId "
+          + "AND (d.periodStart <> :periodStart OR d.periodEnd <> :periodEnd)")
+  int deleteOtherPeriods(
+      @Param("gameId") UUID gameId,
+      @Param("periodStart") LocalDate periodStart,
+      @Param("periodEnd") LocalDate periodEnd);
 }
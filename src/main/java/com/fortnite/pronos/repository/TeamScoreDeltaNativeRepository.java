@@ -0,0 +1,21 @@
+package com.fortnite.pronos.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.repository.Repository;
+
+import com.fortnite.pronos.model.TeamScoreDeltaEntity;
+
+/**
+ * Multi-row upsert of team score deltas, one statement per chunk ({@code INSERT ... ON CONFLICT} on
+ * PostgreSQL, {@code MERGE} on H2). Callers pass at most one delta per conflict key.
+ */
+public interface TeamScoreDeltaNativeRepository extends Repository<TeamScoreDeltaEntity, UUID> {
+
+  /**
+   * Inserts deltas or updates the value and computation time of existing ones, keyed by (game,
+   * participant, period start, period end). An existing row keeps its id.
+   */
+  int upsertDeltas(List<TeamScoreDeltaEntity> deltas);
+}
@@ -0,0 +1,69 @@
+package com.fortnite.pronos.repository;
+
+import java.util.List;
+
+import jakarta.persistence.Query;
+
+import org.springframework.stereotype.Repository;
+
+import com.fortnite.pronos.model.TeamScoreDeltaEntity;
+
+@Repository
+class TeamScoreDeltaNativeRepositoryImpl extends NativeUpsertRepositoryImpl
+    implements TeamScoreDeltaNativeRepository {
+
+  private static final String DELTA_TUPLE =
+      "(CAST(:id%1$d AS UUID), CAST(:gameId%1$d AS UUID), CAST(:participantId%1$d AS UUID), "
+          + "CAST(:periodStart%1$d AS DATE), CAST(:periodEnd%1$d AS DATE), "
+          + "CAST(:deltaPr%1$d AS INTEGER), CAST(:computedAt%1$d AS TIMESTAMP))";
+
+  private static final String POSTGRES_DELTAS_UPSERT =
+      """
+      INSERT INTO team_score_deltas (
+        id, game_id, participant_id, period_start, period_end, delta_pr, computed_at
+      ) VALUES %s
+      ON CONFLICT (game_id, participant_id, period_start, period_end) DO UPDATE SET
+        delta_pr = EXCLUDED.delta_pr,
+        computed_at = EXCLUDED.computed_at
+      """;
+
+  private static final String H2_DELTAS_MERGE =
+      """
+      MERGE INTO team_score_deltas t
+      USING (VALUES %s)
+        AS s(id, game_id, participant_id, period_start, period_end, delta_pr, computed_at)
+      ON t.game_id = s.game_id AND t.participant_id = s.participant_id
+        AND t.period_start = s.period_start AND t.period_end = s.period_end
+      WHEN MATCHED THEN UPDATE SET delta_pr = s.delta_pr, computed_at = s.computed_at
+      WHEN NOT MATCHED THEN INSERT (
+        id, game_id, participant_id, period_start, period_end, delta_pr, computed_at
+      ) VALUES (
+        s.id, s.game_id, s.participant_id, s.period_start, s.period_end, s.delta_pr,
+        s.computed_at
+      )
+      """;
+
+  @Override
+  public int upsertDeltas(List<TeamScoreDeltaEntity> deltas) {
+    return executeChunked(deltas, this::upsertDeltaChunk);
+  }
+
+  private int upsertDeltaChunk(List<TeamScoreDeltaEntity> chunk) {
+    String template = isPostgres() ? POSTGRES_DELTAS_UPSERT : H2_DELTAS_MERGE;
+    Query query =
+        entityManager.createNativeQuery(
+            template.formatted(valuesClause(chunk.size(), DELTA_TUPLE)));
+    for (int i = 0; i < chunk.size(); i++) {
+      TeamScoreDeltaEntity delta = chunk.get(i);
+      query
+          .setParameter("id" + i, delta.getId())
+          .setParameter("gameId" + i, delta.getGameId())
+          .setParameter("participantId" + i, delta.getParticipantId())
+          .setParameter("periodStart" + i, delta.getPeriodStart())
+          .setParameter("periodEnd" + i, delta.getPeriodEnd())
+          .setParameter("deltaPr" + i, delta.getDeltaPr())
+          .setParameter("computedAt" + i, delta.getComputedAt());
+    }
+    return query.executeUpdate();
+  }
+}
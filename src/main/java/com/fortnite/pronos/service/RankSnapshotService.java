@@ -1,30 +1,55 @@
 package com.fortnite.pronos.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.fortnite.pronos.domain.player.model.RankSnapshot;
 import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+import com.fortnite.pronos.dto.player.PlayerSparklineResponse;
 import com.fortnite.pronos.dto.player.RankSnapshotResponse;
+import com.fortnite.pronos.service.ingestion.PrIngestionCompletedEvent;
+import com.fortnite.pronos.service.snapshot.RankSnapshotStore;
+import com.fortnite.pronos.service.snapshot.RankSnapshotsRecordedEvent;
+import com.fortnite.pronos.service.snapshot.RankSparkline;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Provides sparkline data (rank history) for players. Days parameter is capped at MAX_DAYS to avoid
- * unbounded queries.
+ * unbounded queries. Reads are served by the in-memory {@link RankSnapshotStore} once it is loaded,
+ * and by the repository before that or when it is disabled.
+ *
+ * <p>Each completed ingestion run is copied into the rank snapshots, which then announce the
+ * players whose snapshots changed with a {@link RankSnapshotsRecordedEvent}.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RankSnapshotService {
 
   static final int MAX_DAYS = 90;
   static final int DEFAULT_DAYS = 14;
+  static final int MAX_BATCH_PLAYERS = 200;
 
   private final RankSnapshotRepositoryPort repository;
+  private final RankSnapshotStore store;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Returns rank snapshots for a player/region over the last {@code days} days, sorted by date
@@ -32,15 +57,95 @@ public class RankSnapshotService {
    */
   public List<RankSnapshotResponse> getSparkline(UUID playerId, String region, int days) {
     int capped = Math.min(days, MAX_DAYS);
+    if (store.isReady()) {
+      RankSparkline sparkline = store.sparkline(playerId, region, capped);
+      List<RankSnapshotResponse> points = new ArrayList<>(sparkline.size());
+      for (int i = 0; i < sparkline.size(); i++) {
+        points.add(new RankSnapshotResponse(sparkline.dates().get(i), sparkline.ranks()[i]));
+      }
+      return points;
+    }
     return repository.findByPlayerAndRegion(playerId, region, capped).stream()
         .sorted(Comparator.comparing(RankSnapshot::getSnapshotDate))
         .map(s -> new RankSnapshotResponse(s.getSnapshotDate(), s.getRank()))
         .toList();
   }
 
+  /**
+   * Sparklines of several players in one region, in the order of {@code playerIds} (duplicates
+   * dropped), read with one store lookup or one query. Players without snapshot get empty arrays.
+   *
+   * @throws IllegalArgumentException if more than {@value #MAX_BATCH_PLAYERS} players are asked
+   */
+  public List<PlayerSparklineResponse> getSparklines(
+      Collection<UUID> playerIds, String region, int days) {
+    Set<UUID> distinct = new LinkedHashSet<>(playerIds);
+    if (distinct.size() > MAX_BATCH_PLAYERS) {
+      throw new IllegalArgumentException(
+          "At most " + MAX_BATCH_PLAYERS + " players per sparkline batch");
+    }
+    int capped = Math.min(days, MAX_DAYS);
+    if (store.isReady()) {
+      return store.sparklines(distinct, region, capped).entrySet().stream()
+          .map(
+              entry ->
+                  new PlayerSparklineResponse(
+                      entry.getKey(), entry.getValue().dates(), entry.getValue().ranks()))
+          .toList();
+    }
+    Map<UUID, List<RankSnapshot>> byPlayer =
+        repository.findByPlayersAndRegion(distinct, region, capped).stream()
+            .sorted(Comparator.comparing(RankSnapshot::getSnapshotDate))
+            .collect(Collectors.groupingBy(RankSnapshot::getPlayerId));
+    return distinct.stream()
+        .map(playerId -> toResponse(playerId, byPlayer.getOrDefault(playerId, List.of())))
+        .toList();
+  }
+
   /** Records a new daily snapshot (append-only). Called by the ingestion pipeline or admin seed. */
   public RankSnapshot recordSnapshot(UUID playerId, String region, int rank, int prValue) {
     RankSnapshot snapshot = new RankSnapshot(playerId, region, rank, prValue, LocalDate.now());
-    return repository.save(snapshot);
+    RankSnapshot saved = repository.save(snapshot);
+    store.record(saved);
+    return saved;
+  }
+
+  /**
+   * Copies the snapshots of a completed ingestion run into the rank snapshots, in a transaction of
+   * its own once the run's has committed. Rows the run left unchanged are not written again and
+   * their players are not announced.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onIngestionCompleted(PrIngestionCompletedEvent event) {
+    List<RankSnapshot> copied = repository.copyFromIngestionRun(event.runId());
+    if (copied.isEmpty()) {
+      return;
+    }
+    store.recordAll(copied);
+    Set<UUID> playerIds = new HashSet<>();
+    LocalDate earliest = null;
+    for (RankSnapshot snapshot : copied) {
+      playerIds.add(snapshot.getPlayerId());
+      if (earliest == null || snapshot.getSnapshotDate().isBefore(earliest)) {
+        earliest = snapshot.getSnapshotDate();
+      }
+    }
+    log.info(
+        "Rank snapshots of run {} recorded: {} rows, {} players",
+        event.runId(),
+        copied.size(),
+        playerIds.size());
+    eventPublisher.publishEvent(new RankSnapshotsRecordedEvent(event.runId(), playerIds, earliest));
+  }
+
+  private static PlayerSparklineResponse toResponse(UUID playerId, List<RankSnapshot> snapshots) {
+    List<LocalDate> dates = new ArrayList<>(snapshots.size());
+    int[] ranks = new int[snapshots.size()];
+    for (int i = 0; i < snapshots.size(); i++) {
+      dates.add(snapshots.get(i).getSnapshotDate());
+      ranks[i] = snapshots.get(i).getRank();
+    }
+    return new PlayerSparklineResponse(playerId, dates, ranks);
   }
 }
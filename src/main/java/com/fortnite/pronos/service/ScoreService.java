@@ -3,10 +3,13 @@ package com.fortnite.pronos.service;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +19,8 @@ import com.fortnite.pronos.domain.port.out.PlayerRepositoryPort;
 import com.fortnite.pronos.domain.port.out.ScoreRepositoryPort;
 import com.fortnite.pronos.domain.port.out.TeamRepositoryPort;
 import com.fortnite.pronos.domain.port.out.UserRepositoryPort;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +39,8 @@ public class ScoreService implements ScoreQueryUseCase, ScoreCommandUseCase {
   private final PlayerRepositoryPort playerRepository;
   private final TeamRepositoryPort teamRepository;
   private final UserRepositoryPort userRepository;
+  private final LeaderboardEngine leaderboardEngine;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** Met Ã jour les scores d'un joueur pour une pÃ©riode donnÃ©e */
   @Transactional
@@ -53,14 +60,17 @@ public class ScoreService implements ScoreQueryUseCase, ScoreCommandUseCase {
     if (!existingScores.isEmpty()) {
       // Mettre Ã  jour le score existant
       com.fortnite.pronos.model.Score existingScore = existingScores.get(0);
+      int previousPoints = existingScore.getPoints() != null ? existingScore.getPoints() : 0;
       existingScore.setPoints(points);
       existingScore.setTimestamp(timestamp);
       ((ScoreRepositoryPort) scoreRepository).save(existingScore);
+      scoresChanged(existingScore.getSeason(), player, points - previousPoints);
       log.debug("Score existant mis Ã  jour pour le joueur {}", playerId);
     } else {
       // CrÃ©er un nouveau score
       com.fortnite.pronos.model.Score newScore = buildScore(player, points, timestamp);
       ((ScoreRepositoryPort) scoreRepository).save(newScore);
+      scoresChanged(newScore.getSeason(), player, points);
       log.debug("Nouveau score crÃ©Ã© pour le joueur {}", playerId);
     }
 
@@ -171,7 +181,14 @@ public class ScoreService implements ScoreQueryUseCase, ScoreCommandUseCase {
     if (score.getTimestamp() == null) {
       score.setTimestamp(OffsetDateTime.now());
     }
-    return ((ScoreRepositoryPort) scoreRepository).save(score);
+    com.fortnite.pronos.model.Score saved = ((ScoreRepositoryPort) scoreRepository).save(score);
+    // The points this save replaced are unknown, so the standings cannot move by a delta.
+    Integer season = effectiveSeason(score.getSeason(), score.getPlayer());
+    if (season != null) {
+      leaderboardEngine.seasonScoresReplaced(season);
+      publishScoresChanged(season, score.getPlayer());
+    }
+    return saved;
   }
 
   /** Supprime un score (mÃ©thode simplifiÃ©e - supprime tous les scores du joueur) */
@@ -182,6 +199,19 @@ public class ScoreService implements ScoreQueryUseCase, ScoreCommandUseCase {
     List<com.fortnite.pronos.model.Score> scores =
         scoreRepository.findByPlayerIdOrderByTimestampDesc(playerId);
     scoreRepository.deleteAll(scores);
+    for (com.fortnite.pronos.model.Score score : scores) {
+      if (score.getSeason() != null && score.getPoints() != null) {
+        leaderboardEngine.playerPointsChanged(score.getSeason(), playerId, -score.getPoints());
+      }
+    }
+    scores.stream()
+        .map(com.fortnite.pronos.model.Score::getSeason)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(
+            season ->
+                eventPublisher.publishEvent(
+                    new CacheChangeEvent.ScoresChanged(season, Set.of(playerId))));
   }
 
   // MÃ©thodes utilitaires privÃ©es
@@ -227,6 +257,36 @@ public class ScoreService implements ScoreQueryUseCase, ScoreCommandUseCase {
     return score;
   }
 
+  /**
+   * Moves the in-memory standings of the player by {@code delta} and publishes the change. Scores
+   * without a season count towards the player's current one.
+   */
+  private void scoresChanged(Integer season, com.fortnite.pronos.model.Player player, int delta) {
+    Integer effectiveSeason = effectiveSeason(season, player);
+    if (effectiveSeason == null) {
+      return;
+    }
+    if (player != null && player.getId() != null) {
+      leaderboardEngine.playerPointsChanged(effectiveSeason, player.getId(), delta);
+    } else {
+      leaderboardEngine.seasonScoresReplaced(effectiveSeason);
+    }
+    publishScoresChanged(effectiveSeason, player);
+  }
+
+  private void publishScoresChanged(int season, com.fortnite.pronos.model.Player player) {
+    Set<UUID> playerIds =
+        player == null || player.getId() == null ? Set.of() : Set.of(player.getId());
+    eventPublisher.publishEvent(new CacheChangeEvent.ScoresChanged(season, playerIds));
+  }
+
+  private static Integer effectiveSeason(Integer season, com.fortnite.pronos.model.Player player) {
+    if (season != null) {
+      return season;
+    }
+    return player != null ? player.getCurrentSeason() : null;
+  }
+
   private int calculateTeamScore(com.fortnite.pronos.model.Team team) {
     return team.getPlayers().stream()
         .filter(tp -> tp.getUntil() == null) // Joueurs actifs uniquement
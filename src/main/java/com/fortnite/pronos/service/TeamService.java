@@ -1,10 +1,15 @@
 package com.fortnite.pronos.service;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +25,7 @@ import com.fortnite.pronos.dto.team.TeamDto;
 import com.fortnite.pronos.exception.InvalidSwapException;
 import com.fortnite.pronos.exception.TeamNotFoundException;
 import com.fortnite.pronos.exception.UnauthorizedAccessException;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +46,7 @@ public class TeamService {
   private final com.fortnite.pronos.repository.TeamRepository teamRepository;
   private final UserRepositoryPort userRepository;
   private final com.fortnite.pronos.repository.TeamPlayerRepository teamPlayerRepository;
+  private final ApplicationEventPublisher eventPublisher;
   private final TeamDomainDtoMapper teamDomainDtoMapper = new TeamDomainDtoMapper();
 
   /** Cree une nouvelle equipe pour un utilisateur */
@@ -52,6 +59,7 @@ public class TeamService {
     validateTeamCreation(user, season);
 
     Team savedTeam = teamDomainRepository.save(buildNewTeam(name, user, season));
+    teamsChanged(savedTeam);
 
     log.info("Equipe {} creee avec succes pour l'utilisateur {}", savedTeam.getId(), userId);
     return toTeamDto(savedTeam);
@@ -74,6 +82,7 @@ public class TeamService {
     team.addMember(player.getId(), position);
 
     Team savedTeam = teamDomainRepository.save(team);
+    teamsChanged(team);
     log.info("Joueur {} ajoute avec succes a l'equipe {}", playerId, team.getId());
     return toTeamDto(savedTeam);
   }
@@ -91,6 +100,7 @@ public class TeamService {
     team.removeMember(player.getId());
 
     Team savedTeam = teamDomainRepository.save(team);
+    teamsChanged(team);
     log.info("Joueur {} supprime avec succes de l'equipe {}", playerId, team.getId());
     return toTeamDto(savedTeam);
   }
@@ -110,6 +120,7 @@ public class TeamService {
     processPlayerChanges(team, playerChanges, season);
 
     Team savedTeam = teamDomainRepository.save(team);
+    teamsChanged(team);
     log.info("Changements de joueurs effectues avec succes pour l'equipe {}", team.getId());
     return toTeamDto(savedTeam);
   }
@@ -130,6 +141,7 @@ public class TeamService {
     Player player2 = findPlayerById(request.getPlayerId2());
 
     performSwap(team1, player1, team2, player2);
+    teamsChanged(team1, team2);
 
     return createSuccessResponse(team1, player1, team2, player2, user);
   }
@@ -147,6 +159,7 @@ public class TeamService {
 
     team.rename("Equipe " + owner.getUsername());
     Team updatedTeam = teamDomainRepository.save(team);
+    teamsChanged(team);
 
     log.info("Equipe mise a jour: {}", teamId);
     return toTeamDto(updatedTeam);
@@ -157,11 +170,13 @@ public class TeamService {
   public void deleteTeam(UUID teamId) {
     log.info("Suppression de l'equipe {}", teamId);
 
-    if (teamDomainRepository.findById(teamId).isEmpty()) {
-      throw new EntityNotFoundException(TEAM_NOT_FOUND_MESSAGE);
-    }
+    Team team =
+        teamDomainRepository
+            .findById(teamId)
+            .orElseThrow(() -> new EntityNotFoundException(TEAM_NOT_FOUND_MESSAGE));
 
     teamRepository.deleteById(teamId);
+    teamsChanged(team);
     log.info("Equipe {} supprimee avec succes", teamId);
   }
 
@@ -363,6 +378,13 @@ public class TeamService {
         "Validation des regles de changement pour {} -> {}", playerOut.getId(), playerIn.getId());
   }
 
+  /** Publishes a change of {@code teams}, which all belong to the same season. */
+  private void teamsChanged(Team... teams) {
+    Set<UUID> teamIds =
+        Arrays.stream(teams).map(Team::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+    eventPublisher.publishEvent(new CacheChangeEvent.TeamsChanged(teams[0].getSeason(), teamIds));
+  }
+
   private TeamDto toTeamDto(Team team) {
     return teamDomainDtoMapper.fromDomainTeam(
         team, userRepository::findById, playerDomainRepository::findById);
@@ -4,8 +4,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +18,8 @@ import com.fortnite.pronos.domain.port.out.PlayerRepositoryPort;
 import com.fortnite.pronos.domain.port.out.TeamRepositoryPort;
 import com.fortnite.pronos.domain.port.out.TradeRepositoryPort;
 import com.fortnite.pronos.exception.BusinessException;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +39,8 @@ public class TradingService {
   private final PlayerRepositoryPort playerRepository;
   private final ValidationService validationService;
   private final TradeNotificationService tradeNotificationService;
+  private final LeaderboardEngine leaderboardEngine;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Propose a trade between two teams (with UUID lists)
@@ -406,6 +415,18 @@ public class TradingService {
     trade.getRequestedPlayers().forEach(p -> removePlayerFromTeam(toTeam, p));
     trade.getRequestedPlayers().forEach(p -> addPlayerToTeam(fromTeam, p));
     trade.getOfferedPlayers().forEach(p -> addPlayerToTeam(toTeam, p));
+    leaderboardEngine.rosterChanged(
+        fromTeam.getId(), trade.getOfferedPlayers(), trade.getRequestedPlayers());
+    leaderboardEngine.rosterChanged(
+        toTeam.getId(), trade.getRequestedPlayers(), trade.getOfferedPlayers());
+    if (fromTeam.getSeason() != null) {
+      Set<UUID> teamIds =
+          Stream.of(fromTeam.getId(), toTeam.getId())
+              .filter(Objects::nonNull)
+              .collect(Collectors.toSet());
+      eventPublisher.publishEvent(
+          new CacheChangeEvent.TeamsChanged(fromTeam.getSeason(), teamIds, true));
+    }
   }
 
   private void finalizeAcceptedTrade(com.fortnite.pronos.model.Trade trade) {
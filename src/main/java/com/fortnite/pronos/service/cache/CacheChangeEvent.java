@@ -0,0 +1,52 @@
+package com.fortnite.pronos.service.cache;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A write that makes cached reads stale. Writers publish these through the {@code
+ * ApplicationEventPublisher}; {@link CacheInvalidator} evicts the affected keys once the writing
+ * transaction commits.
+ */
+public sealed interface CacheChangeEvent {
+
+  /** Points of {@code playerIds} changed in {@code season}; an empty set stands for any player. */
+  record ScoresChanged(int season, Set<UUID> playerIds) implements CacheChangeEvent {
+    public ScoresChanged {
+      playerIds = Set.copyOf(playerIds);
+    }
+
+    public static ScoresChanged wholeSeason(int season) {
+      return new ScoresChanged(season, Set.of());
+    }
+  }
+
+  /**
+   * Rosters, names or membership of {@code teamIds} changed in {@code season}; {@code
+   * rostersApplied} is set when the writer already moved the players in the leaderboard engine.
+   */
+  record TeamsChanged(int season, Set<UUID> teamIds, boolean rostersApplied)
+      implements CacheChangeEvent {
+    public TeamsChanged {
+      teamIds = Set.copyOf(teamIds);
+    }
+
+    public TeamsChanged(int season, Set<UUID> teamIds) {
+      this(season, teamIds, false);
+    }
+  }
+
+  /**
+   * Players of {@code regions} (region names) were created or updated; an empty set stands for
+   * every region.
+   */
+  record PlayersChanged(Set<String> regions) implements CacheChangeEvent {
+    public PlayersChanged {
+      regions = Set.copyOf(regions);
+    }
+
+    public static PlayersChanged anyRegion() {
+      return new PlayersChanged(Set.of());
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.fortnite.pronos.service.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts the cache entries a {@link CacheChangeEvent} makes stale, so cached reads can keep long
+ * TTLs and still reflect trades, score updates and ingestion runs.
+ *
+ * <p>Events are applied after the publishing transaction commits (or immediately outside one), so a
+ * reader cannot re-cache the pre-commit state. Only the keys the event touches are dropped:
+ *
+ * <ul>
+ *   <li>scores or teams of a season: {@code gameStats} for that season and the season's
+ *       leaderboards in {@link LeaderboardCacheService};
+ *   <li>players of some regions: those {@code catalogue-region} entries, {@code catalogue-all}, the
+ *       {@code regionDistribution} aggregates and the {@code playerPages} pages.
+ * </ul>
+ *
+ * Evictions use {@code evictIfPresent}/{@code invalidate}, which transaction-aware caches apply
+ * immediately rather than deferring to a transaction that has already completed.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+  static final String GAME_STATS = "gameStats";
+  static final String GAME_STATS_DEFAULT_KEY = "stats_default";
+  static final String REGION_DISTRIBUTION = "regionDistribution";
+  static final String CATALOGUE_ALL = "catalogue-all";
+  static final String CATALOGUE_ALL_KEY = "all";
+  static final String CATALOGUE_REGION = "catalogue-region";
+  static final String PLAYER_PAGES = "playerPages";
+
+  private final CacheManager cacheManager;
+  private final LeaderboardCacheService leaderboardCacheService;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChange(CacheChangeEvent event) {
+    log.debug("Cache invalidation: {}", event);
+    switch (event) {
+      case CacheChangeEvent.ScoresChanged scores -> seasonChanged(scores.season());
+      case CacheChangeEvent.TeamsChanged teams -> seasonChanged(teams.season());
+      case CacheChangeEvent.PlayersChanged players -> playersChanged(players);
+    }
+  }
+
+  private void seasonChanged(int season) {
+    evict(GAME_STATS, season);
+    // The default statistics are an alias of one season; dropping them is cheaper than knowing it.
+    evict(GAME_STATS, GAME_STATS_DEFAULT_KEY);
+    leaderboardCacheService.invalidateSeason(season);
+  }
+
+  private void playersChanged(CacheChangeEvent.PlayersChanged event) {
+    if (event.regions().isEmpty()) {
+      clear(CATALOGUE_REGION);
+    } else {
+      event.regions().forEach(region -> evict(CATALOGUE_REGION, region));
+    }
+    evict(CATALOGUE_ALL, CATALOGUE_ALL_KEY);
+    clear(REGION_DISTRIBUTION);
+    clear(PLAYER_PAGES);
+  }
+
+  private void evict(String cacheName, Object key) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.evictIfPresent(key);
+    }
+  }
+
+  private void clear(String cacheName) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.invalidate();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.fortnite.pronos.service.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** What {@link CacheWarmupService} precomputes and how hard it may push. */
+@Component
+@ConfigurationProperties(prefix = "cache.warmup")
+public class CacheWarmupProperties {
+
+  /** When false, caches fill on the first user reads as before. */
+  private boolean enabled = true;
+
+  /** Seasons whose leaderboards and statistics are warmed. */
+  private List<Integer> seasons = new ArrayList<>(List.of(2025));
+
+  /** Entries to warm, out of {@code teams, pronostiqueurs, players, stats, catalogue}. */
+  private List<String> targets =
+      new ArrayList<>(
+          List.of(
+              CacheWarmupService.TARGET_TEAMS,
+              CacheWarmupService.TARGET_PRONOSTIQUEURS,
+              CacheWarmupService.TARGET_PLAYERS,
+              CacheWarmupService.TARGET_STATS,
+              CacheWarmupService.TARGET_CATALOGUE));
+
+  /** Loads running at once; keep it well under the Hikari pool size so user requests get a slot. */
+  private int parallelism = 2;
+
+  /** Share of the Hikari pool a run may hold, whatever {@code parallelism} says. */
+  private double maxPoolShare = 0.25;
+
+  /** Quiet period after the last data change (trade, score, ingestion chunk) before a run. */
+  private long debounceSeconds = 30L;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public List<Integer> getSeasons() {
+    return seasons;
+  }
+
+  public void setSeasons(List<Integer> seasons) {
+    this.seasons = seasons;
+  }
+
+  public List<String> getTargets() {
+    return targets;
+  }
+
+  public void setTargets(List<String> targets) {
+    this.targets = targets;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public double getMaxPoolShare() {
+    return maxPoolShare;
+  }
+
+  public void setMaxPoolShare(double maxPoolShare) {
+    this.maxPoolShare = maxPoolShare;
+  }
+
+  public long getDebounceSeconds() {
+    return debounceSeconds;
+  }
+
+  public void setDebounceSeconds(long debounceSeconds) {
+    this.debounceSeconds = debounceSeconds;
+  }
+}
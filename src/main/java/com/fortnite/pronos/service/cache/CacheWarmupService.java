@@ -0,0 +1,229 @@
+package com.fortnite.pronos.service.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fortnite.pronos.util.ConnectionPoolShare;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Precomputes the expensive cached reads before users ask for them: the season leaderboards held by
+ * {@link LeaderboardCacheService}, the season statistics and the player catalogue.
+ *
+ * <p>A run starts in the background once the application is ready, and again {@code
+ * debounce-seconds} after the last {@link CacheChangeEvent} (a committed ingestion chunk, trade or
+ * score update) or a delta batch. By then {@link CacheInvalidator} has dropped the stale entries. A
+ * run loads its entries on at most {@code parallelism} threads, capped to {@code max-pool-share} of
+ * the Hikari pool, so it never holds more connections than that. A failing entry is logged and left
+ * for the first reader. Durations are published as the {@code cache.warmup} timer (tags trigger,
+ * outcome).
+ */
+@Service
+@Slf4j
+public class CacheWarmupService {
+
+  public static final String TARGET_TEAMS = LeaderboardCacheService.TEAMS;
+  public static final String TARGET_PRONOSTIQUEURS = LeaderboardCacheService.PRONOSTIQUEURS;
+  public static final String TARGET_PLAYERS = LeaderboardCacheService.PLAYERS;
+  public static final String TARGET_STATS = "stats";
+  public static final String TARGET_CATALOGUE = "catalogue";
+
+  public static final String TRIGGER_DELTA_BATCH = "delta-batch";
+  static final String TRIGGER_STARTUP = "startup";
+  static final String TRIGGER_DATA_CHANGE = "data-change";
+
+  private static final String METRIC_PREFIX = "cache.warmup";
+
+  private final CacheWarmupProperties properties;
+  private final CacheWarmupTargets targets;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService scheduler;
+  private final int maxPoolSize;
+  private final ThreadFactory workerFactory =
+      Thread.ofPlatform().name("cache-warmup-", 1).daemon().factory();
+
+  /** Serialises runs; never held by the publishing threads, which only schedule. */
+  private final ReentrantLock runLock = new ReentrantLock();
+
+  private ScheduledFuture<?> pendingRun;
+
+  @Autowired
+  public CacheWarmupService(
+      CacheWarmupProperties properties,
+      CacheWarmupTargets targets,
+      MeterRegistry meterRegistry,
+      DataSource dataSource) {
+    this(
+        properties,
+        targets,
+        meterRegistry,
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cache-warmup-scheduler").daemon().factory()),
+        ConnectionPoolShare.maxPoolSize(dataSource));
+  }
+
+  CacheWarmupService(
+      CacheWarmupProperties properties,
+      CacheWarmupTargets targets,
+      MeterRegistry meterRegistry,
+      ScheduledExecutorService scheduler,
+      int maxPoolSize) {
+    this.properties = properties;
+    this.targets = targets;
+    this.meterRegistry = meterRegistry;
+    this.scheduler = scheduler;
+    this.maxPoolSize = maxPoolSize;
+  }
+
+  /** Hands the startup run to the scheduler thread, so the ready event is not held by it. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (properties.isEnabled()) {
+      scheduler.execute(() -> warmUp(TRIGGER_STARTUP));
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChange(CacheChangeEvent event) {
+    scheduleWarmup(TRIGGER_DATA_CHANGE);
+  }
+
+  /**
+   * Runs a warm-up {@code debounce-seconds} from now on a background thread, replacing one still
+   * waiting, so a burst of changes (an ingestion run commits one chunk at a time) costs one run.
+   */
+  public synchronized void scheduleWarmup(String trigger) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    if (pendingRun != null) {
+      pendingRun.cancel(false);
+    }
+    pendingRun =
+        scheduler.schedule(
+            () -> warmUp(trigger), Math.max(1L, properties.getDebounceSeconds()), TimeUnit.SECONDS);
+  }
+
+  /** Warms every configured target and season now and waits for it. */
+  public WarmupResult warmUp(String trigger) {
+    List<Task> tasks = tasks();
+    long start = System.nanoTime();
+    int failed = 0;
+    runLock.lock();
+    try {
+      failed = run(tasks);
+    } finally {
+      runLock.unlock();
+    }
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+    Timer.builder(METRIC_PREFIX)
+        .description("Cache warm-up runs")
+        .tag("trigger", trigger)
+        .tag("outcome", failed == 0 ? "success" : "partial")
+        .register(meterRegistry)
+        .record(duration);
+    log.info(
+        "[CACHE-WARMUP] {} run: {} entries warmed, {} failed in {} ms",
+        trigger,
+        tasks.size() - failed,
+        failed,
+        duration.toMillis());
+    return new WarmupResult(tasks.size() - failed, failed, duration);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  private int run(List<Task> tasks) {
+    if (tasks.isEmpty()) {
+      return 0;
+    }
+    int threads =
+        ConnectionPoolShare.concurrency(
+            properties.getParallelism(), maxPoolSize, properties.getMaxPoolShare(), tasks.size());
+    ExecutorService workers = Executors.newFixedThreadPool(threads, workerFactory);
+    int failed = 0;
+    try {
+      List<Future<?>> loads = new ArrayList<>(tasks.size());
+      for (Task task : tasks) {
+        loads.add(workers.submit(task.load()));
+      }
+      for (int i = 0; i < tasks.size(); i++) {
+        try {
+          loads.get(i).get();
+        } catch (ExecutionException e) {
+          failed++;
+          recordFailure(tasks.get(i), e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("[CACHE-WARMUP] Interrupted, remaining entries stay cold");
+    } finally {
+      workers.shutdownNow();
+    }
+    return failed;
+  }
+
+  private List<Task> tasks() {
+    List<Task> tasks = new ArrayList<>();
+    for (String target : properties.getTargets()) {
+      if (TARGET_CATALOGUE.equals(target)) {
+        tasks.add(new Task(target, null, targets.catalogueLoad()));
+        continue;
+      }
+      for (Integer season : properties.getSeasons()) {
+        Runnable load = targets.seasonLoad(target, season);
+        if (load == null) {
+          log.warn("[CACHE-WARMUP] Unknown target '{}' ignored", target);
+          break;
+        }
+        tasks.add(new Task(target, season, load));
+      }
+    }
+    return tasks;
+  }
+
+  private void recordFailure(Task task, Throwable cause) {
+    Counter.builder(METRIC_PREFIX + ".failures")
+        .tag("target", task.target())
+        .register(meterRegistry)
+        .increment();
+    log.warn(
+        "[CACHE-WARMUP] {} (season {}) not warmed: {}",
+        task.target(),
+        task.season(),
+        cause != null ? cause.getMessage() : "unknown error");
+  }
+
+  private record Task(String target, Integer season, Runnable load) {}
+
+  /** Outcome of one run: entries loaded, entries that failed and the wall-clock time. */
+  public record WarmupResult(int warmed, int failed, Duration duration) {}
+}
@@ -0,0 +1,57 @@
+package com.fortnite.pronos.service.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.fortnite.pronos.service.catalogue.PlayerCatalogueWarmupService;
+import com.fortnite.pronos.service.leaderboard.LeaderboardStatsService;
+import com.fortnite.pronos.service.leaderboard.PlayerLeaderboardService;
+import com.fortnite.pronos.service.leaderboard.PronostiqueurLeaderboardService;
+import com.fortnite.pronos.service.leaderboard.TeamLeaderboardService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The loads {@link CacheWarmupService} runs for each target: the same ones the leaderboard
+ * endpoints use, so the warmed entries are the ones they read.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupTargets {
+
+  private final LeaderboardCacheService leaderboardCache;
+  private final TeamLeaderboardService teamLeaderboardService;
+  private final PronostiqueurLeaderboardService pronostiqueurLeaderboardService;
+  private final PlayerLeaderboardService playerLeaderboardService;
+  private final LeaderboardStatsService statsService;
+  private final PlayerCatalogueWarmupService catalogueWarmupService;
+
+  /** Load of {@code target} for {@code season}, or null when the target is unknown. */
+  Runnable seasonLoad(String target, int season) {
+    return switch (target) {
+      case CacheWarmupService.TARGET_TEAMS ->
+          () ->
+              leaderboardCache.get(
+                  LeaderboardCacheService.TEAMS,
+                  season,
+                  () -> teamLeaderboardService.getLeaderboard(season));
+      case CacheWarmupService.TARGET_PRONOSTIQUEURS ->
+          () ->
+              leaderboardCache.get(
+                  LeaderboardCacheService.PRONOSTIQUEURS,
+                  season,
+                  () -> pronostiqueurLeaderboardService.getPronostiqueurLeaderboard(season));
+      case CacheWarmupService.TARGET_PLAYERS ->
+          () ->
+              leaderboardCache.get(
+                  LeaderboardCacheService.PLAYERS,
+                  season,
+                  () -> playerLeaderboardService.getPlayerLeaderboard(season));
+      case CacheWarmupService.TARGET_STATS -> () -> statsService.getLeaderboardStats(season);
+      default -> null;
+    };
+  }
+
+  Runnable catalogueLoad() {
+    return catalogueWarmupService::warmup;
+  }
+}
@@ -0,0 +1,43 @@
+package com.fortnite.pronos.service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Tuning knobs for {@link LeaderboardCacheService} ({@code leaderboard.cache.*}). */
+@Component
+@ConfigurationProperties(prefix = "leaderboard.cache")
+public class LeaderboardCacheProperties {
+
+  /** Leaderboards kept at most; the least recently read one is evicted beyond that. */
+  private int maxEntries = 64;
+
+  /** Age after which a read still returns the cached leaderboard but reloads it in background. */
+  private long refreshAfterSeconds = 60L;
+
+  /** Age after which a cached leaderboard is no longer served and a read waits for a reload. */
+  private long expireAfterMinutes = 15L;
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  public long getRefreshAfterSeconds() {
+    return refreshAfterSeconds;
+  }
+
+  public void setRefreshAfterSeconds(long refreshAfterSeconds) {
+    this.refreshAfterSeconds = refreshAfterSeconds;
+  }
+
+  public long getExpireAfterMinutes() {
+    return expireAfterMinutes;
+  }
+
+  public void setExpireAfterMinutes(long expireAfterMinutes) {
+    this.expireAfterMinutes = expireAfterMinutes;
+  }
+}
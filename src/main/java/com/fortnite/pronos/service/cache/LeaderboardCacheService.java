@@ -1,149 +1,284 @@
 package com.fortnite.pronos.service.cache;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
-import org.springframework.stereotype.Service;
+import jakarta.annotation.PreDestroy;
 
-import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
-/** Service de cache pour le leaderboard - MVP basique */
+/**
+ * Size-bounded cache of full leaderboards, keyed by leaderboard and season.
+ *
+ * <p>A read younger than {@code refresh-after-seconds} is a plain hit. An older one is still served
+ * from the cache while a single background reload replaces it (refresh-ahead). Past {@code
+ * expire-after-minutes} the read waits for a reload. Concurrent reloads of the same key are
+ * coalesced into one loader call; an invalidation detaches the running ones, so reads after it
+ * never receive a list loaded before it. Beyond {@code max-entries} the least recently read
+ * leaderboard is evicted.
+ *
+ * <p>Cached lists are immutable and shared between callers. Hits, misses, load times and evictions
+ * are published under {@code leaderboard.cache.*}.
+ */
 @Service
 @Slf4j
 @SuppressWarnings({"java:S1104", "java:S3400"})
 public class LeaderboardCacheService {
 
-  // Cache simple en mémoire pour le MVP
-  private final ConcurrentHashMap<Integer, CachedLeaderboard> leaderboardCache =
-      new ConcurrentHashMap<>();
-  private static final long CACHE_DURATION_MINUTES = 15; // 15 minutes
-  private static final int DEFAULT_SEASON = 2025;
+  public static final String TEAMS = "teams";
+  public static final String PRONOSTIQUEURS = "pronostiqueurs";
+  public static final String PLAYERS = "players";
+
+  private static final String METRIC_PREFIX = "leaderboard.cache";
+  private static final String TAG_LEADERBOARD = "leaderboard";
+
+  private final Clock clock;
+  private final Executor refreshExecutor;
+  private final MeterRegistry meterRegistry;
+  private final int maxEntries;
+  private final long refreshAfterMillis;
+  private final long expireAfterMillis;
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<Key, CompletableFuture<List<?>>> loading = new ConcurrentHashMap<>();
+  private final Counter evictions;
+
+  /** Bumped by every invalidation, so a load that started before one is not kept. */
+  private final AtomicLong generation = new AtomicLong();
+
+  @Autowired
+  public LeaderboardCacheService(
+      LeaderboardCacheProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, Clock.systemUTC(), Executors.newVirtualThreadPerTaskExecutor());
+  }
 
-  /** Récupère le leaderboard depuis le cache */
-  public List<LeaderboardEntryDTO> getCachedLeaderboard(Integer season) {
-    log.info("Récupération du leaderboard mis en cache pour la saison: {}", season);
+  LeaderboardCacheService(
+      LeaderboardCacheProperties properties,
+      MeterRegistry meterRegistry,
+      Clock clock,
+      Executor refreshExecutor) {
+    this.clock = clock;
+    this.refreshExecutor = refreshExecutor;
+    this.meterRegistry = meterRegistry;
+    this.maxEntries = Math.max(1, properties.getMaxEntries());
+    this.refreshAfterMillis = Duration.ofSeconds(properties.getRefreshAfterSeconds()).toMillis();
+    this.expireAfterMillis = Duration.ofMinutes(properties.getExpireAfterMinutes()).toMillis();
+    this.evictions =
+        Counter.builder(METRIC_PREFIX + ".evictions")
+            .description("Leaderboards evicted to stay under the size bound")
+            .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".size", entries, Map::size)
+        .description("Leaderboards currently cached")
+        .register(meterRegistry);
+  }
 
-    if (season == null) {
-      season = getCurrentSeason();
+  /**
+   * The cached {@code leaderboard} of {@code season}, loaded with {@code loader} on a miss. A
+   * failing load is rethrown to every caller waiting on it and nothing is cached.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> List<T> get(String leaderboard, int season, Supplier<List<T>> loader) {
+    Key key = new Key(leaderboard, season);
+    Instant now = clock.instant();
+    Entry entry = entries.get(key);
+    if (entry != null && now.isBefore(entry.loadedAt().plusMillis(expireAfterMillis))) {
+      entry.touch(now);
+      count(leaderboard, "hit");
+      if (!now.isBefore(entry.loadedAt().plusMillis(refreshAfterMillis))) {
+        load(key, loader, refreshExecutor);
+      }
+      return (List<T>) entry.value();
     }
-
-    CachedLeaderboard cached = leaderboardCache.get(season);
-
-    if (cached == null || isExpired(cached)) {
-      log.info("Cache manquant ou expiré pour la saison {}, retour d'un leaderboard vide", season);
-      return generateEmptyLeaderboard();
+    count(leaderboard, "miss");
+    try {
+      return (List<T>) load(key, loader, Runnable::run).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
     }
-
-    log.info("Leaderboard récupéré depuis le cache: {} entrées", cached.entries.size());
-    return new ArrayList<>(cached.entries);
   }
 
-  /** Met en cache le leaderboard */
-  public void cacheLeaderboard(Integer season, List<LeaderboardEntryDTO> entries) {
-    log.info("Mise en cache du leaderboard pour la saison {}: {} entrées", season, entries.size());
-
-    if (season == null) {
-      season = getCurrentSeason();
-    }
-
-    CachedLeaderboard cached = new CachedLeaderboard();
-    cached.entries = new ArrayList<>(entries);
-    cached.cachedAt = LocalDateTime.now();
-    cached.season = season;
+  /**
+   * Drops every cached leaderboard. Loads already running are detached, so the next read starts a
+   * fresh one instead of joining them.
+   */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    loading.clear();
+    entries.clear();
+    log.debug("Cache leaderboard invalidé");
+  }
 
-    leaderboardCache.put(season, cached);
+  /**
+   * Drops every leaderboard of {@code season}, detaching its running loads like {@link
+   * #invalidateAll}.
+   */
+  public void invalidateSeason(int season) {
+    generation.incrementAndGet();
+    loading.keySet().removeIf(key -> key.season() == season);
+    entries.keySet().removeIf(key -> key.season() == season);
+    log.debug("Cache leaderboard invalidé pour la saison: {}", season);
+  }
 
-    log.info("Leaderboard mis en cache avec succès pour la saison {}", season);
+  /** Obtient les statistiques du cache */
+  public CacheStats getCacheStats() {
+    Instant now = clock.instant();
+    CacheStats stats = new CacheStats();
+    stats.totalEntries = entries.size();
+    stats.activeEntries =
+        (int) entries.values().stream().filter(entry -> !isExpired(entry, now)).count();
+    stats.expiredEntries = stats.totalEntries - stats.activeEntries;
+    stats.loadingEntries = loading.size();
+    return stats;
   }
 
-  /** Invalide le cache du leaderboard */
-  public void invalidateLeaderboardCache() {
-    log.debug("Cache leaderboard invalidé");
-    leaderboardCache.clear();
+  /** Nettoie les entrées expirées du cache */
+  public void cleanupExpiredEntries() {
+    Instant now = clock.instant();
+    int initialSize = entries.size();
+    entries.values().removeIf(entry -> isExpired(entry, now));
+    log.debug("Nettoyage du cache leaderboard: {} -> {} entrées", initialSize, entries.size());
   }
 
-  /** Invalide le cache pour une saison spécifique */
-  public void invalidateLeaderboardCache(Integer season) {
-    log.debug("Cache leaderboard invalidé pour la saison: {}", season);
-    if (season != null) {
-      leaderboardCache.remove(season);
+  @PreDestroy
+  void shutdown() {
+    if (refreshExecutor instanceof ExecutorService executor) {
+      executor.shutdownNow();
     }
   }
 
-  /** Invalide tout le cache */
-  public void invalidateAll() {
-    log.debug("Tous les caches invalidés");
-    leaderboardCache.clear();
+  /**
+   * Starts loading {@code key} on {@code executor}, or joins the load already running for it. The
+   * first caller registers the future, so concurrent misses and refreshes share one loader call.
+   */
+  private CompletableFuture<List<?>> load(
+      Key key, Supplier<? extends List<?>> loader, Executor executor) {
+    CompletableFuture<List<?>> load = new CompletableFuture<>();
+    CompletableFuture<List<?>> running = loading.putIfAbsent(key, load);
+    if (running != null) {
+      return running;
+    }
+    long generationAtStart = generation.get();
+    try {
+      executor.execute(() -> runLoad(key, loader, load, generationAtStart));
+    } catch (RejectedExecutionException e) {
+      loading.remove(key, load);
+      load.completeExceptionally(e);
+    }
+    return load;
   }
 
-  /** Vérifie si le cache est expiré */
-  private boolean isExpired(CachedLeaderboard cached) {
-    if (cached.cachedAt == null) {
-      return true;
+  private void runLoad(
+      Key key,
+      Supplier<? extends List<?>> loader,
+      CompletableFuture<List<?>> load,
+      long generationAtStart) {
+    long start = System.nanoTime();
+    try {
+      List<?> value = List.copyOf(loader.get());
+      recordLoad(key, start, "success");
+      if (generation.get() == generationAtStart) {
+        store(key, value);
+      }
+      load.complete(value);
+    } catch (RuntimeException e) {
+      recordLoad(key, start, "failure");
+      log.warn("Leaderboard {} load failed for season {}", key.leaderboard(), key.season(), e);
+      load.completeExceptionally(e);
+    } finally {
+      loading.remove(key, load);
     }
+  }
 
-    LocalDateTime expirationTime = cached.cachedAt.plusMinutes(CACHE_DURATION_MINUTES);
-    boolean expired = LocalDateTime.now().isAfter(expirationTime);
-
-    if (expired) {
-      log.debug("Cache expiré pour la saison {}", cached.season);
+  private void store(Key key, List<?> value) {
+    Instant now = clock.instant();
+    entries.put(key, new Entry(value, now, now));
+    while (entries.size() > maxEntries) {
+      // The bound is a few dozen seasons x leaderboards, so a linear scan beats an LRU structure.
+      Map.Entry<Key, Entry> eldest = null;
+      for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+        if (!candidate.getKey().equals(key)
+            && (eldest == null
+                || candidate.getValue().lastRead().isBefore(eldest.getValue().lastRead()))) {
+          eldest = candidate;
+        }
+      }
+      if (eldest == null || !entries.remove(eldest.getKey(), eldest.getValue())) {
+        break;
+      }
+      evictions.increment();
     }
+  }
 
-    return expired;
+  private boolean isExpired(Entry entry, Instant now) {
+    return !now.isBefore(entry.loadedAt().plusMillis(expireAfterMillis));
   }
 
-  /** Génère un leaderboard vide pour les tests */
-  private List<LeaderboardEntryDTO> generateEmptyLeaderboard() {
-    log.debug("Génération d'un leaderboard vide");
-    return new ArrayList<>();
+  private void count(String leaderboard, String result) {
+    Counter.builder(METRIC_PREFIX + ".gets")
+        .tag(TAG_LEADERBOARD, leaderboard)
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
   }
 
-  /** Récupère la saison courante */
-  private Integer getCurrentSeason() {
-    return DEFAULT_SEASON;
+  private void recordLoad(Key key, long startNanos, String outcome) {
+    Timer.builder(METRIC_PREFIX + ".load")
+        .tag(TAG_LEADERBOARD, key.leaderboard())
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(Duration.ofNanos(System.nanoTime() - startNanos));
   }
 
-  /** Obtient les statistiques du cache */
-  public CacheStats getCacheStats() {
-    CacheStats stats = new CacheStats();
-    stats.totalEntries = leaderboardCache.size();
-    stats.activeEntries =
-        (int) leaderboardCache.values().stream().filter(cached -> !isExpired(cached)).count();
-    stats.expiredEntries = stats.totalEntries - stats.activeEntries;
+  private record Key(String leaderboard, int season) {}
 
-    log.debug(
-        "Statistiques du cache: {} entrées totales, {} actives, {} expirées",
-        stats.totalEntries,
-        stats.activeEntries,
-        stats.expiredEntries);
+  /** A cached leaderboard; {@code lastRead} only orders evictions, so a racy update is harmless. */
+  private static final class Entry {
+    private final List<?> value;
+    private final Instant loadedAt;
+    private volatile Instant lastRead;
 
-    return stats;
-  }
+    private Entry(List<?> value, Instant loadedAt, Instant lastRead) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+      this.lastRead = lastRead;
+    }
 
-  /** Nettoie les entrées expirées du cache */
-  public void cleanupExpiredEntries() {
-    log.debug("Nettoyage des entrées expirées du cache");
+    private List<?> value() {
+      return value;
+    }
 
-    int initialSize = leaderboardCache.size();
-    leaderboardCache.entrySet().removeIf(entry -> isExpired(entry.getValue()));
-    int finalSize = leaderboardCache.size();
+    private Instant loadedAt() {
+      return loadedAt;
+    }
 
-    log.info(
-        "Nettoyage terminé: {} entrées supprimées ({} -> {})",
-        initialSize - finalSize,
-        initialSize,
-        finalSize);
-  }
+    private Instant lastRead() {
+      return lastRead;
+    }
 
-  /** Classe interne pour le cache */
-  private static class CachedLeaderboard {
-    List<LeaderboardEntryDTO> entries;
-    LocalDateTime cachedAt;
-    Integer season;
+    private void touch(Instant now) {
+      lastRead = now;
+    }
   }
 
   /** Classe pour les statistiques du cache */
@@ -151,5 +286,6 @@ public class LeaderboardCacheService {
     public int totalEntries;
     public int activeEntries;
     public int expiredEntries;
+    public int loadingEntries;
   }
 }
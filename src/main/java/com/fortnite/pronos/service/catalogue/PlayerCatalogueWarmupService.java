@@ -1,7 +1,5 @@
 package com.fortnite.pronos.service.catalogue;
 
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Service;
 
 import com.fortnite.pronos.domain.game.model.PlayerRegion;
@@ -10,21 +8,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Pre-warms the player catalogue cache at application startup and after nightly scraping (FR-13,
- * NFR-P05). Ensures all catalogue endpoints respond from cache before user traffic arrives.
+ * Pre-warms the player catalogue cache (FR-13, NFR-P05). Run as the {@code catalogue} target of
+ * {@link com.fortnite.pronos.service.cache.CacheWarmupService}, at startup and after data changes,
+ * so all catalogue endpoints respond from cache before user traffic arrives.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class PlayerCatalogueWarmupService implements ApplicationListener<ApplicationReadyEvent> {
+public class PlayerCatalogueWarmupService {
 
   private final PlayerCatalogueService playerCatalogueService;
 
-  @Override
-  public void onApplicationEvent(ApplicationReadyEvent event) {
-    warmup();
-  }
-
   /**
    * Warms the catalogue cache by pre-loading all-regions and per-region entries. Can be called
    * explicitly by the nightly scraping scheduler after batch completion.
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,12 +22,31 @@ public class PrCsvParser {
   private static final Logger LOG = LoggerFactory.getLogger(PrCsvParser.class);
   private static final List<String> REQUIRED_HEADERS =
       List.of("nickname", "region", "points", "rank", "snapshot_date");
+  static final int DEFAULT_CHUNK_SIZE = 1_000;
   private static final List<String> ALLOWED_REGIONS =
       List.of("EU", "NAC", "NAW", "BR", "ASIA", "OCE", "ME", "GLOBAL");
 
   public ParseResult parse(Reader reader) {
     List<PrCsvRow> rows = new ArrayList<>();
-    int errorCount = 0;
+    StreamSummary summary = parseInChunks(reader, DEFAULT_CHUNK_SIZE, rows::addAll);
+    if (summary.failureReason() != null) {
+      return ParseResult.failure(summary.failureReason(), summary.errorCount());
+    }
+    return ParseResult.success(rows, summary.errorCount());
+  }
+
+  /**
+   * Streams the CSV and hands valid rows to {@code chunkConsumer} in chunks of at most {@code
+   * chunkSize} rows. The next chunk is only read once the consumer returns, so memory stays bounded
+   * by one chunk whatever the size of the input. Header validation and error accounting are the
+   * same as {@link #parse(Reader)}; exceptions thrown by the consumer propagate to the caller.
+   */
+  public StreamSummary parseInChunks(
+      Reader reader, int chunkSize, Consumer<List<PrCsvRow>> chunkConsumer) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+    ChunkedRowSink sink = new ChunkedRowSink(chunkSize, chunkConsumer);
     String failureReason = null;
     try (BufferedReader bufferedReader = new BufferedReader(reader)) {
       String headerLine = bufferedReader.readLine();
@@ -34,27 +54,22 @@ public class PrCsvParser {
       if (headerLine == null || !hasRequiredHeaders(index)) {
         failureReason = "invalid_header";
       } else {
-        RowParsingResult rowParsingResult = parseRows(bufferedReader, index);
-        rows.addAll(rowParsingResult.rows());
-        errorCount = rowParsingResult.errorCount();
+        parseRows(bufferedReader, index, sink);
+        sink.flush();
       }
     } catch (IOException e) {
       LOG.warn("I/O error while parsing PR CSV input", e);
       failureReason = "io_error";
     }
-    if (failureReason == null && rows.isEmpty()) {
+    if (failureReason == null && sink.rowCount == 0) {
       failureReason = "no_rows";
     }
-    if (failureReason != null) {
-      return ParseResult.failure(failureReason, errorCount);
-    }
-    return ParseResult.success(rows, errorCount);
+    return new StreamSummary(sink.rowCount, sink.errorCount, failureReason);
   }
 
-  private RowParsingResult parseRows(BufferedReader bufferedReader, Map<String, Integer> index)
+  private void parseRows(
+      BufferedReader bufferedReader, Map<String, Integer> index, ChunkedRowSink sink)
       throws IOException {
-    List<PrCsvRow> rows = new ArrayList<>();
-    int errorCount = 0;
     String line;
     while ((line = bufferedReader.readLine()) != null) {
       if (line.isBlank() || line.trim().startsWith("#")) {
@@ -62,12 +77,11 @@ public class PrCsvParser {
       }
       PrCsvRow row = parseRow(line, index);
       if (row == null) {
-        errorCount += 1;
+        sink.errorCount += 1;
       } else {
-        rows.add(row);
+        sink.add(row);
       }
     }
-    return new RowParsingResult(rows, errorCount);
   }
 
   private Map<String, Integer> headerIndex(String headerLine) {
@@ -154,5 +168,37 @@ public class PrCsvParser {
     }
   }
 
-  private record RowParsingResult(List<PrCsvRow> rows, int errorCount) {}
+  /** Outcome of {@link #parseInChunks}: rows handed to the consumer and rejected lines. */
+  public record StreamSummary(int rowCount, int errorCount, String failureReason) {}
+
+  private static final class ChunkedRowSink {
+    private final int chunkSize;
+    private final Consumer<List<PrCsvRow>> chunkConsumer;
+    private List<PrCsvRow> chunk;
+    private int rowCount;
+    private int errorCount;
+
+    private ChunkedRowSink(int chunkSize, Consumer<List<PrCsvRow>> chunkConsumer) {
+      this.chunkSize = chunkSize;
+      this.chunkConsumer = chunkConsumer;
+      this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    private void add(PrCsvRow row) {
+      chunk.add(row);
+      rowCount++;
+      if (chunk.size() == chunkSize) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      List<PrCsvRow> full = chunk;
+      chunk = new ArrayList<>(chunkSize);
+      chunkConsumer.accept(full);
+    }
+  }
 }
@@ -0,0 +1,243 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fortnite.pronos.model.IngestionRun;
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.PrRegion;
+import com.fortnite.pronos.model.PrSnapshot;
+import com.fortnite.pronos.model.Score;
+import com.fortnite.pronos.repository.PrIngestionBulkRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entry point of PR row writes. {@link #persist} hands a chunk to {@link PrIngestionRowProcessor}
+ * when bulk writes are off; otherwise this class is its set-based counterpart: it loads every known
+ * player of the batch in one query, replays the row-by-row resolution rules in memory, then writes
+ * players, snapshots and scores through chunked multi-row upserts. Produces the same {@link
+ * PrIngestionCounters} and the same final database state as the row-by-row path.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class PrIngestionBulkRowProcessor {
+
+  static final int NICKNAME_LOOKUP_CHUNK_SIZE = 1_000;
+
+  private final PrIngestionBulkRepository bulkRepository;
+  private final PrIngestionRowProcessor rowProcessor;
+
+  /** Standalone batch: players are resolved for these rows only, new ones flushed at the end. */
+  PrIngestionCounters persistRows(
+      List<PrCsvParser.PrCsvRow> rows,
+      PrIngestionService.PrIngestionConfig config,
+      IngestionRun run) {
+    PrIngestionRunScope.RegionSession session = new PrIngestionRunScope().openRegion(false);
+    PrIngestionCounters counters = persistRows(rows, config, run, session);
+    rowProcessor.flushNewPlayers(session);
+    return counters;
+  }
+
+  /** Writes {@code rows} set-based, or row by row when {@code config.bulkWrites()} is false. */
+  PrIngestionCounters persist(
+      List<PrCsvParser.PrCsvRow> rows,
+      PrIngestionService.PrIngestionConfig config,
+      IngestionRun run,
+      PrIngestionRunScope.RegionSession session) {
+    return config.bulkWrites()
+        ? persistRows(rows, config, run, session)
+        : rowProcessor.persistRows(rows, config, run, session);
+  }
+
+  /** Saves the players the session created, whichever path wrote them. */
+  void flushNewPlayers(PrIngestionRunScope.RegionSession session) {
+    rowProcessor.flushNewPlayers(session);
+  }
+
+  PrIngestionCounters persistRows(
+      List<PrCsvParser.PrCsvRow> rows,
+      PrIngestionService.PrIngestionConfig config,
+      IngestionRun run,
+      PrIngestionRunScope.RegionSession session) {
+    BulkBatch batch = new BulkBatch(preloadPlayers(rows, session), config, run, session);
+    for (PrCsvParser.PrCsvRow row : rows) {
+      batch.accept(row);
+    }
+    writeBatch(batch);
+    return batch.counters.toImmutable();
+  }
+
+  /** Players already resolved by the run are reused; only the other nicknames are queried. */
+  private Map<String, Player> preloadPlayers(
+      List<PrCsvParser.PrCsvRow> rows, PrIngestionRunScope.RegionSession session) {
+    Map<String, Player> players = new HashMap<>();
+    Set<String> nicknames = new LinkedHashSet<>();
+    for (PrCsvParser.PrCsvRow row : rows) {
+      String nickname = row.nickname();
+      if (!players.containsKey(nickname) && !nicknames.contains(nickname)) {
+        Player cached = session.find(nickname);
+        if (cached != null) {
+          players.put(nickname, cached);
+        } else {
+          nicknames.add(nickname);
+        }
+      }
+    }
+    int cachedCount = players.size();
+    List<String> pending = new ArrayList<>(nicknames);
+    for (int from = 0; from < pending.size(); from += NICKNAME_LOOKUP_CHUNK_SIZE) {
+      int to = Math.min(pending.size(), from + NICKNAME_LOOKUP_CHUNK_SIZE);
+      for (Player player : bulkRepository.findDetachedByNicknameIn(pending.subList(from, to))) {
+        players.put(player.getNickname(), player);
+        session.remember(player);
+      }
+    }
+    log.debug(
+        "Bulk ingestion preload: cached={}, queried={}, known={}",
+        cachedCount,
+        nicknames.size(),
+        players.size());
+    return players;
+  }
+
+  private void writeBatch(BulkBatch batch) {
+    List<Player> players = new ArrayList<>(batch.dirtyPlayers.values());
+    List<Score> scores = new ArrayList<>(batch.scores.values());
+    // Native upserts skip the JPA lifecycle callbacks, so their checks and defaults run here.
+    players.forEach(Player::validateTranche);
+    scores.forEach(Score::validateScore);
+    int playerRows = bulkRepository.upsertPlayers(players);
+    int snapshotRows = bulkRepository.upsertSnapshots(new ArrayList<>(batch.snapshots.values()));
+    int scoreRows = bulkRepository.upsertScores(scores);
+    log.debug(
+        "Bulk ingestion write: players={}, snapshots={}, scores={}",
+        playerRows,
+        snapshotRows,
+        scoreRows);
+  }
+
+  /** In-memory replay of the row-by-row rules; the last row wins for every upsert key. */
+  private static final class BulkBatch {
+    private final Map<String, Player> knownPlayers;
+    private final PrIngestionService.PrIngestionConfig config;
+    private final IngestionRun run;
+    private final PrIngestionRunScope.RegionSession session;
+    private final OffsetDateTime collectedAt = OffsetDateTime.now();
+    private final Map<String, Player> dirtyPlayers = new LinkedHashMap<>();
+    private final Map<PrSnapshot.PrSnapshotId, PrSnapshot> snapshots = new LinkedHashMap<>();
+    private final Map<UUID, Score> scores = new LinkedHashMap<>();
+    private final Counters counters = new Counters();
+
+    private BulkBatch(
+        Map<String, Player> knownPlayers,
+        PrIngestionService.PrIngestionConfig config,
+        IngestionRun run,
+        PrIngestionRunScope.RegionSession session) {
+      this.knownPlayers = knownPlayers;
+      this.config = config;
+      this.run = run;
+      this.session = session;
+    }
+
+    private void accept(PrCsvParser.PrCsvRow row) {
+      PrRegion prRegion = PrIngestionRowProcessor.toRegion(row.region());
+      Player player = prRegion == null ? null : resolvePlayer(row, prRegion);
+      if (player == null) {
+        counters.skippedRows++;
+        return;
+      }
+      stageSnapshot(player, prRegion, row);
+      if (config.writeScores()) {
+        stageScore(player, row);
+      }
+    }
+
+    private Player resolvePlayer(PrCsvParser.PrCsvRow row, PrRegion prRegion) {
+      Player existing = knownPlayers.get(row.nickname());
+      String tranche = PrIngestionRowProcessor.trancheFromRank(row.rank());
+      if (prRegion == PrRegion.GLOBAL) {
+        return existing != null ? existing : createPlayer(row, Player.Region.UNKNOWN, tranche);
+      }
+      Player.Region region = PrIngestionRowProcessor.toPlayerRegion(prRegion);
+      if (region == null) {
+        return null;
+      }
+      if (existing == null) {
+        return createPlayer(row, region, tranche);
+      }
+      if (PrIngestionRowProcessor.applyPlayerUpdates(existing, region, tranche, config.season())) {
+        dirtyPlayers.put(existing.getNickname(), existing);
+        counters.playersUpdated++;
+      }
+      return existing;
+    }
+
+    private Player createPlayer(PrCsvParser.PrCsvRow row, Player.Region region, String tranche) {
+      Player player = new Player();
+      player.setId(UUID.randomUUID());
+      player.setNickname(row.nickname());
+      player.setUsername(PrIngestionRowProcessor.buildUsername(row.nickname()));
+      player.setRegion(region);
+      player.setTranche(tranche);
+      player.setCurrentSeason(config.season());
+      knownPlayers.put(player.getNickname(), player);
+      dirtyPlayers.put(player.getNickname(), player);
+      session.remember(player);
+      session.queueNewPlayer(player.getId(), player.getNickname(), region);
+      counters.playersCreated++;
+      return player;
+    }
+
+    private void stageSnapshot(Player player, PrRegion region, PrCsvParser.PrCsvRow row) {
+      PrSnapshot snapshot = new PrSnapshot();
+      snapshot.setPlayer(player);
+      snapshot.setRegion(region);
+      snapshot.setSnapshotDate(row.snapshotDate());
+      snapshot.setId(UUID.randomUUID());
+      snapshot.setPoints(row.points());
+      snapshot.setPrValue(row.points());
+      snapshot.setRank(row.rank());
+      snapshot.setCollectedAt(collectedAt);
+      snapshot.setRun(run);
+      snapshots.put(
+          new PrSnapshot.PrSnapshotId(player.getId(), region, row.snapshotDate()), snapshot);
+      counters.snapshotsWritten++;
+    }
+
+    private void stageScore(Player player, PrCsvParser.PrCsvRow row) {
+      Score score = new Score();
+      score.setPlayer(player);
+      score.setSeason(config.season());
+      score.setPoints(row.points());
+      score.setDate(row.snapshotDate());
+      score.setTimestamp(collectedAt);
+      scores.put(player.getId(), score);
+      counters.scoresWritten++;
+    }
+  }
+
+  private static final class Counters {
+    private int playersCreated;
+    private int playersUpdated;
+    private int snapshotsWritten;
+    private int scoresWritten;
+    private int skippedRows;
+
+    private PrIngestionCounters toImmutable() {
+      return new PrIngestionCounters(
+          playersCreated, playersUpdated, snapshotsWritten, scoresWritten, skippedRows, 0);
+    }
+  }
+}
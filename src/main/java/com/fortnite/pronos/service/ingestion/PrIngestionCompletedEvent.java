@@ -0,0 +1,9 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.util.UUID;
+
+/**
+ * A region's ingestion run finished with snapshots written. Published by {@link PrIngestionService}
+ * once the run is closed; listeners see it after the run's transaction commits.
+ */
+public record PrIngestionCompletedEvent(UUID runId, String source, int snapshotsWritten) {}
@@ -5,9 +5,20 @@ record PrIngestionCounters(
     int playersUpdated,
     int snapshotsWritten,
     int scoresWritten,
-    int skippedRows) {
+    int skippedRows,
+    int unchangedRows) {
 
   static PrIngestionCounters empty() {
-    return new PrIngestionCounters(0, 0, 0, 0, 0);
+    return new PrIngestionCounters(0, 0, 0, 0, 0, 0);
+  }
+
+  PrIngestionCounters plus(PrIngestionCounters other) {
+    return new PrIngestionCounters(
+        playersCreated + other.playersCreated,
+        playersUpdated + other.playersUpdated,
+        snapshotsWritten + other.snapshotsWritten,
+        scoresWritten + other.scoresWritten,
+        skippedRows + other.skippedRows,
+        unchangedRows + other.unchangedRows);
   }
 }
@@ -1,14 +1,26 @@
 package com.fortnite.pronos.service.ingestion;
 
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.Year;
 import java.util.EnumMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -49,13 +61,15 @@ public class PrIngestionOrchestrationService {
   private final PrRegionCsvSourcePort regionCsvSourcePort;
   private final Clock clock;
   private final CsvCachePort csvCachePort;
+  private final PrIngestionProperties properties;
 
   @Autowired
   public PrIngestionOrchestrationService(
       PrIngestionService ingestionService,
       PrRegionCsvSourcePort regionCsvSourcePort,
-      CsvCachePort csvCachePort) {
-    this(ingestionService, regionCsvSourcePort, Clock.systemUTC(), csvCachePort);
+      CsvCachePort csvCachePort,
+      PrIngestionProperties properties) {
+    this(ingestionService, regionCsvSourcePort, Clock.systemUTC(), csvCachePort, properties);
   }
 
   PrIngestionOrchestrationService(
@@ -63,10 +77,20 @@ public class PrIngestionOrchestrationService {
       PrRegionCsvSourcePort regionCsvSourcePort,
       Clock clock,
       CsvCachePort csvCachePort) {
+    this(ingestionService, regionCsvSourcePort, clock, csvCachePort, new PrIngestionProperties());
+  }
+
+  PrIngestionOrchestrationService(
+      PrIngestionService ingestionService,
+      PrRegionCsvSourcePort regionCsvSourcePort,
+      Clock clock,
+      CsvCachePort csvCachePort,
+      PrIngestionProperties properties) {
     this.ingestionService = ingestionService;
     this.regionCsvSourcePort = regionCsvSourcePort;
     this.clock = clock;
     this.csvCachePort = csvCachePort;
+    this.properties = properties;
   }
 
   @Scheduled(cron = "${ingestion.pr.scheduled.cron:0 0 5 * * *}")
@@ -83,71 +107,208 @@ public class PrIngestionOrchestrationService {
     return runAllRegions();
   }
 
+  /**
+   * Fetches every region concurrently (bounded by {@code ingestion.pr.fetch-parallelism}) and
+   * ingests them one at a time in {@link #SUPPORTED_REGIONS} order on the calling thread, so GLOBAL
+   * and regional rows for the same nickname are never written concurrently. Players resolved by one
+   * region are shared with the next ones through a {@link PrIngestionRunScope}. Every fetch, in
+   * parallel and sequential mode alike, is bounded by {@code ingestion.pr.region-timeout-ms}.
+   */
   public MultiRegionIngestionResult runAllRegions() {
-    log.info("Starting multi-region PR ingestion run ({} regions)", SUPPORTED_REGIONS.size());
+    int parallelism = Math.max(1, properties.getFetchParallelism());
+    log.info(
+        "Starting multi-region PR ingestion run ({} regions, fetchParallelism={})",
+        SUPPORTED_REGIONS.size(),
+        parallelism);
     Map<PrRegion, String> regionFailures = new EnumMap<>(PrRegion.class);
+    Map<PrRegion, RegionTiming> regionTimings = new EnumMap<>(PrRegion.class);
     int regionsProcessed = 0;
     long startedAtMillis = clock.millis();
+    PrIngestionRunScope runScope = new PrIngestionRunScope();
 
-    for (PrRegion region : SUPPORTED_REGIONS) {
-      String failure = processRegion(region);
-      if (failure == null) {
-        regionsProcessed++;
-      } else {
-        regionFailures.put(region, failure);
+    ExecutorService fetchExecutor = newFetchExecutor(parallelism);
+    try {
+      Map<PrRegion, RegionFetch> fetches = new EnumMap<>(PrRegion.class);
+      if (parallelism > 1) {
+        for (PrRegion region : SUPPORTED_REGIONS) {
+          fetches.put(region, new RegionFetch(region, fetchExecutor));
+        }
+      }
+      for (PrRegion region : SUPPORTED_REGIONS) {
+        // Sequential mode starts each fetch only once the previous region is ingested.
+        RegionFetch fetch =
+            fetches.computeIfAbsent(region, pending -> new RegionFetch(pending, fetchExecutor));
+        String failure = processRegion(region, fetch, runScope);
+        regionTimings.put(region, fetch.timing());
+        if (failure == null) {
+          regionsProcessed++;
+        } else {
+          regionFailures.put(region, failure);
+        }
       }
+    } finally {
+      fetchExecutor.shutdownNow();
     }
 
     long durationMs = Math.max(0L, Duration.ofMillis(clock.millis() - startedAtMillis).toMillis());
     BatchStatus status = regionFailures.isEmpty() ? BatchStatus.SUCCESS : BatchStatus.PARTIAL;
+    log.info(
+        "Multi-region PR ingestion run finished: status={}, regionsProcessed={}, "
+            + "playersResolved={}, timings={}",
+        status,
+        regionsProcessed,
+        runScope.size(),
+        regionTimings);
     return new MultiRegionIngestionResult(
-        status, regionsProcessed, Map.copyOf(regionFailures), durationMs);
+        status,
+        regionsProcessed,
+        Map.copyOf(regionFailures),
+        durationMs,
+        Map.copyOf(regionTimings));
   }
 
-  private String processRegion(PrRegion region) {
+  /**
+   * A pool of {@code parallelism} threads, or one thread per fetch in sequential mode, so a fetch
+   * abandoned on timeout never holds up the next region.
+   */
+  private ExecutorService newFetchExecutor(int parallelism) {
+    ThreadFactory threadFactory =
+        Thread.ofPlatform().name("pr-region-fetch-", 1).daemon().factory();
+    return parallelism > 1
+        ? Executors.newFixedThreadPool(parallelism, threadFactory)
+        : Executors.newThreadPerTaskExecutor(threadFactory);
+  }
+
+  /**
+   * Ingests the region's fetched CSV. A fetch that came back empty, timed out or failed falls back
+   * to the region's cached CSV; the fetch failure is reported only when there is none.
+   */
+  private String processRegion(PrRegion region, RegionFetch fetch, PrIngestionRunScope runScope) {
+    Optional<String> csvOpt = Optional.empty();
+    String fetchFailure = null;
     try {
-      Optional<String> csvOpt = regionCsvSourcePort.fetchCsv(region);
-      String csv;
-      if (csvOpt.isEmpty()) {
-        Optional<String> cached = csvCachePort.load(region);
-        if (cached.isEmpty()) {
-          return "no_data";
-        }
-        log.info("Using CSV cache fallback for region={}", region);
-        csv = cached.get();
-      } else {
-        csv = csvOpt.get();
-        int rowCount = countDataRows(csv);
-        if (rowCount < SMOKE_MIN_ROWS) {
-          log.warn(
-              "Smoke check failed for region={}: {} rows < {}", region, rowCount, SMOKE_MIN_ROWS);
-          return "smoke_check_failed";
-        }
-        csvCachePort.save(region, csv);
-      }
-      PrIngestionResult result =
-          ingestionService.ingest(
-              new StringReader(csv),
-              new PrIngestionConfig(
-                  "SCHEDULED_PR_" + region.name(), Year.now(clock).getValue(), true));
-      return result.status() == IngestionRun.Status.SUCCESS ? null : "ingestion_" + result.status();
+      csvOpt = fetch.await(properties.getRegionTimeoutMs());
+    } catch (TimeoutException exception) {
+      fetch.cancel();
+      log.warn("Fetch timed out for region={} after {}ms", region, properties.getRegionTimeoutMs());
+      fetchFailure = "fetch_timeout";
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return "interrupted";
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+      log.warn("Fetch failed for region={}", region, cause);
+      fetchFailure = failureMessage(cause);
+    }
+    long ingestStartedAt = System.nanoTime();
+    try {
+      return ingestRegion(region, csvOpt, fetchFailure, runScope);
     } catch (Exception exception) {
-      String message = exception.getMessage();
-      return message == null || message.isBlank() ? exception.getClass().getSimpleName() : message;
+      return failureMessage(exception);
+    } finally {
+      fetch.ingestNanos = System.nanoTime() - ingestStartedAt;
+    }
+  }
+
+  private String ingestRegion(
+      PrRegion region, Optional<String> csvOpt, String fetchFailure, PrIngestionRunScope runScope) {
+    String csv;
+    if (csvOpt.isEmpty()) {
+      Optional<String> cached = csvCachePort.load(region);
+      if (cached.isEmpty()) {
+        return fetchFailure != null ? fetchFailure : "no_data";
+      }
+      log.info("Using CSV cache fallback for region={}", region);
+      csv = cached.get();
+    } else {
+      csv = csvOpt.get();
+      int rowCount = countDataRows(csv);
+      if (rowCount < SMOKE_MIN_ROWS) {
+        log.warn(
+            "Smoke check failed for region={}: {} rows < {}", region, rowCount, SMOKE_MIN_ROWS);
+        return "smoke_check_failed";
+      }
+      csvCachePort.save(region, csv);
+    }
+    PrIngestionConfig config = regionConfig(region, runScope);
+    PrIngestionResult result =
+        properties.isCheckpointed()
+            ? ingestionService.ingestCheckpointed(new StringReader(csv), config, sha256(csv))
+            : ingestionService.ingest(new StringReader(csv), config);
+    return result.status() == IngestionRun.Status.SUCCESS ? null : "ingestion_" + result.status();
+  }
+
+  /**
+   * Resumes a checkpointed run of {@code region} from its last committed chunk, replaying the
+   * region's cached CSV. The resume is refused when the cache has since been replaced by another
+   * fetch, since its rows would no longer line up with the run's checkpoint.
+   *
+   * @throws IllegalStateException if no cached CSV is left for the region, or it is not the CSV the
+   *     run started on
+   */
+  public PrIngestionResult resumeRegion(PrRegion region, UUID runId) {
+    String csv =
+        csvCachePort
+            .load(region)
+            .orElseThrow(
+                () -> new IllegalStateException("No cached CSV to resume region " + region));
+    log.info("Resuming PR ingestion run {} for region={}", runId, region);
+    return ingestionService.resume(
+        runId, new StringReader(csv), regionConfig(region, null), sha256(csv));
+  }
+
+  static String sha256(String csv) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(csv.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
     }
   }
 
+  private PrIngestionConfig regionConfig(PrRegion region, PrIngestionRunScope runScope) {
+    return new PrIngestionConfig(
+        "SCHEDULED_PR_" + region.name(),
+        Year.now(clock).getValue(),
+        true,
+        properties.isBulkWrites(),
+        runScope);
+  }
+
+  private static String failureMessage(Throwable exception) {
+    String message = exception.getMessage();
+    return message == null || message.isBlank() ? exception.getClass().getSimpleName() : message;
+  }
+
+  /**
+   * Counts non-blank lines after the header without splitting the payload, stopping as soon as the
+   * smoke threshold is reached.
+   */
   private int countDataRows(String csv) {
-    String[] lines = csv.split("\n");
+    int lineStart = csv.indexOf('\n') + 1;
     int count = 0;
-    for (int i = 1; i < lines.length; i++) {
-      if (!lines[i].trim().isEmpty()) {
+    while (lineStart > 0 && lineStart < csv.length() && count < SMOKE_MIN_ROWS) {
+      int lineEnd = csv.indexOf('\n', lineStart);
+      if (lineEnd < 0) {
+        lineEnd = csv.length();
+      }
+      if (!isBlank(csv, lineStart, lineEnd)) {
         count++;
       }
+      lineStart = lineEnd + 1;
     }
     return count;
   }
 
+  private static boolean isBlank(String text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (text.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private boolean isInsideRunWindow(LocalTime now) {
     LocalTime windowStart = LocalTime.of(WINDOW_START_HOUR, 0);
     LocalTime windowEnd = LocalTime.of(WINDOW_END_HOUR_EXCLUSIVE, 0);
@@ -160,9 +321,82 @@ public class PrIngestionOrchestrationService {
     SKIPPED
   }
 
+  /**
+   * Wall-clock time spent fetching and ingesting one region. {@code fetchMs} starts when a fetch
+   * worker picks the region up, so queueing behind other regions is not counted.
+   */
+  public record RegionTiming(long fetchMs, long ingestMs) {}
+
   public record MultiRegionIngestionResult(
       BatchStatus status,
       int regionsProcessed,
       Map<PrRegion, String> regionFailures,
-      long durationMs) {}
+      long durationMs,
+      Map<PrRegion, RegionTiming> regionTimings) {
+
+    public MultiRegionIngestionResult(
+        BatchStatus status,
+        int regionsProcessed,
+        Map<PrRegion, String> regionFailures,
+        long durationMs) {
+      this(status, regionsProcessed, regionFailures, durationMs, Map.of());
+    }
+  }
+
+  /** One region's CSV fetch, submitted to the fetch executor as soon as it is created. */
+  private final class RegionFetch {
+    private final PrRegion region;
+    private final Future<Optional<String>> future;
+    private volatile long startedAtNanos;
+    private volatile boolean started;
+    private volatile long fetchNanos;
+    private long ingestNanos;
+
+    private RegionFetch(PrRegion region, ExecutorService executor) {
+      this.region = region;
+      this.future = executor.submit(this::fetch);
+    }
+
+    private Optional<String> fetch() {
+      startedAtNanos = System.nanoTime();
+      started = true;
+      try {
+        return regionCsvSourcePort.fetchCsv(region);
+      } finally {
+        fetchNanos = System.nanoTime() - startedAtNanos;
+      }
+    }
+
+    /** Waits at most {@code timeoutMs} counted from the moment a worker started the fetch. */
+    private Optional<String> await(long timeoutMs)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      while (true) {
+        boolean runningBeforeWait = started;
+        long waitNanos =
+            runningBeforeWait ? startedAtNanos + timeoutNanos - System.nanoTime() : timeoutNanos;
+        try {
+          // A past deadline still returns a fetch that completed while earlier regions ingested.
+          return future.get(Math.max(0L, waitNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException stillRunning) {
+          if (runningBeforeWait) {
+            throw stillRunning;
+          }
+          // Was still queued behind other regions: re-arm the wait from its real start time.
+        }
+      }
+    }
+
+    private void cancel() {
+      future.cancel(true);
+      if (started) {
+        fetchNanos = System.nanoTime() - startedAtNanos;
+      }
+    }
+
+    private RegionTiming timing() {
+      return new RegionTiming(
+          TimeUnit.NANOSECONDS.toMillis(fetchNanos), TimeUnit.NANOSECONDS.toMillis(ingestNanos));
+    }
+  }
 }
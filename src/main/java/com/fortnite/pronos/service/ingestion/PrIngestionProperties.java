@@ -0,0 +1,82 @@
+package com.fortnite.pronos.service.ingestion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Tuning knobs for PR ingestion ({@code ingestion.pr.*}). */
+@Component
+@ConfigurationProperties(prefix = "ingestion.pr")
+public class PrIngestionProperties {
+
+  /** Write rows through set-based upserts instead of one lookup/save cycle per row. */
+  private boolean bulkWrites = true;
+
+  /**
+   * Only persist rows whose points/rank differ from the previous run; unchanged rows are counted
+   * instead of rewritten.
+   */
+  private boolean incremental = false;
+
+  /** Number of parsed CSV rows handed to the row processor at a time. */
+  private int chunkSize = PrCsvParser.DEFAULT_CHUNK_SIZE;
+
+  /**
+   * Commit every chunk in its own transaction and checkpoint it on the run, so a failed scheduled
+   * run can be resumed instead of restarted.
+   */
+  private boolean checkpointed = false;
+
+  /** Regions fetched concurrently by a multi-region run; 1 fetches them one after another. */
+  private int fetchParallelism = 4;
+
+  /** Maximum time a single region fetch may take once started, in milliseconds. */
+  private long regionTimeoutMs = 900_000L;
+
+  public boolean isBulkWrites() {
+    return bulkWrites;
+  }
+
+  public void setBulkWrites(boolean bulkWrites) {
+    this.bulkWrites = bulkWrites;
+  }
+
+  public boolean isIncremental() {
+    return incremental;
+  }
+
+  public void setIncremental(boolean incremental) {
+    this.incremental = incremental;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  public boolean isCheckpointed() {
+    return checkpointed;
+  }
+
+  public void setCheckpointed(boolean checkpointed) {
+    this.checkpointed = checkpointed;
+  }
+
+  public int getFetchParallelism() {
+    return fetchParallelism;
+  }
+
+  public void setFetchParallelism(int fetchParallelism) {
+    this.fetchParallelism = fetchParallelism;
+  }
+
+  public long getRegionTimeoutMs() {
+    return regionTimeoutMs;
+  }
+
+  public void setRegionTimeoutMs(long regionTimeoutMs) {
+    this.regionTimeoutMs = regionTimeoutMs;
+  }
+}
@@ -2,6 +2,7 @@ package com.fortnite.pronos.service.ingestion;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -42,15 +43,27 @@ class PrIngestionRowProcessor {
   private final PlayerIdentityRepositoryPort identityRepository;
   private final PlayerAliasRepositoryPort aliasRepository;
 
+  /** Standalone batch: players are resolved for these rows only, new ones flushed at the end. */
   PrIngestionCounters persistRows(
       List<PrCsvParser.PrCsvRow> rows,
       PrIngestionService.PrIngestionConfig config,
       IngestionRun run) {
+    PrIngestionRunScope.RegionSession session = new PrIngestionRunScope().openRegion(false);
+    PrIngestionCounters counters = persistRows(rows, config, run, session);
+    flushNewPlayers(session);
+    return counters;
+  }
+
+  PrIngestionCounters persistRows(
+      List<PrCsvParser.PrCsvRow> rows,
+      PrIngestionService.PrIngestionConfig config,
+      IngestionRun run,
+      PrIngestionRunScope.RegionSession session) {
     MutableCounters counters = new MutableCounters();
     for (PrCsvParser.PrCsvRow row : rows) {
       PrRegion prRegion = toRegion(row.region());
       if (prRegion != null) {
-        Player player = resolvePlayer(row, prRegion, config, counters);
+        Player player = resolvePlayer(row, prRegion, config, session, counters);
         if (player != null) {
           upsertSnapshot(player, prRegion, row, run, counters);
           if (config.writeScores()) {
@@ -68,9 +81,10 @@ class PrIngestionRowProcessor {
       PrCsvParser.PrCsvRow row,
       PrRegion prRegion,
       PrIngestionService.PrIngestionConfig config,
+      PrIngestionRunScope.RegionSession session,
       MutableCounters counters) {
     if (prRegion == PrRegion.GLOBAL) {
-      return resolveGlobalPlayer(row, config, counters);
+      return resolveGlobalPlayer(row, config, session, counters);
     }
 
     Player.Region playerRegion = toPlayerRegion(prRegion);
@@ -78,35 +92,51 @@ class PrIngestionRowProcessor {
       counters.skippedRows++;
       return null;
     }
-    return findOrCreatePlayer(row, playerRegion, config.season(), counters);
+    return findOrCreatePlayer(row, playerRegion, config.season(), session, counters);
   }
 
   private Player resolveGlobalPlayer(
       PrCsvParser.PrCsvRow row,
       PrIngestionService.PrIngestionConfig config,
+      PrIngestionRunScope.RegionSession session,
       MutableCounters counters) {
-    Optional<Player> existing = playerRepository.findByNickname(row.nickname());
-    if (existing.isPresent()) {
-      return existing.get();
+    Player existing = findPlayer(row.nickname(), session);
+    if (existing != null) {
+      return existing;
     }
     String tranche = trancheFromRank(row.rank());
-    return createPlayer(row, Player.Region.UNKNOWN, tranche, config.season(), counters);
+    return createPlayer(row, Player.Region.UNKNOWN, tranche, config.season(), session, counters);
   }
 
   private Player findOrCreatePlayer(
-      PrCsvParser.PrCsvRow row, Player.Region region, int season, MutableCounters counters) {
-    Optional<Player> existing = playerRepository.findByNickname(row.nickname());
+      PrCsvParser.PrCsvRow row,
+      Player.Region region,
+      int season,
+      PrIngestionRunScope.RegionSession session,
+      MutableCounters counters) {
+    Player existing = findPlayer(row.nickname(), session);
     String tranche = trancheFromRank(row.rank());
 
-    if (existing.isPresent()) {
-      Player player = existing.get();
-      if (applyPlayerUpdates(player, region, tranche, season)) {
-        playerRepository.save(player);
+    if (existing != null) {
+      if (applyPlayerUpdates(existing, region, tranche, season)) {
+        playerRepository.save(existing);
         counters.playersUpdated++;
       }
-      return player;
+      return existing;
+    }
+    return createPlayer(row, region, tranche, season, session, counters);
+  }
+
+  /** Looks the nickname up in the run scope first, then once in the repository. */
+  private Player findPlayer(String nickname, PrIngestionRunScope.RegionSession session) {
+    Player player = session.find(nickname);
+    if (player == null) {
+      player = playerRepository.findByNickname(nickname).orElse(null);
+      if (player != null) {
+        session.remember(player);
+      }
     }
-    return createPlayer(row, region, tranche, season, counters);
+    return player;
   }
 
   private Player createPlayer(
@@ -114,6 +144,7 @@ class PrIngestionRowProcessor {
       Player.Region region,
       String tranche,
       int season,
+      PrIngestionRunScope.RegionSession session,
       MutableCounters counters) {
     Player player = new Player();
     player.setNickname(row.nickname());
@@ -123,41 +154,54 @@ class PrIngestionRowProcessor {
     player.setCurrentSeason(season);
     playerRepository.save(player);
     counters.playersCreated++;
-    queueForResolution(player);
-    recordAlias(player);
+    session.remember(player);
+    session.queueNewPlayer(player.getId(), player.getNickname(), player.getRegion());
     return player;
   }
 
-  private void recordAlias(Player player) {
+  /**
+   * Queues the players created since the previous flush for identity resolution and records their
+   * first alias, as one batch per table. A failed batch is logged and does not fail the ingestion.
+   */
+  void flushNewPlayers(PrIngestionRunScope.RegionSession session) {
+    List<PrIngestionRunScope.NewPlayer> created = session.drainNewPlayers();
+    if (created.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<PlayerIdentityEntry> identities = new ArrayList<>(created.size());
+    List<PlayerAliasEntry> aliases = new ArrayList<>(created.size());
+    for (PrIngestionRunScope.NewPlayer player : created) {
+      identities.add(
+          new PlayerIdentityEntry(player.id(), player.nickname(), player.region().name(), now));
+      aliases.add(new PlayerAliasEntry(player.id(), player.nickname(), "FT_INGESTION", now));
+    }
+    queueForResolution(identities);
+    recordAliases(aliases);
+  }
+
+  private void recordAliases(List<PlayerAliasEntry> aliases) {
     try {
-      PlayerAliasEntry alias =
-          new PlayerAliasEntry(
-              player.getId(), player.getNickname(), "FT_INGESTION", LocalDateTime.now());
-      aliasRepository.save(alias);
-      log.debug("Recorded alias: playerId={} nickname={}", player.getId(), player.getNickname());
+      aliasRepository.saveAll(aliases);
+      log.debug("Recorded aliases: count={}", aliases.size());
     } catch (Exception e) {
-      log.warn(
-          "Failed to record alias: nickname={} error={}", player.getNickname(), e.getMessage());
+      log.warn("Failed to record aliases: count={} error={}", aliases.size(), e.getMessage());
     }
   }
 
-  private void queueForResolution(Player player) {
+  private void queueForResolution(List<PlayerIdentityEntry> entries) {
     try {
-      PlayerIdentityEntry entry =
-          new PlayerIdentityEntry(
-              player.getId(), player.getNickname(), player.getRegion().name(), LocalDateTime.now());
-      identityRepository.save(entry);
-      log.debug(
-          "Queued for resolution: playerId={} pseudo={}", player.getId(), player.getNickname());
+      identityRepository.saveAll(entries);
+      log.debug("Queued for resolution: count={}", entries.size());
     } catch (Exception e) {
       log.warn(
-          "Failed to queue player for resolution: pseudo={} error={}",
-          player.getNickname(),
+          "Failed to queue players for resolution: count={} error={}",
+          entries.size(),
           e.getMessage());
     }
   }
 
-  private boolean applyPlayerUpdates(
+  static boolean applyPlayerUpdates(
       Player player, Player.Region region, String tranche, int season) {
     boolean updated = false;
     if (player.getRegion() != region) {
@@ -213,7 +257,7 @@ class PrIngestionRowProcessor {
     counters.scoresWritten++;
   }
 
-  private PrRegion toRegion(String region) {
+  static PrRegion toRegion(String region) {
     try {
       return PrRegion.valueOf(region);
     } catch (IllegalArgumentException e) {
@@ -221,7 +265,7 @@ class PrIngestionRowProcessor {
     }
   }
 
-  private Player.Region toPlayerRegion(PrRegion prRegion) {
+  static Player.Region toPlayerRegion(PrRegion prRegion) {
     try {
       return Player.Region.valueOf(prRegion.name());
     } catch (IllegalArgumentException e) {
@@ -229,7 +273,13 @@ class PrIngestionRowProcessor {
     }
   }
 
-  private String trancheFromRank(int rank) {
+  /** True when rows of this region are persisted rather than counted as skipped. */
+  static boolean isIngestibleRegion(String region) {
+    PrRegion prRegion = toRegion(region);
+    return prRegion == PrRegion.GLOBAL || (prRegion != null && toPlayerRegion(prRegion) != null);
+  }
+
+  static String trancheFromRank(int rank) {
     if (rank > MAX_FINITE_TRANCHE_RANK) {
       return LAST_TRANCHE_LABEL;
     }
@@ -239,7 +289,7 @@ class PrIngestionRowProcessor {
     return trancheStart + "-" + trancheEnd;
   }
 
-  private String buildUsername(String nickname) {
+  static String buildUsername(String nickname) {
     String base = nickname == null ? "" : sanitizeNickname(nickname);
     if (!base.isEmpty()) {
       return base;
@@ -247,7 +297,7 @@ class PrIngestionRowProcessor {
     return "player" + Math.abs(Objects.hashCode(nickname));
   }
 
-  private String sanitizeNickname(String nickname) {
+  private static String sanitizeNickname(String nickname) {
     String normalizedNickname = nickname.toLowerCase(Locale.ROOT);
     return NON_ALPHANUMERIC_PATTERN.matcher(normalizedNickname).replaceAll("");
   }
@@ -261,7 +311,7 @@ class PrIngestionRowProcessor {
 
     private PrIngestionCounters toImmutable() {
       return new PrIngestionCounters(
-          playersCreated, playersUpdated, snapshotsWritten, scoresWritten, skippedRows);
+          playersCreated, playersUpdated, snapshotsWritten, scoresWritten, skippedRows, 0);
     }
   }
 }
@@ -0,0 +1,129 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fortnite.pronos.model.IngestionRun;
+import com.fortnite.pronos.repository.IngestionRunRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lifecycle of the {@code ingestion_runs} rows behind {@link PrIngestionService}: start, resume,
+ * chunk checkpoints and the final status. Every method runs in the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class PrIngestionRunLedger {
+
+  private final IngestionRunRepository ingestionRunRepository;
+
+  IngestionRun start(String source, String csvSha256) {
+    IngestionRun run = new IngestionRun();
+    run.setSource(source);
+    run.setCsvSha256(csvSha256);
+    run.setStatus(IngestionRun.Status.RUNNING);
+    return ingestionRunRepository.save(run);
+  }
+
+  /**
+   * Puts a FAILED or interrupted run back to RUNNING.
+   *
+   * @throws IllegalArgumentException if the run is unknown or was started for another source
+   * @throws IllegalStateException if the run already finished successfully or partially, or was
+   *     started on a CSV of another hash
+   */
+  IngestionRun reopen(UUID runId, String source, String csvSha256) {
+    IngestionRun run = load(runId);
+    if (!Objects.equals(run.getSource(), source)) {
+      throw new IllegalArgumentException(
+          "Ingestion run " + runId + " belongs to source " + run.getSource());
+    }
+    if (run.getStatus() != IngestionRun.Status.RUNNING
+        && run.getStatus() != IngestionRun.Status.FAILED) {
+      throw new IllegalStateException(
+          "Ingestion run " + runId + " is " + run.getStatus() + " and cannot be resumed");
+    }
+    if (!Objects.equals(run.getCsvSha256(), csvSha256)) {
+      throw new IllegalStateException(
+          "Ingestion run " + runId + " started on another CSV and cannot resume from this one");
+    }
+    run.setStatus(IngestionRun.Status.RUNNING);
+    run.setFinishedAt(null);
+    run.setErrorMessage(null);
+    return ingestionRunRepository.save(run);
+  }
+
+  /** Moves the run's checkpoint past one committed chunk; runs inside that chunk's transaction. */
+  void checkpoint(UUID runId, int rows, int snapshotsWritten, int skippedRows) {
+    IngestionRun run = load(runId);
+    run.setCommittedChunks(orZero(run.getCommittedChunks()) + 1);
+    run.setCommittedRows(orZero(run.getCommittedRows()) + rows);
+    run.setTotalRowsWritten(orZero(run.getTotalRowsWritten()) + snapshotsWritten);
+    run.setSkippedRows(orZero(run.getSkippedRows()) + skippedRows);
+    ingestionRunRepository.save(run);
+  }
+
+  /**
+   * Finishes a checkpointed run from its stored totals: FAILED with {@code failure} when given,
+   * otherwise SUCCESS or PARTIAL.
+   */
+  IngestionRun close(UUID runId, Integer parseErrors, String failure) {
+    IngestionRun run = load(runId);
+    int skipped = orZero(run.getSkippedRows());
+    IngestionRun.Status status =
+        failure != null ? IngestionRun.Status.FAILED : resolveStatus(skipped, parseErrors);
+    String message = failure != null ? failure : buildMessage(status, skipped, parseErrors);
+    finish(run, status, orZero(run.getTotalRowsWritten()), message);
+    return run;
+  }
+
+  void finish(IngestionRun run, IngestionRun.Status status, int totalRows, String errorMessage) {
+    run.setStatus(status);
+    run.setFinishedAt(OffsetDateTime.now());
+    run.setTotalRowsWritten(totalRows);
+    if (errorMessage != null && !errorMessage.isBlank()) {
+      run.setErrorMessage(errorMessage);
+    }
+    ingestionRunRepository.save(run);
+  }
+
+  /** Copy of {@code run}, whose own row is rolled back, saved as FAILED with nothing written. */
+  IngestionRun recordFailed(IngestionRun run, String message) {
+    IngestionRun failed = new IngestionRun();
+    failed.setSource(run.getSource());
+    failed.setStartedAt(run.getStartedAt());
+    finish(failed, IngestionRun.Status.FAILED, 0, message);
+    return failed;
+  }
+
+  static IngestionRun.Status resolveStatus(int skippedRows, int parseErrors) {
+    if (parseErrors > 0 || skippedRows > 0) {
+      return IngestionRun.Status.PARTIAL;
+    }
+    return IngestionRun.Status.SUCCESS;
+  }
+
+  static String buildMessage(IngestionRun.Status status, int skippedRows, int parseErrors) {
+    if (status == IngestionRun.Status.SUCCESS) {
+      return null;
+    }
+    if (status == IngestionRun.Status.FAILED) {
+      return "ingestion_failed";
+    }
+    return String.format("parse_errors=%d,skipped=%d", parseErrors, skippedRows);
+  }
+
+  static int orZero(Integer value) {
+    return value == null ? 0 : value;
+  }
+
+  private IngestionRun load(UUID runId) {
+    return ingestionRunRepository
+        .findById(runId)
+        .orElseThrow(() -> new IllegalArgumentException("Unknown ingestion run: " + runId));
+  }
+}
@@ -0,0 +1,92 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fortnite.pronos.model.Player;
+
+/**
+ * Identity map shared by every region of one multi-region ingestion run, so a nickname that shows
+ * up in a regional file and in GLOBAL is looked up in the database only once.
+ *
+ * <p>Keys are nicknames exactly as {@code PlayerRepositoryPort.findByNickname} matches them: two
+ * spellings the repository treats as different players stay different here. Not thread-safe;
+ * regions are ingested one at a time on the orchestrator thread.
+ */
+public final class PrIngestionRunScope {
+
+  private final Map<String, Player> players = new HashMap<>();
+
+  /** Number of players known to the run so far. */
+  public int size() {
+    return players.size();
+  }
+
+  /**
+   * Opens the view used by one region. With {@code deferUntilCommit}, players the region touches
+   * only become visible to later regions through {@link RegionSession#commit()}; {@link
+   * RegionSession#discard()} forgets them so a rolled back region cannot leak unsaved state.
+   */
+  RegionSession openRegion(boolean deferUntilCommit) {
+    return new RegionSession(deferUntilCommit);
+  }
+
+  record NewPlayer(UUID id, String nickname, Player.Region region) {}
+
+  /** Players and pending alias/identity writes of a single region. */
+  final class RegionSession {
+    private final boolean deferUntilCommit;
+    private final Map<String, Player> staged = new HashMap<>();
+    private final List<NewPlayer> newPlayers = new ArrayList<>();
+
+    private RegionSession(boolean deferUntilCommit) {
+      this.deferUntilCommit = deferUntilCommit;
+    }
+
+    /** The player already resolved for {@code nickname} in this run, or {@code null}. */
+    Player find(String nickname) {
+      Player player = staged.get(nickname);
+      if (player == null) {
+        player = players.get(nickname);
+        if (player != null && deferUntilCommit) {
+          // It may be updated in place by this region: forget it too if the region rolls back.
+          staged.put(nickname, player);
+        }
+      }
+      return player;
+    }
+
+    void remember(Player player) {
+      if (deferUntilCommit) {
+        staged.put(player.getNickname(), player);
+      } else {
+        players.put(player.getNickname(), player);
+      }
+    }
+
+    /** Queues the alias and identity-resolution rows of a player created by this region. */
+    void queueNewPlayer(UUID playerId, String nickname, Player.Region region) {
+      newPlayers.add(new NewPlayer(playerId, nickname, region));
+    }
+
+    /** Returns and clears the players queued since the previous call. */
+    List<NewPlayer> drainNewPlayers() {
+      List<NewPlayer> drained = List.copyOf(newPlayers);
+      newPlayers.clear();
+      return drained;
+    }
+
+    void commit() {
+      players.putAll(staged);
+      staged.clear();
+    }
+
+    void discard() {
+      players.keySet().removeAll(staged.keySet());
+      staged.clear();
+    }
+  }
+}
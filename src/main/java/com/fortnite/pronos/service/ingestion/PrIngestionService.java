@@ -1,11 +1,30 @@
 package com.fortnite.pronos.service.ingestion;
 
 import java.io.Reader;
-import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fortnite.pronos.model.PrRegion;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +39,12 @@ public class PrIngestionService {
   private static final int DEFAULT_SEASON = 2025;
 
   private final PrCsvParser parser;
-  private final PrIngestionRowProcessor rowProcessor;
-  private final com.fortnite.pronos.repository.IngestionRunRepository ingestionRunRepository;
+  private final PrIngestionBulkRowProcessor bulkRowProcessor;
+  private final PrIngestionRunLedger runLedger;
+  private final PrIngestionProperties properties;
+  private final PrRowFingerprintStore fingerprintStore;
+  private final PlatformTransactionManager transactionManager;
+  private final ApplicationEventPublisher eventPublisher;
 
   public PrIngestionResult ingest(Reader reader) {
     return ingest(reader, PrIngestionConfig.defaults());
@@ -31,34 +54,49 @@ public class PrIngestionService {
     Objects.requireNonNull(reader, "reader");
     PrIngestionConfig safeConfig = config == null ? PrIngestionConfig.defaults() : config;
     log.info(
-        "PR ingestion start: source={}, season={}, writeScores={}",
+        "PR ingestion start: source={}, season={}, writeScores={}, bulkWrites={}, incremental={}",
         safeConfig.source(),
         safeConfig.season(),
-        safeConfig.writeScores());
+        safeConfig.writeScores(),
+        safeConfig.bulkWrites(),
+        properties.isIncremental());
 
-    com.fortnite.pronos.model.IngestionRun run = startRun(safeConfig.source());
-    PrCsvParser.ParseResult parseResult = parser.parse(reader);
+    com.fortnite.pronos.model.IngestionRun run = runLedger.start(safeConfig.source(), null);
+    ChunkedPersistence persistence =
+        new ChunkedPersistence(safeConfig, run, openSession(safeConfig));
+    PrCsvParser.StreamSummary summary =
+        parser.parseInChunks(reader, properties.getChunkSize(), persistence::persist);
+    bulkRowProcessor.flushNewPlayers(persistence.session);
 
-    if (parseResult.failureReason() != null) {
+    if (summary.failureReason() != null) {
       log.warn(
-          "PR ingestion failed: runId={}, reason={}, parseErrors={}",
+          "PR ingestion failed: runId={}, reason={}, parseErrors={}, rowsBeforeFailure={}",
           run.getId(),
-          parseResult.failureReason(),
-          parseResult.errorCount());
-      return failRun(run, parseResult.failureReason(), parseResult.errorCount());
+          summary.failureReason(),
+          summary.errorCount(),
+          summary.rowCount());
+      // Only kept when the rows behind them are (see failRun).
+      recordFingerprintsAfterCommit(persistence.writtenFingerprints);
+      return failRun(run, summary.failureReason(), summary.errorCount(), persistence);
     }
 
     log.debug(
-        "PR parsing ok: rows={}, errors={}", parseResult.rows().size(), parseResult.errorCount());
-    PrIngestionCounters counters = rowProcessor.persistRows(parseResult.rows(), safeConfig, run);
+        "PR parsing ok: rows={}, chunks={}, errors={}",
+        summary.rowCount(),
+        persistence.chunks,
+        summary.errorCount());
+    PrIngestionCounters counters = persistence.counters;
     com.fortnite.pronos.model.IngestionRun.Status status =
-        resolveStatus(counters, parseResult.errorCount());
-    String message = buildMessage(status, counters, parseResult.errorCount());
-    finishRun(run, status, counters.snapshotsWritten(), message);
+        PrIngestionRunLedger.resolveStatus(counters.skippedRows(), summary.errorCount());
+    String message =
+        PrIngestionRunLedger.buildMessage(status, counters.skippedRows(), summary.errorCount());
+    runLedger.finish(run, status, counters.snapshotsWritten(), message);
+    recordFingerprintsAfterCommit(persistence.writtenFingerprints);
+    publishCompleted(run, counters.snapshotsWritten());
 
     log.info(
         "PR ingestion end: runId={}, status={}, playersCreated={}, playersUpdated={}, "
-            + "snapshots={}, scores={}, skipped={}, parseErrors={}",
+            + "snapshots={}, scores={}, skipped={}, unchanged={}, parseErrors={}",
         run.getId(),
         status,
         counters.playersCreated(),
@@ -66,61 +104,233 @@ public class PrIngestionService {
         counters.snapshotsWritten(),
         counters.scoresWritten(),
         counters.skippedRows(),
-        parseResult.errorCount());
-    return buildResult(run, status, counters, parseResult.errorCount());
+        counters.unchangedRows(),
+        summary.errorCount());
+    return buildResult(run, status, counters, summary.errorCount());
   }
 
-  private com.fortnite.pronos.model.IngestionRun startRun(String source) {
-    com.fortnite.pronos.model.IngestionRun run = new com.fortnite.pronos.model.IngestionRun();
-    run.setSource(source);
-    run.setStatus(com.fortnite.pronos.model.IngestionRun.Status.RUNNING);
-    return ingestionRunRepository.save(run);
+  /**
+   * Like {@link #ingest(Reader, PrIngestionConfig)}, but each chunk is written in its own
+   * transaction together with the run's checkpoint. A failure keeps the chunks committed before it
+   * and leaves the run FAILED, ready for {@link #resume}.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PrIngestionResult ingestCheckpointed(Reader reader, PrIngestionConfig config) {
+    return ingestCheckpointed(reader, config, null);
   }
 
-  private PrIngestionResult failRun(
-      com.fortnite.pronos.model.IngestionRun run, String reason, int parseErrors) {
-    String message = "parse_failed:" + reason;
-    finishRun(run, com.fortnite.pronos.model.IngestionRun.Status.FAILED, 0, message);
-    return buildResult(
-        run,
-        com.fortnite.pronos.model.IngestionRun.Status.FAILED,
-        PrIngestionCounters.empty(),
-        parseErrors);
+  /**
+   * Like {@link #ingestCheckpointed(Reader, PrIngestionConfig)}, recording {@code csvSha256} on the
+   * run so that {@link #resume(UUID, Reader, PrIngestionConfig, String)} can check it replays the
+   * same CSV.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PrIngestionResult ingestCheckpointed(
+      Reader reader, PrIngestionConfig config, String csvSha256) {
+    Objects.requireNonNull(reader, "reader");
+    PrIngestionConfig safeConfig = config == null ? PrIngestionConfig.defaults() : config;
+    com.fortnite.pronos.model.IngestionRun run =
+        inNewTransaction(() -> runLedger.start(safeConfig.source(), csvSha256));
+    log.info(
+        "PR checkpointed ingestion start: runId={}, source={}, chunkSize={}",
+        run.getId(),
+        safeConfig.source(),
+        properties.getChunkSize());
+    return runCheckpointed(run, reader, safeConfig);
+  }
+
+  /**
+   * Continues a checkpointed run that failed or was interrupted while RUNNING. {@code reader} must
+   * yield the same CSV as the first attempt: rows covered by committed chunks are not written
+   * again. The returned counters cover this attempt only; the run row holds the totals.
+   *
+   * @throws IllegalArgumentException if the run is unknown or was started for another source
+   * @throws IllegalStateException if the run already finished successfully or partially, or
+   *     recorded the hash of its CSV
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PrIngestionResult resume(UUID runId, Reader reader, PrIngestionConfig config) {
+    return resume(runId, reader, config, null);
+  }
+
+  /**
+   * Like {@link #resume(UUID, Reader, PrIngestionConfig)}, but refuses the resume unless {@code
+   * csvSha256} matches the hash the run recorded when it started.
+   *
+   * @throws IllegalStateException if the run recorded another CSV hash, or none while one is given
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PrIngestionResult resume(
+      UUID runId, Reader reader, PrIngestionConfig config, String csvSha256) {
+    Objects.requireNonNull(reader, "reader");
+    PrIngestionConfig safeConfig = config == null ? PrIngestionConfig.defaults() : config;
+    com.fortnite.pronos.model.IngestionRun run =
+        inNewTransaction(() -> runLedger.reopen(runId, safeConfig.source(), csvSha256));
+    log.info(
+        "PR ingestion resume: runId={}, committedChunks={}, committedRows={}",
+        runId,
+        PrIngestionRunLedger.orZero(run.getCommittedChunks()),
+        PrIngestionRunLedger.orZero(run.getCommittedRows()));
+    return runCheckpointed(run, reader, safeConfig);
+  }
+
+  private PrIngestionResult runCheckpointed(
+      com.fortnite.pronos.model.IngestionRun run, Reader reader, PrIngestionConfig config) {
+    PrIngestionRunScope scope =
+        config.runScope() != null ? config.runScope() : new PrIngestionRunScope();
+    ChunkedPersistence persistence = new ChunkedPersistence(config, run, scope.openRegion(true));
+    persistence.resumeAfter(PrIngestionRunLedger.orZero(run.getCommittedRows()));
+    UUID runId = run.getId();
+    PrCsvParser.StreamSummary summary;
+    try {
+      summary = parser.parseInChunks(reader, properties.getChunkSize(), persistence::persist);
+    } catch (RuntimeException exception) {
+      log.warn(
+          "PR ingestion chunk failed: runId={}, chunksCommittedThisAttempt={}",
+          runId,
+          persistence.chunks,
+          exception);
+      try {
+        inNewTransaction(
+            () -> runLedger.close(runId, null, "chunk_failed:" + exception.getMessage()));
+      } catch (RuntimeException closeFailure) {
+        // Still RUNNING, which resume accepts as well.
+        exception.addSuppressed(closeFailure);
+      }
+      throw exception;
+    }
+
+    if (summary.failureReason() != null) {
+      log.warn(
+          "PR ingestion failed: runId={}, reason={}, parseErrors={}",
+          runId,
+          summary.failureReason(),
+          summary.errorCount());
+      inNewTransaction(
+          () -> runLedger.close(runId, null, "parse_failed:" + summary.failureReason()));
+      return buildResult(
+          run,
+          com.fortnite.pronos.model.IngestionRun.Status.FAILED,
+          persistence.counters,
+          summary.errorCount());
+    }
+    com.fortnite.pronos.model.IngestionRun closed =
+        inNewTransaction(() -> runLedger.close(runId, summary.errorCount(), null));
+    log.info(
+        "PR checkpointed ingestion end: runId={}, status={}, committedChunks={}, snapshots={}",
+        runId,
+        closed.getStatus(),
+        closed.getCommittedChunks(),
+        closed.getTotalRowsWritten());
+    publishCompleted(closed, PrIngestionRunLedger.orZero(closed.getTotalRowsWritten()));
+    return buildResult(run, closed.getStatus(), persistence.counters, summary.errorCount());
   }
 
-  private com.fortnite.pronos.model.IngestionRun.Status resolveStatus(
-      PrIngestionCounters counters, int parseErrors) {
-    if (parseErrors > 0 || counters.skippedRows() > 0) {
-      return com.fortnite.pronos.model.IngestionRun.Status.PARTIAL;
+  /** Runs {@code work} in a transaction of its own, committed when it returns. */
+  private <T> T inNewTransaction(Supplier<T> work) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return template.execute(status -> work.get());
+  }
+
+  /**
+   * Opens this region's view of the run scope (a private one when ingesting a single file). Inside
+   * a transaction, the players it resolves are shared with later regions only after commit; on
+   * rollback they are evicted, since they may hold updates that never reached the database.
+   */
+  private PrIngestionRunScope.RegionSession openSession(PrIngestionConfig config) {
+    PrIngestionRunScope scope =
+        config.runScope() != null ? config.runScope() : new PrIngestionRunScope();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return scope.openRegion(false);
     }
-    return com.fortnite.pronos.model.IngestionRun.Status.SUCCESS;
+    PrIngestionRunScope.RegionSession session = scope.openRegion(true);
+    bindToTransaction(session);
+    return session;
   }
 
-  private String buildMessage(
-      com.fortnite.pronos.model.IngestionRun.Status status,
-      PrIngestionCounters counters,
-      int parseErrors) {
-    if (status == com.fortnite.pronos.model.IngestionRun.Status.SUCCESS) {
-      return null;
+  /**
+   * Commits or discards what {@code session} staged when the current transaction completes. Returns
+   * false, registering nothing, when no transaction synchronization is active.
+   */
+  private boolean bindToTransaction(PrIngestionRunScope.RegionSession session) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return false;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              session.commit();
+            } else {
+              session.discard();
+            }
+          }
+        });
+    return true;
+  }
+
+  /**
+   * Fingerprints only become the new baseline once the rows behind them are committed; a rolled
+   * back run leaves the previous baseline in place.
+   */
+  private void recordFingerprintsAfterCommit(
+      Map<String, PrRowFingerprintStore.Fingerprint> written) {
+    if (written.isEmpty()) {
+      return;
     }
-    if (status == com.fortnite.pronos.model.IngestionRun.Status.FAILED) {
-      return "ingestion_failed";
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      fingerprintStore.recordAll(written);
+      return;
     }
-    return String.format("parse_errors=%d,skipped=%d", parseErrors, counters.skippedRows());
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            fingerprintStore.recordAll(written);
+          }
+        });
   }
 
-  private void finishRun(
+  /**
+   * Ends a run whose CSV could not be read to the end. When chunks were already written inside a
+   * transaction, they are rolled back with it and the run is recorded FAILED in a transaction of
+   * its own, with nothing written. Without one, those chunks stay written and the run reports them.
+   */
+  private PrIngestionResult failRun(
       com.fortnite.pronos.model.IngestionRun run,
-      com.fortnite.pronos.model.IngestionRun.Status status,
-      int totalRows,
-      String errorMessage) {
-    run.setStatus(status);
-    run.setFinishedAt(OffsetDateTime.now());
-    run.setTotalRowsWritten(totalRows);
-    if (errorMessage != null && !errorMessage.isBlank()) {
-      run.setErrorMessage(errorMessage);
+      String reason,
+      int parseErrors,
+      ChunkedPersistence persistence) {
+    String message = "parse_failed:" + reason;
+    com.fortnite.pronos.model.IngestionRun.Status failed =
+        com.fortnite.pronos.model.IngestionRun.Status.FAILED;
+    if (persistence.chunks > 0 && markRollbackOnly()) {
+      com.fortnite.pronos.model.IngestionRun failedRun =
+          inNewTransaction(() -> runLedger.recordFailed(run, message));
+      return buildResult(failedRun, failed, PrIngestionCounters.empty(), parseErrors);
+    }
+    runLedger.finish(run, failed, persistence.counters.snapshotsWritten(), message);
+    return buildResult(run, failed, persistence.counters, parseErrors);
+  }
+
+  /** Marks the transaction this call runs in for rollback; false when there is none. */
+  private static boolean markRollbackOnly() {
+    try {
+      TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+      return true;
+    } catch (NoTransactionException e) {
+      return false;
+    }
+  }
+
+  /** Lets the intraday delta pipeline pick up the players this run wrote. */
+  private void publishCompleted(com.fortnite.pronos.model.IngestionRun run, int snapshotsWritten) {
+    if (snapshotsWritten > 0) {
+      eventPublisher.publishEvent(
+          new PrIngestionCompletedEvent(run.getId(), run.getSource(), snapshotsWritten));
     }
-    ingestionRunRepository.save(run);
   }
 
   private PrIngestionResult buildResult(
@@ -136,10 +346,148 @@ public class PrIngestionService {
         counters.snapshotsWritten(),
         counters.scoresWritten(),
         counters.skippedRows(),
-        parseErrors);
+        parseErrors,
+        counters.unchangedRows());
   }
 
-  public record PrIngestionConfig(String source, int season, boolean writeScores) {
+  /**
+   * Feeds each parsed chunk to the configured row processor and accumulates its counters. In
+   * incremental mode, rows whose fingerprint matches the previous run are dropped before they reach
+   * the processor. In checkpointed mode each chunk is committed on its own, after skipping the rows
+   * a previous attempt of the run already committed.
+   */
+  private final class ChunkedPersistence {
+    private final PrIngestionConfig config;
+    private final com.fortnite.pronos.model.IngestionRun run;
+    private final PrIngestionRunScope.RegionSession session;
+    private final Map<String, PrRowFingerprintStore.Fingerprint> writtenFingerprints =
+        new HashMap<>();
+    private PrIngestionCounters counters = PrIngestionCounters.empty();
+    private int chunks;
+    private boolean checkpointed;
+    private int rowsToSkip;
+
+    private ChunkedPersistence(
+        PrIngestionConfig config,
+        com.fortnite.pronos.model.IngestionRun run,
+        PrIngestionRunScope.RegionSession session) {
+      this.config = config;
+      this.run = run;
+      this.session = session;
+    }
+
+    private void resumeAfter(int committedRows) {
+      checkpointed = true;
+      rowsToSkip = committedRows;
+    }
+
+    private void persist(List<PrCsvParser.PrCsvRow> chunk) {
+      if (!checkpointed) {
+        write(chunk);
+        return;
+      }
+      int alreadyCommitted = Math.min(rowsToSkip, chunk.size());
+      rowsToSkip -= alreadyCommitted;
+      List<PrCsvParser.PrCsvRow> pending = chunk.subList(alreadyCommitted, chunk.size());
+      if (!pending.isEmpty()) {
+        inNewTransaction(() -> writeAndCheckpoint(pending));
+      }
+    }
+
+    private Void writeAndCheckpoint(List<PrCsvParser.PrCsvRow> rows) {
+      boolean bound = bindToTransaction(session);
+      PrIngestionCounters before = counters;
+      write(rows);
+      bulkRowProcessor.flushNewPlayers(session);
+      recordFingerprintsAfterCommit(Map.copyOf(writtenFingerprints));
+      writtenFingerprints.clear();
+      runLedger.checkpoint(
+          run.getId(),
+          rows.size(),
+          counters.snapshotsWritten() - before.snapshotsWritten(),
+          counters.skippedRows() - before.skippedRows());
+      if (!bound) {
+        session.commit();
+      }
+      return null;
+    }
+
+    private void write(List<PrCsvParser.PrCsvRow> chunk) {
+      List<PrCsvParser.PrCsvRow> rows = properties.isIncremental() ? changedRows(chunk) : chunk;
+      if (!rows.isEmpty()) {
+        PrIngestionCounters chunkCounters = bulkRowProcessor.persist(rows, config, run, session);
+        counters = counters.plus(chunkCounters);
+        if (chunkCounters.scoresWritten() > 0) {
+          eventPublisher.publishEvent(CacheChangeEvent.ScoresChanged.wholeSeason(config.season()));
+        }
+        if (chunkCounters.playersCreated() + chunkCounters.playersUpdated() > 0) {
+          eventPublisher.publishEvent(new CacheChangeEvent.PlayersChanged(playerRegions(rows)));
+        }
+      }
+      chunks++;
+    }
+
+    /** Player regions of {@code rows}; empty (any region) once a GLOBAL row is among them. */
+    private Set<String> playerRegions(List<PrCsvParser.PrCsvRow> rows) {
+      Set<String> regions = new HashSet<>();
+      for (PrCsvParser.PrCsvRow row : rows) {
+        PrRegion prRegion = PrIngestionRowProcessor.toRegion(row.region());
+        if (prRegion == PrRegion.GLOBAL) {
+          return Set.of();
+        }
+        com.fortnite.pronos.model.Player.Region region =
+            prRegion == null ? null : PrIngestionRowProcessor.toPlayerRegion(prRegion);
+        if (region != null) {
+          regions.add(region.name());
+        }
+      }
+      return regions;
+    }
+
+    private List<PrCsvParser.PrCsvRow> changedRows(List<PrCsvParser.PrCsvRow> chunk) {
+      List<PrCsvParser.PrCsvRow> changed = new ArrayList<>(chunk.size());
+      int unchanged = 0;
+      for (PrCsvParser.PrCsvRow row : chunk) {
+        if (!PrIngestionRowProcessor.isIngestibleRegion(row.region())) {
+          // Let the processor reject it so it keeps counting as skipped.
+          changed.add(row);
+          continue;
+        }
+        String key = PrRowFingerprintStore.key(row);
+        PrRowFingerprintStore.Fingerprint fingerprint =
+            PrRowFingerprintStore.fingerprint(row, config);
+        if (fingerprintStore.isUnchanged(key, fingerprint)) {
+          unchanged++;
+        } else {
+          changed.add(row);
+          writtenFingerprints.put(key, fingerprint);
+        }
+      }
+      counters = counters.plus(new PrIngestionCounters(0, 0, 0, 0, 0, unchanged));
+      return changed;
+    }
+  }
+
+  /**
+   * @param bulkWrites when true, rows are resolved in memory and written through set-based upserts
+   *     instead of one lookup/save cycle per row
+   * @param runScope players already resolved by earlier regions of the same run; {@code null} for a
+   *     standalone ingestion
+   */
+  public record PrIngestionConfig(
+      String source,
+      int season,
+      boolean writeScores,
+      boolean bulkWrites,
+      PrIngestionRunScope runScope) {
+    public PrIngestionConfig(String source, int season, boolean writeScores) {
+      this(source, season, writeScores, false);
+    }
+
+    public PrIngestionConfig(String source, int season, boolean writeScores, boolean bulkWrites) {
+      this(source, season, writeScores, bulkWrites, null);
+    }
+
     public static PrIngestionConfig defaults() {
       return new PrIngestionConfig(DEFAULT_SOURCE, DEFAULT_SEASON, true);
     }
@@ -153,5 +501,27 @@ public class PrIngestionService {
       int snapshotsWritten,
       int scoresWritten,
       int skippedRows,
-      int parseErrors) {}
+      int parseErrors,
+      int unchangedRows) {
+    public PrIngestionResult(
+        java.util.UUID runId,
+        com.fortnite.pronos.model.IngestionRun.Status status,
+        int playersCreated,
+        int playersUpdated,
+        int snapshotsWritten,
+        int scoresWritten,
+        int skippedRows,
+        int parseErrors) {
+      this(
+          runId,
+          status,
+          playersCreated,
+          playersUpdated,
+          snapshotsWritten,
+          scoresWritten,
+          skippedRows,
+          parseErrors,
+          0);
+    }
+  }
 }
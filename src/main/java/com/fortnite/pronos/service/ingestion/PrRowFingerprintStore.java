@@ -0,0 +1,43 @@
+package com.fortnite.pronos.service.ingestion;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Fingerprints of the rows persisted by previous PR ingestion runs, keyed by {@code (region,
+ * nickname)}.
+ *
+ * <p>A fingerprint holds everything a row writes apart from its date: points, rank (the tranche is
+ * derived from it), season and whether scores were written. Kept in memory only — after a restart
+ * the store is empty and the first incremental run simply rewrites every row.
+ */
+@Component
+class PrRowFingerprintStore {
+
+  private final Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+  boolean isUnchanged(String key, Fingerprint fingerprint) {
+    return fingerprint.equals(fingerprints.get(key));
+  }
+
+  void recordAll(Map<String, Fingerprint> written) {
+    fingerprints.putAll(written);
+  }
+
+  int size() {
+    return fingerprints.size();
+  }
+
+  static String key(PrCsvParser.PrCsvRow row) {
+    return row.region() + '|' + row.nickname();
+  }
+
+  static Fingerprint fingerprint(
+      PrCsvParser.PrCsvRow row, PrIngestionService.PrIngestionConfig config) {
+    return new Fingerprint(row.points(), row.rank(), config.season(), config.writeScores());
+  }
+
+  record Fingerprint(int points, int rank, int season, boolean writeScores) {}
+}
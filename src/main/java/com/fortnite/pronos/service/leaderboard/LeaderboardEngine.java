@@ -0,0 +1,247 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.Team;
+import com.fortnite.pronos.model.TeamPlayer;
+import com.fortnite.pronos.repository.ScoreRepository;
+import com.fortnite.pronos.repository.TeamRepository;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
+import com.fortnite.pronos.service.cache.CacheInvalidator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds team, player and pronostiqueur standings in memory, per season and per game, so that a
+ * leaderboard read is a lookup instead of a full recompute. Score and roster changes are applied as
+ * deltas once their transaction commits; each costs O(log n) per ranking it moves.
+ *
+ * <p>Writers that cannot express their change as a delta (an ingestion run rewriting a whole
+ * season, a team created or edited) drop the affected standings instead, and standings older than
+ * {@code leaderboard.engine.max-age-minutes} are rebuilt to pick up writes nobody reported.
+ */
+@Component
+@Slf4j
+public class LeaderboardEngine {
+
+  /** Season of the standings of a game without teams, which are empty and never kept. */
+  private static final int NO_SEASON = 0;
+
+  private final Clock clock;
+  private final Duration maxAge;
+  private final Map<Integer, Loaded> seasons = new ConcurrentHashMap<>();
+  private final Map<UUID, Loaded> games = new ConcurrentHashMap<>();
+
+  /** Bumped by every applied change, so a load that raced with one is not kept. */
+  private final AtomicLong changes = new AtomicLong();
+
+  @Autowired
+  public LeaderboardEngine(LeaderboardEngineProperties properties) {
+    this(Clock.systemUTC(), Duration.ofMinutes(properties.getMaxAgeMinutes()));
+  }
+
+  LeaderboardEngine(Clock clock, Duration maxAge) {
+    this.clock = clock;
+    this.maxAge = maxAge;
+  }
+
+  /** Standings of every team of {@code season}, loaded from the repositories when missing. */
+  LeaderboardStandings season(
+      int season, TeamRepository teamRepository, ScoreRepository scoreRepository) {
+    return standings(
+        seasons,
+        season,
+        () ->
+            new LeaderboardStandings(
+                season,
+                teamRepository.findBySeasonWithFetch(season),
+                PlayerPointsMap.of(scoreRepository.findSeasonPoints(season))));
+  }
+
+  /**
+   * Standings of the teams of {@code gameId}, scored with the season those teams play and the
+   * points of their rostered players only. Games without teams have no season; they are not kept,
+   * so the first draft shows up on the next read.
+   */
+  LeaderboardStandings game(
+      UUID gameId, TeamRepository teamRepository, ScoreRepository scoreRepository) {
+    return standings(
+        games,
+        gameId,
+        () -> {
+          List<Team> teams = teamRepository.findByGameIdWithFetch(gameId);
+          int season = gameSeason(teams, NO_SEASON);
+          Set<UUID> playerIds = activePlayerIds(teams);
+          return new LeaderboardStandings(
+              season,
+              teams,
+              playerIds.isEmpty()
+                  ? new PlayerPointsMap(0)
+                  : PlayerPointsMap.of(scoreRepository.findSeasonPointsOf(season, playerIds)));
+        });
+  }
+
+  /** The season the teams of a game play, {@code fallbackSeason} when none records one. */
+  static int gameSeason(List<Team> teams, int fallbackSeason) {
+    for (Team team : teams) {
+      if (team.getSeason() != null) {
+        return team.getSeason();
+      }
+    }
+    return fallbackSeason;
+  }
+
+  /** Players on the active rosters of {@code teams}. */
+  static Set<UUID> activePlayerIds(List<Team> teams) {
+    Set<UUID> playerIds = new HashSet<>();
+    for (Team team : teams) {
+      for (TeamPlayer teamPlayer : team.getPlayers()) {
+        if (teamPlayer.isActive()) {
+          playerIds.add(teamPlayer.getPlayer().getId());
+        }
+      }
+    }
+    return playerIds;
+  }
+
+  /**
+   * Records that the {@code season} total of {@code playerId} moved by {@code delta}. Applied after
+   * the current transaction commits, or immediately outside one.
+   */
+  public void playerPointsChanged(int season, UUID playerId, int delta) {
+    if (delta == 0) {
+      return;
+    }
+    afterCommit(
+        () ->
+            forEachLoaded(
+                standings -> {
+                  if (standings.season() == season) {
+                    standings.addPlayerPoints(playerId, delta);
+                  }
+                }));
+  }
+
+  /**
+   * Records that {@code removed} left and {@code added} joined the active roster of a team. Season
+   * standings move by the players' points; game standings holding the team only know the points of
+   * their own rosters, so they are dropped and rebuilt on the next read.
+   */
+  public void rosterChanged(UUID teamId, List<Player> removed, List<Player> added) {
+    List<Player> leaving = List.copyOf(removed);
+    List<Player> joining = List.copyOf(added);
+    afterCommit(
+        () -> {
+          changes.incrementAndGet();
+          seasons
+              .values()
+              .forEach(loaded -> loaded.standings().changeRoster(teamId, leaving, joining));
+          dropGamesHolding(Set.of(teamId));
+        });
+  }
+
+  /**
+   * Drops the standings of the season of a team that was created, edited, deleted or re-rostered,
+   * and the game standings holding it. Runs ahead of {@link CacheInvalidator}, so a leaderboard it
+   * evicts for the same event is not refilled from the old standings. The season is kept when the
+   * writer already applied the change through {@link #rosterChanged}.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTeamsChanged(CacheChangeEvent.TeamsChanged event) {
+    if (!event.rostersApplied()) {
+      dropSeason(event.season());
+    }
+    dropGamesHolding(event.teamIds());
+  }
+
+  /**
+   * Drops every standings scored with {@code season}, for writers that replace many totals at once;
+   * they are rebuilt on the next read.
+   */
+  public void seasonScoresReplaced(int season) {
+    afterCommit(() -> dropSeason(season));
+  }
+
+  /**
+   * Same as {@link #seasonScoresReplaced} for a published whole-season change. Events naming their
+   * players are left alone: their writer reports the same change through {@link
+   * #playerPointsChanged} or {@link #seasonScoresReplaced}, which the event cannot express.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScoresChanged(CacheChangeEvent.ScoresChanged event) {
+    if (event.playerIds().isEmpty()) {
+      dropSeason(event.season());
+    }
+  }
+
+  private <K> LeaderboardStandings standings(
+      Map<K, Loaded> cache, K key, Supplier<LeaderboardStandings> loader) {
+    Instant now = clock.instant();
+    Loaded loaded = cache.get(key);
+    if (loaded != null && loaded.loadedAt().plus(maxAge).isAfter(now)) {
+      return loaded.standings();
+    }
+    long changesBeforeLoad = changes.get();
+    LeaderboardStandings standings = loader.get();
+    if (!standings.isEmpty() && changes.get() == changesBeforeLoad) {
+      cache.put(key, new Loaded(standings, now));
+      log.debug("Leaderboard standings loaded for {}", key);
+    }
+    return standings;
+  }
+
+  private void dropSeason(int season) {
+    changes.incrementAndGet();
+    seasons.remove(season);
+    games.values().removeIf(loaded -> loaded.standings().season() == season);
+    log.debug("Leaderboard standings of season {} dropped", season);
+  }
+
+  private void dropGamesHolding(Set<UUID> teamIds) {
+    games.values().removeIf(loaded -> teamIds.stream().anyMatch(loaded.standings()::containsTeam));
+  }
+
+  private void forEachLoaded(Consumer<LeaderboardStandings> change) {
+    changes.incrementAndGet();
+    seasons.values().forEach(loaded -> change.accept(loaded.standings()));
+    games.values().forEach(loaded -> change.accept(loaded.standings()));
+  }
+
+  private static void afterCommit(Runnable change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            change.run();
+          }
+        });
+  }
+
+  private record Loaded(LeaderboardStandings standings, Instant loadedAt) {}
+}
@@ -0,0 +1,24 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Tuning knobs for the in-memory leaderboard engine ({@code leaderboard.engine.*}). */
+@Component
+@ConfigurationProperties(prefix = "leaderboard.engine")
+public class LeaderboardEngineProperties {
+
+  /**
+   * Age after which standings are rebuilt from the database, to pick up roster writes (drafts,
+   * admin edits) that do not report deltas to the engine.
+   */
+  private long maxAgeMinutes = 10L;
+
+  public long getMaxAgeMinutes() {
+    return maxAgeMinutes;
+  }
+
+  public void setMaxAgeMinutes(long maxAgeMinutes) {
+    this.maxAgeMinutes = maxAgeMinutes;
+  }
+}
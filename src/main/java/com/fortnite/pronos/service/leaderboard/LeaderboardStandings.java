@@ -0,0 +1,312 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+import com.fortnite.pronos.dto.PlayerLeaderboardEntryDTO;
+import com.fortnite.pronos.dto.PronostiqueurLeaderboardEntryDTO;
+import com.fortnite.pronos.dto.leaderboard.TeamInfoDto;
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.Team;
+import com.fortnite.pronos.model.TeamPlayer;
+
+/**
+ * Team, pronostiqueur and player standings of one season (or one game), built once from the
+ * database and then kept current by score and roster deltas instead of being recomputed.
+ *
+ * <p>Every method locks the instance. Reads copy into fresh DTOs, so callers may modify them.
+ */
+final class LeaderboardStandings {
+
+  private final int season;
+  private final PlayerPointsMap points;
+  private final Map<UUID, TeamCard> teams = new LinkedHashMap<>();
+  private final Map<UUID, Set<UUID>> teamsByPlayer = new HashMap<>();
+  private final Map<UUID, List<UUID>> teamsByOwner = new LinkedHashMap<>();
+  private final RankedStandings teamRanking = new RankedStandings();
+  private final RankedStandings ownerRanking = new RankedStandings();
+  private Map<UUID, PlayerCard> rankedPlayers;
+  private RankedStandings playerRanking;
+
+  /**
+   * @param season season whose scores {@code points} holds; deltas of other seasons are ignored
+   * @param points season total per player; owned by these standings from now on
+   */
+  LeaderboardStandings(int season, List<Team> seasonTeams, PlayerPointsMap points) {
+    this.season = season;
+    this.points = points;
+    for (Team team : seasonTeams) {
+      TeamCard card = new TeamCard(team);
+      for (TeamPlayer teamPlayer : team.getPlayers()) {
+        if (teamPlayer.isActive()) {
+          card.roster.putIfAbsent(teamPlayer.getPlayer().getId(), PlayerCard.of(teamPlayer));
+        }
+      }
+      teams.put(card.id, card);
+      long total = 0;
+      for (UUID playerId : card.roster.keySet()) {
+        teamsByPlayer.computeIfAbsent(playerId, id -> new LinkedHashSet<>()).add(card.id);
+        total += pointsOf(playerId);
+      }
+      teamRanking.put(card.id, total);
+      if (card.ownerId != null) {
+        teamsByOwner.computeIfAbsent(card.ownerId, id -> new ArrayList<>()).add(card.id);
+        ownerRanking.add(card.ownerId, total);
+      }
+    }
+  }
+
+  int season() {
+    return season;
+  }
+
+  synchronized boolean isEmpty() {
+    return teams.isEmpty();
+  }
+
+  synchronized boolean containsTeam(UUID teamId) {
+    return teams.containsKey(teamId);
+  }
+
+  /** Players currently on a roster of these standings. */
+  synchronized Set<UUID> rosterPlayerIds() {
+    return new LinkedHashSet<>(teamsByPlayer.keySet());
+  }
+
+  /**
+   * Ranks {@code players} the first time player standings are asked for; later calls keep the
+   * existing ranking and do not invoke {@code players}.
+   */
+  synchronized void rankPlayers(Supplier<? extends Collection<Player>> players) {
+    if (playerRanking != null) {
+      return;
+    }
+    Map<UUID, PlayerCard> cards = new LinkedHashMap<>();
+    RankedStandings ranking = new RankedStandings();
+    for (Player player : players.get()) {
+      cards.put(player.getId(), PlayerCard.of(player));
+      ranking.put(player.getId(), pointsOf(player.getId()));
+    }
+    rankedPlayers = cards;
+    playerRanking = ranking;
+  }
+
+  /** Moves the player, then every team and owner it counts for, by {@code delta} points. */
+  synchronized void addPlayerPoints(UUID playerId, int delta) {
+    points.add(playerId, delta);
+    for (UUID teamId : teamsByPlayer.getOrDefault(playerId, Set.of())) {
+      addTeamPoints(teams.get(teamId), delta);
+    }
+    if (playerRanking != null && rankedPlayers.containsKey(playerId)) {
+      playerRanking.add(playerId, delta);
+    }
+  }
+
+  /** Applies a roster change of {@code teamId}; a team these standings do not hold is ignored. */
+  synchronized void changeRoster(UUID teamId, List<Player> removed, List<Player> added) {
+    TeamCard card = teams.get(teamId);
+    if (card == null) {
+      return;
+    }
+    for (Player player : removed) {
+      if (card.roster.remove(player.getId()) != null) {
+        Set<UUID> playerTeams = teamsByPlayer.get(player.getId());
+        playerTeams.remove(teamId);
+        if (playerTeams.isEmpty()) {
+          teamsByPlayer.remove(player.getId());
+        }
+        addTeamPoints(card, -pointsOf(player.getId()));
+      }
+    }
+    for (Player player : added) {
+      if (card.roster.putIfAbsent(player.getId(), PlayerCard.of(player)) == null) {
+        teamsByPlayer.computeIfAbsent(player.getId(), id -> new LinkedHashSet<>()).add(teamId);
+        addTeamPoints(card, pointsOf(player.getId()));
+      }
+    }
+  }
+
+  synchronized int teamCount() {
+    return teamRanking.size();
+  }
+
+  synchronized List<LeaderboardEntryDTO> teamEntries() {
+    return teamEntries(1, teamRanking.size(), true);
+  }
+
+  /**
+   * Up to {@code limit} team entries starting at the 1-based {@code fromRank}; only that window is
+   * materialised. Without {@code withPlayers} the rosters are left empty.
+   */
+  synchronized List<LeaderboardEntryDTO> teamEntries(int fromRank, int limit, boolean withPlayers) {
+    List<UUID> teamIds = teamRanking.ids(fromRank, limit);
+    int firstRank = Math.max(1, fromRank);
+    List<LeaderboardEntryDTO> entries = new ArrayList<>(teamIds.size());
+    for (UUID teamId : teamIds) {
+      TeamCard card = teams.get(teamId);
+      List<LeaderboardEntryDTO.PlayerInfo> players =
+          withPlayers ? playerInfos(card) : new ArrayList<>();
+      entries.add(
+          LeaderboardEntryDTO.builder()
+              .teamId(teamId)
+              .teamName(card.name)
+              .ownerId(card.ownerId)
+              .ownerUsername(card.ownerUsername)
+              .totalPoints(teamRanking.score(teamId))
+              .players(players)
+              .rank(firstRank + entries.size())
+              .build());
+    }
+    return entries;
+  }
+
+  /**
+   * {@code teamId} and up to {@code radius} teams ranked on each side of it, read under one lock so
+   * the window is consistent; empty when these standings do not hold the team.
+   */
+  synchronized List<LeaderboardEntryDTO> teamEntriesAround(
+      UUID teamId, int radius, boolean withPlayers) {
+    int rank = teamRanking.rank(teamId);
+    if (rank == 0) {
+      return new ArrayList<>();
+    }
+    int fromRank = Math.max(1, rank - radius);
+    return teamEntries(fromRank, rank - fromRank + radius + 1, withPlayers);
+  }
+
+  synchronized List<PronostiqueurLeaderboardEntryDTO> pronostiqueurEntries() {
+    List<PronostiqueurLeaderboardEntryDTO> entries = new ArrayList<>(ownerRanking.size());
+    for (UUID ownerId : ownerRanking.ids()) {
+      List<UUID> ownerTeams = teamsByOwner.get(ownerId);
+      TeamCard firstTeam = teams.get(ownerTeams.get(0));
+      int totalPoints = (int) ownerRanking.score(ownerId);
+      int bestTeamPoints = 0;
+      String bestTeamName = "";
+      for (UUID teamId : ownerTeams) {
+        int teamPoints = (int) teamRanking.score(teamId);
+        if (teamPoints > bestTeamPoints) {
+          bestTeamPoints = teamPoints;
+          bestTeamName = teams.get(teamId).name;
+        }
+      }
+      entries.add(
+          PronostiqueurLeaderboardEntryDTO.builder()
+              .userId(ownerId)
+              .username(firstTeam.ownerUsername)
+              .email(firstTeam.ownerEmail)
+              .rank(entries.size() + 1)
+              .totalPoints(totalPoints)
+              .totalTeams(ownerTeams.size())
+              .avgPointsPerTeam(totalPoints / ownerTeams.size())
+              .bestTeamPoints(bestTeamPoints)
+              .bestTeamName(bestTeamName)
+              .victories(0)
+              .winRate(0.0)
+              .build());
+    }
+    return entries;
+  }
+
+  /**
+   * Player standings; {@link #rankPlayers} must have been called. Per-game averages are left to the
+   * caller.
+   */
+  synchronized List<PlayerLeaderboardEntryDTO> playerEntries() {
+    List<PlayerLeaderboardEntryDTO> entries = new ArrayList<>(playerRanking.size());
+    for (UUID playerId : playerRanking.ids()) {
+      PlayerCard player = rankedPlayers.get(playerId);
+      List<TeamInfoDto> playerTeams = new ArrayList<>();
+      Set<String> pronostiqueurs = new LinkedHashSet<>();
+      for (UUID teamId : teamsByPlayer.getOrDefault(playerId, Set.of())) {
+        TeamCard team = teams.get(teamId);
+        playerTeams.add(new TeamInfoDto(teamId.toString(), team.name, team.ownerUsername));
+        pronostiqueurs.add(team.ownerUsername);
+      }
+      int totalPoints = (int) playerRanking.score(playerId);
+      PlayerLeaderboardEntryDTO entry = new PlayerLeaderboardEntryDTO();
+      entry.setPlayerId(playerId.toString());
+      entry.setNickname(player.nickname());
+      entry.setUsername(player.username());
+      entry.setRegion(player.region());
+      entry.setTranche(player.tranche());
+      entry.setRank(entries.size() + 1);
+      entry.setTotalPoints(totalPoints);
+      entry.setBestScore(totalPoints);
+      entry.setTeamsCount(playerTeams.size());
+      entry.setTeams(playerTeams);
+      entry.setPronostiqueurs(new ArrayList<>(pronostiqueurs));
+      entries.add(entry);
+    }
+    return entries;
+  }
+
+  private List<LeaderboardEntryDTO.PlayerInfo> playerInfos(TeamCard card) {
+    List<LeaderboardEntryDTO.PlayerInfo> players = new ArrayList<>(card.roster.size());
+    for (PlayerCard player : card.roster.values()) {
+      players.add(
+          LeaderboardEntryDTO.PlayerInfo.builder()
+              .playerId(player.id())
+              .username(player.username())
+              .nickname(player.nickname())
+              .region(player.region())
+              .tranche(player.tranche())
+              .points((long) pointsOf(player.id()))
+              .build());
+    }
+    return players;
+  }
+
+  private int pointsOf(UUID playerId) {
+    return points.get(playerId);
+  }
+
+  private void addTeamPoints(TeamCard team, long delta) {
+    teamRanking.add(team.id, delta);
+    if (team.ownerId != null) {
+      ownerRanking.add(team.ownerId, delta);
+    }
+  }
+
+  private static final class TeamCard {
+    private final UUID id;
+    private final String name;
+    private final UUID ownerId;
+    private final String ownerUsername;
+    private final String ownerEmail;
+    private final Map<UUID, PlayerCard> roster = new LinkedHashMap<>();
+
+    private TeamCard(Team team) {
+      this.id = team.getId();
+      this.name = team.getName();
+      this.ownerId = team.getOwnerId();
+      this.ownerUsername = team.getOwnerUsername();
+      this.ownerEmail = team.getOwnerEmail();
+    }
+  }
+
+  private record PlayerCard(
+      UUID id, String username, String nickname, Player.Region region, String tranche) {
+
+    private static PlayerCard of(Player player) {
+      return new PlayerCard(
+          player.getId(),
+          player.getUsername(),
+          player.getNickname(),
+          player.getRegion(),
+          player.getTranche());
+    }
+
+    private static PlayerCard of(TeamPlayer teamPlayer) {
+      return of(teamPlayer.getPlayer());
+    }
+  }
+}
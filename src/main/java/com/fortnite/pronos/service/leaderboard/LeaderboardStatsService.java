@@ -48,8 +48,8 @@ public class LeaderboardStatsService {
     log.info("[DATA] Total joueurs trouves: {}", totalPlayers);
 
     // OPTIMISATION CRITIQUE: Récupérer TOUS les scores en UNE SEULE requête
-    Map<UUID, Integer> playerPointsMap = scoreRepository.findAllBySeasonGroupedByPlayer(season);
-    log.info("[PERF] Scores recuperes: {} joueurs ont des scores", playerPointsMap.size());
+    PlayerPointsMap playerPoints = PlayerPointsMap.of(scoreRepository.findSeasonPoints(season));
+    log.info("[PERF] Scores recuperes: {} joueurs ont des scores", playerPoints.size());
 
     int totalTeams = teams.size();
     long totalPoints = 0;
@@ -58,8 +58,7 @@ public class LeaderboardStatsService {
     // Calculer les points totaux et les stats régionales EN MÉMOIRE
     for (com.fortnite.pronos.model.Player player : allPlayers) {
       String region = player.getRegion().name();
-      Integer playerPoints = playerPointsMap.getOrDefault(player.getId(), 0);
-      long points = playerPoints != null ? playerPoints.longValue() : 0L;
+      long points = playerPoints.get(player.getId());
 
       totalPoints += points;
       regionPoints.merge(region, points, Long::sum);
@@ -102,20 +101,17 @@ public class LeaderboardStatsService {
     }
 
     // Extraire les joueurs des équipes de cette game
-    Set<UUID> playerIds = new HashSet<>();
-    for (com.fortnite.pronos.model.Team team : teams) {
-      for (com.fortnite.pronos.model.TeamPlayer tp : team.getPlayers()) {
-        if (tp.isActive()) {
-          playerIds.add(tp.getPlayer().getId());
-        }
-      }
-    }
+    Set<UUID> playerIds = LeaderboardEngine.activePlayerIds(teams);
 
     List<com.fortnite.pronos.model.Player> gamePlayers = playerRepository.findAllById(playerIds);
     int totalPlayers = gamePlayers.size();
 
-    Map<UUID, Integer> playerPointsMap =
-        scoreRepository.findAllBySeasonGroupedByPlayer(DEFAULT_SEASON);
+    // Seuls les points des joueurs de la game, pour la saison de ses équipes
+    int season = LeaderboardEngine.gameSeason(teams, DEFAULT_SEASON);
+    PlayerPointsMap playerPoints =
+        playerIds.isEmpty()
+            ? new PlayerPointsMap(0)
+            : PlayerPointsMap.of(scoreRepository.findSeasonPointsOf(season, playerIds));
 
     int totalTeams = teams.size();
     long totalPoints = 0;
@@ -123,8 +119,7 @@ public class LeaderboardStatsService {
 
     for (com.fortnite.pronos.model.Player player : gamePlayers) {
       String region = player.getRegion().name();
-      Integer playerPoints = playerPointsMap.getOrDefault(player.getId(), 0);
-      long points = playerPoints != null ? playerPoints.longValue() : 0L;
+      long points = playerPoints.get(player.getId());
 
       totalPoints += points;
       regionPoints.merge(region, points, Long::sum);
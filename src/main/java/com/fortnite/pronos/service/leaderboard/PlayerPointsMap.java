@@ -0,0 +1,126 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.fortnite.pronos.model.PlayerSeasonPoints;
+
+/**
+ * Season points per player, without boxing: the UUID halves and the points are kept in dense
+ * parallel arrays (a player's position there is its index) and an open-addressing table of indices
+ * finds a player by UUID with linear probing.
+ *
+ * <p>Players without points read as 0. Not thread-safe; {@link LeaderboardStandings} guards its
+ * instance with its own lock.
+ */
+final class PlayerPointsMap {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int EMPTY = -1;
+
+  private long[] mostSignificant;
+  private long[] leastSignificant;
+  private int[] points;
+  private int size;
+
+  /** Index into the dense arrays, or {@link #EMPTY}; the length is a power of two. */
+  private int[] slots;
+
+  PlayerPointsMap(int expectedPlayers) {
+    int capacity = Math.max(MIN_CAPACITY, expectedPlayers);
+    mostSignificant = new long[capacity];
+    leastSignificant = new long[capacity];
+    points = new int[capacity];
+    slots = emptySlots(capacity);
+  }
+
+  static PlayerPointsMap of(List<PlayerSeasonPoints> rows) {
+    PlayerPointsMap map = new PlayerPointsMap(rows.size());
+    for (PlayerSeasonPoints row : rows) {
+      map.add(row.playerId(), row.points());
+    }
+    return map;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Points of {@code playerId}, 0 when it has none. */
+  int get(UUID playerId) {
+    int index = indexOf(playerId);
+    return index == EMPTY ? 0 : points[index];
+  }
+
+  /** Dense index of {@code playerId} in {@code [0, size())}, or -1 when it has no points. */
+  int indexOf(UUID playerId) {
+    long msb = playerId.getMostSignificantBits();
+    long lsb = playerId.getLeastSignificantBits();
+    int mask = slots.length - 1;
+    for (int slot = hash(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+      int index = slots[slot];
+      if (index == EMPTY || (mostSignificant[index] == msb && leastSignificant[index] == lsb)) {
+        return index;
+      }
+    }
+  }
+
+  /** Points at a dense index returned by {@link #indexOf}. */
+  int pointsAt(int index) {
+    return points[index];
+  }
+
+  /** Adds {@code delta} to the points of {@code playerId}, inserting it at 0 when missing. */
+  void add(UUID playerId, int delta) {
+    long msb = playerId.getMostSignificantBits();
+    long lsb = playerId.getLeastSignificantBits();
+    int mask = slots.length - 1;
+    int slot = hash(msb, lsb) & mask;
+    while (slots[slot] != EMPTY) {
+      int index = slots[slot];
+      if (mostSignificant[index] == msb && leastSignificant[index] == lsb) {
+        points[index] += delta;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (size == points.length) {
+      grow();
+      add(playerId, delta);
+      return;
+    }
+    mostSignificant[size] = msb;
+    leastSignificant[size] = lsb;
+    points[size] = delta;
+    slots[slot] = size++;
+  }
+
+  private void grow() {
+    int capacity = points.length * 2;
+    mostSignificant = Arrays.copyOf(mostSignificant, capacity);
+    leastSignificant = Arrays.copyOf(leastSignificant, capacity);
+    points = Arrays.copyOf(points, capacity);
+    slots = emptySlots(capacity);
+    int mask = slots.length - 1;
+    for (int index = 0; index < size; index++) {
+      int slot = hash(mostSignificant[index], leastSignificant[index]) & mask;
+      while (slots[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = index;
+    }
+  }
+
+  /** At most half full, so probe sequences stay short. */
+  private static int[] emptySlots(int capacity) {
+    int[] slots = new int[Integer.highestOneBit(capacity - 1) << 2];
+    Arrays.fill(slots, EMPTY);
+    return slots;
+  }
+
+  private static int hash(long msb, long lsb) {
+    long mixed = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ (mixed >>> 32));
+  }
+}
@@ -1,12 +1,7 @@
 package com.fortnite.pronos.service.leaderboard;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,97 +19,16 @@ public class PronostiqueurLeaderboardService {
 
   private final com.fortnite.pronos.repository.TeamRepository teamRepository;
   private final com.fortnite.pronos.repository.ScoreRepository scoreRepository;
+  private final LeaderboardEngine leaderboardEngine;
 
-  /** Returns the pronosticator leaderboard for the requested season. */
-  @Cacheable(value = "leaderboard", key = "'pronostiqueurs_' + #season")
+  /**
+   * Returns the pronosticator leaderboard for the requested season: owners ranked by the summed
+   * points of their teams, read from the {@link LeaderboardEngine}.
+   */
   public List<PronostiqueurLeaderboardEntryDTO> getPronostiqueurLeaderboard(int season) {
-    log.info("Loading pronosticator leaderboard for season={}", season);
-
-    List<com.fortnite.pronos.model.Team> teams = teamRepository.findBySeasonWithFetch(season);
-    Map<UUID, Integer> playerPointsMap = scoreRepository.findAllBySeasonGroupedByPlayer(season);
-    Map<UUID, List<com.fortnite.pronos.model.Team>> teamsByUser = groupTeamsByUser(teams);
-
-    List<PronostiqueurLeaderboardEntryDTO> entries = buildEntries(teamsByUser, playerPointsMap);
-    sortAndAssignRanks(entries);
-
-    log.info("Pronosticator leaderboard generated with {} users", entries.size());
-    return entries;
-  }
-
-  private Map<UUID, List<com.fortnite.pronos.model.Team>> groupTeamsByUser(
-      List<com.fortnite.pronos.model.Team> teams) {
-    return teams.stream()
-        .collect(Collectors.groupingBy(com.fortnite.pronos.model.Team::getOwnerId));
-  }
-
-  private List<PronostiqueurLeaderboardEntryDTO> buildEntries(
-      Map<UUID, List<com.fortnite.pronos.model.Team>> teamsByUser,
-      Map<UUID, Integer> playerPointsMap) {
-    List<PronostiqueurLeaderboardEntryDTO> entries = new ArrayList<>();
-    for (Map.Entry<UUID, List<com.fortnite.pronos.model.Team>> entry : teamsByUser.entrySet()) {
-      entries.add(buildUserEntry(entry.getKey(), entry.getValue(), playerPointsMap));
-    }
+    List<PronostiqueurLeaderboardEntryDTO> entries =
+        leaderboardEngine.season(season, teamRepository, scoreRepository).pronostiqueurEntries();
+    log.debug("Pronosticator leaderboard for season={}: {} users", season, entries.size());
     return entries;
   }
-
-  private PronostiqueurLeaderboardEntryDTO buildUserEntry(
-      UUID userId,
-      List<com.fortnite.pronos.model.Team> userTeams,
-      Map<UUID, Integer> playerPointsMap) {
-    com.fortnite.pronos.model.Team firstTeam = userTeams.get(0);
-    TeamScoreSummary scoreSummary = calculateTeamScoreSummary(userTeams, playerPointsMap);
-    int avgPointsPerTeam = userTeams.isEmpty() ? 0 : scoreSummary.totalPoints() / userTeams.size();
-
-    return PronostiqueurLeaderboardEntryDTO.builder()
-        .userId(userId)
-        .username(firstTeam.getOwnerUsername())
-        .email(firstTeam.getOwnerEmail())
-        .totalPoints(scoreSummary.totalPoints())
-        .totalTeams(userTeams.size())
-        .avgPointsPerTeam(avgPointsPerTeam)
-        .bestTeamPoints(scoreSummary.bestTeamPoints())
-        .bestTeamName(scoreSummary.bestTeamName())
-        .victories(0)
-        .winRate(0.0)
-        .build();
-  }
-
-  private TeamScoreSummary calculateTeamScoreSummary(
-      List<com.fortnite.pronos.model.Team> userTeams, Map<UUID, Integer> playerPointsMap) {
-    int totalPoints = 0;
-    int bestTeamPoints = 0;
-    String bestTeamName = "";
-
-    for (com.fortnite.pronos.model.Team team : userTeams) {
-      int teamPoints = calculateTeamPoints(team, playerPointsMap);
-      totalPoints += teamPoints;
-      if (teamPoints > bestTeamPoints) {
-        bestTeamPoints = teamPoints;
-        bestTeamName = team.getName();
-      }
-    }
-
-    return new TeamScoreSummary(totalPoints, bestTeamPoints, bestTeamName);
-  }
-
-  private int calculateTeamPoints(
-      com.fortnite.pronos.model.Team team, Map<UUID, Integer> playerPointsMap) {
-    int teamPoints = 0;
-    for (com.fortnite.pronos.model.TeamPlayer teamPlayer : team.getPlayers()) {
-      if (!teamPlayer.isActive()) {
-        continue;
-      }
-      teamPoints += playerPointsMap.getOrDefault(teamPlayer.getPlayer().getId(), 0);
-    }
-    return teamPoints;
-  }
-
-  private void sortAndAssignRanks(List<PronostiqueurLeaderboardEntryDTO> entries) {
-    entries.sort((a, b) -> Integer.compare(b.getTotalPoints(), a.getTotalPoints()));
-    for (int i = 0; i < entries.size(); i++) {
-      entries.get(i).setRank(i + 1);
-    }
-  }
-
-  private record TeamScoreSummary(int totalPoints, int bestTeamPoints, String bestTeamName) {}
 }
@@ -0,0 +1,212 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Ids ranked by descending score, ties broken by ascending id. Backed by a treap whose nodes carry
+ * their subtree size, so moving an entry, computing its rank and finding the entry at a rank all
+ * take O(log n) expected time. Not thread-safe.
+ */
+final class RankedStandings {
+
+  private final Map<UUID, Node> nodes = new HashMap<>();
+  private final SplittableRandom priorities = new SplittableRandom(0x5EED);
+  private Node root;
+
+  int size() {
+    return nodes.size();
+  }
+
+  boolean contains(UUID id) {
+    return nodes.containsKey(id);
+  }
+
+  /** Score of {@code id}, or 0 when it is not ranked. */
+  long score(UUID id) {
+    Node node = nodes.get(id);
+    return node == null ? 0L : node.score;
+  }
+
+  /** Ranks {@code id} with {@code score}, moving it if it was already ranked. */
+  void put(UUID id, long score) {
+    Node existing = nodes.get(id);
+    if (existing != null) {
+      if (existing.score == score) {
+        return;
+      }
+      root = delete(root, existing);
+    }
+    Node node = new Node(id, score, priorities.nextInt());
+    nodes.put(id, node);
+    root = insert(root, node);
+  }
+
+  /** Adds {@code delta} to the score of {@code id}, ranking it first if needed. */
+  void add(UUID id, long delta) {
+    put(id, score(id) + delta);
+  }
+
+  void remove(UUID id) {
+    Node node = nodes.remove(id);
+    if (node != null) {
+      root = delete(root, node);
+    }
+  }
+
+  /** 1-based rank of {@code id}, or 0 when it is not ranked. */
+  int rank(UUID id) {
+    Node target = nodes.get(id);
+    if (target == null) {
+      return 0;
+    }
+    int before = 0;
+    Node node = root;
+    while (node != null) {
+      int order = compare(target, node);
+      if (order < 0) {
+        node = node.left;
+      } else if (order > 0) {
+        before += size(node.left) + 1;
+        node = node.right;
+      } else {
+        return before + size(node.left) + 1;
+      }
+    }
+    throw new IllegalStateException("Ranked id missing from the tree: " + id);
+  }
+
+  /**
+   * Up to {@code limit} ids in rank order, starting at the 1-based {@code fromRank}. Costs O(log n
+   * + limit).
+   */
+  List<UUID> ids(int fromRank, int limit) {
+    int skip = Math.max(0, fromRank - 1);
+    List<UUID> ids = new ArrayList<>(Math.max(0, Math.min(limit, size() - skip)));
+    Deque<Node> pending = new ArrayDeque<>();
+    Node node = root;
+    while (node != null) {
+      int leftSize = size(node.left);
+      if (skip < leftSize) {
+        pending.push(node);
+        node = node.left;
+      } else if (skip == leftSize) {
+        pending.push(node);
+        break;
+      } else {
+        skip -= leftSize + 1;
+        node = node.right;
+      }
+    }
+    while (!pending.isEmpty() && ids.size() < limit) {
+      Node next = pending.pop();
+      ids.add(next.id);
+      for (Node child = next.right; child != null; child = child.left) {
+        pending.push(child);
+      }
+    }
+    return ids;
+  }
+
+  /** Every ranked id, best first. */
+  List<UUID> ids() {
+    return ids(1, size());
+  }
+
+  private static Node insert(Node node, Node added) {
+    if (node == null) {
+      return added;
+    }
+    if (added.priority > node.priority) {
+      Node[] halves = split(node, added);
+      added.left = halves[0];
+      added.right = halves[1];
+      return update(added);
+    }
+    if (compare(added, node) < 0) {
+      node.left = insert(node.left, added);
+    } else {
+      node.right = insert(node.right, added);
+    }
+    return update(node);
+  }
+
+  private static Node delete(Node node, Node removed) {
+    if (node == removed) {
+      return merge(node.left, node.right);
+    }
+    if (compare(removed, node) < 0) {
+      node.left = delete(node.left, removed);
+    } else {
+      node.right = delete(node.right, removed);
+    }
+    return update(node);
+  }
+
+  /** Splits {@code node} into the entries ranked before {@code pivot} and the others. */
+  private static Node[] split(Node node, Node pivot) {
+    if (node == null) {
+      return new Node[2];
+    }
+    if (compare(node, pivot) < 0) {
+      Node[] halves = split(node.right, pivot);
+      node.right = halves[0];
+      halves[0] = update(node);
+      return halves;
+    }
+    Node[] halves = split(node.left, pivot);
+    node.left = halves[1];
+    halves[1] = update(node);
+    return halves;
+  }
+
+  private static Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      return update(left);
+    }
+    right.left = merge(left, right.left);
+    return update(right);
+  }
+
+  private static int compare(Node a, Node b) {
+    int byScore = Long.compare(b.score, a.score);
+    return byScore != 0 ? byScore : a.id.compareTo(b.id);
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static Node update(Node node) {
+    node.size = size(node.left) + size(node.right) + 1;
+    return node;
+  }
+
+  private static final class Node {
+    private final UUID id;
+    private final long score;
+    private final int priority;
+    private int size = 1;
+    private Node left;
+    private Node right;
+
+    private Node(UUID id, long score, int priority) {
+      this.id = id;
+      this.score = score;
+      this.priority = priority;
+    }
+  }
+}
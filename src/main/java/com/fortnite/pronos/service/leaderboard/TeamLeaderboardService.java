@@ -2,12 +2,12 @@ package com.fortnite.pronos.service.leaderboard;
 
 import java.util.*;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fortnite.pronos.domain.port.out.TeamRepositoryPort;
 import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+import com.fortnite.pronos.dto.leaderboard.LeaderboardPageDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,71 +25,20 @@ import lombok.extern.slf4j.Slf4j;
 @SuppressWarnings({"java:S112"})
 public class TeamLeaderboardService {
 
+  static final int MAX_PAGE_SIZE = 100;
+  static final int MAX_NEIGHBOUR_RADIUS = 50;
+  private static final String TEAM_NOT_RANKED = "Équipe non trouvée dans le classement";
+
   private final com.fortnite.pronos.repository.TeamRepository teamRepository;
   private final com.fortnite.pronos.repository.ScoreRepository scoreRepository;
   private final com.fortnite.pronos.repository.PlayerRepository playerRepository;
+  private final LeaderboardEngine leaderboardEngine;
 
-  /** Obtenir le leaderboard complet - VERSION OPTIMISÉE SANS N+1 + CACHE */
-  @Cacheable(value = "leaderboard", key = "#season", unless = "#result.isEmpty()")
+  /** Obtenir le leaderboard complet - lu dans le {@link LeaderboardEngine}, sans recalcul */
   public List<LeaderboardEntryDTO> getLeaderboard(int season) {
-    log.info(
-        "[LEADERBOARD] Recuperation du leaderboard pour la saison {} - VERSION OPTIMISEE", season);
-
-    // 1. Récupérer toutes les équipes avec FETCH EAGER optimisé
-    List<com.fortnite.pronos.model.Team> teams = teamRepository.findBySeasonWithFetch(season);
-    log.debug("[DATA] {} equipes trouvees", teams.size());
-
-    // 2. OPTIMISATION: Récupérer tous les scores en UNE SEULE requête
-    Map<UUID, Integer> playerPointsMap = scoreRepository.findAllBySeasonGroupedByPlayer(season);
-    log.debug("[PERF] {} scores recuperes en une seule requete optimisee", playerPointsMap.size());
-
-    // 3. Construire le leaderboard sans requêtes supplémentaires
-    List<LeaderboardEntryDTO> entries = new ArrayList<>();
-
-    for (com.fortnite.pronos.model.Team team : teams) {
-      long totalPoints = 0;
-      List<LeaderboardEntryDTO.PlayerInfo> playerInfos = new ArrayList<>();
-
-      // Récupérer les joueurs de l'équipe (déjà en mémoire via fetch)
-      for (com.fortnite.pronos.model.TeamPlayer teamPlayer : team.getPlayers()) {
-        if (!teamPlayer.isActive()) continue;
-
-        com.fortnite.pronos.model.Player player = teamPlayer.getPlayer();
-
-        // Utiliser les points du cache au lieu d'une nouvelle requête
-        Integer points = playerPointsMap.getOrDefault(player.getId(), 0);
-        totalPoints += points;
-
-        playerInfos.add(
-            LeaderboardEntryDTO.PlayerInfo.builder()
-                .playerId(player.getId())
-                .username(player.getUsername())
-                .nickname(player.getNickname())
-                .region(player.getRegion())
-                .tranche(player.getTranche())
-                .points(points.longValue())
-                .build());
-      }
-
-      entries.add(
-          LeaderboardEntryDTO.builder()
-              .teamId(team.getId())
-              .teamName(team.getName())
-              .ownerId(team.getOwnerId())
-              .ownerUsername(team.getOwnerUsername())
-              .totalPoints(totalPoints)
-              .players(playerInfos)
-              .build());
-    }
-
-    // 4. Trier par points décroissants et assigner les rangs
-    entries.sort((a, b) -> Long.compare(b.getTotalPoints(), a.getTotalPoints()));
-
-    for (int i = 0; i < entries.size(); i++) {
-      entries.get(i).setRank(i + 1);
-    }
-
-    log.info("[OK] Leaderboard généré avec {} équipes - SANS N+1 queries", entries.size());
+    List<LeaderboardEntryDTO> entries =
+        leaderboardEngine.season(season, teamRepository, scoreRepository).teamEntries();
+    log.debug("[LEADERBOARD] Saison {}: {} equipes", season, entries.size());
     return entries;
   }
 
@@ -97,80 +46,71 @@ public class TeamLeaderboardService {
   public List<LeaderboardEntryDTO> getLeaderboardByGame(UUID gameId) {
     log.info("[LEADERBOARD] Recuperation du leaderboard pour la game {}", gameId);
 
-    // 1. Récupérer les équipes de cette game avec FETCH EAGER
-    List<com.fortnite.pronos.model.Team> teams = teamRepository.findByGameIdWithFetch(gameId);
-    log.debug("[DATA] {} equipes trouvees pour la game {}", teams.size(), gameId);
-
-    if (teams.isEmpty()) {
+    LeaderboardStandings standings =
+        leaderboardEngine.game(gameId, teamRepository, scoreRepository);
+    if (standings.isEmpty()) {
       log.warn("[WARN] Aucune équipe trouvée pour la game {}", gameId);
       return new ArrayList<>();
     }
+    return standings.teamEntries();
+  }
 
-    // 2. Récupérer tous les scores en UNE SEULE requête
-    Map<UUID, Integer> playerPointsMap = scoreRepository.findAllBySeasonGroupedByPlayer(2025);
-
-    // 3. Construire le leaderboard
-    List<LeaderboardEntryDTO> entries = new ArrayList<>();
-
-    for (com.fortnite.pronos.model.Team team : teams) {
-      long totalPoints = 0;
-      List<LeaderboardEntryDTO.PlayerInfo> playerInfos = new ArrayList<>();
-
-      for (com.fortnite.pronos.model.TeamPlayer teamPlayer : team.getPlayers()) {
-        if (!teamPlayer.isActive()) continue;
-
-        com.fortnite.pronos.model.Player player = teamPlayer.getPlayer();
-        Integer points = playerPointsMap.getOrDefault(player.getId(), 0);
-        totalPoints += points;
-
-        playerInfos.add(
-            LeaderboardEntryDTO.PlayerInfo.builder()
-                .playerId(player.getId())
-                .username(player.getUsername())
-                .nickname(player.getNickname())
-                .region(player.getRegion())
-                .tranche(player.getTranche())
-                .points(points.longValue())
-                .build());
-      }
-
-      entries.add(
-          LeaderboardEntryDTO.builder()
-              .teamId(team.getId())
-              .teamName(team.getName())
-              .ownerId(team.getOwnerId())
-              .ownerUsername(team.getOwnerUsername())
-              .totalPoints(totalPoints)
-              .players(playerInfos)
-              .build());
+  /**
+   * Fenêtre du leaderboard de la saison (ou de la game si {@code gameId} est fourni) : {@code
+   * limit} équipes à partir du rang {@code offset + 1}, sans construire le reste du classement.
+   */
+  public LeaderboardPageDto getLeaderboardPage(
+      int season, UUID gameId, int offset, int limit, boolean withPlayers) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("offset must be >= 0");
     }
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    LeaderboardStandings standings =
+        gameId != null
+            ? leaderboardEngine.game(gameId, teamRepository, scoreRepository)
+            : leaderboardEngine.season(season, teamRepository, scoreRepository);
+    return new LeaderboardPageDto(
+        offset + 1, standings.teamCount(), standings.teamEntries(offset + 1, limit, withPlayers));
+  }
 
-    // 4. Trier par points décroissants et assigner les rangs
-    entries.sort((a, b) -> Long.compare(b.getTotalPoints(), a.getTotalPoints()));
+  /** Les {@code k} premières équipes du classement */
+  public LeaderboardPageDto getTopTeams(int season, UUID gameId, int k, boolean withPlayers) {
+    return getLeaderboardPage(season, gameId, 0, k, withPlayers);
+  }
 
-    for (int i = 0; i < entries.size(); i++) {
-      entries.get(i).setRank(i + 1);
+  /** Une équipe et ses {@code radius} voisins de chaque côté dans le classement de sa saison */
+  public LeaderboardPageDto getTeamNeighbours(String teamId, int radius, boolean withPlayers) {
+    if (radius < 0 || radius > MAX_NEIGHBOUR_RADIUS) {
+      throw new IllegalArgumentException("radius must be between 0 and " + MAX_NEIGHBOUR_RADIUS);
     }
-
-    log.info("[OK] Leaderboard game {} généré avec {} équipes", gameId, entries.size());
-    return entries;
+    UUID teamUuid = UUID.fromString(teamId);
+    LeaderboardStandings standings = seasonStandingsOf(teamUuid);
+    List<LeaderboardEntryDTO> entries = standings.teamEntriesAround(teamUuid, radius, withPlayers);
+    if (entries.isEmpty()) {
+      throw new RuntimeException(TEAM_NOT_RANKED);
+    }
+    return new LeaderboardPageDto(entries.get(0).getRank(), standings.teamCount(), entries);
   }
 
   /** Récupère le classement d'une équipe spécifique */
   public LeaderboardEntryDTO getTeamRanking(String teamId) {
     UUID teamUuid = UUID.fromString(teamId);
+    List<LeaderboardEntryDTO> entries =
+        seasonStandingsOf(teamUuid).teamEntriesAround(teamUuid, 0, true);
+    if (entries.isEmpty()) {
+      throw new RuntimeException(TEAM_NOT_RANKED);
+    }
+    return entries.get(0);
+  }
+
+  private LeaderboardStandings seasonStandingsOf(UUID teamId) {
     Optional<com.fortnite.pronos.model.Team> teamOpt =
-        ((TeamRepositoryPort) teamRepository).findById(teamUuid);
+        ((TeamRepositoryPort) teamRepository).findById(teamId);
     if (teamOpt.isEmpty()) {
       throw new RuntimeException("Équipe non trouvée");
     }
-
-    com.fortnite.pronos.model.Team team = teamOpt.get();
-    List<LeaderboardEntryDTO> allEntries = getLeaderboard(team.getSeason());
-
-    return allEntries.stream()
-        .filter(entry -> entry.getTeamId().equals(teamUuid))
-        .findFirst()
-        .orElseThrow(() -> new RuntimeException("Équipe non trouvée dans le classement"));
+    return leaderboardEngine.season(teamOpt.get().getSeason(), teamRepository, scoreRepository);
   }
 }
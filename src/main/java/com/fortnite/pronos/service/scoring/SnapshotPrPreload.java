@@ -0,0 +1,66 @@
+package com.fortnite.pronos.service.scoring;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fortnite.pronos.domain.player.model.PrWindow;
+import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+
+/**
+ * The PR of the players drafted in a batch run's games at a handful of dates, read once per run and
+ * shared by all the games it processes: most games end their period on the same day and many start
+ * on the same day, so one query per distinct date replaces one window query per game. Immutable
+ * once loaded, so worker threads read it without locking.
+ */
+public final class SnapshotPrPreload {
+
+  private final Map<LocalDate, Map<UUID, Integer>> prByDate;
+
+  private SnapshotPrPreload(Map<LocalDate, Map<UUID, Integer>> prByDate) {
+    this.prByDate = prByDate;
+  }
+
+  static SnapshotPrPreload load(
+      RankSnapshotRepositoryPort snapshotRepository,
+      Collection<UUID> playerIds,
+      Collection<LocalDate> dates) {
+    Map<LocalDate, Map<UUID, Integer>> prByDate = HashMap.newHashMap(dates.size());
+    for (LocalDate date : dates) {
+      prByDate.computeIfAbsent(
+          date,
+          day ->
+              playerIds.isEmpty()
+                  ? Map.of()
+                  : snapshotRepository.findPrByPlayerOnOrBefore(playerIds, day));
+    }
+    return new SnapshotPrPreload(prByDate);
+  }
+
+  boolean covers(LocalDate start, LocalDate end) {
+    return prByDate.containsKey(start) && prByDate.containsKey(end);
+  }
+
+  /** Same result as {@link RankSnapshotRepositoryPort#findPrWindows} for covered dates. */
+  List<PrWindow> windows(Collection<UUID> playerIds, LocalDate start, LocalDate end) {
+    Map<UUID, Integer> startPr = prByDate.get(start);
+    Map<UUID, Integer> endPr = prByDate.get(end);
+    List<PrWindow> windows = new ArrayList<>(playerIds.size());
+    for (UUID playerId : playerIds) {
+      Integer from = startPr.get(playerId);
+      Integer to = endPr.get(playerId);
+      if (from != null && to != null) {
+        windows.add(new PrWindow(playerId, from, to));
+      }
+    }
+    return windows;
+  }
+
+  int dates() {
+    return prByDate.size();
+  }
+}
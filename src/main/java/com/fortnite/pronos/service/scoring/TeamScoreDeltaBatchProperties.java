@@ -0,0 +1,46 @@
+package com.fortnite.pronos.service.scoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * How many games {@link TeamScoreDeltaBatchService} processes at once, and whether {@link
+ * TeamScoreDeltaIncrementalService} updates deltas as ingestion runs complete.
+ */
+@Component
+@ConfigurationProperties(prefix = "scoring.team.delta")
+public class TeamScoreDeltaBatchProperties {
+
+  /** Games processed at once, each holding one connection for its transaction. */
+  private int parallelism = 4;
+
+  /** Share of the Hikari pool the batch may hold, so user requests keep the rest. */
+  private double maxPoolShare = 0.25;
+
+  /** When false, deltas only move with the daily batch. */
+  private boolean incremental = true;
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public double getMaxPoolShare() {
+    return maxPoolShare;
+  }
+
+  public void setMaxPoolShare(double maxPoolShare) {
+    this.maxPoolShare = maxPoolShare;
+  }
+
+  public boolean isIncremental() {
+    return incremental;
+  }
+
+  public void setIncremental(boolean incremental) {
+    this.incremental = incremental;
+  }
+}
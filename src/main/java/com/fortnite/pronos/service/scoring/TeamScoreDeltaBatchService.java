@@ -1,14 +1,30 @@
 package com.fortnite.pronos.service.scoring;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fortnite.pronos.domain.game.model.Game;
 import com.fortnite.pronos.domain.port.out.GameDomainRepositoryPort;
+import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+import com.fortnite.pronos.service.snapshot.RankSnapshotStore;
+import com.fortnite.pronos.util.ConnectionPoolShare;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -16,32 +32,170 @@ import lombok.extern.slf4j.Slf4j;
  * TeamScoreDeltaGameService} which runs each game in its own transaction. This avoids the Spring
  * AOP self-invocation trap where {@code @Transactional} on a private/package-private method called
  * from the same class is silently bypassed.
+ *
+ * <p>Games are processed in parallel by a pool sized from {@code scoring.team.delta.parallelism},
+ * capped to {@code max-pool-share} of the Hikari pool since each game holds a connection for its
+ * transaction. The PR of the players drafted in those games at the period bounds of the run is
+ * pre-loaded once and shared by the games, unless {@link RankSnapshotStore} already covers every
+ * period. A failing game is logged and counted, the others still run. Per-game durations are
+ * published as the {@code scoring.team.delta.game} timer (tag outcome) and failures as the {@code
+ * scoring.team.delta.game.failures} counter.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TeamScoreDeltaBatchService {
 
+  private static final String METRIC_PREFIX = "scoring.team.delta";
+
   private final GameDomainRepositoryPort gameDomainRepository;
   private final TeamScoreDeltaGameService gameProcessor;
+  private final RankSnapshotRepositoryPort snapshotRepository;
+  private final TeamScoreDeltaBatchProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final RankSnapshotStore snapshotStore;
+  private final int maxPoolSize;
+  private final ThreadFactory workerFactory =
+      Thread.ofPlatform().name("team-delta-", 1).daemon().factory();
+
+  @Autowired
+  public TeamScoreDeltaBatchService(
+      GameDomainRepositoryPort gameDomainRepository,
+      TeamScoreDeltaGameService gameProcessor,
+      RankSnapshotRepositoryPort snapshotRepository,
+      TeamScoreDeltaBatchProperties properties,
+      MeterRegistry meterRegistry,
+      RankSnapshotStore snapshotStore,
+      DataSource dataSource) {
+    this(
+        gameDomainRepository,
+        gameProcessor,
+        snapshotRepository,
+        properties,
+        meterRegistry,
+        snapshotStore,
+        ConnectionPoolShare.maxPoolSize(dataSource));
+  }
+
+  TeamScoreDeltaBatchService(
+      GameDomainRepositoryPort gameDomainRepository,
+      TeamScoreDeltaGameService gameProcessor,
+      RankSnapshotRepositoryPort snapshotRepository,
+      TeamScoreDeltaBatchProperties properties,
+      MeterRegistry meterRegistry,
+      RankSnapshotStore snapshotStore,
+      int maxPoolSize) {
+    this.gameDomainRepository = gameDomainRepository;
+    this.gameProcessor = gameProcessor;
+    this.snapshotRepository = snapshotRepository;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.snapshotStore = snapshotStore;
+    this.maxPoolSize = maxPoolSize;
+  }
 
   public void computeAllGameDeltas() {
     LocalDate today = LocalDate.now();
-    List<Game> games = gameDomainRepository.findAllWithCompetitionPeriod();
-    log.info("TeamScoreDeltaBatch: processing {} eligible games", games.size());
-
-    for (Game game : games) {
+    List<Game> games = new ArrayList<>();
+    for (Game game : gameDomainRepository.findAllWithCompetitionPeriod()) {
       if (game.getDraftId() == null) {
         log.debug("TeamScoreDeltaBatch: skipping game {} — no draft", game.getId());
-        continue;
+      } else {
+        games.add(game);
       }
-      try {
-        gameProcessor.computeDeltasForGame(game, today);
-      } catch (Exception e) {
-        log.error(
-            "TeamScoreDeltaBatch: error processing gameId={}: {}", game.getId(), e.getMessage(), e);
+    }
+    if (games.isEmpty()) {
+      log.info("TeamScoreDeltaBatch: no eligible game");
+      return;
+    }
+    SnapshotPrPreload preload = preload(games, today);
+    int threads = concurrency(games.size());
+    log.info(
+        "TeamScoreDeltaBatch: processing {} eligible games on {} threads", games.size(), threads);
+
+    int failed = run(games, today, preload, threads);
+    log.info(
+        "TeamScoreDeltaBatch: completed, {} games processed, {} failed",
+        games.size() - failed,
+        failed);
+  }
+
+  /** Games processed at once: the configured parallelism within the pool share, at least 1. */
+  int concurrency(int games) {
+    return ConnectionPoolShare.concurrency(
+        properties.getParallelism(), maxPoolSize, properties.getMaxPoolShare(), games);
+  }
+
+  private SnapshotPrPreload preload(List<Game> games, LocalDate today) {
+    if (games.stream().allMatch(game -> snapshotStore.covers(game.getCompetitionStart()))) {
+      log.debug("TeamScoreDeltaBatch: every period is within the snapshot store, no pre-load");
+      return null;
+    }
+    Set<LocalDate> dates = new TreeSet<>();
+    for (Game game : games) {
+      dates.add(game.getCompetitionStart());
+      dates.add(game.getCompetitionEnd().isBefore(today) ? game.getCompetitionEnd() : today);
+    }
+    try {
+      SnapshotPrPreload preload =
+          Timer.builder(METRIC_PREFIX + ".preload")
+              .description("Snapshot PR pre-load of a delta batch run")
+              .register(meterRegistry)
+              .record(
+                  () ->
+                      SnapshotPrPreload.load(
+                          snapshotRepository, gameProcessor.draftedPlayerIds(games), dates));
+      log.debug("TeamScoreDeltaBatch: pre-loaded PR at {} dates", preload.dates());
+      return preload;
+    } catch (RuntimeException e) {
+      log.warn("TeamScoreDeltaBatch: snapshot pre-load failed, games query their own", e);
+      return null;
+    }
+  }
+
+  private int run(List<Game> games, LocalDate today, SnapshotPrPreload preload, int threads) {
+    ExecutorService workers = Executors.newFixedThreadPool(threads, workerFactory);
+    int failed = 0;
+    try {
+      List<Future<Boolean>> results = new ArrayList<>(games.size());
+      for (Game game : games) {
+        results.add(workers.submit(() -> processGame(game, today, preload)));
+      }
+      for (Future<Boolean> result : results) {
+        if (!result.get()) {
+          failed++;
+        }
       }
+    } catch (ExecutionException e) {
+      log.error("TeamScoreDeltaBatch: worker failed unexpectedly", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("TeamScoreDeltaBatch: interrupted, remaining games are not processed");
+    } finally {
+      workers.shutdownNow();
+    }
+    return failed;
+  }
+
+  private boolean processGame(Game game, LocalDate today, SnapshotPrPreload preload) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean succeeded = false;
+    try {
+      gameProcessor.computeDeltasForGame(game, today, preload);
+      succeeded = true;
+    } catch (Exception e) {
+      Counter.builder(METRIC_PREFIX + ".game.failures")
+          .description("Games whose delta computation failed")
+          .register(meterRegistry)
+          .increment();
+      log.error(
+          "TeamScoreDeltaBatch: error processing gameId={}: {}", game.getId(), e.getMessage(), e);
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC_PREFIX + ".game")
+              .description("Delta computation of one game")
+              .tag("outcome", succeeded ? "success" : "failure")
+              .register(meterRegistry));
     }
-    log.info("TeamScoreDeltaBatch: completed");
+    return succeeded;
   }
 }
@@ -1,22 +1,27 @@
 package com.fortnite.pronos.service.scoring;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fortnite.pronos.domain.game.model.Game;
-import com.fortnite.pronos.domain.player.model.RankSnapshot;
+import com.fortnite.pronos.domain.player.model.PrWindow;
 import com.fortnite.pronos.domain.port.out.DraftPickRepositoryPort;
 import com.fortnite.pronos.domain.port.out.GameParticipantRepositoryPort;
-import com.fortnite.pronos.domain.port.out.PlayerDomainRepositoryPort;
 import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
 import com.fortnite.pronos.domain.port.out.TeamScoreDeltaRepositoryPort;
 import com.fortnite.pronos.domain.team.model.TeamScoreDelta;
 import com.fortnite.pronos.model.GameParticipant;
+import com.fortnite.pronos.service.snapshot.RankSnapshotStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +30,11 @@ import lombok.extern.slf4j.Slf4j;
  * Processes PR delta computation for a single game within its own transaction. Extracted from
  * {@link TeamScoreDeltaBatchService} to avoid Spring AOP self-invocation bypass on
  * {@code @Transactional}.
+ *
+ * <p>A game costs a fixed number of statements whatever its size: one for the participants, one for
+ * every drafted player, one for the PR of all those players at both ends of the period, and the
+ * batched delta upsert. The PR is read from {@link RankSnapshotStore} instead when its window
+ * covers the period. A player without a snapshot at either end contributes 0.
  */
 @Slf4j
 @Service
@@ -33,73 +43,82 @@ public class TeamScoreDeltaGameService {
 
   private final GameParticipantRepositoryPort participantRepository;
   private final DraftPickRepositoryPort draftPickRepository;
-  private final PlayerDomainRepositoryPort playerRepository;
   private final RankSnapshotRepositoryPort snapshotRepository;
   private final TeamScoreDeltaRepositoryPort deltaRepository;
+  private final RankSnapshotStore snapshotStore;
+
+  /** Ids of the players picked in the drafts of {@code games}, in one query. */
+  @Transactional(readOnly = true)
+  public Set<UUID> draftedPlayerIds(Collection<Game> games) {
+    Set<UUID> draftIds = new HashSet<>();
+    for (Game game : games) {
+      draftIds.add(game.getDraftId());
+    }
+    return draftPickRepository.findPlayerIdsPickedInAnyOf(draftIds);
+  }
 
   @Transactional
   public void computeDeltasForGame(Game game, LocalDate today) {
+    computeDeltasForGame(game, today, null);
+  }
+
+  /**
+   * Same as {@link #computeDeltasForGame(Game, LocalDate)}, reading the players' PR from {@code
+   * preload} when it covers the game's period instead of querying the snapshots.
+   */
+  @Transactional
+  public void computeDeltasForGame(Game game, LocalDate today, SnapshotPrPreload preload) {
     LocalDate periodStart = game.getCompetitionStart();
     LocalDate periodEnd =
         game.getCompetitionEnd().isBefore(today) ? game.getCompetitionEnd() : today;
 
     List<GameParticipant> participants =
         participantRepository.findByGameIdOrderByJoinedAt(game.getId());
+    Map<UUID, List<UUID>> playerIdsByParticipant =
+        draftPickRepository.findPlayerIdsByParticipantForDraft(game.getDraftId());
+    Map<UUID, Integer> playerDeltas =
+        playerDeltas(playerIdsByParticipant, periodStart, periodEnd, preload);
 
+    List<TeamScoreDelta> deltas = new ArrayList<>(participants.size());
     for (GameParticipant participant : participants) {
-      List<UUID> playerIds =
-          draftPickRepository.findPlayerIdsByDraftIdAndParticipantId(
-              game.getDraftId(), participant.getId());
-      int teamDelta = computeTeamDelta(playerIds, periodStart, periodEnd);
-      upsertDelta(
-          game.getId(), participant.getId(), periodStart, game.getCompetitionEnd(), teamDelta);
+      int teamDelta = 0;
+      for (UUID playerId : playerIdsByParticipant.getOrDefault(participant.getId(), List.of())) {
+        teamDelta += playerDeltas.getOrDefault(playerId, 0);
+      }
+      deltas.add(
+          new TeamScoreDelta(
+              game.getId(), participant.getId(), periodStart, game.getCompetitionEnd(), teamDelta));
     }
+    deltaRepository.replaceForGame(game.getId(), periodStart, game.getCompetitionEnd(), deltas);
     log.debug(
-        "TeamScoreDeltaBatch: processed game={} participants={}",
+        "TeamScoreDeltaBatch: processed game={} participants={} players={}",
         game.getId(),
-        participants.size());
+        participants.size(),
+        playerDeltas.size());
   }
 
-  private int computeTeamDelta(List<UUID> playerIds, LocalDate periodStart, LocalDate periodEnd) {
-    int total = 0;
-    for (UUID playerId : playerIds) {
-      if (playerRepository.findById(playerId).isEmpty()) {
-        continue;
-      }
-      Optional<RankSnapshot> startSnap =
-          snapshotRepository.findLatestOnOrBefore(playerId, periodStart);
-      Optional<RankSnapshot> endSnap = snapshotRepository.findLatestOnOrBefore(playerId, periodEnd);
-
-      if (startSnap.isPresent() && endSnap.isPresent()) {
-        total += endSnap.get().getPrValue() - startSnap.get().getPrValue();
-      }
+  private Map<UUID, Integer> playerDeltas(
+      Map<UUID, List<UUID>> playerIdsByParticipant,
+      LocalDate periodStart,
+      LocalDate periodEnd,
+      SnapshotPrPreload preload) {
+    Set<UUID> playerIds = new HashSet<>();
+    playerIdsByParticipant.values().forEach(playerIds::addAll);
+    if (playerIds.isEmpty()) {
+      return Map.of();
     }
-    return total;
-  }
-
-  private void upsertDelta(
-      UUID gameId, UUID participantId, LocalDate periodStart, LocalDate periodEnd, int deltaPr) {
-    Optional<TeamScoreDelta> existing =
-        deltaRepository.findByGameIdAndParticipantId(gameId, participantId);
-    if (existing.isPresent()) {
-      TeamScoreDelta updated =
-          TeamScoreDelta.restore(
-              existing.get().getId(),
-              gameId,
-              participantId,
-              periodStart,
-              periodEnd,
-              deltaPr,
-              java.time.LocalDateTime.now());
-      deltaRepository.save(updated);
-    } else {
-      deltaRepository.save(
-          new TeamScoreDelta(gameId, participantId, periodStart, periodEnd, deltaPr));
+    List<PrWindow> windows =
+        snapshotStore
+            .prWindows(playerIds, periodStart, periodEnd)
+            .orElseGet(
+                () ->
+                    preload != null && preload.covers(periodStart, periodEnd)
+                        ? preload.windows(playerIds, periodStart, periodEnd)
+                        : snapshotRepository.findPrWindows(playerIds, periodStart, periodEnd));
+    Map<UUID, Integer> deltas = HashMap.newHashMap(windows.size());
+    for (PrWindow window : windows) {
+      deltas.put(window.playerId(), window.delta());
     }
-    log.debug(
-        "TeamScoreDeltaBatch: upserted delta game={} participant={} delta={}",
-        gameId,
-        participantId,
-        deltaPr);
+    return deltas;
   }
 }
@@ -0,0 +1,159 @@
+package com.fortnite.pronos.service.scoring;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fortnite.pronos.domain.game.model.Game;
+import com.fortnite.pronos.domain.port.out.DraftPickRepositoryPort;
+import com.fortnite.pronos.domain.port.out.GameDomainRepositoryPort;
+import com.fortnite.pronos.service.snapshot.RankSnapshotsRecordedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps team deltas fresh during the ingestion window: once a region's run has been copied into the
+ * rank snapshots the deltas read, only the games whose draft picked a player whose snapshots
+ * changed are recomputed, through {@link TeamScoreDeltaGameService}, instead of waiting for the
+ * daily {@link TeamScoreDeltaBatchService}.
+ *
+ * <p>Runs are handled one at a time on a background thread, so the ingestion caller returns at
+ * once. Games that ended before the earliest changed snapshot date keep their deltas. The daily
+ * batch still runs as a safety net for games this path skipped or failed. Durations are published
+ * as the {@code scoring.team.delta.incremental} timer (tag outcome) and failing games as the {@code
+ * scoring.team.delta.incremental.failures} counter.
+ */
+@Slf4j
+@Service
+public class TeamScoreDeltaIncrementalService {
+
+  private static final String METRIC_PREFIX = "scoring.team.delta.incremental";
+
+  private final DraftPickRepositoryPort draftPickRepository;
+  private final GameDomainRepositoryPort gameDomainRepository;
+  private final TeamScoreDeltaGameService gameProcessor;
+  private final TeamScoreDeltaBatchProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor;
+
+  @Autowired
+  public TeamScoreDeltaIncrementalService(
+      DraftPickRepositoryPort draftPickRepository,
+      GameDomainRepositoryPort gameDomainRepository,
+      TeamScoreDeltaGameService gameProcessor,
+      TeamScoreDeltaBatchProperties properties,
+      MeterRegistry meterRegistry) {
+    this(
+        draftPickRepository,
+        gameDomainRepository,
+        gameProcessor,
+        properties,
+        meterRegistry,
+        Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("team-delta-incremental").daemon().factory()));
+  }
+
+  TeamScoreDeltaIncrementalService(
+      DraftPickRepositoryPort draftPickRepository,
+      GameDomainRepositoryPort gameDomainRepository,
+      TeamScoreDeltaGameService gameProcessor,
+      TeamScoreDeltaBatchProperties properties,
+      MeterRegistry meterRegistry,
+      ExecutorService executor) {
+    this.draftPickRepository = draftPickRepository;
+    this.gameDomainRepository = gameDomainRepository;
+    this.gameProcessor = gameProcessor;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.executor = executor;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRankSnapshotsRecorded(RankSnapshotsRecordedEvent event) {
+    if (!properties.isIncremental()) {
+      return;
+    }
+    executor.execute(() -> updateGamesAffectedBy(event));
+  }
+
+  /** Recomputes the games affected by {@code event}; returns how many were updated. */
+  int updateGamesAffectedBy(RankSnapshotsRecordedEvent event) {
+    UUID runId = event.runId();
+    try {
+      List<Game> games = affectedGames(event.playerIds(), event.earliestDate());
+      int updated = 0;
+      LocalDate today = LocalDate.now();
+      for (Game game : games) {
+        if (processGame(game, today)) {
+          updated++;
+        }
+      }
+      log.info(
+          "TeamScoreDeltaIncremental: runId={} updated {} of {} affected games",
+          runId,
+          updated,
+          games.size());
+      return updated;
+    } catch (RuntimeException e) {
+      log.error("TeamScoreDeltaIncremental: runId={} not processed: {}", runId, e.getMessage(), e);
+      return 0;
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private List<Game> affectedGames(Set<UUID> playerIds, LocalDate since) {
+    if (playerIds.isEmpty()) {
+      return List.of();
+    }
+    Set<UUID> draftIds = draftPickRepository.findDraftIdsPickingAnyOf(playerIds);
+    if (draftIds.isEmpty()) {
+      return List.of();
+    }
+    return gameDomainRepository.findAllWithCompetitionPeriod().stream()
+        .filter(game -> game.getDraftId() != null && draftIds.contains(game.getDraftId()))
+        .filter(game -> !game.getCompetitionEnd().isBefore(since))
+        .toList();
+  }
+
+  private boolean processGame(Game game, LocalDate today) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean succeeded = false;
+    try {
+      gameProcessor.computeDeltasForGame(game, today);
+      succeeded = true;
+    } catch (Exception e) {
+      Counter.builder(METRIC_PREFIX + ".failures")
+          .description("Games whose intraday delta update failed")
+          .register(meterRegistry)
+          .increment();
+      log.error(
+          "TeamScoreDeltaIncremental: error processing gameId={}: {}",
+          game.getId(),
+          e.getMessage(),
+          e);
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC_PREFIX)
+              .description("Intraday delta update of one game")
+              .tag("outcome", succeeded ? "success" : "failure")
+              .register(meterRegistry));
+    }
+    return succeeded;
+  }
+}
@@ -3,13 +3,17 @@ package com.fortnite.pronos.service.scoring;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.fortnite.pronos.service.cache.CacheWarmupService;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Orchestrates the daily PR delta computation, scheduled at 08:00 UTC — after the nightly PR
  * ingestion window (05:00–08:00 UTC). Delegates all computation logic to {@link
- * TeamScoreDeltaBatchService}.
+ * TeamScoreDeltaBatchService}, then has the caches warmed again. During the window {@link
+ * TeamScoreDeltaIncrementalService} already updates the games each region run touches; this run
+ * catches whatever it skipped or failed.
  */
 @Slf4j
 @Service
@@ -17,11 +21,13 @@ import lombok.extern.slf4j.Slf4j;
 public class TeamScoreDeltaOrchestrationService {
 
   private final TeamScoreDeltaBatchService batchService;
+  private final CacheWarmupService cacheWarmupService;
 
   @Scheduled(cron = "${scoring.team.delta.cron:0 0 8 * * *}")
   public void runDailyDeltaComputation() {
     log.info("TeamScoreDeltaOrchestration: starting daily delta computation");
     batchService.computeAllGameDeltas();
+    cacheWarmupService.scheduleWarmup(CacheWarmupService.TRIGGER_DELTA_BATCH);
     log.info("TeamScoreDeltaOrchestration: completed daily delta computation");
   }
 }
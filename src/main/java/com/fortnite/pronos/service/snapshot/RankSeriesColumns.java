@@ -0,0 +1,196 @@
+package com.fortnite.pronos.service.snapshot;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rank and PR of every (player, region) series over a fixed window of days, in two flat primitive
+ * columns. A series owns {@code slots} consecutive cells, one per day, addressed as a ring by epoch
+ * day, so a sparkline is a slice of at most two contiguous runs and moving the window forward only
+ * clears the cells of the days that fall out. Rank 0 marks a day without snapshot (ranks start at
+ * 1).
+ *
+ * <p>The PR of the latest snapshot older than the window is kept per player as a carry-in value, so
+ * on-or-before reads are exact from the day before the window on. Not thread-safe; {@link
+ * RankSnapshotStore} guards its instance with its own lock.
+ */
+final class RankSeriesColumns {
+
+  static final int ABSENT = 0;
+
+  private static final int MIN_SERIES = 64;
+
+  private final int slots;
+  private long lastDay;
+
+  private int[] ranks;
+  private int[] prValues;
+  private String[] seriesRegion;
+  private int seriesCount;
+
+  private final Map<SeriesKey, Integer> seriesIndex = new HashMap<>();
+
+  /** Series of each player, sorted by region to match the database tie-break. */
+  private final Map<UUID, int[]> seriesByPlayer = new HashMap<>();
+
+  private final Map<UUID, Integer> carryPr;
+
+  RankSeriesColumns(int slots, long lastDay, Map<UUID, Integer> carryPr, int expectedSeries) {
+    this.slots = slots;
+    this.lastDay = lastDay;
+    this.carryPr = new HashMap<>(carryPr);
+    int capacity = Math.max(MIN_SERIES, expectedSeries);
+    ranks = new int[capacity * slots];
+    prValues = new int[capacity * slots];
+    seriesRegion = new String[capacity];
+  }
+
+  long firstDay() {
+    return lastDay - slots + 1;
+  }
+
+  long lastDay() {
+    return lastDay;
+  }
+
+  int seriesCount() {
+    return seriesCount;
+  }
+
+  /**
+   * Stores one snapshot, replacing the one of the same series and day. Days after the window move
+   * it forward; days before it are ignored and reported as {@code false}.
+   */
+  boolean put(UUID playerId, String region, long day, int rank, int prValue) {
+    if (day > lastDay) {
+      advanceTo(day);
+    } else if (day < firstDay()) {
+      return false;
+    }
+    int cell = seriesFor(playerId, region) * slots + slot(day);
+    ranks[cell] = rank;
+    prValues[cell] = prValue;
+    return true;
+  }
+
+  /** Moves the window so that it ends on {@code day}, folding the days it drops into the carry. */
+  void advanceTo(long day) {
+    if (day <= lastDay) {
+      return;
+    }
+    long lastDropped = Math.min(lastDay, day - slots);
+    for (long dropped = firstDay(); dropped <= lastDropped; dropped++) {
+      drop(dropped);
+    }
+    lastDay = day;
+  }
+
+  /**
+   * Days from {@code fromDay} to the end of the window on which the series has a snapshot, with
+   * their ranks and PR, oldest first.
+   */
+  RankSparkline slice(UUID playerId, String region, long fromDay) {
+    Integer series = seriesIndex.get(new SeriesKey(playerId, region));
+    if (series == null) {
+      return RankSparkline.EMPTY;
+    }
+    long from = Math.max(fromDay, firstDay());
+    int length = (int) Math.max(0, lastDay - from + 1);
+    long[] days = new long[length];
+    int[] sliceRanks = new int[length];
+    int[] slicePr = new int[length];
+    int size = 0;
+    int base = series * slots;
+    for (long day = from; day <= lastDay; day++) {
+      int cell = base + slot(day);
+      if (ranks[cell] != ABSENT) {
+        days[size] = day;
+        sliceRanks[size] = ranks[cell];
+        slicePr[size] = prValues[cell];
+        size++;
+      }
+    }
+    return RankSparkline.of(days, sliceRanks, slicePr, size);
+  }
+
+  /** Whether {@link #prOnOrBefore} is exact for {@code day}. */
+  boolean covers(long day) {
+    return day >= firstDay() - 1;
+  }
+
+  /**
+   * PR of the player's latest snapshot on or before {@code day} in any region, the first region in
+   * alphabetical order on a tie, or {@code null} when it has none. Only exact when {@link #covers}.
+   */
+  Integer prOnOrBefore(UUID playerId, long day) {
+    int[] series = seriesByPlayer.get(playerId);
+    if (series != null) {
+      for (long current = Math.min(day, lastDay); current >= firstDay(); current--) {
+        int slot = slot(current);
+        for (int index : series) {
+          int cell = index * slots + slot;
+          if (ranks[cell] != ABSENT) {
+            return prValues[cell];
+          }
+        }
+      }
+    }
+    return carryPr.get(playerId);
+  }
+
+  private void drop(long day) {
+    int slot = slot(day);
+    for (Map.Entry<UUID, int[]> player : seriesByPlayer.entrySet()) {
+      for (int index : player.getValue()) {
+        int cell = index * slots + slot;
+        if (ranks[cell] != ABSENT) {
+          carryPr.put(player.getKey(), prValues[cell]);
+          break;
+        }
+      }
+    }
+    for (int index = 0; index < seriesCount; index++) {
+      ranks[index * slots + slot] = ABSENT;
+      prValues[index * slots + slot] = ABSENT;
+    }
+  }
+
+  private int seriesFor(UUID playerId, String region) {
+    SeriesKey key = new SeriesKey(playerId, region);
+    Integer existing = seriesIndex.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    if (seriesCount == seriesRegion.length) {
+      grow();
+    }
+    int index = seriesCount++;
+    seriesRegion[index] = region;
+    seriesIndex.put(key, index);
+    int[] series = seriesByPlayer.getOrDefault(playerId, new int[0]);
+    int[] withNew = Arrays.copyOf(series, series.length + 1);
+    int position = withNew.length - 1;
+    while (position > 0 && seriesRegion[withNew[position - 1]].compareTo(region) > 0) {
+      withNew[position] = withNew[position - 1];
+      position--;
+    }
+    withNew[position] = index;
+    seriesByPlayer.put(playerId, withNew);
+    return index;
+  }
+
+  private void grow() {
+    int capacity = seriesRegion.length * 2;
+    ranks = Arrays.copyOf(ranks, capacity * slots);
+    prValues = Arrays.copyOf(prValues, capacity * slots);
+    seriesRegion = Arrays.copyOf(seriesRegion, capacity);
+  }
+
+  private int slot(long day) {
+    return (int) Math.floorMod(day, (long) slots);
+  }
+
+  private record SeriesKey(UUID playerId, String region) {}
+}
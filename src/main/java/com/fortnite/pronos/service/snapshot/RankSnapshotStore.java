@@ -0,0 +1,313 @@
+package com.fortnite.pronos.service.snapshot;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fortnite.pronos.domain.player.model.PrWindow;
+import com.fortnite.pronos.domain.player.model.RankSnapshot;
+import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process copy of the last {@value #WINDOW_DAYS} days of {@code rank_snapshots}, held in
+ * primitive day-indexed columns ({@link RankSeriesColumns}), so sparklines and the PR lookups of
+ * the delta computation are array reads instead of queries.
+ *
+ * <p>Loaded when the application is ready and again every night ({@code
+ * rank-snapshot.store.reload-cron}), to pick up rows written around it (SQL seeds, manual fixes).
+ * Snapshots recorded through {@code RankSnapshotService}, which copies every completed ingestion
+ * run, are appended once their transaction commits. The window moves forward on the first read of a
+ * new day. Until the first load completes {@link #isReady()} is false and callers query the
+ * database. Load durations are published as the {@code rank.snapshot.store.load} timer and the
+ * number of series as a gauge.
+ */
+@Component
+@Slf4j
+public class RankSnapshotStore {
+
+  public static final int WINDOW_DAYS = 90;
+
+  /** Today plus {@link #WINDOW_DAYS} days back, the range a sparkline may ask for. */
+  private static final int SLOTS = WINDOW_DAYS + 1;
+
+  private static final String METRIC_PREFIX = "rank.snapshot.store";
+
+  private final RankSnapshotRepositoryPort repository;
+  private final RankSnapshotStoreProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** Guarded by {@link #lock}; null until the first load. */
+  private RankSeriesColumns columns;
+
+  /** Guarded by {@link #lock}; rows appended while a load runs, replayed into its result. */
+  private List<PendingRow> pending;
+
+  private volatile boolean ready;
+
+  @Autowired
+  public RankSnapshotStore(
+      RankSnapshotRepositoryPort repository,
+      RankSnapshotStoreProperties properties,
+      MeterRegistry meterRegistry) {
+    this(repository, properties, meterRegistry, Clock.systemDefaultZone());
+  }
+
+  RankSnapshotStore(
+      RankSnapshotRepositoryPort repository,
+      RankSnapshotStoreProperties properties,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.repository = repository;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+  }
+
+  @PostConstruct
+  public void registerGauge() {
+    Gauge.builder(METRIC_PREFIX + ".series", this, RankSnapshotStore::seriesCount)
+        .description("(player, region) series held by the rank snapshot store")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (properties.isEnabled()) {
+      reload();
+    }
+  }
+
+  @Scheduled(cron = "${rank-snapshot.store.reload-cron:0 30 4 * * *}")
+  public void scheduledReload() {
+    if (properties.isEnabled()) {
+      reload();
+    }
+  }
+
+  /**
+   * Rebuilds the store from the database. Reads keep being served from the previous copy until the
+   * new one replaces it; a failed load keeps the previous copy.
+   */
+  public synchronized void reload() {
+    LocalDate today = LocalDate.now(clock);
+    LocalDate firstDay = today.minusDays(WINDOW_DAYS);
+    writeLocked(() -> pending = new ArrayList<>());
+    try {
+      RankSeriesColumns loaded =
+          Timer.builder(METRIC_PREFIX + ".load")
+              .description("Full load of the rank snapshot store")
+              .register(meterRegistry)
+              .record(() -> load(firstDay, today));
+      writeLocked(
+          () -> {
+            pending.forEach(row -> row.applyTo(loaded));
+            columns = loaded;
+            pending = null;
+          });
+      ready = true;
+      log.info(
+          "Rank snapshot store loaded: {} series from {} to {}",
+          loaded.seriesCount(),
+          firstDay,
+          today);
+    } catch (RuntimeException e) {
+      writeLocked(() -> pending = null);
+      log.warn("Rank snapshot store load failed, keeping the previous copy", e);
+    }
+  }
+
+  /** Whether the store has been loaded; until then callers must query the database. */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Snapshots of the series over the last {@code days} days (at most {@value #WINDOW_DAYS}), as
+   * {@code RankSnapshotRepositoryPort#findByPlayerAndRegion} would return them.
+   *
+   * @throws IllegalStateException if the store is not {@linkplain #isReady() ready}
+   */
+  public RankSparkline sparkline(UUID playerId, String region, int days) {
+    return read(loaded -> loaded.slice(playerId, region, fromDay(days)));
+  }
+
+  /** {@link #sparkline} of each of {@code playerIds} under one lock, in iteration order. */
+  public Map<UUID, RankSparkline> sparklines(Collection<UUID> playerIds, String region, int days) {
+    return read(
+        loaded -> {
+          long fromDay = fromDay(days);
+          Map<UUID, RankSparkline> sparklines = LinkedHashMap.newLinkedHashMap(playerIds.size());
+          for (UUID playerId : playerIds) {
+            sparklines.put(playerId, loaded.slice(playerId, region, fromDay));
+          }
+          return sparklines;
+        });
+  }
+
+  /**
+   * Same result as {@link RankSnapshotRepositoryPort#findPrWindows}, or empty when the store is not
+   * ready or {@code start} lies before its window.
+   */
+  public Optional<List<PrWindow>> prWindows(
+      Collection<UUID> playerIds, LocalDate start, LocalDate end) {
+    if (!ready) {
+      return Optional.empty();
+    }
+    return read(
+        loaded -> {
+          if (!loaded.covers(start.toEpochDay())) {
+            return Optional.empty();
+          }
+          List<PrWindow> windows = new ArrayList<>(playerIds.size());
+          for (UUID playerId : playerIds) {
+            Integer from = loaded.prOnOrBefore(playerId, start.toEpochDay());
+            Integer to = loaded.prOnOrBefore(playerId, end.toEpochDay());
+            if (from != null && to != null) {
+              windows.add(new PrWindow(playerId, from, to));
+            }
+          }
+          return Optional.of(windows);
+        });
+  }
+
+  /** Whether {@link #prWindows} can answer for a period starting on {@code start}. */
+  public boolean covers(LocalDate start) {
+    return ready && read(loaded -> loaded.covers(start.toEpochDay()));
+  }
+
+  /** Appends {@code snapshot} once the current transaction commits, at once without one. */
+  public void record(RankSnapshot snapshot) {
+    recordAll(List.of(snapshot));
+  }
+
+  /**
+   * Appends {@code snapshots} once the current transaction commits, at once without one; a day
+   * already held for a series is overwritten.
+   */
+  public void recordAll(Collection<RankSnapshot> snapshots) {
+    if (!properties.isEnabled() || snapshots.isEmpty()) {
+      return;
+    }
+    List<PendingRow> rows = new ArrayList<>(snapshots.size());
+    for (RankSnapshot snapshot : snapshots) {
+      rows.add(
+          new PendingRow(
+              snapshot.getPlayerId(),
+              snapshot.getRegion(),
+              snapshot.getSnapshotDate().toEpochDay(),
+              snapshot.getRank(),
+              snapshot.getPrValue()));
+    }
+    afterCommit(() -> writeLocked(() -> rows.forEach(this::append)));
+  }
+
+  private void append(PendingRow row) {
+    if (pending != null) {
+      pending.add(row);
+    }
+    if (columns != null) {
+      row.applyTo(columns);
+    }
+  }
+
+  private RankSeriesColumns load(LocalDate firstDay, LocalDate today) {
+    Map<UUID, Integer> carry = repository.findPrByPlayerOnOrBefore(firstDay.minusDays(1));
+    RankSeriesColumns loaded =
+        new RankSeriesColumns(SLOTS, today.toEpochDay(), carry, carry.size());
+    repository.forEachSince(
+        firstDay,
+        (playerId, region, snapshotDate, rank, prValue) ->
+            loaded.put(playerId, region, snapshotDate.toEpochDay(), rank, prValue));
+    return loaded;
+  }
+
+  private long fromDay(int days) {
+    return LocalDate.now(clock).toEpochDay() - Math.clamp(days, 0, WINDOW_DAYS);
+  }
+
+  /** Runs {@code reader} on the loaded columns, first moving their window to today if needed. */
+  private <T> T read(Function<RankSeriesColumns, T> reader) {
+    long today = LocalDate.now(clock).toEpochDay();
+    lock.readLock().lock();
+    try {
+      if (columns == null) {
+        throw new IllegalStateException("Rank snapshot store is not loaded");
+      }
+      if (columns.lastDay() >= today) {
+        return reader.apply(columns);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      columns.advanceTo(today);
+      return reader.apply(columns);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void writeLocked(Runnable change) {
+    lock.writeLock().lock();
+    try {
+      change.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private int seriesCount() {
+    lock.readLock().lock();
+    try {
+      return columns == null ? 0 : columns.seriesCount();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static void afterCommit(Runnable change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            change.run();
+          }
+        });
+  }
+
+  private record PendingRow(UUID playerId, String region, long day, int rank, int prValue) {
+    void applyTo(RankSeriesColumns target) {
+      target.put(playerId, region, day, rank, prValue);
+    }
+  }
+}
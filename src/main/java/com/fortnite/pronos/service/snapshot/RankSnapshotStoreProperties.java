@@ -0,0 +1,21 @@
+package com.fortnite.pronos.service.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Switch of the in-memory rank snapshot store ({@code rank-snapshot.store.*}). */
+@Component
+@ConfigurationProperties(prefix = "rank-snapshot.store")
+public class RankSnapshotStoreProperties {
+
+  /** When false, sparklines and delta lookups query {@code rank_snapshots} as before. */
+  private boolean enabled = true;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+}
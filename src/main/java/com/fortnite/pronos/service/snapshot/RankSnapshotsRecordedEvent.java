@@ -0,0 +1,16 @@
+package com.fortnite.pronos.service.snapshot;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The rank snapshots of {@code playerIds} changed, on days from {@code earliestDate} on, when the
+ * ingestion run {@code runId} was copied into them. Listeners see it after the copy commits.
+ */
+public record RankSnapshotsRecordedEvent(UUID runId, Set<UUID> playerIds, LocalDate earliestDate) {
+
+  public RankSnapshotsRecordedEvent {
+    playerIds = Set.copyOf(playerIds);
+  }
+}
@@ -0,0 +1,34 @@
+package com.fortnite.pronos.service.snapshot;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rank history of one player in one region, oldest first, as parallel arrays: {@code ranks[i]} and
+ * {@code prValues[i]} were recorded on {@code dates.get(i)}. Days without snapshot are left out.
+ */
+public record RankSparkline(List<LocalDate> dates, int[] ranks, int[] prValues) {
+
+  public static final RankSparkline EMPTY = new RankSparkline(List.of(), new int[0], new int[0]);
+
+  static RankSparkline of(long[] epochDays, int[] ranks, int[] prValues, int size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    LocalDate[] dates = new LocalDate[size];
+    for (int i = 0; i < size; i++) {
+      dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+    }
+    return new RankSparkline(
+        List.of(dates), Arrays.copyOf(ranks, size), Arrays.copyOf(prValues, size));
+  }
+
+  public int size() {
+    return dates.size();
+  }
+
+  public boolean isEmpty() {
+    return dates.isEmpty();
+  }
+}
@@ -0,0 +1,43 @@
+package com.fortnite.pronos.util;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sizes background worker pools to a share of the Hikari pool, so a batch or warm-up holding one
+ * connection per worker leaves the rest to user requests.
+ */
+@Slf4j
+public final class ConnectionPoolShare {
+
+  private ConnectionPoolShare() {}
+
+  /** Maximum size of the Hikari pool behind {@code dataSource}, or 0 when it is not Hikari. */
+  public static int maxPoolSize(DataSource dataSource) {
+    try {
+      if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+      }
+    } catch (SQLException e) {
+      log.debug("Cannot read the connection pool size: {}", e.getMessage());
+    }
+    return 0;
+  }
+
+  /**
+   * Workers for {@code tasks} tasks: {@code parallelism} within {@code maxPoolShare} of a pool of
+   * {@code maxPoolSize} connections (no cap when 0), at least 1 and at most {@code tasks}.
+   */
+  public static int concurrency(int parallelism, int maxPoolSize, double maxPoolShare, int tasks) {
+    int cap = parallelism;
+    if (maxPoolSize > 0) {
+      cap = Math.min(cap, (int) (maxPoolSize * maxPoolShare));
+    }
+    return Math.clamp(cap, 1, Math.max(1, tasks));
+  }
+}
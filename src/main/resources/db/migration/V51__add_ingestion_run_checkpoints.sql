@@ -0,0 +1,7 @@
+-- Chunk checkpoints of resumable PR ingestion runs
+
+ALTER TABLE ingestion_runs
+  ADD COLUMN IF NOT EXISTS committed_chunks INTEGER,
+  ADD COLUMN IF NOT EXISTS committed_rows INTEGER,
+  ADD COLUMN IF NOT EXISTS skipped_rows INTEGER,
+  ADD COLUMN IF NOT EXISTS csv_sha256 VARCHAR(64);
@@ -0,0 +1,10 @@
+-- Season points read by every leaderboard and statistics build
+-- scores holds one row per (player_id, season), so a season's points are read row by row rather
+-- than aggregated; the covering index lets that read be an index-only scan.
+
+CREATE INDEX IF NOT EXISTS idx_scores_season_points ON scores(season) INCLUDE (player_id, points);
+
+-- Superseded by idx_scores_season_points (same leading column)
+DROP INDEX IF EXISTS public.idx_scores_season;
+
+ANALYZE scores;
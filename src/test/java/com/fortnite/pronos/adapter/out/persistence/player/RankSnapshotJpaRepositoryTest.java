@@ -0,0 +1,114 @@
+package com.fortnite.pronos.adapter.out.persistence.player;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class RankSnapshotJpaRepositoryTest {
+
+  @Autowired private RankSnapshotJpaRepository repository;
+
+  @Test
+  void findLatestPrAtBoundsReadsTheLatestSnapshotOnOrBeforeEachDate() {
+    UUID player = UUID.randomUUID();
+    UUID lateStarter = UUID.randomUUID();
+    save(player, "EU", 100, "2025-01-01");
+    save(player, "EU", 150, "2025-02-01");
+    save(player, "NAC", 900, "2025-02-01");
+    save(player, "EU", 300, "2025-03-01");
+    save(lateStarter, "EU", 50, "2025-02-01");
+
+    List<Object[]> rows =
+        repository.findLatestPrAtBounds(
+            List.of(player, lateStarter),
+            LocalDate.parse("2025-01-15"),
+            LocalDate.parse("2025-02-10"));
+
+    assertThat(rows)
+        .extracting(
+            row -> RankSnapshotJpaRepository.uuidColumn(row[0]),
+            row -> ((Number) row[1]).intValue(),
+            row -> ((Number) row[2]).intValue())
+        .containsExactlyInAnyOrder(
+            tuple(player, 0, 100), tuple(player, 1, 150), tuple(lateStarter, 1, 50));
+  }
+
+  @Test
+  void findLatestPrOfEveryPlayerSkipsPlayersWithoutEarlierSnapshot() {
+    UUID player = UUID.randomUUID();
+    UUID lateStarter = UUID.randomUUID();
+    save(player, "EU", 100, "2025-01-01");
+    save(player, "EU", 150, "2025-02-01");
+    save(lateStarter, "EU", 50, "2025-02-01");
+
+    List<Object[]> rows = repository.findLatestPrOfEveryPlayer(LocalDate.parse("2025-01-31"));
+
+    assertThat(rows)
+        .extracting(
+            row -> RankSnapshotJpaRepository.uuidColumn(row[0]),
+            row -> ((Number) row[1]).intValue())
+        .containsExactly(tuple(player, 100));
+  }
+
+  @Test
+  void findLatestPrOfPlayersReadsOnlyTheRequestedPlayers() {
+    UUID player = UUID.randomUUID();
+    UUID notRequested = UUID.randomUUID();
+    save(player, "EU", 100, "2025-01-01");
+    save(player, "NAC", 120, "2025-01-01");
+    save(notRequested, "EU", 70, "2025-01-01");
+
+    List<Object[]> rows =
+        repository.findLatestPrOfPlayers(List.of(player), LocalDate.parse("2025-01-31"));
+
+    assertThat(rows)
+        .extracting(
+            row -> RankSnapshotJpaRepository.uuidColumn(row[0]),
+            row -> ((Number) row[1]).intValue())
+        .containsExactly(tuple(player, 100));
+  }
+
+  @Test
+  void findByPlayersAndRegionSinceReadsEveryRequestedPlayerInOneQuery() {
+    UUID player = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    UUID notRequested = UUID.randomUUID();
+    save(player, "EU", 100, "2025-01-01");
+    save(player, "EU", 150, "2025-02-01");
+    save(player, "NAC", 900, "2025-02-01");
+    save(other, "EU", 50, "2025-01-20");
+    save(notRequested, "EU", 70, "2025-02-01");
+
+    List<RankSnapshotEntity> rows =
+        repository.findByPlayersAndRegionSince(
+            List.of(player, other), "EU", LocalDate.parse("2025-01-10"));
+
+    assertThat(rows)
+        .extracting(RankSnapshotEntity::getPlayerId, RankSnapshotEntity::getPrValue)
+        .containsExactly(tuple(other, 50), tuple(player, 150));
+  }
+
+  private void save(UUID playerId, String region, int prValue, String date) {
+    RankSnapshotEntity entity = new RankSnapshotEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setPlayerId(playerId);
+    entity.setRegion(region);
+    entity.setRank(1);
+    entity.setPrValue(prValue);
+    entity.setSnapshotDate(LocalDate.parse(date));
+    repository.saveAndFlush(entity);
+  }
+}
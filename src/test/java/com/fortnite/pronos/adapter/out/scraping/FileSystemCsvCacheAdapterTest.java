@@ -0,0 +1,107 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortnite.pronos.model.PrRegion;
+
+@DisplayName("FileSystemCsvCacheAdapter")
+class FileSystemCsvCacheAdapterTest {
+
+  private static final String HEADER = "nickname,region,points,rank,snapshot_date\n";
+
+  @TempDir Path cacheDir;
+
+  private CsvCacheProperties props;
+
+  @BeforeEach
+  void setUp() {
+    props = new CsvCacheProperties();
+    props.setDirectory(cacheDir.toString());
+    props.setRetentionDays(3);
+  }
+
+  @Test
+  @DisplayName("save then load returns the saved value from a gzip snapshot")
+  void save_thenLoad_returnsValue() throws IOException {
+    String csv = HEADER + "Bugha,EU,12500,1,2026-03-17\n";
+
+    adapterOn("2026-03-17").save(PrRegion.EU, csv);
+
+    Path snapshot = cacheDir.resolve("EU").resolve("2026-03-17.csv.gz");
+    byte[] stored = Files.readAllBytes(snapshot);
+    assertThat(stored[0]).isEqualTo((byte) 0x1f);
+    assertThat(stored[1]).isEqualTo((byte) 0x8b);
+    assertThat(adapterOn("2026-03-17").load(PrRegion.EU)).contains(csv);
+  }
+
+  @Test
+  @DisplayName("snapshot survives a restart (new adapter instance)")
+  void load_afterRestart_returnsLastSnapshot() {
+    String csv = HEADER + "Aqua,NAC,11200,2,2026-03-17\n";
+    adapterOn("2026-03-17").save(PrRegion.NAC, csv);
+
+    Optional<String> result = adapterOn("2026-03-18").load(PrRegion.NAC);
+
+    assertThat(result).contains(csv);
+  }
+
+  @Test
+  @DisplayName("load returns empty Optional when nothing saved for region")
+  void load_returnsEmpty_whenNothingSaved() {
+    assertThat(adapterOn("2026-03-17").load(PrRegion.NAC)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("load returns the newest snapshot")
+  void load_returnsNewestSnapshot() {
+    String older = HEADER + "Player1,EU,5000,1,2026-03-16\n";
+    String newer = HEADER + "Player2,EU,9000,1,2026-03-17\n";
+    adapterOn("2026-03-16").save(PrRegion.EU, older);
+    adapterOn("2026-03-17").save(PrRegion.EU, newer);
+
+    assertThat(adapterOn("2026-03-17").load(PrRegion.EU)).contains(newer);
+  }
+
+  @Test
+  @DisplayName("falls back to the previous snapshot when the newest one is corrupted")
+  void load_skipsCorruptedSnapshot() throws IOException {
+    String valid = HEADER + "Player1,EU,5000,1,2026-03-16\n";
+    adapterOn("2026-03-16").save(PrRegion.EU, valid);
+    Files.write(
+        cacheDir.resolve("EU").resolve("2026-03-17.csv.gz"), new byte[] {0x1f, (byte) 0x8b, 1});
+
+    assertThat(adapterOn("2026-03-17").load(PrRegion.EU)).contains(valid);
+  }
+
+  @Test
+  @DisplayName("prunes snapshots older than the retention window and leaves no temp files")
+  void save_prunesExpiredSnapshots() throws IOException {
+    adapterOn("2026-03-10").save(PrRegion.EU, HEADER + "Old,EU,1,1,2026-03-10\n");
+    adapterOn("2026-03-15").save(PrRegion.EU, HEADER + "Kept,EU,1,1,2026-03-15\n");
+    adapterOn("2026-03-17").save(PrRegion.EU, HEADER + "New,EU,1,1,2026-03-17\n");
+
+    try (Stream<Path> files = Files.list(cacheDir.resolve("EU"))) {
+      assertThat(files.map(path -> path.getFileName().toString()))
+          .containsExactlyInAnyOrder("2026-03-15.csv.gz", "2026-03-17.csv.gz");
+    }
+  }
+
+  private FileSystemCsvCacheAdapter adapterOn(String date) {
+    Clock clock = Clock.fixed(Instant.parse(date + "T06:00:00Z"), ZoneOffset.UTC);
+    return new FileSystemCsvCacheAdapter(props, clock);
+  }
+}
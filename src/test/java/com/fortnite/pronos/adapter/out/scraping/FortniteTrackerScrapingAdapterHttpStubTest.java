@@ -0,0 +1,143 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import com.fortnite.pronos.model.PrRegion;
+
+/** Drives the adapter against a local HTTP stub standing in for Scrape.do. */
+@DisplayName("FortniteTrackerScrapingAdapter — local HTTP stub")
+class FortniteTrackerScrapingAdapterHttpStubTest {
+
+  private static final long RESPONSE_DELAY_MS = 150L;
+  private static final String SPENT_TOKEN = "spent";
+  private static final String THROTTLED_TOKEN = "throttled";
+  private static final long RATE_LIMIT_TTL_MS = 200L;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final List<String> requestedTokens = new CopyOnWriteArrayList<>();
+
+  private HttpServer server;
+  private byte[] leaderboardHtml;
+  private FortniteTrackerScrapingProperties props;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    leaderboardHtml =
+        new ClassPathResource("scraping/ft-leaderboard-eu-page1.html").getContentAsByteArray();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+
+    props = new FortniteTrackerScrapingProperties();
+    props.setScrapedoBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    props.setPagesPerRegion(4);
+    props.setProviderConcurrency(2);
+    props.setMaxAttempts(3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("fetches pages concurrently without exceeding the per-provider limit")
+  void fetchesPagesConcurrentlyWithinProviderLimit() {
+    props.setScrapedoToken("good");
+    FortniteTrackerScrapingAdapter adapter =
+        new FortniteTrackerScrapingAdapter(props, new RestTemplate());
+
+    Optional<String> csv = adapter.fetchCsv(PrRegion.EU);
+
+    assertThat(csv).isPresent();
+    assertThat(csv.get()).contains("Bugha,EU,12500,1,").contains("Clix,EU,9800,3,");
+    assertThat(requestedTokens).hasSize(4);
+    assertThat(maxInFlight.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("a key blacklisted on quota is skipped by later pages and regions")
+  void quotaBlacklistIsSharedAcrossPagesAndRegions() {
+    props.setScrapedoToken(SPENT_TOKEN + ",good");
+    props.setProviderConcurrency(1);
+    FortniteTrackerScrapingAdapter adapter =
+        new FortniteTrackerScrapingAdapter(props, new RestTemplate());
+
+    assertThat(adapter.fetchCsv(PrRegion.EU)).isPresent();
+    assertThat(requestedTokens).containsOnlyOnce(SPENT_TOKEN);
+
+    requestedTokens.clear();
+    assertThat(adapter.fetchCsv(PrRegion.NAC)).isPresent();
+    assertThat(requestedTokens).hasSize(4).doesNotContain(SPENT_TOKEN);
+  }
+
+  @Test
+  @DisplayName("a key answered with a bare 429 is skipped briefly, not for the session")
+  void bare429OnlySkipsTheKeyForTheRateLimitTtl() throws InterruptedException {
+    props.setScrapedoToken(THROTTLED_TOKEN + ",good");
+    props.setProviderConcurrency(1);
+    props.setKeyRateLimitTtlMs(RATE_LIMIT_TTL_MS);
+    FortniteTrackerScrapingAdapter adapter =
+        new FortniteTrackerScrapingAdapter(props, new RestTemplate());
+
+    assertThat(adapter.fetchCsv(PrRegion.EU)).isPresent();
+    assertThat(requestedTokens).contains(THROTTLED_TOKEN);
+
+    Thread.sleep(RATE_LIMIT_TTL_MS + 50);
+    requestedTokens.clear();
+    assertThat(adapter.fetchCsv(PrRegion.NAC)).isPresent();
+    assertThat(requestedTokens).contains(THROTTLED_TOKEN);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String query = exchange.getRequestURI().getQuery();
+    String token = query.substring(query.indexOf("token=") + "token=".length());
+    requestedTokens.add(token);
+    int current = inFlight.incrementAndGet();
+    maxInFlight.accumulateAndGet(current, Math::max);
+    try {
+      Thread.sleep(RESPONSE_DELAY_MS);
+      if (SPENT_TOKEN.equals(token) || THROTTLED_TOKEN.equals(token)) {
+        String message = SPENT_TOKEN.equals(token) ? "QUOTA_LIMIT_REACHED" : "Too Many Requests";
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(429, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+      exchange.sendResponseHeaders(200, leaderboardHtml.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(leaderboardHtml);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlight.decrementAndGet();
+      exchange.close();
+    }
+  }
+}
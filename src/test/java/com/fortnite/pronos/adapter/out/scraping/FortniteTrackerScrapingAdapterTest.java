@@ -264,9 +264,21 @@ class FortniteTrackerScrapingAdapterTest {
   class IsQuotaErrorTests {
 
     @Test
-    @DisplayName("detects 429 in message")
-    void isQuotaError_429inMessage_returnsTrue() {
-      assertThat(adapter.isQuotaError(new RuntimeException("429 Too Many Requests"))).isTrue();
+    @DisplayName("treats a bare 429 as a rate limit, not as a spent quota")
+    void isQuotaError_bare429_isRateLimitOnly() {
+      RuntimeException throttled = new RuntimeException("429 Too Many Requests");
+
+      assertThat(adapter.isQuotaError(throttled)).isFalse();
+      assertThat(adapter.isRateLimited(throttled)).isTrue();
+    }
+
+    @Test
+    @DisplayName("detects a 429 whose body reports the quota")
+    void isQuotaError_429withQuotaBody_returnsTrue() {
+      assertThat(
+              adapter.isQuotaError(
+                  new RuntimeException("429 Too Many Requests: \"Monthly quota exceeded\"")))
+          .isTrue();
     }
 
     @Test
@@ -312,7 +324,7 @@ class FortniteTrackerScrapingAdapterTest {
           new FortniteTrackerScrapingAdapter(props, restTemplate);
       when(restTemplate.exchange(
               any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-          .thenThrow(new RuntimeException("429 Too Many Requests"));
+          .thenThrow(new RuntimeException("429 Too Many Requests: QUOTA_LIMIT_REACHED"));
 
       Optional<List<ScrapedRow>> result = single.fetchPageWithRetry("EU", 1);
       assertThat(result).isEmpty();
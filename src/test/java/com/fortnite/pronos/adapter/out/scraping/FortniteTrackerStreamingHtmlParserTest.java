@@ -0,0 +1,135 @@
+package com.fortnite.pronos.adapter.out.scraping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Golden-file corpus under {@code scraping/golden}: each {@code <name>.html} page has a {@code
+ * <name>.expected.tsv} holding the rows produced by the JSoup parser (rank, points, nickname).
+ */
+@DisplayName("FortniteTrackerStreamingHtmlParser")
+class FortniteTrackerStreamingHtmlParserTest {
+
+  private static final String REGION = "EU";
+  private static final int PAGE_OFFSET = 100;
+
+  private FortniteTrackerStreamingHtmlParser streamingParser;
+  private FortniteTrackerHtmlParser jsoupParser;
+
+  @BeforeEach
+  void setUp() {
+    streamingParser = new FortniteTrackerStreamingHtmlParser();
+    jsoupParser = new FortniteTrackerHtmlParser();
+  }
+
+  @Nested
+  @DisplayName("golden corpus")
+  class GoldenCorpusTests {
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(
+        strings = {
+          "ft-realistic-page",
+          "ft-entities-and-whitespace",
+          "ft-missing-fields",
+          "ft-table-sections",
+          "ft-fallback-markup"
+        })
+    @DisplayName("matches the golden rows and the JSoup parser")
+    void parse_matchesGoldenRowsAndJsoupParser(String name) throws IOException {
+      String html = load("scraping/golden/" + name + ".html");
+      List<ScrapedRow> expected = loadGolden("scraping/golden/" + name + ".expected.tsv");
+
+      assertThat(streamingParser.parse(html, REGION, PAGE_OFFSET)).isEqualTo(expected);
+      assertThat(jsoupParser.parse(html, REGION, PAGE_OFFSET)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(
+        strings = {
+          "ft-realistic-page",
+          "ft-entities-and-whitespace",
+          "ft-missing-fields",
+          "ft-table-sections"
+        })
+    @DisplayName("well-formed pages are handled by the scanner without JSoup")
+    void scan_handlesWellFormedPagesItself(String name) throws IOException {
+      String html = load("scraping/golden/" + name + ".html");
+
+      assertThat(streamingParser.scan(html, REGION, PAGE_OFFSET))
+          .isEqualTo(loadGolden("scraping/golden/" + name + ".expected.tsv"));
+    }
+
+    @Test
+    @DisplayName("nested tables are left to JSoup")
+    void scan_rejectsNestedTables() throws IOException {
+      String html = load("scraping/golden/ft-fallback-markup.html");
+
+      assertThatThrownBy(() -> streamingParser.scan(html, REGION, PAGE_OFFSET))
+          .isInstanceOf(FortniteTrackerStreamingHtmlParser.UnsupportedMarkupException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("parse()")
+  class ParseTests {
+
+    @Test
+    @DisplayName("nominal fixture gives the same rows as the JSoup parser")
+    void parse_nominalFixture_sameAsJsoup() throws IOException {
+      String html = load("scraping/ft-leaderboard-eu-page1.html");
+
+      List<ScrapedRow> rows = streamingParser.parse(html, REGION, 0);
+
+      assertThat(rows).hasSize(3).isEqualTo(jsoupParser.parse(html, REGION, 0));
+    }
+
+    @Test
+    @DisplayName("page without tbody rows returns an empty list")
+    void parse_noRows_returnsEmpty() {
+      assertThat(streamingParser.parse("<table><tbody></tbody></table>", REGION, 0)).isEmpty();
+      assertThat(streamingParser.parse("<html><body>blocked</body></html>", REGION, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rows outside a table are ignored, as by the HTML tree builder")
+    void parse_rowsOutsideTable_ignored() {
+      String html =
+          "<tbody><tr><td><span class='leaderboard-user__nickname'>Loose</span></td>"
+              + "<td class='column--highlight'>5</td></tr></tbody>";
+
+      assertThat(streamingParser.parse(html, REGION, 0)).isEmpty();
+    }
+  }
+
+  private static String load(String path) throws IOException {
+    return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+  }
+
+  private static List<ScrapedRow> loadGolden(String path) throws IOException {
+    List<ScrapedRow> rows = new ArrayList<>();
+    for (String line : load(path).split("\n")) {
+      if (line.isBlank() || line.startsWith("#")) {
+        continue;
+      }
+      String[] fields = line.split("\t", 3);
+      rows.add(
+          new ScrapedRow(
+              fields[2], REGION, Integer.parseInt(fields[1]), Integer.parseInt(fields[0])));
+    }
+    return rows;
+  }
+}
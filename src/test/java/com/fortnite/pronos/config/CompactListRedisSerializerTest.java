@@ -0,0 +1,72 @@
+package com.fortnite.pronos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fortnite.pronos.dto.player.CataloguePlayerDto;
+
+@DisplayName("Compact Redis list serializers")
+class CompactListRedisSerializerTest {
+
+  private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+  private final CataloguePlayerRedisSerializer catalogue = new CataloguePlayerRedisSerializer(json);
+
+  @Test
+  @DisplayName("round-trips catalogue players, including nulls")
+  void roundTripsCataloguePlayers() {
+    List<CataloguePlayerDto> players =
+        List.of(
+            new CataloguePlayerDto(UUID.randomUUID(), "Bugha", "NAC", "1", false, 2025),
+            new CataloguePlayerDto(UUID.randomUUID(), "Kéké", "EU", null, true, null),
+            new CataloguePlayerDto(null, null, null, null, false, null));
+
+    assertThat(catalogue.deserialize(catalogue.serialize(players))).isEqualTo(players);
+  }
+
+  @Test
+  @DisplayName("writes far fewer bytes than the JSON serializer")
+  void binaryIsSmallerThanJson() {
+    List<CataloguePlayerDto> players = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      players.add(player(i));
+    }
+
+    int binary = catalogue.serialize(players).length;
+    int text = json.serialize(players).length;
+
+    assertThat(binary).isLessThan(text / 2);
+  }
+
+  @Test
+  @DisplayName("falls back to JSON for other values and still reads JSON payloads")
+  void fallsBackToJson() {
+    Map<String, Object> stats = new HashMap<>(Map.of("totalTeams", 12));
+    byte[] jsonList = json.serialize(new ArrayList<>(List.of(player(1))));
+
+    assertThat(catalogue.deserialize(catalogue.serialize(stats))).isEqualTo(stats);
+    assertThat(catalogue.deserialize(jsonList)).isEqualTo(List.of(player(1)));
+  }
+
+  @Test
+  @DisplayName("treats a payload from a newer format version as a miss")
+  void newerFormatVersionIsAMiss() {
+    byte[] bytes = catalogue.serialize(List.<CataloguePlayerDto>of());
+    bytes[1] = (byte) (CataloguePlayerRedisSerializer.FORMAT_VERSION + 1);
+
+    assertThat(catalogue.deserialize(bytes)).isNull();
+  }
+
+  private static CataloguePlayerDto player(int index) {
+    return new CataloguePlayerDto(
+        new UUID(index, index), "Player" + index, "EU", String.valueOf(1 + index % 7), false, 2025);
+  }
+}
@@ -0,0 +1,187 @@
+package com.fortnite.pronos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+@DisplayName("TwoTierCacheManager")
+class TwoTierCacheManagerTest {
+
+  private static final String CACHE = "players";
+
+  private final AtomicInteger remoteReads = new AtomicInteger();
+  private final List<TwoTierCacheManager> nodes = new ArrayList<>();
+  private MutableClock clock;
+  private SimpleCacheManager remote;
+  private NearCacheProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-06-01T10:00:00Z"));
+    remote = new SimpleCacheManager();
+    remote.setCaches(List.of(new CountingCache(CACHE, remoteReads)));
+    remote.afterPropertiesSet();
+    properties = new NearCacheProperties();
+    properties.setMaxEntries(2);
+    properties.setTtlSeconds(30);
+  }
+
+  @Test
+  @DisplayName("serves repeated reads from the local tier")
+  void repeatedReadsSkipRemote() {
+    Cache cache = node(this::broadcast).getCache(CACHE);
+    remote.getCache(CACHE).put("p1", "Bugha");
+
+    assertThat(cache.get("p1", String.class)).isEqualTo("Bugha");
+    assertThat(cache.get("p1", String.class)).isEqualTo("Bugha");
+
+    assertThat(remoteReads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("a put on one node evicts the local copy held by the others")
+  void putEvictsPeerCopies() {
+    Cache nodeA = node(this::broadcast).getCache(CACHE);
+    Cache nodeB = node(this::broadcast).getCache(CACHE);
+    nodeA.put("p1", "Bugha");
+    assertThat(nodeB.get("p1", String.class)).isEqualTo("Bugha");
+
+    nodeA.put("p1", "Mongraal");
+
+    assertThat(nodeB.get("p1", String.class)).isEqualTo("Mongraal");
+    assertThat(nodeA.get("p1", String.class)).isEqualTo("Mongraal");
+  }
+
+  @Test
+  @DisplayName("a clear on one node empties the local tier of the others")
+  void clearEmptiesPeerCopies() {
+    Cache nodeA = node(this::broadcast).getCache(CACHE);
+    Cache nodeB = node(this::broadcast).getCache(CACHE);
+    nodeA.put("p1", "Bugha");
+    nodeB.get("p1");
+
+    nodeA.clear();
+
+    assertThat(nodeB.get("p1")).isNull();
+  }
+
+  @Test
+  @DisplayName("falls back to the remote tier once a local entry is older than the TTL")
+  void expiredLocalEntriesAreReloaded() {
+    Cache cache = node(this::broadcast).getCache(CACHE);
+    remote.getCache(CACHE).put("p1", "Bugha");
+    cache.get("p1");
+
+    clock.plusSeconds(30);
+    cache.get("p1");
+
+    assertThat(remoteReads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("keeps at most max-entries keys per cache, dropping the least recently read")
+  void localTierIsBounded() {
+    Cache cache = node(this::broadcast).getCache(CACHE);
+    Cache backing = remote.getCache(CACHE);
+    backing.put("p1", "a");
+    backing.put("p2", "b");
+    backing.put("p3", "c");
+    cache.get("p1");
+    cache.get("p2");
+    cache.get("p1");
+
+    cache.get("p3");
+    cache.get("p1");
+    cache.get("p2");
+
+    assertThat(remoteReads).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("returns the remote caches untouched when disabled")
+  void disabledPassesThrough() {
+    properties.setEnabled(false);
+
+    assertThat(node(this::broadcast).getCache(CACHE)).isSameAs(remote.getCache(CACHE));
+  }
+
+  @Test
+  @DisplayName("still writes when the invalidation cannot be published")
+  void publishFailureDoesNotFailWrites() {
+    Cache cache =
+        node(message -> {
+              throw new IllegalStateException("redis down");
+            })
+            .getCache(CACHE);
+
+    assertThatCode(() -> cache.put("p1", "Bugha")).doesNotThrowAnyException();
+    assertThat(remote.getCache(CACHE).get("p1", String.class)).isEqualTo("Bugha");
+  }
+
+  private TwoTierCacheManager node(Consumer<String> publisher) {
+    TwoTierCacheManager node = new TwoTierCacheManager(remote, properties, publisher, clock);
+    node.afterPropertiesSet();
+    nodes.add(node);
+    return node;
+  }
+
+  private void broadcast(String message) {
+    nodes.forEach(node -> node.onInvalidation(message));
+  }
+
+  private static final class CountingCache extends ConcurrentMapCache {
+    private final AtomicInteger reads;
+
+    private CountingCache(String name, AtomicInteger reads) {
+      super(name);
+      this.reads = reads;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+      reads.incrementAndGet();
+      return super.lookup(key);
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+    private void plusSeconds(long seconds) {
+      instant = instant.plusSeconds(seconds);
+    }
+  }
+}
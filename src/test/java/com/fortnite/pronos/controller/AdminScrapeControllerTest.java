@@ -22,12 +22,14 @@ import com.fortnite.pronos.dto.admin.IngestionTriggerResultDto;
 import com.fortnite.pronos.dto.admin.PipelineAlertDto;
 import com.fortnite.pronos.dto.admin.PipelineAlertDto.AlertLevel;
 import com.fortnite.pronos.dto.admin.ScrapeLogDto;
+import com.fortnite.pronos.model.IngestionRun;
 import com.fortnite.pronos.model.PrRegion;
 import com.fortnite.pronos.service.admin.ScrapeLogService;
 import com.fortnite.pronos.service.admin.UnresolvedAlertService;
 import com.fortnite.pronos.service.ingestion.PrIngestionOrchestrationService;
 import com.fortnite.pronos.service.ingestion.PrIngestionOrchestrationService.BatchStatus;
 import com.fortnite.pronos.service.ingestion.PrIngestionOrchestrationService.MultiRegionIngestionResult;
+import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionResult;
 import com.fortnite.pronos.service.ingestion.ScrapingDryRunService;
 
 @ExtendWith(MockitoExtension.class)
@@ -222,4 +224,39 @@ class AdminScrapeControllerTest {
       assertThat(dto.regionFailures()).containsEntry("NAW", "smoke_check_failed");
     }
   }
+
+  @Nested
+  @DisplayName("POST /runs/{runId}/resume")
+  class PostResume {
+
+    @Test
+    @DisplayName("returns 200 with the resumed run result")
+    void resume_returnsOk_withResult() {
+      UUID runId = UUID.randomUUID();
+      PrIngestionResult serviceResult =
+          new PrIngestionResult(runId, IngestionRun.Status.SUCCESS, 0, 3, 3, 3, 0, 0);
+      when(orchestrationService.resumeRegion(PrRegion.NAW, runId)).thenReturn(serviceResult);
+
+      var response = controllerWithScheduler().resumeRun(runId, "naw");
+
+      assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+      assertThat(response.getBody()).isEqualTo(serviceResult);
+    }
+
+    @Test
+    @DisplayName("returns 400 for unknown region")
+    void resume_returns400ForUnknownRegion() {
+      var response = controllerWithScheduler().resumeRun(UUID.randomUUID(), "MARS");
+
+      assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("returns 503 when scheduler disabled")
+    void resume_returns503_whenSchedulerDisabled() {
+      var response = controllerWithoutScheduler().resumeRun(UUID.randomUUID(), "EU");
+
+      assertThat(response.getStatusCode().value()).isEqualTo(503);
+    }
+  }
 }
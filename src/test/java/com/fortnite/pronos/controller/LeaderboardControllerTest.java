@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
@@ -19,13 +20,18 @@ import com.fortnite.pronos.dto.LeaderboardEntryDTO;
 import com.fortnite.pronos.dto.LeaderboardStatsDTO;
 import com.fortnite.pronos.dto.PlayerLeaderboardEntryDTO;
 import com.fortnite.pronos.dto.PronostiqueurLeaderboardEntryDTO;
+import com.fortnite.pronos.dto.leaderboard.LeaderboardPageDto;
 import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.service.cache.LeaderboardCacheProperties;
+import com.fortnite.pronos.service.cache.LeaderboardCacheService;
 import com.fortnite.pronos.service.leaderboard.LeaderboardDebugService;
 import com.fortnite.pronos.service.leaderboard.LeaderboardStatsService;
 import com.fortnite.pronos.service.leaderboard.PlayerLeaderboardService;
 import com.fortnite.pronos.service.leaderboard.PronostiqueurLeaderboardService;
 import com.fortnite.pronos.service.leaderboard.TeamLeaderboardService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class LeaderboardControllerTest {
 
@@ -34,6 +40,11 @@ class LeaderboardControllerTest {
   @Mock private PronostiqueurLeaderboardService pronostiqueurLeaderboardService;
   @Mock private LeaderboardStatsService statsService;
   @Mock private LeaderboardDebugService debugService;
+
+  @Spy
+  private LeaderboardCacheService leaderboardCacheService =
+      new LeaderboardCacheService(new LeaderboardCacheProperties(), new SimpleMeterRegistry());
+
   @InjectMocks private LeaderboardController leaderboardController;
 
   @Test
@@ -67,6 +78,19 @@ class LeaderboardControllerTest {
     assertEquals(List.of(euEntry), response.getBody());
   }
 
+  @Test
+  void getLeaderboard_servesRepeatedSeasonReadsFromTheCache() {
+    List<LeaderboardEntryDTO> serviceEntries = List.of(entryWithRegion(Player.Region.EU));
+    when(teamLeaderboardService.getLeaderboard(2025)).thenReturn(serviceEntries);
+
+    leaderboardController.getLeaderboard(2025, null, null);
+    ResponseEntity<List<LeaderboardEntryDTO>> response =
+        leaderboardController.getLeaderboard(2025, null, null);
+
+    assertEquals(serviceEntries, response.getBody());
+    verify(teamLeaderboardService, times(1)).getLeaderboard(2025);
+  }
+
   // --- getLeaderboard with gameId ---
 
   @Test
@@ -131,6 +155,65 @@ class LeaderboardControllerTest {
     assertEquals(404, response.getStatusCodeValue());
   }
 
+  // --- paged reads ---
+
+  @Test
+  void getTopTeams_returnsTheFirstKTeams() {
+    LeaderboardPageDto page =
+        new LeaderboardPageDto(1, 40, List.of(entryWithRegion(Player.Region.EU)));
+    when(teamLeaderboardService.getTopTeams(2025, null, 1, false)).thenReturn(page);
+
+    ResponseEntity<LeaderboardPageDto> response =
+        leaderboardController.getTopTeams(2025, 1, null, false);
+
+    assertEquals(200, response.getStatusCodeValue());
+    assertSame(page, response.getBody());
+  }
+
+  @Test
+  void getLeaderboardPage_passesTheGameId() {
+    UUID gameId = UUID.randomUUID();
+    LeaderboardPageDto page = new LeaderboardPageDto(21, 25, List.of());
+    when(teamLeaderboardService.getLeaderboardPage(2025, gameId, 20, 10, true)).thenReturn(page);
+
+    ResponseEntity<LeaderboardPageDto> response =
+        leaderboardController.getLeaderboardPage(2025, 20, 10, gameId.toString(), true);
+
+    assertEquals(200, response.getStatusCodeValue());
+    assertSame(page, response.getBody());
+  }
+
+  @Test
+  void getLeaderboardPage_returnsBadRequest_onInvalidWindow() {
+    when(teamLeaderboardService.getLeaderboardPage(2025, null, 0, 500, true))
+        .thenThrow(new IllegalArgumentException("limit must be between 1 and 100"));
+
+    ResponseEntity<LeaderboardPageDto> response =
+        leaderboardController.getLeaderboardPage(2025, 0, 500, null, true);
+
+    assertEquals(400, response.getStatusCodeValue());
+  }
+
+  @Test
+  void getLeaderboardPage_returnsBadRequest_onMalformedGameId() {
+    ResponseEntity<LeaderboardPageDto> response =
+        leaderboardController.getLeaderboardPage(2025, 0, 10, "not-a-uuid", true);
+
+    assertEquals(400, response.getStatusCodeValue());
+    verifyNoInteractions(teamLeaderboardService);
+  }
+
+  @Test
+  void getTeamNeighbours_returnsNotFound_whenTeamIsNotRanked() {
+    when(teamLeaderboardService.getTeamNeighbours("missing", 2, true))
+        .thenThrow(new RuntimeException("Not found"));
+
+    ResponseEntity<LeaderboardPageDto> response =
+        leaderboardController.getTeamNeighbours("missing", 2, true);
+
+    assertEquals(404, response.getStatusCodeValue());
+  }
+
   // --- getLeaderboardStats ---
 
   @Test
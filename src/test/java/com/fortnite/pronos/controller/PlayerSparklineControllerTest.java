@@ -0,0 +1,83 @@
+package com.fortnite.pronos.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.fortnite.pronos.application.usecase.PlayerQueryUseCase;
+import com.fortnite.pronos.dto.player.PlayerSparklineResponse;
+import com.fortnite.pronos.service.RankSnapshotService;
+import com.fortnite.pronos.service.catalogue.FortnitePlayerSearchService;
+import com.fortnite.pronos.service.catalogue.PlayerCatalogueService;
+import com.fortnite.pronos.service.catalogue.PlayerDetailService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerController - Batch sparkline endpoint")
+class PlayerSparklineControllerTest {
+
+  private static final UUID PLAYER_1 = UUID.randomUUID();
+  private static final UUID PLAYER_2 = UUID.randomUUID();
+
+  @Mock private PlayerQueryUseCase playerQueryUseCase;
+  @Mock private RankSnapshotService rankSnapshotService;
+  @Mock private PlayerCatalogueService playerCatalogueService;
+  @Mock private PlayerDetailService playerDetailService;
+  @Mock private FortnitePlayerSearchService fortnitePlayerSearchService;
+
+  private PlayerController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller =
+        new PlayerController(
+            playerQueryUseCase,
+            rankSnapshotService,
+            playerCatalogueService,
+            playerDetailService,
+            fortnitePlayerSearchService);
+  }
+
+  @Nested
+  @DisplayName("GET /players/sparklines")
+  class GetSparklines {
+
+    @Test
+    void shouldReturn200WithOneSparklinePerPlayer() {
+      LocalDate date = LocalDate.of(2026, 2, 10);
+      List<PlayerSparklineResponse> sparklines =
+          List.of(
+              new PlayerSparklineResponse(PLAYER_1, List.of(date), new int[] {12}),
+              new PlayerSparklineResponse(PLAYER_2, List.of(), new int[0]));
+      when(rankSnapshotService.getSparklines(List.of(PLAYER_1, PLAYER_2), "EU", 14))
+          .thenReturn(sparklines);
+
+      var response = controller.getSparklines(List.of(PLAYER_1, PLAYER_2), "EU", 14);
+
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(response.getBody()).isSameAs(sparklines);
+    }
+
+    @Test
+    void shouldReturn400WhenTooManyPlayers() {
+      when(rankSnapshotService.getSparklines(List.of(PLAYER_1), "EU", 14))
+          .thenThrow(new IllegalArgumentException("too many"));
+
+      var response = controller.getSparklines(List.of(PLAYER_1), "EU", 14);
+
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+      assertThat(response.getBody()).isNull();
+    }
+  }
+}
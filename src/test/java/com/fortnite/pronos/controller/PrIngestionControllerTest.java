@@ -32,7 +32,7 @@ class PrIngestionControllerTest {
 
   @Test
   void returnsBadRequestWhenBodyIsEmpty() {
-    ResponseEntity<?> response = controller.ingestCsv(" ", "LOCAL", 2025, true);
+    ResponseEntity<?> response = controller.ingestCsv(" ", "LOCAL", 2025, true, false);
 
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     assertThat(response.getBody()).isEqualTo(Map.of("error", "csv_body_required"));
@@ -46,7 +46,7 @@ class PrIngestionControllerTest {
     when(ingestionService.ingest(any(), any())).thenReturn(result);
 
     String csv = "nickname,region,points,rank,snapshot_date\npixie,EU,1,1,2025-01-10";
-    ResponseEntity<?> response = controller.ingestCsv(csv, "LOCAL_PR", 2025, false);
+    ResponseEntity<?> response = controller.ingestCsv(csv, "LOCAL_PR", 2025, false, true);
 
     ArgumentCaptor<PrIngestionConfig> configCaptor =
         ArgumentCaptor.forClass(PrIngestionConfig.class);
@@ -57,5 +57,6 @@ class PrIngestionControllerTest {
     assertThat(configCaptor.getValue().source()).isEqualTo("LOCAL_PR");
     assertThat(configCaptor.getValue().season()).isEqualTo(2025);
     assertThat(configCaptor.getValue().writeScores()).isFalse();
+    assertThat(configCaptor.getValue().bulkWrites()).isTrue();
   }
 }
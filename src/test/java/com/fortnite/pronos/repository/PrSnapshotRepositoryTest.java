@@ -2,17 +2,24 @@ package com.fortnite.pronos.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.fortnite.pronos.adapter.out.persistence.player.RankSnapshotEntity;
+import com.fortnite.pronos.adapter.out.persistence.player.RankSnapshotJpaRepository;
+import com.fortnite.pronos.domain.player.model.RankSnapshot;
 import com.fortnite.pronos.model.IngestionRun;
 import com.fortnite.pronos.model.Player;
 import com.fortnite.pronos.model.PrRegion;
@@ -25,6 +32,8 @@ class PrSnapshotRepositoryTest {
   @Autowired private PlayerRepository playerRepository;
   @Autowired private PrSnapshotRepository prSnapshotRepository;
   @Autowired private IngestionRunRepository ingestionRunRepository;
+  @Autowired private RankSnapshotJpaRepository rankSnapshotRepository;
+  @Autowired private TestEntityManager entityManager;
 
   @Test
   void savesSnapshotWithRun() {
@@ -84,6 +93,34 @@ class PrSnapshotRepositoryTest {
     assertThat(found.getSnapshotDate()).isEqualTo(date);
   }
 
+  @Test
+  void copiesTheRunSnapshotsThatRankSnapshotsLackOrHoldWithOtherValues() {
+    Player pixie = savePlayer("runpixie");
+    Player muz = savePlayer("runmuz");
+    IngestionRun run = new IngestionRun();
+    run.setSource("LOCAL_PR_CSV");
+    run = ingestionRunRepository.saveAndFlush(run);
+    LocalDate date = LocalDate.parse("2025-01-10");
+    prSnapshotRepository.saveAndFlush(withPr(pixie, PrRegion.EU, date, run, 100, 1));
+    prSnapshotRepository.saveAndFlush(withPr(pixie, PrRegion.EU, date.minusDays(1), run, 90, 1));
+    prSnapshotRepository.saveAndFlush(withPr(muz, PrRegion.EU, date, run, 80, 2));
+    prSnapshotRepository.saveAndFlush(withPr(muz, PrRegion.NAC, date, null, 70, 3));
+    rankSnapshotRepository.saveAndFlush(rankSnapshot(pixie, date.minusDays(1), 1, 90));
+    rankSnapshotRepository.saveAndFlush(rankSnapshot(muz, date, 5, 60));
+
+    List<RankSnapshot> copied = prSnapshotRepository.copyRunToRankSnapshots(run.getId());
+
+    assertThat(copied)
+        .extracting(RankSnapshot::getPlayerId, RankSnapshot::getRank, RankSnapshot::getPrValue)
+        .containsExactlyInAnyOrder(tuple(pixie.getId(), 1, 100), tuple(muz.getId(), 2, 80));
+    entityManager.clear();
+    assertThat(rankSnapshotRepository.findAll())
+        .extracting(RankSnapshotEntity::getPlayerId, RankSnapshotEntity::getPrValue)
+        .containsExactlyInAnyOrder(
+            tuple(pixie.getId(), 100), tuple(pixie.getId(), 90), tuple(muz.getId(), 80));
+    assertThat(prSnapshotRepository.copyRunToRankSnapshots(run.getId())).isEmpty();
+  }
+
   @Test
   void rejectsMissingPlayer() {
     PrSnapshot snapshot =
@@ -102,6 +139,24 @@ class PrSnapshotRepositoryTest {
     return playerRepository.saveAndFlush(player);
   }
 
+  private PrSnapshot withPr(
+      Player player, PrRegion region, LocalDate date, IngestionRun run, int prValue, int rank) {
+    PrSnapshot snapshot = buildSnapshot(player, region, date, run, prValue, rank);
+    snapshot.setPrValue(prValue);
+    return snapshot;
+  }
+
+  private RankSnapshotEntity rankSnapshot(Player player, LocalDate date, int rank, int prValue) {
+    RankSnapshotEntity entity = new RankSnapshotEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setPlayerId(player.getId());
+    entity.setRegion("EU");
+    entity.setRank(rank);
+    entity.setPrValue(prValue);
+    entity.setSnapshotDate(date);
+    return entity;
+  }
+
   private PrSnapshot buildSnapshot(
       Player player, PrRegion region, LocalDate date, IngestionRun run, int points, int rank) {
     PrSnapshot snapshot = new PrSnapshot();
@@ -0,0 +1,57 @@
+package com.fortnite.pronos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.PlayerSeasonPoints;
+import com.fortnite.pronos.model.Score;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class ScoreRepositoryTest {
+
+  @Autowired private PlayerRepository playerRepository;
+  @Autowired private ScoreRepository scoreRepository;
+
+  @Test
+  void readsSeasonPointsPerPlayer() {
+    Player pixie = playerRepository.saveAndFlush(buildPlayer("pixie"));
+    Player bugha = playerRepository.saveAndFlush(buildPlayer("bugha"));
+    scoreRepository.saveAndFlush(buildScore(pixie, 2025, 120));
+    scoreRepository.saveAndFlush(buildScore(bugha, 2025, 80));
+    scoreRepository.saveAndFlush(buildScore(pixie, 2024, 999));
+
+    assertThat(scoreRepository.findSeasonPoints(2025))
+        .containsExactlyInAnyOrder(
+            new PlayerSeasonPoints(pixie.getId(), 120), new PlayerSeasonPoints(bugha.getId(), 80));
+    assertThat(scoreRepository.findAllBySeasonGroupedByPlayer(2025))
+        .containsOnlyKeys(pixie.getId(), bugha.getId())
+        .containsEntry(pixie.getId(), 120);
+  }
+
+  private Score buildScore(Player player, int season, int points) {
+    Score score = new Score();
+    score.setPlayer(player);
+    score.setSeason(season);
+    score.setPoints(points);
+    return score;
+  }
+
+  private Player buildPlayer(String nickname) {
+    Player player = new Player();
+    player.setUsername(nickname);
+    player.setNickname(nickname);
+    player.setRegion(Player.Region.EU);
+    player.setTranche("1-5");
+    player.setCurrentSeason(2025);
+    return player;
+  }
+}
@@ -0,0 +1,89 @@
+package com.fortnite.pronos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fortnite.pronos.model.TeamScoreDeltaEntity;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class TeamScoreDeltaJpaRepositoryTest {
+
+  private static final LocalDate START = LocalDate.parse("2025-01-01");
+  private static final LocalDate END = LocalDate.parse("2025-01-31");
+
+  @Autowired private TeamScoreDeltaJpaRepository repository;
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void upsertUpdatesExistingRowAndKeepsItsId() {
+    UUID gameId = UUID.randomUUID();
+    UUID participantId = UUID.randomUUID();
+    TeamScoreDeltaEntity first = delta(gameId, participantId, START, END, 100);
+    repository.upsertDeltas(List.of(first));
+
+    int written =
+        repository.upsertDeltas(
+            List.of(
+                delta(gameId, participantId, START, END, 250),
+                delta(gameId, UUID.randomUUID(), START, END, -40)));
+    entityManager.clear();
+
+    assertThat(written).isEqualTo(2);
+    assertThat(repository.findByGameIdAndParticipantId(gameId, participantId))
+        .get()
+        .satisfies(
+            saved -> {
+              assertThat(saved.getId()).isEqualTo(first.getId());
+              assertThat(saved.getDeltaPr()).isEqualTo(250);
+            });
+    assertThat(repository.findByGameId(gameId)).hasSize(2);
+  }
+
+  @Test
+  void deleteOtherPeriodsKeepsOnlyTheGivenPeriodOfTheGame() {
+    UUID gameId = UUID.randomUUID();
+    UUID otherGameId = UUID.randomUUID();
+    repository.upsertDeltas(
+        List.of(
+            delta(gameId, UUID.randomUUID(), START, END, 1),
+            delta(gameId, UUID.randomUUID(), START, END.minusDays(1), 2),
+            delta(otherGameId, UUID.randomUUID(), START, END.minusDays(1), 3)));
+
+    int deleted = repository.deleteOtherPeriods(gameId, START, END);
+    entityManager.clear();
+
+    assertThat(deleted).isEqualTo(1);
+    assertThat(repository.findByGameId(gameId))
+        .extracting(TeamScoreDeltaEntity::getDeltaPr)
+        .containsExactly(1);
+    assertThat(repository.findByGameId(otherGameId)).hasSize(1);
+  }
+
+  private static TeamScoreDeltaEntity delta(
+      UUID gameId, UUID participantId, LocalDate start, LocalDate end, int deltaPr) {
+    TeamScoreDeltaEntity entity = new TeamScoreDeltaEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setGameId(gameId);
+    entity.setParticipantId(participantId);
+    entity.setPeriodStart(start);
+    entity.setPeriodEnd(end);
+    entity.setDeltaPr(deltaPr);
+    entity.setComputedAt(LocalDateTime.now());
+    return entity;
+  }
+}
@@ -1,13 +1,20 @@
 package com.fortnite.pronos.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,16 +24,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.fortnite.pronos.domain.player.model.RankSnapshot;
 import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+import com.fortnite.pronos.dto.player.PlayerSparklineResponse;
 import com.fortnite.pronos.dto.player.RankSnapshotResponse;
+import com.fortnite.pronos.service.ingestion.PrIngestionCompletedEvent;
+import com.fortnite.pronos.service.snapshot.RankSnapshotStore;
+import com.fortnite.pronos.service.snapshot.RankSnapshotsRecordedEvent;
+import com.fortnite.pronos.service.snapshot.RankSparkline;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RankSnapshotService")
 class RankSnapshotServiceTest {
 
   @Mock private RankSnapshotRepositoryPort repository;
+  @Mock private RankSnapshotStore store;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   private RankSnapshotService service;
 
@@ -35,7 +50,7 @@ class RankSnapshotServiceTest {
 
   @BeforeEach
   void setUp() {
-    service = new RankSnapshotService(repository);
+    service = new RankSnapshotService(repository, store, eventPublisher);
   }
 
   // ===== getSparkline =====
@@ -98,6 +113,24 @@ class RankSnapshotServiceTest {
       verify(repository).findByPlayerAndRegion(PLAYER_ID, REGION, 90);
     }
 
+    @Test
+    @DisplayName("reads the store instead of the repository once it is loaded")
+    void shouldReadStoreWhenReady() {
+      LocalDate date = LocalDate.of(2026, 2, 10);
+      when(store.isReady()).thenReturn(true);
+      when(store.sparkline(PLAYER_ID, REGION, 14))
+          .thenReturn(
+              new RankSparkline(
+                  List.of(date, date.plusDays(1)), new int[] {40, 37}, new int[] {1400, 1500}));
+
+      List<RankSnapshotResponse> result = service.getSparkline(PLAYER_ID, REGION, 14);
+
+      assertThat(result)
+          .containsExactly(
+              new RankSnapshotResponse(date, 40), new RankSnapshotResponse(date.plusDays(1), 37));
+      verifyNoInteractions(repository);
+    }
+
     @Test
     @DisplayName("passes days unchanged when within limit")
     void shouldPassDaysWithinLimit() {
@@ -109,6 +142,72 @@ class RankSnapshotServiceTest {
     }
   }
 
+  // ===== getSparklines =====
+
+  @Nested
+  @DisplayName("getSparklines")
+  class GetSparklines {
+
+    private final UUID otherPlayerId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("groups one query's rows per player, in request order, empty when none")
+    void shouldGroupOneQueryPerPlayer() {
+      LocalDate today = LocalDate.now();
+      RankSnapshot older =
+          RankSnapshot.restore(UUID.randomUUID(), PLAYER_ID, REGION, 50, 1000, today.minusDays(2));
+      RankSnapshot newer =
+          RankSnapshot.restore(UUID.randomUUID(), PLAYER_ID, REGION, 45, 1100, today.minusDays(1));
+      when(repository.findByPlayersAndRegion(Set.of(otherPlayerId, PLAYER_ID), REGION, 14))
+          .thenReturn(List.of(newer, older));
+
+      List<PlayerSparklineResponse> result =
+          service.getSparklines(List.of(otherPlayerId, PLAYER_ID, otherPlayerId), REGION, 14);
+
+      assertThat(result)
+          .extracting(PlayerSparklineResponse::playerId)
+          .containsExactly(otherPlayerId, PLAYER_ID);
+      assertThat(result.get(0).dates()).isEmpty();
+      assertThat(result.get(0).ranks()).isEmpty();
+      assertThat(result.get(1).dates()).containsExactly(today.minusDays(2), today.minusDays(1));
+      assertThat(result.get(1).ranks()).containsExactly(50, 45);
+    }
+
+    @Test
+    @DisplayName("reads the store in one lookup once it is loaded, days capped at 90")
+    void shouldReadStoreWhenReady() {
+      LocalDate date = LocalDate.of(2026, 2, 10);
+      Map<UUID, RankSparkline> sparklines = new LinkedHashMap<>();
+      sparklines.put(PLAYER_ID, new RankSparkline(List.of(date), new int[] {37}, new int[] {1500}));
+      sparklines.put(otherPlayerId, RankSparkline.EMPTY);
+      when(store.isReady()).thenReturn(true);
+      when(store.sparklines(Set.of(PLAYER_ID, otherPlayerId), REGION, 90)).thenReturn(sparklines);
+
+      List<PlayerSparklineResponse> result =
+          service.getSparklines(List.of(PLAYER_ID, otherPlayerId), REGION, 365);
+
+      assertThat(result)
+          .extracting(PlayerSparklineResponse::playerId)
+          .containsExactly(PLAYER_ID, otherPlayerId);
+      assertThat(result.get(0).dates()).containsExactly(date);
+      assertThat(result.get(0).ranks()).containsExactly(37);
+      verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("rejects batches above MAX_BATCH_PLAYERS")
+    void shouldRejectOversizedBatch() {
+      List<UUID> ids =
+          Stream.generate(UUID::randomUUID)
+              .limit(RankSnapshotService.MAX_BATCH_PLAYERS + 1L)
+              .toList();
+
+      assertThatThrownBy(() -> service.getSparklines(ids, REGION, 14))
+          .isInstanceOf(IllegalArgumentException.class);
+      verifyNoInteractions(repository, store);
+    }
+  }
+
   // ===== recordSnapshot =====
 
   @Nested
@@ -139,6 +238,7 @@ class RankSnapshotServiceTest {
       RankSnapshot result = service.recordSnapshot(PLAYER_ID, REGION, 42, 1800);
 
       assertThat(result).isEqualTo(saved);
+      verify(store).record(saved);
     }
 
     @Test
@@ -153,4 +253,45 @@ class RankSnapshotServiceTest {
       assertThat(captor.getValue().getRegion()).isEqualTo("NAE");
     }
   }
+
+  // ===== onIngestionCompleted =====
+
+  @Nested
+  @DisplayName("onIngestionCompleted")
+  class OnIngestionCompleted {
+
+    private final UUID runId = UUID.randomUUID();
+    private final UUID otherPlayerId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("records the copied rows and announces their players from the earliest date")
+    void shouldRecordAndAnnounceCopiedRows() {
+      LocalDate date = LocalDate.of(2026, 2, 10);
+      List<RankSnapshot> copied =
+          List.of(
+              new RankSnapshot(PLAYER_ID, REGION, 3, 1500, date),
+              new RankSnapshot(PLAYER_ID, REGION, 4, 1400, date.minusDays(1)),
+              new RankSnapshot(otherPlayerId, REGION, 9, 900, date));
+      when(repository.copyFromIngestionRun(runId)).thenReturn(copied);
+
+      service.onIngestionCompleted(new PrIngestionCompletedEvent(runId, "LOCAL_PR_CSV", 3));
+
+      verify(store).recordAll(copied);
+      verify(eventPublisher)
+          .publishEvent(
+              new RankSnapshotsRecordedEvent(
+                  runId, Set.of(PLAYER_ID, otherPlayerId), date.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("announces nothing when the run changed no rank snapshot")
+    void shouldStayQuietWhenNothingWasCopied() {
+      when(repository.copyFromIngestionRun(runId)).thenReturn(List.of());
+
+      service.onIngestionCompleted(new PrIngestionCompletedEvent(runId, "LOCAL_PR_CSV", 3));
+
+      verify(store, never()).recordAll(any());
+      verifyNoInteractions(eventPublisher);
+    }
+  }
 }
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.fortnite.pronos.domain.port.out.PlayerRepositoryPort;
 import com.fortnite.pronos.domain.port.out.ScoreRepositoryPort;
@@ -23,6 +24,7 @@ import com.fortnite.pronos.domain.port.out.TeamRepositoryPort;
 import com.fortnite.pronos.domain.port.out.UserRepositoryPort;
 import com.fortnite.pronos.model.*;
 import com.fortnite.pronos.repository.*;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngine;
 
 /**
  * TDD Tests for ScoreService - Business Critical Component
@@ -43,6 +45,8 @@ class ScoreServiceTddTest {
   @Mock private PlayerRepositoryPort playerRepository;
   @Mock private TeamRepositoryPort teamRepository;
   @Mock private UserRepositoryPort userRepository;
+  @Mock private LeaderboardEngine leaderboardEngine;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private ScoreService scoreService;
 
@@ -170,6 +174,7 @@ class ScoreServiceTddTest {
                           && score.getPoints() == newPoints
                           && score.getTimestamp().equals(testTimestamp)));
       verify(teamRepository).findTeamsWithActivePlayer(playerId1);
+      verify(leaderboardEngine).playerPointsChanged(testSeason, playerId1, newPoints);
     }
 
     @Test
@@ -194,6 +199,7 @@ class ScoreServiceTddTest {
 
       verify(scoreRepositoryPort()).save(testScore1);
       verify(scoreRepositoryPort(), never()).save(argThat(score -> score != testScore1));
+      verify(leaderboardEngine).playerPointsChanged(testSeason, playerId1, updatedPoints - 1500);
     }
 
     @Test
@@ -503,6 +509,7 @@ class ScoreServiceTddTest {
 
       assertThat(result.getTimestamp()).isEqualTo(existingTimestamp);
       verify(scoreRepositoryPort()).save(testScore1);
+      verify(leaderboardEngine).seasonScoresReplaced(testSeason);
     }
 
     @Test
@@ -516,6 +523,8 @@ class ScoreServiceTddTest {
 
       verify(scoreRepository).findByPlayerIdOrderByTimestampDesc(playerId1);
       verify(scoreRepository).deleteAll(playerScores);
+      verify(leaderboardEngine).playerPointsChanged(testSeason, playerId1, -1500);
+      verify(leaderboardEngine).playerPointsChanged(testSeason, playerId1, -800);
     }
 
     @Test
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.fortnite.pronos.domain.game.model.PlayerRegion;
 import com.fortnite.pronos.domain.player.model.Player;
@@ -49,6 +50,7 @@ class TeamServiceTddTest {
   @Mock private TeamRepository teamRepository;
   @Mock private UserRepositoryPort userRepository;
   @Mock private TeamPlayerRepository teamPlayerRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private TeamService teamService;
 
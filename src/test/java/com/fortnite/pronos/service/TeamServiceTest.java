@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.fortnite.pronos.domain.game.model.PlayerRegion;
 import com.fortnite.pronos.domain.player.model.Player;
@@ -32,6 +34,7 @@ import com.fortnite.pronos.domain.team.model.TeamMember;
 import com.fortnite.pronos.dto.team.TeamDto;
 import com.fortnite.pronos.repository.TeamPlayerRepository;
 import com.fortnite.pronos.repository.TeamRepository;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TeamService - Domain Port Migration Tests")
@@ -43,6 +46,7 @@ class TeamServiceTest {
   @Mock private TeamRepository teamRepository;
   @Mock private UserRepositoryPort userRepository;
   @Mock private TeamPlayerRepository teamPlayerRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private TeamService teamService;
 
@@ -219,6 +223,9 @@ class TeamServiceTest {
     teamService.deleteTeam(testTeam.getId());
 
     verify(teamRepository).deleteById(testTeam.getId());
+    verify(eventPublisher)
+        .publishEvent(
+            new CacheChangeEvent.TeamsChanged(testTeam.getSeason(), Set.of(testTeam.getId())));
   }
 
   @Test
@@ -15,11 +15,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.fortnite.pronos.exception.BusinessException;
 import com.fortnite.pronos.model.*;
 import com.fortnite.pronos.repository.*;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngine;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -40,6 +43,10 @@ class TradingServiceTddTest {
 
   @Mock private TradeNotificationService tradeNotificationService;
 
+  @Mock private LeaderboardEngine leaderboardEngine;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private TradingService tradingService;
 
   private Game game;
@@ -274,6 +281,8 @@ class TradingServiceTddTest {
     @DisplayName("Devrait accepter un trade valide et échanger les joueurs")
     void shouldAcceptValidTradeAndSwapPlayers() {
       // Given
+      team1.setSeason(2025);
+      team2.setSeason(2025);
       when(((com.fortnite.pronos.domain.port.out.TradeRepositoryPort) tradeRepository)
               .findById(pendingTrade.getId()))
           .thenReturn(Optional.of(pendingTrade));
@@ -295,6 +304,11 @@ class TradingServiceTddTest {
 
       verify(teamRepository, times(2)).save(any(Team.class));
       verify(tradeRepository).save(acceptedTrade);
+      verify(leaderboardEngine).rosterChanged(team1.getId(), List.of(player1), List.of(player2));
+      verify(leaderboardEngine).rosterChanged(team2.getId(), List.of(player2), List.of(player1));
+      verify(eventPublisher)
+          .publishEvent(
+              new CacheChangeEvent.TeamsChanged(2025, Set.of(team1.getId(), team2.getId()), true));
     }
 
     @Test
@@ -0,0 +1,107 @@
+package com.fortnite.pronos.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CacheInvalidator")
+class CacheInvalidatorTest {
+
+  private ConcurrentMapCacheManager cacheManager;
+  private LeaderboardCacheService leaderboardCache;
+  private CacheInvalidator invalidator;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager =
+        new ConcurrentMapCacheManager(
+            CacheInvalidator.GAME_STATS,
+            CacheInvalidator.REGION_DISTRIBUTION,
+            CacheInvalidator.CATALOGUE_ALL,
+            CacheInvalidator.CATALOGUE_REGION,
+            CacheInvalidator.PLAYER_PAGES);
+    leaderboardCache =
+        new LeaderboardCacheService(new LeaderboardCacheProperties(), new SimpleMeterRegistry());
+    invalidator = new CacheInvalidator(cacheManager, leaderboardCache);
+  }
+
+  @Test
+  @DisplayName("a score change drops that season's statistics and leaderboards only")
+  void scoresChangedEvictsTheSeason() {
+    Cache gameStats = cache(CacheInvalidator.GAME_STATS);
+    gameStats.put(2025, "stats 2025");
+    gameStats.put(2024, "stats 2024");
+    gameStats.put(CacheInvalidator.GAME_STATS_DEFAULT_KEY, "stats default");
+    leaderboardCache.get(LeaderboardCacheService.TEAMS, 2025, () -> List.of("cached"));
+    leaderboardCache.get(LeaderboardCacheService.TEAMS, 2024, () -> List.of("cached"));
+
+    invalidator.onChange(new CacheChangeEvent.ScoresChanged(2025, Set.of(UUID.randomUUID())));
+
+    assertThat(gameStats.get(2025)).isNull();
+    assertThat(gameStats.get(CacheInvalidator.GAME_STATS_DEFAULT_KEY)).isNull();
+    assertThat(gameStats.get(2024)).isNotNull();
+    assertThat(leaderboardCache.get(LeaderboardCacheService.TEAMS, 2025, () -> List.of("fresh")))
+        .containsExactly("fresh");
+    assertThat(leaderboardCache.get(LeaderboardCacheService.TEAMS, 2024, () -> List.of("fresh")))
+        .containsExactly("cached");
+  }
+
+  @Test
+  @DisplayName("a roster change drops the season like a score change")
+  void teamsChangedEvictsTheSeason() {
+    cache(CacheInvalidator.GAME_STATS).put(2025, "stats 2025");
+
+    invalidator.onChange(new CacheChangeEvent.TeamsChanged(2025, Set.of(UUID.randomUUID())));
+
+    assertThat(cache(CacheInvalidator.GAME_STATS).get(2025)).isNull();
+  }
+
+  @Test
+  @DisplayName("a player change drops its regions and the cross-region aggregates")
+  void playersChangedEvictsTheirRegions() {
+    Cache catalogueRegion = cache(CacheInvalidator.CATALOGUE_REGION);
+    catalogueRegion.put("EU", List.of("eu"));
+    catalogueRegion.put("NAC", List.of("nac"));
+    cache(CacheInvalidator.CATALOGUE_ALL).put(CacheInvalidator.CATALOGUE_ALL_KEY, List.of("all"));
+    cache(CacheInvalidator.REGION_DISTRIBUTION).put("all_regions", "distribution");
+    cache(CacheInvalidator.PLAYER_PAGES).put("0_20_UNSORTED", "page");
+    cache(CacheInvalidator.GAME_STATS).put(2025, "stats 2025");
+
+    invalidator.onChange(new CacheChangeEvent.PlayersChanged(Set.of("EU")));
+
+    assertThat(catalogueRegion.get("EU")).isNull();
+    assertThat(catalogueRegion.get("NAC")).isNotNull();
+    assertThat(cache(CacheInvalidator.CATALOGUE_ALL).get(CacheInvalidator.CATALOGUE_ALL_KEY))
+        .isNull();
+    assertThat(cache(CacheInvalidator.REGION_DISTRIBUTION).get("all_regions")).isNull();
+    assertThat(cache(CacheInvalidator.PLAYER_PAGES).get("0_20_UNSORTED")).isNull();
+    assertThat(cache(CacheInvalidator.GAME_STATS).get(2025)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("a player change in any region drops every region")
+  void playersChangedInAnyRegionClearsTheCatalogue() {
+    Cache catalogueRegion = cache(CacheInvalidator.CATALOGUE_REGION);
+    catalogueRegion.put("EU", List.of("eu"));
+    catalogueRegion.put("NAC", List.of("nac"));
+
+    invalidator.onChange(CacheChangeEvent.PlayersChanged.anyRegion());
+
+    assertThat(catalogueRegion.get("EU")).isNull();
+    assertThat(catalogueRegion.get("NAC")).isNull();
+  }
+
+  private Cache cache(String name) {
+    return cacheManager.getCache(name);
+  }
+}
@@ -0,0 +1,210 @@
+package com.fortnite.pronos.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+import com.fortnite.pronos.service.catalogue.PlayerCatalogueWarmupService;
+import com.fortnite.pronos.service.leaderboard.LeaderboardStatsService;
+import com.fortnite.pronos.service.leaderboard.PlayerLeaderboardService;
+import com.fortnite.pronos.service.leaderboard.PronostiqueurLeaderboardService;
+import com.fortnite.pronos.service.leaderboard.TeamLeaderboardService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmupService")
+class CacheWarmupServiceTest {
+
+  @Mock private TeamLeaderboardService teamLeaderboardService;
+  @Mock private PronostiqueurLeaderboardService pronostiqueurLeaderboardService;
+  @Mock private PlayerLeaderboardService playerLeaderboardService;
+  @Mock private LeaderboardStatsService statsService;
+  @Mock private PlayerCatalogueWarmupService catalogueWarmupService;
+  @Mock private ScheduledExecutorService scheduler;
+
+  private CacheWarmupProperties properties;
+  private LeaderboardCacheService leaderboardCache;
+  private SimpleMeterRegistry meterRegistry;
+  private CacheWarmupService warmupService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new CacheWarmupProperties();
+    meterRegistry = new SimpleMeterRegistry();
+    leaderboardCache = new LeaderboardCacheService(new LeaderboardCacheProperties(), meterRegistry);
+    warmupService = warmupService(0);
+  }
+
+  private CacheWarmupService warmupService(int maxPoolSize) {
+    return new CacheWarmupService(
+        properties,
+        new CacheWarmupTargets(
+            leaderboardCache,
+            teamLeaderboardService,
+            pronostiqueurLeaderboardService,
+            playerLeaderboardService,
+            statsService,
+            catalogueWarmupService),
+        meterRegistry,
+        scheduler,
+        maxPoolSize);
+  }
+
+  @Test
+  @DisplayName("loads every target once per season so the endpoints then read from cache")
+  void warmsEveryTarget() {
+    properties.setSeasons(List.of(2024, 2025));
+    List<LeaderboardEntryDTO> teams = List.of(LeaderboardEntryDTO.builder().rank(1).build());
+    when(teamLeaderboardService.getLeaderboard(anyInt())).thenReturn(teams);
+
+    CacheWarmupService.WarmupResult result = warmupService.warmUp("test");
+
+    assertThat(result.warmed()).isEqualTo(9);
+    assertThat(result.failed()).isZero();
+    verify(teamLeaderboardService, times(2)).getLeaderboard(anyInt());
+    verify(pronostiqueurLeaderboardService).getPronostiqueurLeaderboard(2025);
+    verify(playerLeaderboardService).getPlayerLeaderboard(2024);
+    verify(statsService).getLeaderboardStats(2025);
+    verify(catalogueWarmupService).warmup();
+    assertThat(leaderboardCache.get(LeaderboardCacheService.TEAMS, 2025, List::of))
+        .isEqualTo(teams);
+    assertThat(
+            meterRegistry
+                .get("cache.warmup")
+                .tag("trigger", "test")
+                .tag("outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("keeps warming the other entries when one fails")
+  void failingEntryDoesNotStopTheRun() {
+    properties.setTargets(
+        List.of(CacheWarmupService.TARGET_TEAMS, CacheWarmupService.TARGET_CATALOGUE));
+    when(teamLeaderboardService.getLeaderboard(2025))
+        .thenThrow(new IllegalStateException("db down"));
+
+    CacheWarmupService.WarmupResult result = warmupService.warmUp("test");
+
+    assertThat(result.warmed()).isEqualTo(1);
+    assertThat(result.failed()).isEqualTo(1);
+    verify(catalogueWarmupService).warmup();
+    assertThat(meterRegistry.get("cache.warmup.failures").tag("target", "teams").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("never runs more loads at once than the configured parallelism")
+  void boundsConcurrentLoads() {
+    properties.setParallelism(2);
+    properties.setSeasons(List.of(2021, 2022, 2023, 2024, 2025));
+    properties.setTargets(List.of(CacheWarmupService.TARGET_STATS));
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    when(statsService.getLeaderboardStats(anyInt()))
+        .thenAnswer(
+            invocation -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(30);
+              running.decrementAndGet();
+              return null;
+            });
+
+    warmupService.warmUp("test");
+
+    verify(statsService, times(5)).getLeaderboardStats(anyInt());
+    assertThat(maxRunning.get()).isBetween(1, 2);
+  }
+
+  @Test
+  @DisplayName("holds at most max-pool-share of the Hikari pool whatever the parallelism")
+  void boundsConcurrentLoadsToThePoolShare() {
+    properties.setParallelism(4);
+    properties.setMaxPoolShare(0.25);
+    properties.setSeasons(List.of(2023, 2024, 2025));
+    properties.setTargets(List.of(CacheWarmupService.TARGET_STATS));
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    when(statsService.getLeaderboardStats(anyInt()))
+        .thenAnswer(
+            invocation -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(30);
+              running.decrementAndGet();
+              return null;
+            });
+
+    warmupService(4).warmUp("test");
+
+    verify(statsService, times(3)).getLeaderboardStats(anyInt());
+    assertThat(maxRunning.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("runs the startup warm-up on the scheduler, not on the ready event thread")
+  void startupRunIsHandedToTheScheduler() {
+    properties.setTargets(List.of(CacheWarmupService.TARGET_CATALOGUE));
+    ArgumentCaptor<Runnable> startupRun = ArgumentCaptor.forClass(Runnable.class);
+
+    warmupService.onApplicationReady();
+
+    verify(scheduler).execute(startupRun.capture());
+    verifyNoInteractions(catalogueWarmupService);
+    startupRun.getValue().run();
+    verify(catalogueWarmupService).warmup();
+  }
+
+  @Test
+  @DisplayName("a burst of changes leaves a single pending run")
+  void debouncesChanges() {
+    ScheduledFuture<?> first = mock(ScheduledFuture.class);
+    ScheduledFuture<?> second = mock(ScheduledFuture.class);
+    doReturn(first, second)
+        .when(scheduler)
+        .schedule(any(Callable.class), anyLong(), eq(TimeUnit.SECONDS));
+
+    warmupService.onChange(CacheChangeEvent.ScoresChanged.wholeSeason(2025));
+    warmupService.onChange(CacheChangeEvent.PlayersChanged.anyRegion());
+
+    verify(scheduler, times(2)).schedule(any(Callable.class), eq(30L), eq(TimeUnit.SECONDS));
+    verify(first).cancel(false);
+  }
+
+  @Test
+  @DisplayName("does nothing when disabled")
+  void disabledDoesNothing() {
+    properties.setEnabled(false);
+
+    warmupService.onApplicationReady();
+    warmupService.scheduleWarmup(CacheWarmupService.TRIGGER_DELTA_BATCH);
+
+    verifyNoInteractions(teamLeaderboardService, catalogueWarmupService, scheduler);
+  }
+}
@@ -0,0 +1,233 @@
+package com.fortnite.pronos.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("LeaderboardCacheService")
+class LeaderboardCacheServiceTest {
+
+  private static final int SEASON = 2025;
+
+  private MutableClock clock;
+  private Deque<Runnable> refreshes;
+  private SimpleMeterRegistry meterRegistry;
+  private LeaderboardCacheService cache;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-06-01T10:00:00Z"));
+    refreshes = new ArrayDeque<>();
+    meterRegistry = new SimpleMeterRegistry();
+    LeaderboardCacheProperties properties = new LeaderboardCacheProperties();
+    properties.setMaxEntries(2);
+    properties.setRefreshAfterSeconds(60);
+    properties.setExpireAfterMinutes(15);
+    cache = new LeaderboardCacheService(properties, meterRegistry, clock, refreshes::add);
+  }
+
+  @Test
+  @DisplayName("loads on a miss and serves the same list on the next read")
+  void loadsOnMissThenHits() {
+    AtomicInteger loads = new AtomicInteger();
+
+    List<String> first = cache.get("teams", SEASON, () -> List.of("v" + loads.incrementAndGet()));
+    List<String> second = cache.get("teams", SEASON, () -> List.of("v" + loads.incrementAndGet()));
+
+    assertThat(second).isSameAs(first).containsExactly("v1");
+    assertThat(loads).hasValue(1);
+    assertThat(gets("hit")).isEqualTo(1.0);
+    assertThat(gets("miss")).isEqualTo(1.0);
+    assertThat(meterRegistry.get("leaderboard.cache.load").timer().count()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("serves the stale list while a single background reload replaces it")
+  void servesStaleWhileRefreshing() {
+    AtomicInteger loads = new AtomicInteger();
+    cache.get("teams", SEASON, () -> List.of("v" + loads.incrementAndGet()));
+    clock.plusSeconds(61);
+
+    List<String> stale = cache.get("teams", SEASON, () -> List.of("v" + loads.incrementAndGet()));
+    cache.get("teams", SEASON, () -> List.of("v" + loads.incrementAndGet()));
+
+    assertThat(stale).containsExactly("v1");
+    assertThat(refreshes).hasSize(1);
+    refreshes.poll().run();
+    assertThat(cache.get("teams", SEASON, List::<String>of)).containsExactly("v2");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("waits for a reload once the entry has expired")
+  void reloadsExpiredEntriesSynchronously() {
+    cache.get("teams", SEASON, () -> List.of("old"));
+    clock.plusSeconds(15 * 60);
+
+    assertThat(cache.get("teams", SEASON, () -> List.of("new"))).containsExactly("new");
+    assertThat(refreshes).isEmpty();
+  }
+
+  @Test
+  @DisplayName("coalesces concurrent misses into one loader call")
+  void coalescesConcurrentMisses() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService readers = Executors.newFixedThreadPool(2);
+    try {
+      Future<List<String>> first =
+          readers.submit(
+              () ->
+                  cache.get(
+                      "teams",
+                      SEASON,
+                      () -> {
+                        loads.incrementAndGet();
+                        loading.countDown();
+                        await(release);
+                        return List.of("v");
+                      }));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<List<String>> second =
+          readers.submit(
+              () ->
+                  cache.get(
+                      "teams",
+                      SEASON,
+                      () -> {
+                        loads.incrementAndGet();
+                        return List.of("other");
+                      }));
+      Thread.sleep(50);
+      release.countDown();
+
+      assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("v");
+      assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("v");
+      assertThat(loads).hasValue(1);
+    } finally {
+      readers.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("evicts the least recently read leaderboard beyond the size bound")
+  void evictsLeastRecentlyRead() {
+    cache.get("teams", 2023, () -> List.of("2023"));
+    clock.plusSeconds(1);
+    cache.get("teams", 2024, () -> List.of("2024"));
+    clock.plusSeconds(1);
+    cache.get("teams", 2023, () -> List.of("reloaded"));
+    clock.plusSeconds(1);
+
+    cache.get("teams", 2025, () -> List.of("2025"));
+
+    assertThat(cache.get("teams", 2023, () -> List.of("reloaded"))).containsExactly("2023");
+    assertThat(cache.get("teams", 2024, () -> List.of("reloaded"))).containsExactly("reloaded");
+    assertThat(meterRegistry.get("leaderboard.cache.evictions").counter().count())
+        .isGreaterThanOrEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("rethrows a failing load and caches nothing")
+  void failingLoadIsNotCached() {
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    "teams",
+                    SEASON,
+                    () -> {
+                      throw new IllegalStateException("db down");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("db down");
+
+    assertThat(cache.get("teams", SEASON, () -> List.of("v"))).containsExactly("v");
+    assertThat(
+            meterRegistry.get("leaderboard.cache.load").tag("outcome", "failure").timer().count())
+        .isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("invalidateSeason drops every leaderboard of that season only")
+  void invalidateSeasonDropsOnlyThatSeason() {
+    cache.get("teams", SEASON, () -> List.of("teams"));
+    cache.get("players", SEASON - 1, () -> List.of("players"));
+
+    cache.invalidateSeason(SEASON);
+
+    assertThat(cache.get("teams", SEASON, () -> List.of("fresh"))).containsExactly("fresh");
+    assertThat(cache.get("players", SEASON - 1, () -> List.of("fresh"))).containsExactly("players");
+  }
+
+  @Test
+  @DisplayName("a miss after invalidateSeason does not join a load started before it")
+  void missAfterInvalidationStartsAFreshLoad() {
+    cache.get("teams", SEASON, () -> List.of("v1"));
+    clock.plusSeconds(61);
+    cache.get("teams", SEASON, () -> List.of("before invalidation"));
+
+    cache.invalidateSeason(SEASON);
+
+    assertThat(cache.get("teams", SEASON, () -> List.of("fresh"))).containsExactly("fresh");
+    refreshes.poll().run();
+    assertThat(cache.get("teams", SEASON, () -> List.of("other"))).containsExactly("fresh");
+  }
+
+  private double gets(String result) {
+    return meterRegistry.get("leaderboard.cache.gets").tag("result", result).counter().count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+    private void plusSeconds(long seconds) {
+      instant = instant.plusSeconds(seconds);
+    }
+  }
+}
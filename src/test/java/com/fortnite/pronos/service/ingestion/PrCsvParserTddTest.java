@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.StringReader;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.fortnite.pronos.service.ingestion.PrCsvParser.ParseResult;
+import com.fortnite.pronos.service.ingestion.PrCsvParser.PrCsvRow;
+import com.fortnite.pronos.service.ingestion.PrCsvParser.StreamSummary;
 
 class PrCsvParserTddTest {
   private final PrCsvParser parser = new PrCsvParser();
@@ -94,4 +98,51 @@ class PrCsvParserTddTest {
     assertThat(result.failureReason()).isNull();
     assertThat(result.rows()).hasSize(2);
   }
+
+  @Test
+  void shouldStreamRowsInBoundedChunks() {
+    String csv =
+        "nickname,region,points,rank,snapshot_date\n"
+            + "a,EU,5,1,2025-01-10\n"
+            + "b,EU,4,2,2025-01-10\n"
+            + "bad,EU,x,3,2025-01-10\n"
+            + "c,EU,3,3,2025-01-10\n"
+            + "d,EU,2,4,2025-01-10\n"
+            + "e,EU,1,5,2025-01-10";
+    List<List<String>> chunks = new ArrayList<>();
+
+    StreamSummary summary =
+        parser.parseInChunks(
+            new StringReader(csv),
+            2,
+            chunk -> chunks.add(chunk.stream().map(PrCsvRow::nickname).toList()));
+
+    assertThat(summary.failureReason()).isNull();
+    assertThat(summary.rowCount()).isEqualTo(5);
+    assertThat(summary.errorCount()).isEqualTo(1);
+    assertThat(chunks).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+  }
+
+  @Test
+  void shouldNotEmitChunksWhenHeaderIsInvalid() {
+    String csv = "nickname,points,rank,snapshot_date\n" + "pixie,108022,1,2025-01-10";
+    List<List<PrCsvRow>> chunks = new ArrayList<>();
+
+    StreamSummary summary = parser.parseInChunks(new StringReader(csv), 10, chunks::add);
+
+    assertThat(summary.failureReason()).isEqualTo("invalid_header");
+    assertThat(chunks).isEmpty();
+  }
+
+  @Test
+  void shouldReportNoRowsWhenStreamHasOnlyInvalidLines() {
+    String csv = "nickname,region,points,rank,snapshot_date\npixie,EU,108022,1,2025-99-99";
+    List<List<PrCsvRow>> chunks = new ArrayList<>();
+
+    StreamSummary summary = parser.parseInChunks(new StringReader(csv), 10, chunks::add);
+
+    assertThat(summary.failureReason()).isEqualTo("no_rows");
+    assertThat(summary.errorCount()).isEqualTo(1);
+    assertThat(chunks).isEmpty();
+  }
 }
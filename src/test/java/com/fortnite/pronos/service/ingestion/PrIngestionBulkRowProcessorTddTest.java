@@ -0,0 +1,301 @@
+package com.fortnite.pronos.service.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fortnite.pronos.adapter.out.persistence.player.alias.PlayerAliasEntityMapper;
+import com.fortnite.pronos.adapter.out.persistence.player.alias.PlayerAliasJpaRepository;
+import com.fortnite.pronos.adapter.out.persistence.player.alias.PlayerAliasRepositoryAdapter;
+import com.fortnite.pronos.adapter.out.persistence.player.identity.PlayerIdentityEntityMapper;
+import com.fortnite.pronos.adapter.out.persistence.player.identity.PlayerIdentityJpaRepository;
+import com.fortnite.pronos.adapter.out.persistence.player.identity.PlayerIdentityRepositoryAdapter;
+import com.fortnite.pronos.model.PrSnapshot;
+import com.fortnite.pronos.model.Score;
+import com.fortnite.pronos.repository.PlayerRepository;
+import com.fortnite.pronos.repository.PrSnapshotRepository;
+import com.fortnite.pronos.repository.ScoreRepository;
+import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionConfig;
+import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionResult;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngine;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngineProperties;
+
+/**
+ * Replays the same CSV batches through the row-by-row and the bulk path and checks that both leave
+ * identical counters and database state.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({
+  PrIngestionService.class,
+  PrIngestionRowProcessor.class,
+  PrIngestionBulkRowProcessor.class,
+  PrIngestionProperties.class,
+  PrIngestionRunLedger.class,
+  PrRowFingerprintStore.class,
+  LeaderboardEngine.class,
+  LeaderboardEngineProperties.class,
+  PrIngestionBulkRowProcessorTddTest.TestConfig.class,
+  PlayerIdentityRepositoryAdapter.class,
+  PlayerIdentityEntityMapper.class,
+  PlayerAliasRepositoryAdapter.class,
+  PlayerAliasEntityMapper.class
+})
+class PrIngestionBulkRowProcessorTddTest {
+
+  private static final int SEASON = 2025;
+
+  @TestConfiguration
+  static class TestConfig {
+    @Bean
+    PrCsvParser prCsvParser() {
+      return new PrCsvParser();
+    }
+  }
+
+  @Autowired private PrIngestionService ingestionService;
+  @Autowired private PlayerRepository playerRepository;
+  @Autowired private PrSnapshotRepository prSnapshotRepository;
+  @Autowired private ScoreRepository scoreRepository;
+  @Autowired private PlayerIdentityJpaRepository identityJpaRepository;
+  @Autowired private PlayerAliasJpaRepository aliasJpaRepository;
+  @Autowired private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("new players across regular and GLOBAL rows match the row-by-row path")
+  void newPlayersMatchRowByRowPath() {
+    assertSamePersistence(
+        true,
+        csv(
+            "pixie,EU,108022,1,2025-01-10",
+            "Muz,NAC,125360,2,2025-01-10",
+            "Ghost,GLOBAL,50000,33,2025-01-10",
+            "PiXiE-42!,EU,1000,7,2025-01-10"));
+  }
+
+  @Test
+  @DisplayName("updates, region promotion and duplicate rows match the row-by-row path")
+  void updatesAndDuplicatesMatchRowByRowPath() {
+    assertSamePersistence(
+        true,
+        csv("pixie,EU,108022,1,2025-01-10", "Ghost,GLOBAL,50000,3,2025-01-10"),
+        csv(
+            "pixie,EU,120000,4,2025-01-10",
+            "pixie,NAC,105000,9,2025-01-10",
+            "pixie,NAC,106000,9,2025-01-17",
+            "Ghost,EU,60000,2,2025-01-10",
+            "Ghost,GLOBAL,61000,2,2025-01-10",
+            "Newbie,GLOBAL,1000,40,2025-01-10",
+            "Newbie,BR,1200,12,2025-01-10",
+            "Newbie,BR,1200,12,2025-01-10"));
+  }
+
+  @Test
+  @DisplayName("writeScores=false leaves scores untouched in both paths")
+  void withoutScoresMatchesRowByRowPath() {
+    assertSamePersistence(
+        false, csv("pixie,EU,108022,1,2025-01-10", "Muz,NAC,125360,2,2025-01-10"));
+  }
+
+  @Test
+  @DisplayName("a non-positive season defaults new players' current season like the row path")
+  void nonPositiveSeasonDefaultsCurrentSeasonLikeRowByRowPath() {
+    assertSamePersistence(
+        0, true, csv("pixie,EU,108022,1,2025-01-10", "Ghost,GLOBAL,50000,33,2025-01-10"));
+
+    assertThat(playerRepository.findByNickname("pixie").orElseThrow().getCurrentSeason())
+        .isEqualTo(2025);
+  }
+
+  @Test
+  @DisplayName("negative points are rejected by both paths")
+  void negativePointsAreRejectedLikeRowByRowPath() {
+    String batch = csv("pixie,EU,108022,1,2025-01-10", "Muz,NAC,-5,2,2025-01-10");
+
+    Throwable rowByRow = rootCause(catchThrowable(() -> ingest(batch, true, false)));
+    wipeIngestedData();
+    Throwable bulk = rootCause(catchThrowable(() -> ingest(batch, true, true)));
+
+    // The generated H2 schema turns PrSnapshot's @Min(0) into a CHECK that stops the row-by-row
+    // path at its snapshot insert; the bulk path rejects the batch before writing any row.
+    assertThat(rowByRow).isNotNull();
+    assertThat(bulk).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("points");
+    assertThat(prSnapshotRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("batches larger than one statement chunk are written completely")
+  void largeBatchSpansSeveralChunks() {
+    // Three upsert statements of at most 500 rows each.
+    int rowCount = 1_117;
+    List<String> rows = new ArrayList<>();
+    for (int i = 1; i <= rowCount; i++) {
+      rows.add("player" + i + ",EU," + (200_000 - i) + "," + i + ",2025-01-10");
+    }
+
+    PrIngestionResult result = ingest(csv(rows.toArray(String[]::new)), true, true);
+
+    assertThat(result.playersCreated()).isEqualTo(rowCount);
+    assertThat(result.snapshotsWritten()).isEqualTo(rowCount);
+    assertThat(result.scoresWritten()).isEqualTo(rowCount);
+    assertThat(playerRepository.count()).isEqualTo(rowCount);
+    assertThat(prSnapshotRepository.count()).isEqualTo(rowCount);
+    assertThat(scoreRepository.count()).isEqualTo(rowCount);
+    assertThat(playerRepository.findByNickname("player42").orElseThrow().getTranche())
+        .isEqualTo("31-infini");
+  }
+
+  private void assertSamePersistence(boolean writeScores, String... batches) {
+    assertSamePersistence(SEASON, writeScores, batches);
+  }
+
+  private void assertSamePersistence(int season, boolean writeScores, String... batches) {
+    PersistedState rowByRow = ingestAll(season, false, writeScores, batches);
+    wipeIngestedData();
+    PersistedState bulk = ingestAll(season, true, writeScores, batches);
+
+    assertThat(bulk.counters()).isEqualTo(rowByRow.counters());
+    assertThat(bulk.players()).isEqualTo(rowByRow.players());
+    assertThat(bulk.snapshots()).isEqualTo(rowByRow.snapshots());
+    assertThat(bulk.scores()).isEqualTo(rowByRow.scores());
+    assertThat(bulk.identities()).isEqualTo(rowByRow.identities());
+    assertThat(bulk.aliases()).isEqualTo(rowByRow.aliases());
+  }
+
+  private PersistedState ingestAll(
+      int season, boolean bulkWrites, boolean writeScores, String... batches) {
+    List<String> counters = new ArrayList<>();
+    for (String batch : batches) {
+      PrIngestionResult result = ingest(batch, season, writeScores, bulkWrites);
+      counters.add(
+          String.join(
+              "|",
+              result.status().name(),
+              String.valueOf(result.playersCreated()),
+              String.valueOf(result.playersUpdated()),
+              String.valueOf(result.snapshotsWritten()),
+              String.valueOf(result.scoresWritten()),
+              String.valueOf(result.skippedRows())));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return new PersistedState(counters, players(), snapshots(), scores(), identities(), aliases());
+  }
+
+  private List<String> players() {
+    return playerRepository.findAll().stream()
+        .map(
+            p ->
+                String.join(
+                    "|",
+                    p.getNickname(),
+                    p.getUsername(),
+                    p.getRegion().name(),
+                    p.getTranche(),
+                    String.valueOf(p.getCurrentSeason())))
+        .sorted()
+        .toList();
+  }
+
+  private List<String> snapshots() {
+    return prSnapshotRepository.findAll().stream()
+        .sorted(Comparator.comparing(PrSnapshot::getSnapshotDate))
+        .map(
+            s ->
+                String.join(
+                    "|",
+                    s.getPlayer().getNickname(),
+                    s.getRegion().name(),
+                    s.getSnapshotDate().toString(),
+                    String.valueOf(s.getPoints()),
+                    String.valueOf(s.getPrValue()),
+                    String.valueOf(s.getRank()),
+                    String.valueOf(s.getRun() != null)))
+        .sorted()
+        .toList();
+  }
+
+  private List<String> scores() {
+    return scoreRepository.findAll().stream()
+        .map(
+            (Score s) ->
+                String.join(
+                    "|",
+                    s.getPlayer().getNickname(),
+                    String.valueOf(s.getSeason()),
+                    String.valueOf(s.getPoints()),
+                    String.valueOf(s.getDate())))
+        .sorted()
+        .toList();
+  }
+
+  private List<String> identities() {
+    return identityJpaRepository.findAll().stream()
+        .map(e -> e.getPlayerUsername() + "|" + e.getPlayerRegion())
+        .sorted()
+        .toList();
+  }
+
+  private List<String> aliases() {
+    return aliasJpaRepository.findAll().stream()
+        .map(a -> a.getNickname() + "|" + a.getSource() + "|" + a.isCurrent())
+        .sorted()
+        .toList();
+  }
+
+  private void wipeIngestedData() {
+    aliasJpaRepository.deleteAllInBatch();
+    identityJpaRepository.deleteAllInBatch();
+    scoreRepository.deleteAllInBatch();
+    prSnapshotRepository.deleteAllInBatch();
+    playerRepository.deleteAllInBatch();
+    entityManager.clear();
+  }
+
+  private String csv(String... rows) {
+    return "nickname,region,points,rank,snapshot_date\n" + String.join("\n", rows);
+  }
+
+  private PrIngestionResult ingest(String csv, boolean writeScores, boolean bulkWrites) {
+    return ingest(csv, SEASON, writeScores, bulkWrites);
+  }
+
+  private PrIngestionResult ingest(
+      String csv, int season, boolean writeScores, boolean bulkWrites) {
+    return ingestionService.ingest(
+        new StringReader(csv), new PrIngestionConfig("LOCAL_PR", season, writeScores, bulkWrites));
+  }
+
+  private static Throwable rootCause(Throwable thrown) {
+    Throwable cause = thrown;
+    while (cause != null && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private record PersistedState(
+      List<String> counters,
+      List<String> players,
+      List<String> snapshots,
+      List<String> scores,
+      List<String> identities,
+      List<String> aliases) {}
+}
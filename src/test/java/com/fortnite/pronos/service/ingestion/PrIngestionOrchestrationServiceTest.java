@@ -1,7 +1,9 @@
 package com.fortnite.pronos.service.ingestion;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -12,8 +14,14 @@ import java.io.Reader;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +32,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fortnite.pronos.model.PrRegion;
+import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionConfig;
 import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionResult;
 
 @ExtendWith(MockitoExtension.class)
@@ -341,6 +350,209 @@ class PrIngestionOrchestrationServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("runAllRegions() — concurrent fetch")
+  class ConcurrentFetchTests {
+
+    @Test
+    @DisplayName("fetches regions on worker threads but ingests them in region order")
+    void fetchesConcurrentlyAndIngestsInRegionOrder() {
+      Set<String> fetchThreads = ConcurrentHashMap.newKeySet();
+      for (PrRegion region : PrIngestionOrchestrationService.SUPPORTED_REGIONS) {
+        when(regionCsvSourcePort.fetchCsv(region))
+            .thenAnswer(
+                invocation -> {
+                  fetchThreads.add(Thread.currentThread().getName());
+                  return Optional.of(csvWithRows(region, 11));
+                });
+      }
+      List<String> ingestedSources = new ArrayList<>();
+      when(ingestionService.ingest(any(Reader.class), any()))
+          .thenAnswer(
+              invocation -> {
+                PrIngestionConfig config = invocation.getArgument(1);
+                ingestedSources.add(config.source());
+                return successResult();
+              });
+
+      PrIngestionOrchestrationService.MultiRegionIngestionResult result =
+          orchestrationService.runAllRegions();
+
+      assertThat(result.status()).isEqualTo(PrIngestionOrchestrationService.BatchStatus.SUCCESS);
+      assertThat(fetchThreads).allMatch(name -> name.startsWith("pr-region-fetch-"));
+      assertThat(ingestedSources)
+          .containsExactlyElementsOf(
+              PrIngestionOrchestrationService.SUPPORTED_REGIONS.stream()
+                  .map(region -> "SCHEDULED_PR_" + region.name())
+                  .toList());
+      assertThat(result.regionTimings())
+          .containsOnlyKeys(PrIngestionOrchestrationService.SUPPORTED_REGIONS);
+    }
+
+    @Test
+    @DisplayName("fetches one region at a time when parallelism is 1")
+    void fetchesSequentiallyWhenParallelismIsOne() {
+      PrIngestionOrchestrationService sequentialService = serviceWith(1, 900_000L);
+      AtomicInteger running = new AtomicInteger();
+      AtomicInteger maxRunning = new AtomicInteger();
+      for (PrRegion region : PrIngestionOrchestrationService.SUPPORTED_REGIONS) {
+        when(regionCsvSourcePort.fetchCsv(region))
+            .thenAnswer(
+                invocation -> {
+                  maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                  Thread.sleep(5);
+                  running.decrementAndGet();
+                  return Optional.of(csvWithRows(region, 11));
+                });
+      }
+      when(ingestionService.ingest(any(Reader.class), any())).thenReturn(successResult());
+
+      PrIngestionOrchestrationService.MultiRegionIngestionResult result =
+          sequentialService.runAllRegions();
+
+      assertThat(result.regionsProcessed()).isEqualTo(8);
+      assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("marks a region fetch_timeout when its fetch hangs and nothing is cached")
+    void marksRegionTimedOutWhenFetchHangs() {
+      PrIngestionOrchestrationService timedService = serviceWith(4, 200L);
+      stubFetchesWithHangingRegion(PrRegion.BR);
+      when(ingestionService.ingest(any(Reader.class), any())).thenReturn(successResult());
+
+      PrIngestionOrchestrationService.MultiRegionIngestionResult result =
+          timedService.runAllRegions();
+
+      assertThat(result.status()).isEqualTo(PrIngestionOrchestrationService.BatchStatus.PARTIAL);
+      assertThat(result.regionsProcessed()).isEqualTo(7);
+      assertThat(result.regionFailures()).containsEntry(PrRegion.BR, "fetch_timeout");
+      verify(csvCachePort).load(PrRegion.BR);
+    }
+
+    @Test
+    @DisplayName("ingests the cached CSV of a region whose fetch times out, in sequential mode too")
+    void timedOutFetchFallsBackToTheCache() {
+      PrIngestionOrchestrationService sequentialService = serviceWith(1, 200L);
+      stubFetchesWithHangingRegion(PrRegion.BR);
+      when(csvCachePort.load(PrRegion.BR)).thenReturn(Optional.of(csvWithRows(PrRegion.BR, 11)));
+      when(ingestionService.ingest(any(Reader.class), any())).thenReturn(successResult());
+
+      PrIngestionOrchestrationService.MultiRegionIngestionResult result =
+          sequentialService.runAllRegions();
+
+      assertThat(result.status()).isEqualTo(PrIngestionOrchestrationService.BatchStatus.SUCCESS);
+      assertThat(result.regionsProcessed()).isEqualTo(8);
+      verify(ingestionService, times(8)).ingest(any(Reader.class), any());
+    }
+
+    @Test
+    @DisplayName("ingests the cached CSV of a region whose fetch throws")
+    void failedFetchFallsBackToTheCache() {
+      for (PrRegion region : PrIngestionOrchestrationService.SUPPORTED_REGIONS) {
+        when(regionCsvSourcePort.fetchCsv(region)).thenReturn(Optional.of(csvWithRows(region, 11)));
+      }
+      when(regionCsvSourcePort.fetchCsv(PrRegion.NAW))
+          .thenThrow(new IllegalStateException("source_down"));
+      when(csvCachePort.load(PrRegion.NAW)).thenReturn(Optional.of(csvWithRows(PrRegion.NAW, 11)));
+      when(ingestionService.ingest(any(Reader.class), any())).thenReturn(successResult());
+
+      PrIngestionOrchestrationService.MultiRegionIngestionResult result =
+          orchestrationService.runAllRegions();
+
+      assertThat(result.status()).isEqualTo(PrIngestionOrchestrationService.BatchStatus.SUCCESS);
+      assertThat(result.regionsProcessed()).isEqualTo(8);
+      verify(csvCachePort, never()).save(eq(PrRegion.NAW), any());
+    }
+
+    private PrIngestionOrchestrationService serviceWith(int parallelism, long regionTimeoutMs) {
+      PrIngestionProperties properties = new PrIngestionProperties();
+      properties.setFetchParallelism(parallelism);
+      properties.setRegionTimeoutMs(regionTimeoutMs);
+      return new PrIngestionOrchestrationService(
+          ingestionService, regionCsvSourcePort, clock, csvCachePort, properties);
+    }
+
+    private void stubFetchesWithHangingRegion(PrRegion hanging) {
+      CountDownLatch neverReleased = new CountDownLatch(1);
+      for (PrRegion region : PrIngestionOrchestrationService.SUPPORTED_REGIONS) {
+        if (region != hanging) {
+          when(regionCsvSourcePort.fetchCsv(region))
+              .thenReturn(Optional.of(csvWithRows(region, 11)));
+        }
+      }
+      when(regionCsvSourcePort.fetchCsv(hanging))
+          .thenAnswer(
+              invocation -> {
+                neverReleased.await();
+                return Optional.empty();
+              });
+    }
+  }
+
+  @Nested
+  @DisplayName("checkpointed runs")
+  class CheckpointedRunTests {
+
+    @Test
+    @DisplayName("ingests every region through the checkpointed path when enabled")
+    void usesCheckpointedIngestionWhenEnabled() {
+      PrIngestionProperties properties = new PrIngestionProperties();
+      properties.setFetchParallelism(1);
+      properties.setCheckpointed(true);
+      PrIngestionOrchestrationService checkpointedService =
+          new PrIngestionOrchestrationService(
+              ingestionService, regionCsvSourcePort, clock, csvCachePort, properties);
+      for (PrRegion region : PrIngestionOrchestrationService.SUPPORTED_REGIONS) {
+        when(regionCsvSourcePort.fetchCsv(region)).thenReturn(Optional.of(csvWithRows(region, 11)));
+      }
+      when(ingestionService.ingestCheckpointed(any(Reader.class), any(), any()))
+          .thenReturn(successResult());
+
+      PrIngestionOrchestrationService.MultiRegionIngestionResult result =
+          checkpointedService.runAllRegions();
+
+      assertThat(result.regionsProcessed()).isEqualTo(8);
+      verify(ingestionService, times(8)).ingestCheckpointed(any(Reader.class), any(), any());
+      verify(ingestionService)
+          .ingestCheckpointed(
+              any(Reader.class),
+              argThat(config -> "SCHEDULED_PR_EU".equals(config.source())),
+              eq(PrIngestionOrchestrationService.sha256(csvWithRows(PrRegion.EU, 11))));
+      verify(ingestionService, never()).ingest(any(Reader.class), any());
+    }
+
+    @Test
+    @DisplayName("resumes a region run from its cached CSV, passing the CSV hash to check")
+    void resumeRegion_replaysCachedCsv() {
+      UUID runId = UUID.randomUUID();
+      String csv = csvWithRows(PrRegion.EU, 11);
+      when(csvCachePort.load(PrRegion.EU)).thenReturn(Optional.of(csv));
+      when(ingestionService.resume(
+              eq(runId),
+              any(Reader.class),
+              argThat(config -> "SCHEDULED_PR_EU".equals(config.source())),
+              eq(PrIngestionOrchestrationService.sha256(csv))))
+          .thenReturn(successResult());
+
+      PrIngestionResult result = orchestrationService.resumeRegion(PrRegion.EU, runId);
+
+      assertThat(result.status()).isEqualTo(com.fortnite.pronos.model.IngestionRun.Status.SUCCESS);
+      verify(regionCsvSourcePort, never()).fetchCsv(any());
+    }
+
+    @Test
+    @DisplayName("refuses to resume when the region CSV is no longer cached")
+    void resumeRegion_throwsWhenNothingCached() {
+      UUID runId = UUID.randomUUID();
+      when(csvCachePort.load(PrRegion.EU)).thenReturn(Optional.empty());
+
+      assertThatThrownBy(() -> orchestrationService.resumeRegion(PrRegion.EU, runId))
+          .isInstanceOf(IllegalStateException.class);
+      verify(ingestionService, never()).resume(any(), any(Reader.class), any(), any());
+    }
+  }
+
   private PrIngestionResult successResult() {
     return new PrIngestionResult(
         UUID.randomUUID(), com.fortnite.pronos.model.IngestionRun.Status.SUCCESS, 1, 0, 1, 1, 0, 0);
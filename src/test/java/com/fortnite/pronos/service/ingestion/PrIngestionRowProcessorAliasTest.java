@@ -68,28 +68,47 @@ class PrIngestionRowProcessorAliasTest {
     void newPlayer_recordsAliasWithCorrectSource() {
       when(playerRepository.findByNickname("PlayerA")).thenReturn(Optional.empty());
       when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
-      when(aliasRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
       processor.persistRows(List.of(row("PlayerA", "EU")), config, run);
 
-      ArgumentCaptor<PlayerAliasEntry> captor = ArgumentCaptor.forClass(PlayerAliasEntry.class);
-      verify(aliasRepository, times(1)).save(captor.capture());
-      PlayerAliasEntry alias = captor.getValue();
+      List<PlayerAliasEntry> aliases = capturedAliases();
+      assertThat(aliases).hasSize(1);
+      PlayerAliasEntry alias = aliases.get(0);
       assertThat(alias.getNickname()).isEqualTo("PlayerA");
       assertThat(alias.getSource()).isEqualTo("FT_INGESTION");
       assertThat(alias.isCurrent()).isTrue();
     }
 
     @Test
-    @DisplayName("Records one alias per new player in batch")
+    @DisplayName("Records one alias per new player in a single batch")
     void multipleNewPlayers_oneAliasEach() {
       when(playerRepository.findByNickname(any())).thenReturn(Optional.empty());
       when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
-      when(aliasRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
       processor.persistRows(List.of(row("PlayerA", "EU"), row("PlayerB", "NAC")), config, run);
 
-      verify(aliasRepository, times(2)).save(any(PlayerAliasEntry.class));
+      assertThat(capturedAliases())
+          .extracting(PlayerAliasEntry::getNickname)
+          .containsExactly("PlayerA", "PlayerB");
+      verify(aliasRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Defers aliases of a region session until the flush")
+    void regionSession_defersAliasesUntilFlush() {
+      when(playerRepository.findByNickname(any())).thenReturn(Optional.empty());
+      when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
+      PrIngestionRunScope.RegionSession session = new PrIngestionRunScope().openRegion(false);
+
+      processor.persistRows(List.of(row("PlayerA", "EU")), config, run, session);
+      processor.persistRows(List.of(row("PlayerB", "NAC")), config, run, session);
+      verify(aliasRepository, never()).saveAll(any());
+
+      processor.flushNewPlayers(session);
+
+      assertThat(capturedAliases())
+          .extracting(PlayerAliasEntry::getNickname)
+          .containsExactly("PlayerA", "PlayerB");
     }
   }
 
@@ -112,6 +131,7 @@ class PrIngestionRowProcessorAliasTest {
       processor.persistRows(List.of(row("ExistingPlayer", "EU")), config, run);
 
       verify(aliasRepository, never()).save(any());
+      verify(aliasRepository, never()).saveAll(any());
     }
 
     @Test
@@ -119,7 +139,7 @@ class PrIngestionRowProcessorAliasTest {
     void aliasSaveThrows_rowIsStillProcessed() {
       when(playerRepository.findByNickname("PlayerA")).thenReturn(Optional.empty());
       when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
-      when(aliasRepository.save(any())).thenThrow(new RuntimeException("DB constraint"));
+      when(aliasRepository.saveAll(any())).thenThrow(new RuntimeException("DB constraint"));
 
       PrIngestionCounters counters =
           processor.persistRows(List.of(row("PlayerA", "EU")), config, run);
@@ -128,4 +148,11 @@ class PrIngestionRowProcessorAliasTest {
       assertThat(counters.playersCreated()).isEqualTo(1);
     }
   }
+
+  @SuppressWarnings("unchecked")
+  private List<PlayerAliasEntry> capturedAliases() {
+    ArgumentCaptor<List<PlayerAliasEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(aliasRepository, times(1)).saveAll(captor.capture());
+    return captor.getValue();
+  }
 }
@@ -1,5 +1,6 @@
 package com.fortnite.pronos.service.ingestion;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -68,11 +70,17 @@ class PrIngestionRowProcessorUnresolvedTest {
 
       processor.persistRows(List.of(row("PlayerA", "EU")), config, run);
 
-      verify(identityRepository, times(1)).save(any(PlayerIdentityEntry.class));
+      assertThat(capturedIdentities())
+          .singleElement()
+          .satisfies(
+              entry -> {
+                assertThat(entry.getPlayerUsername()).isEqualTo("PlayerA");
+                assertThat(entry.getPlayerRegion()).isEqualTo("EU");
+              });
     }
 
     @Test
-    @DisplayName("Queues one identity entry per distinct new player")
+    @DisplayName("Queues one identity entry per distinct new player, in a single batch")
     void multipleNewPlayers_queuesOneEntryEach() {
       when(playerRepository.findByNickname(any())).thenReturn(Optional.empty());
       when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
@@ -80,7 +88,23 @@ class PrIngestionRowProcessorUnresolvedTest {
       processor.persistRows(
           List.of(row("PlayerA", "EU"), row("PlayerB", "NAC"), row("PlayerC", "BR")), config, run);
 
-      verify(identityRepository, times(3)).save(any(PlayerIdentityEntry.class));
+      assertThat(capturedIdentities()).hasSize(3);
+      verify(identityRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Looks a nickname up once when it appears twice in the batch")
+    void repeatedNickname_lookedUpOnce() {
+      when(playerRepository.findByNickname("PlayerA")).thenReturn(Optional.empty());
+      when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
+
+      PrIngestionCounters counters =
+          processor.persistRows(
+              List.of(row("PlayerA", "EU"), row("PlayerA", "GLOBAL")), config, run);
+
+      verify(playerRepository, times(1)).findByNickname("PlayerA");
+      assertThat(counters.playersCreated()).isEqualTo(1);
+      assertThat(capturedIdentities()).hasSize(1);
     }
   }
 
@@ -102,6 +126,7 @@ class PrIngestionRowProcessorUnresolvedTest {
       processor.persistRows(List.of(row("ExistingPlayer", "EU")), config, run);
 
       verify(identityRepository, never()).save(any());
+      verify(identityRepository, never()).saveAll(any());
     }
   }
 
@@ -114,7 +139,7 @@ class PrIngestionRowProcessorUnresolvedTest {
     void identitySaveThrows_rowIsStillProcessed() {
       when(playerRepository.findByNickname("PlayerA")).thenReturn(Optional.empty());
       when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
-      doThrow(new RuntimeException("DB constraint")).when(identityRepository).save(any());
+      doThrow(new RuntimeException("DB constraint")).when(identityRepository).saveAll(any());
 
       PrIngestionCounters counters =
           processor.persistRows(List.of(row("PlayerA", "EU")), config, run);
@@ -125,19 +150,25 @@ class PrIngestionRowProcessorUnresolvedTest {
     }
 
     @Test
-    @DisplayName("Identity save failure does not abort subsequent rows in batch")
-    void identitySaveFailsForFirst_secondRowStillProcessed() {
+    @DisplayName("Identity batch failure still records the aliases of the batch")
+    void identityBatchFails_aliasesStillRecorded() {
       when(playerRepository.findByNickname(any())).thenReturn(Optional.empty());
       when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
-      when(identityRepository.save(any()))
-          .thenThrow(new RuntimeException("DB constraint"))
-          .thenAnswer(invocation -> invocation.getArgument(0));
+      when(identityRepository.saveAll(any())).thenThrow(new RuntimeException("DB constraint"));
 
       PrIngestionCounters counters =
           processor.persistRows(List.of(row("PlayerA", "EU"), row("PlayerB", "NAC")), config, run);
 
       assert counters.playersCreated() == 2;
       verify(playerRepository, times(2)).save(any(Player.class));
+      verify(aliasRepository, times(1)).saveAll(any());
     }
   }
+
+  @SuppressWarnings("unchecked")
+  private List<PlayerIdentityEntry> capturedIdentities() {
+    ArgumentCaptor<List<PlayerIdentityEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(identityRepository, times(1)).saveAll(captor.capture());
+    return captor.getValue();
+  }
 }
@@ -0,0 +1,83 @@
+package com.fortnite.pronos.service.ingestion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fortnite.pronos.model.Player;
+
+@DisplayName("PrIngestionRunScope")
+class PrIngestionRunScopeTest {
+
+  private final PrIngestionRunScope scope = new PrIngestionRunScope();
+
+  @Test
+  @DisplayName("players of a committed region are visible to the next region")
+  void commit_sharesPlayersWithLaterRegions() {
+    PrIngestionRunScope.RegionSession eu = scope.openRegion(true);
+    Player pixie = player("pixie");
+    eu.remember(pixie);
+
+    assertThat(scope.openRegion(true).find("pixie")).isNull();
+    eu.commit();
+
+    assertThat(scope.openRegion(true).find("pixie")).isSameAs(pixie);
+    assertThat(scope.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("a discarded region forgets the players it created or read")
+  void discard_evictsTouchedPlayers() {
+    PrIngestionRunScope.RegionSession eu = scope.openRegion(true);
+    eu.remember(player("pixie"));
+    eu.commit();
+
+    PrIngestionRunScope.RegionSession global = scope.openRegion(true);
+    assertThat(global.find("pixie")).isNotNull();
+    global.remember(player("nova"));
+    global.discard();
+
+    PrIngestionRunScope.RegionSession next = scope.openRegion(true);
+    assertThat(next.find("pixie")).isNull();
+    assertThat(next.find("nova")).isNull();
+    assertThat(scope.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("without a transaction players are shared immediately")
+  void immediateSession_writesThrough() {
+    scope.openRegion(false).remember(player("pixie"));
+
+    assertThat(scope.openRegion(false).find("pixie")).isNotNull();
+  }
+
+  @Test
+  @DisplayName("nicknames are matched exactly, like the repository lookup")
+  void find_isCaseSensitive() {
+    scope.openRegion(false).remember(player("Pixie"));
+
+    assertThat(scope.openRegion(false).find("pixie")).isNull();
+  }
+
+  @Test
+  @DisplayName("new players are drained once")
+  void drainNewPlayers_clearsTheQueue() {
+    PrIngestionRunScope.RegionSession session = scope.openRegion(false);
+    UUID playerId = UUID.randomUUID();
+    session.queueNewPlayer(playerId, "pixie", Player.Region.EU);
+
+    assertThat(session.drainNewPlayers())
+        .containsExactly(new PrIngestionRunScope.NewPlayer(playerId, "pixie", Player.Region.EU));
+    assertThat(session.drainNewPlayers()).isEmpty();
+  }
+
+  private static Player player(String nickname) {
+    Player player = new Player();
+    player.setId(UUID.randomUUID());
+    player.setNickname(nickname);
+    return player;
+  }
+}
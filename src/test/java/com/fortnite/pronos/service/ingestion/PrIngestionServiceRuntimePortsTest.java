@@ -1,14 +1,19 @@
 package com.fortnite.pronos.service.ingestion;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.fortnite.pronos.domain.port.out.PlayerAliasRepositoryPort;
 import com.fortnite.pronos.domain.port.out.PlayerIdentityRepositoryPort;
@@ -26,7 +33,9 @@ import com.fortnite.pronos.model.Player;
 import com.fortnite.pronos.model.PrSnapshot;
 import com.fortnite.pronos.model.Score;
 import com.fortnite.pronos.repository.IngestionRunRepository;
+import com.fortnite.pronos.repository.PrIngestionBulkRepository;
 import com.fortnite.pronos.repository.PrSnapshotRepository;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
 import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionConfig;
 import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionResult;
 
@@ -42,21 +51,33 @@ class PrIngestionServiceRuntimePortsTest {
   @Mock private IngestionRunRepository ingestionRunRepository;
   @Mock private PlayerIdentityRepositoryPort identityRepository;
   @Mock private PlayerAliasRepositoryPort aliasRepository;
+  @Mock private PrIngestionBulkRepository bulkRepository;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
+  private PrIngestionProperties properties;
   private PrIngestionService service;
+  private IngestionRun savedRun;
 
   @BeforeEach
   void setUp() {
+    PrIngestionRowProcessor rowProcessor =
+        new PrIngestionRowProcessor(
+            playerRepository,
+            prSnapshotRepository,
+            scoreRepository,
+            identityRepository,
+            aliasRepository);
+    properties = new PrIngestionProperties();
     service =
         new PrIngestionService(
             new PrCsvParser(),
-            new PrIngestionRowProcessor(
-                playerRepository,
-                prSnapshotRepository,
-                scoreRepository,
-                identityRepository,
-                aliasRepository),
-            ingestionRunRepository);
+            new PrIngestionBulkRowProcessor(bulkRepository, rowProcessor),
+            new PrIngestionRunLedger(ingestionRunRepository),
+            properties,
+            new PrRowFingerprintStore(),
+            transactionManager,
+            eventPublisher);
 
     when(ingestionRunRepository.save(any(IngestionRun.class)))
         .thenAnswer(
@@ -65,6 +86,7 @@ class PrIngestionServiceRuntimePortsTest {
               if (run.getId() == null) {
                 run.setId(RUN_ID);
               }
+              savedRun = run;
               return run;
             });
     when(prSnapshotRepository.findForUpsert(any(), any(), any())).thenReturn(Optional.empty());
@@ -96,6 +118,9 @@ class PrIngestionServiceRuntimePortsTest {
     verify(prSnapshotRepository).persist(any(PrSnapshot.class));
     verify(scoreRepository).findByPlayerAndSeason(any(Player.class), eq(2025));
     verify(scoreRepository).save(any(Score.class));
+    verify(eventPublisher).publishEvent(CacheChangeEvent.ScoresChanged.wholeSeason(2025));
+    verify(eventPublisher).publishEvent(new CacheChangeEvent.PlayersChanged(Set.of("EU")));
+    verify(eventPublisher).publishEvent(new PrIngestionCompletedEvent(RUN_ID, "LOCAL_PR", 1));
   }
 
   @Test
@@ -114,6 +139,219 @@ class PrIngestionServiceRuntimePortsTest {
     assertThat(result.scoresWritten()).isZero();
     verify(scoreRepository, never()).findByPlayerAndSeason(any(Player.class), eq(2025));
     verify(scoreRepository, never()).save(any(Score.class));
+    verify(eventPublisher, never()).publishEvent(CacheChangeEvent.ScoresChanged.wholeSeason(2025));
+  }
+
+  @Test
+  void incrementalModeSkipsRowsUnchangedSinceThePreviousRun() {
+    properties.setBulkWrites(false);
+    properties.setIncremental(true);
+    Player existing = new Player();
+    existing.setId(PLAYER_ID);
+    existing.setNickname("pixie");
+    existing.setRegion(Player.Region.EU);
+    existing.setCurrentSeason(2025);
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.of(existing));
+
+    PrIngestionResult first = ingest(csv("pixie,EU,108022,1,2025-01-10"), false);
+    PrIngestionResult unchanged = ingest(csv("pixie,EU,108022,1,2025-01-11"), false);
+    PrIngestionResult changed = ingest(csv("pixie,EU,110000,1,2025-01-12"), false);
+
+    assertThat(first.snapshotsWritten()).isEqualTo(1);
+    assertThat(first.unchangedRows()).isZero();
+    assertThat(unchanged.status()).isEqualTo(IngestionRun.Status.SUCCESS);
+    assertThat(unchanged.snapshotsWritten()).isZero();
+    assertThat(unchanged.unchangedRows()).isEqualTo(1);
+    assertThat(changed.snapshotsWritten()).isEqualTo(1);
+    assertThat(changed.unchangedRows()).isZero();
+    verify(playerRepository, times(2)).findByNickname("pixie");
+    verify(prSnapshotRepository, times(2)).persist(any(PrSnapshot.class));
+  }
+
+  @Test
+  void sharedRunScopeLooksANicknameUpOnceAcrossRegions() {
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.empty());
+    when(playerRepository.save(any(Player.class)))
+        .thenAnswer(
+            invocation -> {
+              Player player = invocation.getArgument(0);
+              player.setId(PLAYER_ID);
+              return player;
+            });
+    PrIngestionRunScope runScope = new PrIngestionRunScope();
+
+    PrIngestionResult eu = ingest(csv("pixie,EU,108022,1,2025-01-10"), "EU", runScope);
+    PrIngestionResult global = ingest(csv("pixie,GLOBAL,108022,3,2025-01-10"), "GLOBAL", runScope);
+
+    assertThat(eu.playersCreated()).isEqualTo(1);
+    assertThat(global.playersCreated()).isZero();
+    assertThat(global.snapshotsWritten()).isEqualTo(1);
+    assertThat(runScope.size()).isEqualTo(1);
+    verify(playerRepository, times(1)).findByNickname("pixie");
+    verify(identityRepository, times(1)).saveAll(any());
+    verify(aliasRepository, times(1)).saveAll(any());
+  }
+
+  @Test
+  void checkpointedRunCommitsEachChunkWithItsOffset() {
+    properties.setChunkSize(1);
+    stubRunLookup();
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.of(player("pixie")));
+    when(playerRepository.findByNickname("bugha")).thenReturn(Optional.of(player("bugha")));
+
+    PrIngestionResult result =
+        service.ingestCheckpointed(
+            new StringReader(csv("pixie,EU,108022,1,2025-01-10", "bugha,EU,90000,2,2025-01-10")),
+            new PrIngestionConfig("LOCAL_PR", 2025, false));
+
+    assertThat(result.status()).isEqualTo(IngestionRun.Status.SUCCESS);
+    assertThat(result.snapshotsWritten()).isEqualTo(2);
+    assertThat(savedRun.getCommittedChunks()).isEqualTo(2);
+    assertThat(savedRun.getCommittedRows()).isEqualTo(2);
+    assertThat(savedRun.getTotalRowsWritten()).isEqualTo(2);
+    // run start, one per chunk, run end
+    verify(transactionManager, times(4)).commit(any());
+  }
+
+  @Test
+  void failedChunkLeavesTheRunFailedAtTheLastCommittedOffset() {
+    properties.setChunkSize(1);
+    stubRunLookup();
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.of(player("pixie")));
+    when(playerRepository.findByNickname("bugha")).thenThrow(new IllegalStateException("db down"));
+
+    assertThatThrownBy(
+            () ->
+                service.ingestCheckpointed(
+                    new StringReader(
+                        csv("pixie,EU,108022,1,2025-01-10", "bugha,EU,90000,2,2025-01-10")),
+                    new PrIngestionConfig("LOCAL_PR", 2025, false)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("db down");
+
+    assertThat(savedRun.getStatus()).isEqualTo(IngestionRun.Status.FAILED);
+    assertThat(savedRun.getCommittedChunks()).isEqualTo(1);
+    assertThat(savedRun.getCommittedRows()).isEqualTo(1);
+    assertThat(savedRun.getErrorMessage()).isEqualTo("chunk_failed:db down");
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  void resumeOnlyWritesRowsAfterTheCommittedOffset() {
+    savedRun = new IngestionRun();
+    savedRun.setId(RUN_ID);
+    savedRun.setSource("LOCAL_PR");
+    savedRun.setStatus(IngestionRun.Status.FAILED);
+    savedRun.setCommittedChunks(1);
+    savedRun.setCommittedRows(1);
+    savedRun.setTotalRowsWritten(1);
+    stubRunLookup();
+    when(playerRepository.findByNickname("bugha")).thenReturn(Optional.of(player("bugha")));
+
+    PrIngestionResult result =
+        service.resume(
+            RUN_ID,
+            new StringReader(csv("pixie,EU,108022,1,2025-01-10", "bugha,EU,90000,2,2025-01-10")),
+            new PrIngestionConfig("LOCAL_PR", 2025, false));
+
+    assertThat(result.status()).isEqualTo(IngestionRun.Status.SUCCESS);
+    assertThat(result.snapshotsWritten()).isEqualTo(1);
+    assertThat(savedRun.getCommittedRows()).isEqualTo(2);
+    assertThat(savedRun.getTotalRowsWritten()).isEqualTo(2);
+    assertThat(savedRun.getFinishedAt()).isNotNull();
+    verify(playerRepository, never()).findByNickname("pixie");
+    verify(prSnapshotRepository, times(1)).persist(any(PrSnapshot.class));
+  }
+
+  @Test
+  void resumeRejectsARunThatAlreadySucceeded() {
+    stubRunLookup();
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.of(player("pixie")));
+    PrIngestionConfig config = new PrIngestionConfig("LOCAL_PR", 2025, false);
+    service.ingestCheckpointed(new StringReader(csv("pixie,EU,108022,1,2025-01-10")), config);
+
+    assertThatThrownBy(
+            () ->
+                service.resume(
+                    RUN_ID, new StringReader(csv("pixie,EU,108022,1,2025-01-10")), config))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("SUCCESS");
+  }
+
+  @Test
+  void resumeRejectsACsvOtherThanTheOneTheRunStartedOn() {
+    properties.setChunkSize(1);
+    stubRunLookup();
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.of(player("pixie")));
+    PrIngestionConfig config = new PrIngestionConfig("LOCAL_PR", 2025, false);
+    service.ingestCheckpointed(
+        failingAfter(csv("pixie,EU,108022,1,2025-01-10") + "\n"), config, "started-on");
+    assertThat(savedRun.getStatus()).isEqualTo(IngestionRun.Status.FAILED);
+    assertThat(savedRun.getCsvSha256()).isEqualTo("started-on");
+
+    assertThatThrownBy(
+            () ->
+                service.resume(
+                    RUN_ID,
+                    new StringReader(csv("pixie,EU,108022,1,2025-01-10")),
+                    config,
+                    "cached-now"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("another CSV");
+    assertThat(savedRun.getStatus()).isEqualTo(IngestionRun.Status.FAILED);
+    verify(prSnapshotRepository, times(1)).persist(any(PrSnapshot.class));
+  }
+
+  @Test
+  void readFailureOutsideATransactionReportsTheChunksAlreadyWritten() {
+    properties.setChunkSize(1);
+    when(playerRepository.findByNickname("pixie")).thenReturn(Optional.of(player("pixie")));
+
+    PrIngestionResult result =
+        service.ingest(
+            failingAfter(csv("pixie,EU,108022,1,2025-01-10") + "\n"),
+            new PrIngestionConfig("LOCAL_PR", 2025, false));
+
+    assertThat(result.status()).isEqualTo(IngestionRun.Status.FAILED);
+    assertThat(result.snapshotsWritten()).isEqualTo(1);
+    assertThat(savedRun.getStatus()).isEqualTo(IngestionRun.Status.FAILED);
+    assertThat(savedRun.getTotalRowsWritten()).isEqualTo(1);
+    assertThat(savedRun.getErrorMessage()).isEqualTo("parse_failed:io_error");
+    verify(prSnapshotRepository).persist(any(PrSnapshot.class));
+  }
+
+  private void stubRunLookup() {
+    when(ingestionRunRepository.findById(RUN_ID))
+        .thenAnswer(invocation -> Optional.ofNullable(savedRun));
+  }
+
+  private Player player(String nickname) {
+    Player player = new Player();
+    player.setId(UUID.nameUUIDFromBytes(nickname.getBytes()));
+    player.setNickname(nickname);
+    player.setRegion(Player.Region.EU);
+    player.setCurrentSeason(2025);
+    return player;
+  }
+
+  /** Yields {@code text}, then fails like a dropped connection instead of reporting its end. */
+  static Reader failingAfter(String text) {
+    StringReader delegate = new StringReader(text);
+    return new Reader() {
+      @Override
+      public int read(char[] buffer, int offset, int length) throws IOException {
+        int read = delegate.read(buffer, offset, length);
+        if (read < 0) {
+          throw new IOException("connection reset");
+        }
+        return read;
+      }
+
+      @Override
+      public void close() {
+        delegate.close();
+      }
+    };
   }
 
   private String csv(String... rows) {
@@ -124,4 +362,10 @@ class PrIngestionServiceRuntimePortsTest {
     return service.ingest(
         new StringReader(csv), new PrIngestionConfig("LOCAL_PR", 2025, writeScores));
   }
+
+  private PrIngestionResult ingest(String csv, String region, PrIngestionRunScope runScope) {
+    return service.ingest(
+        new StringReader(csv),
+        new PrIngestionConfig("SCHEDULED_PR_" + region, 2025, false, false, runScope));
+  }
 }
@@ -14,6 +14,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fortnite.pronos.adapter.out.persistence.player.alias.PlayerAliasEntityMapper;
 import com.fortnite.pronos.adapter.out.persistence.player.alias.PlayerAliasRepositoryAdapter;
@@ -30,6 +32,8 @@ import com.fortnite.pronos.repository.PrSnapshotRepository;
 import com.fortnite.pronos.repository.ScoreRepository;
 import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionConfig;
 import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionResult;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngine;
+import com.fortnite.pronos.service.leaderboard.LeaderboardEngineProperties;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
@@ -37,6 +41,12 @@ import com.fortnite.pronos.service.ingestion.PrIngestionService.PrIngestionResul
 @Import({
   PrIngestionService.class,
   PrIngestionRowProcessor.class,
+  PrIngestionBulkRowProcessor.class,
+  PrIngestionProperties.class,
+  PrIngestionRunLedger.class,
+  PrRowFingerprintStore.class,
+  LeaderboardEngine.class,
+  LeaderboardEngineProperties.class,
   PrIngestionServiceTddTest.TestConfig.class,
   PlayerIdentityRepositoryAdapter.class,
   PlayerIdentityEntityMapper.class,
@@ -58,6 +68,7 @@ class PrIngestionServiceTddTest {
   @Autowired private PrSnapshotRepository prSnapshotRepository;
   @Autowired private ScoreRepository scoreRepository;
   @Autowired private IngestionRunRepository ingestionRunRepository;
+  @Autowired private PrIngestionProperties properties;
 
   @Test
   void ingestsValidCsvAndWritesSnapshotsAndScores() {
@@ -247,6 +258,62 @@ class PrIngestionServiceTddTest {
     assertThat(player.getUsername()).isEqualTo("player" + Math.abs(nickname.hashCode()));
   }
 
+  @Test
+  void accumulatesCountersAcrossChunksWhenStreaming() {
+    int defaultChunkSize = properties.getChunkSize();
+    properties.setChunkSize(2);
+    try {
+      String csv =
+          csv(
+              "pixie,EU,108022,1,2025-01-10",
+              "Muz,NAC,125360,2,2025-01-10",
+              "bad,EU,notanumber,1,2025-01-10",
+              "pixie,NAC,105000,3,2025-01-10",
+              "Ghost,GLOBAL,50000,3,2025-01-10");
+
+      PrIngestionResult result = ingestCsv(csv, true);
+
+      assertThat(result.status()).isEqualTo(IngestionRun.Status.PARTIAL);
+      assertThat(result.parseErrors()).isEqualTo(1);
+      assertThat(result.playersCreated()).isEqualTo(3);
+      assertThat(result.playersUpdated()).isEqualTo(1);
+      assertThat(result.snapshotsWritten()).isEqualTo(4);
+      assertThat(result.scoresWritten()).isEqualTo(4);
+      assertThat(playerRepository.findByNickname("pixie").orElseThrow().getRegion())
+          .isEqualTo(Player.Region.NAC);
+    } finally {
+      properties.setChunkSize(defaultChunkSize);
+    }
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void readFailureRollsBackTheChunksWrittenBeforeIt() {
+    int defaultChunkSize = properties.getChunkSize();
+    properties.setChunkSize(1);
+    try {
+      String csv = csv("pixie,EU,108022,1,2025-01-10", "Muz,NAC,125360,2,2025-01-10") + "\n";
+
+      PrIngestionResult result =
+          ingestionService.ingest(
+              PrIngestionServiceRuntimePortsTest.failingAfter(csv),
+              new PrIngestionConfig("LOCAL_PR", 2025, true));
+
+      IngestionRun run = ingestionRunRepository.findById(result.runId()).orElseThrow();
+      assertThat(result.status()).isEqualTo(IngestionRun.Status.FAILED);
+      assertThat(result.snapshotsWritten()).isZero();
+      assertThat(run.getStatus()).isEqualTo(IngestionRun.Status.FAILED);
+      assertThat(run.getTotalRowsWritten()).isZero();
+      assertThat(run.getErrorMessage()).isEqualTo("parse_failed:io_error");
+      assertThat(prSnapshotRepository.count()).isZero();
+      assertThat(scoreRepository.count()).isZero();
+      assertThat(playerRepository.findByNickname("pixie")).isEmpty();
+    } finally {
+      properties.setChunkSize(defaultChunkSize);
+      ingestionRunRepository.deleteAll();
+    }
+  }
+
   private String csv(String... rows) {
     return "nickname,region,points,rank,snapshot_date\n" + String.join("\n", rows);
   }
@@ -0,0 +1,346 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fortnite.pronos.domain.port.out.PlayerRepositoryPort;
+import com.fortnite.pronos.domain.port.out.TeamRepositoryPort;
+import com.fortnite.pronos.domain.port.out.UserRepositoryPort;
+import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+import com.fortnite.pronos.dto.PronostiqueurLeaderboardEntryDTO;
+import com.fortnite.pronos.model.Player;
+import com.fortnite.pronos.model.Score;
+import com.fortnite.pronos.model.Team;
+import com.fortnite.pronos.model.TeamPlayer;
+import com.fortnite.pronos.model.User;
+import com.fortnite.pronos.repository.ScoreRepository;
+import com.fortnite.pronos.repository.TeamRepository;
+import com.fortnite.pronos.service.ScoreService;
+import com.fortnite.pronos.service.cache.CacheChangeEvent;
+import com.fortnite.pronos.service.cache.LeaderboardCacheProperties;
+import com.fortnite.pronos.service.cache.LeaderboardCacheService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardEngine")
+class LeaderboardEngineTest {
+
+  private static final int SEASON = 2025;
+
+  @Mock private TeamRepository teamRepository;
+  @Mock private ScoreRepository scoreRepository;
+  @Mock private PlayerRepositoryPort playerRepositoryPort;
+  @Mock private TeamRepositoryPort teamRepositoryPort;
+  @Mock private UserRepositoryPort userRepositoryPort;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private LeaderboardEngine engine;
+  private Player alpha;
+  private Player beta;
+  private Team alphaTeam;
+  private Team betaTeam;
+
+  @BeforeEach
+  void setUp() {
+    engine = new LeaderboardEngine(Clock.systemUTC(), Duration.ofMinutes(10));
+    User owner = buildUser("owner");
+    alpha = buildPlayer("alpha");
+    beta = buildPlayer("beta");
+    alphaTeam = buildTeam("AlphaTeam", owner, alpha);
+    betaTeam = buildTeam("BetaTeam", buildUser("rival"), beta);
+  }
+
+  @Test
+  @DisplayName("loads a season once and serves later reads from memory")
+  void loadsASeasonOnce() {
+    stubSeason(Map.of(alpha.getId(), 100, beta.getId(), 200));
+
+    engine.season(SEASON, teamRepository, scoreRepository).teamEntries();
+    List<LeaderboardEntryDTO> entries =
+        engine.season(SEASON, teamRepository, scoreRepository).teamEntries();
+
+    assertThat(entries)
+        .extracting(LeaderboardEntryDTO::getTeamName)
+        .containsExactly("BetaTeam", "AlphaTeam");
+    verify(teamRepository).findBySeasonWithFetch(SEASON);
+    verify(scoreRepository).findSeasonPoints(SEASON);
+  }
+
+  @Test
+  @DisplayName("playerPointsChanged re-ranks teams, owners and players without reloading")
+  void playerPointsChangedReRanksWithoutReloading() {
+    stubSeason(Map.of(alpha.getId(), 100, beta.getId(), 200));
+    LeaderboardStandings standings = engine.season(SEASON, teamRepository, scoreRepository);
+    standings.rankPlayers(() -> List.of(alpha, beta));
+
+    engine.playerPointsChanged(SEASON, alpha.getId(), 150);
+    engine.playerPointsChanged(SEASON + 1, beta.getId(), 1_000);
+
+    List<LeaderboardEntryDTO> teams = standings.teamEntries();
+    assertThat(teams.get(0).getTeamName()).isEqualTo("AlphaTeam");
+    assertThat(teams.get(0).getTotalPoints()).isEqualTo(250);
+    assertThat(teams.get(0).getPlayers().get(0).getPoints()).isEqualTo(250);
+    assertThat(teams.get(1).getRank()).isEqualTo(2);
+    assertThat(standings.pronostiqueurEntries())
+        .extracting(PronostiqueurLeaderboardEntryDTO::getTotalPoints)
+        .containsExactly(250, 200);
+    assertThat(standings.playerEntries().get(0).getNickname()).isEqualTo("alpha");
+    verify(teamRepository, times(1)).findBySeasonWithFetch(SEASON);
+  }
+
+  @Test
+  @DisplayName("rosterChanged moves a player's points to its new team")
+  void rosterChangedMovesPoints() {
+    stubSeason(Map.of(alpha.getId(), 100, beta.getId(), 200));
+    LeaderboardStandings standings = engine.season(SEASON, teamRepository, scoreRepository);
+
+    engine.rosterChanged(alphaTeam.getId(), List.of(alpha), List.of(beta));
+    engine.rosterChanged(betaTeam.getId(), List.of(beta), List.of(alpha));
+
+    List<LeaderboardEntryDTO> teams = standings.teamEntries();
+    assertThat(teams.get(0).getTeamName()).isEqualTo("AlphaTeam");
+    assertThat(teams.get(0).getTotalPoints()).isEqualTo(200);
+    assertThat(teams.get(0).getPlayers())
+        .extracting(LeaderboardEntryDTO.PlayerInfo::getNickname)
+        .containsExactly("beta");
+    assertThat(teams.get(1).getTotalPoints()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("seasonScoresReplaced drops the season so the next read reloads it")
+  void seasonScoresReplacedForcesAReload() {
+    when(teamRepository.findBySeasonWithFetch(SEASON)).thenReturn(List.of(alphaTeam, betaTeam));
+    when(scoreRepository.findSeasonPoints(SEASON))
+        .thenReturn(SeasonPoints.of(Map.of(alpha.getId(), 100, beta.getId(), 200)))
+        .thenReturn(SeasonPoints.of(Map.of(alpha.getId(), 300, beta.getId(), 200)));
+    engine.season(SEASON, teamRepository, scoreRepository);
+
+    engine.seasonScoresReplaced(SEASON);
+    List<LeaderboardEntryDTO> entries =
+        engine.season(SEASON, teamRepository, scoreRepository).teamEntries();
+
+    assertThat(entries.get(0).getTeamName()).isEqualTo("AlphaTeam");
+    assertThat(entries.get(0).getTotalPoints()).isEqualTo(300);
+    verify(teamRepository, times(2)).findBySeasonWithFetch(SEASON);
+  }
+
+  @Test
+  @DisplayName("a whole-season ScoresChanged event drops the season, a per-player one does not")
+  void wholeSeasonEventForcesAReload() {
+    stubSeason(Map.of(alpha.getId(), 100));
+    engine.season(SEASON, teamRepository, scoreRepository);
+
+    engine.onScoresChanged(new CacheChangeEvent.ScoresChanged(SEASON, Set.of(alpha.getId())));
+    engine.season(SEASON, teamRepository, scoreRepository);
+    engine.onScoresChanged(CacheChangeEvent.ScoresChanged.wholeSeason(SEASON));
+    engine.season(SEASON, teamRepository, scoreRepository);
+
+    verify(teamRepository, times(2)).findBySeasonWithFetch(SEASON);
+  }
+
+  @Test
+  @DisplayName("a score created then deleted through ScoreService moves the season standings")
+  void scoreServiceWritesMoveTheSeasonStandings() {
+    stubSeason(Map.of(beta.getId(), 200));
+    alpha.setCurrentSeason(SEASON);
+    when(playerRepositoryPort.findById(alpha.getId())).thenReturn(Optional.of(alpha));
+    ScoreService scoreService =
+        new ScoreService(
+            scoreRepository,
+            playerRepositoryPort,
+            teamRepositoryPort,
+            userRepositoryPort,
+            engine,
+            eventPublisher);
+    engine.season(SEASON, teamRepository, scoreRepository);
+
+    scoreService.updatePlayerScores(alpha.getId(), 300, OffsetDateTime.now());
+
+    assertThat(engine.season(SEASON, teamRepository, scoreRepository).teamEntries())
+        .extracting(LeaderboardEntryDTO::getTeamName, LeaderboardEntryDTO::getTotalPoints)
+        .containsExactly(tuple("AlphaTeam", 300L), tuple("BetaTeam", 200L));
+
+    Score created = new Score();
+    created.setPlayer(alpha);
+    created.setSeason(SEASON);
+    created.setPoints(300);
+    when(scoreRepository.findByPlayerIdOrderByTimestampDesc(alpha.getId()))
+        .thenReturn(List.of(created));
+    scoreService.deleteScore(alpha.getId());
+
+    assertThat(engine.season(SEASON, teamRepository, scoreRepository).teamEntries())
+        .extracting(LeaderboardEntryDTO::getTeamName, LeaderboardEntryDTO::getTotalPoints)
+        .containsExactly(tuple("BetaTeam", 200L), tuple("AlphaTeam", 0L));
+    verify(teamRepository, times(1)).findBySeasonWithFetch(SEASON);
+  }
+
+  @Test
+  @DisplayName("standings older than the max age are rebuilt")
+  void staleStandingsAreRebuilt() {
+    engine = new LeaderboardEngine(Clock.systemUTC(), Duration.ZERO);
+    stubSeason(Map.of(alpha.getId(), 100));
+
+    engine.season(SEASON, teamRepository, scoreRepository);
+    engine.season(SEASON, teamRepository, scoreRepository);
+
+    verify(teamRepository, times(2)).findBySeasonWithFetch(SEASON);
+  }
+
+  @Test
+  @DisplayName("games without teams are not kept")
+  void emptyGamesAreNotKept() {
+    UUID gameId = UUID.randomUUID();
+    when(teamRepository.findByGameIdWithFetch(gameId)).thenReturn(List.of());
+
+    assertThat(engine.game(gameId, teamRepository, scoreRepository).isEmpty()).isTrue();
+    engine.game(gameId, teamRepository, scoreRepository);
+
+    verify(teamRepository, times(2)).findByGameIdWithFetch(gameId);
+  }
+
+  @Test
+  @DisplayName("a game is scored with its teams' season and its rostered players only")
+  void gameReadsOnlyItsPlayersPoints() {
+    UUID gameId = UUID.randomUUID();
+    stubGame(gameId);
+
+    LeaderboardStandings standings = engine.game(gameId, teamRepository, scoreRepository);
+
+    assertThat(standings.season()).isEqualTo(SEASON);
+    assertThat(standings.teamEntries())
+        .extracting(LeaderboardEntryDTO::getTotalPoints)
+        .containsExactly(200L, 100L);
+    verify(scoreRepository, never()).findSeasonPoints(anyInt());
+  }
+
+  @Test
+  @DisplayName("a roster change or team edit drops the standings of the team's game")
+  void teamChangesDropGameStandings() {
+    UUID gameId = UUID.randomUUID();
+    stubGame(gameId);
+    engine.game(gameId, teamRepository, scoreRepository);
+
+    engine.rosterChanged(alphaTeam.getId(), List.of(alpha), List.of());
+    engine.game(gameId, teamRepository, scoreRepository);
+    engine.onTeamsChanged(new CacheChangeEvent.TeamsChanged(SEASON, Set.of(betaTeam.getId())));
+    engine.game(gameId, teamRepository, scoreRepository);
+    engine.onTeamsChanged(new CacheChangeEvent.TeamsChanged(SEASON + 1, Set.of(UUID.randomUUID())));
+    engine.game(gameId, teamRepository, scoreRepository);
+
+    verify(teamRepository, times(3)).findByGameIdWithFetch(gameId);
+  }
+
+  @Test
+  @DisplayName("a trade applied through rosterChanged keeps the season standings loaded")
+  void tradeKeepsTheSeasonLoaded() {
+    stubSeason(Map.of(alpha.getId(), 100, beta.getId(), 200));
+    engine.season(SEASON, teamRepository, scoreRepository);
+
+    engine.rosterChanged(alphaTeam.getId(), List.of(alpha), List.of(beta));
+    engine.rosterChanged(betaTeam.getId(), List.of(beta), List.of(alpha));
+    engine.onTeamsChanged(
+        new CacheChangeEvent.TeamsChanged(
+            SEASON, Set.of(alphaTeam.getId(), betaTeam.getId()), true));
+    List<LeaderboardEntryDTO> teams =
+        engine.season(SEASON, teamRepository, scoreRepository).teamEntries();
+
+    assertThat(teams.get(0).getTeamName()).isEqualTo("AlphaTeam");
+    assertThat(teams.get(0).getTotalPoints()).isEqualTo(200);
+    verify(teamRepository, times(1)).findBySeasonWithFetch(SEASON);
+    verify(scoreRepository, times(1)).findSeasonPoints(SEASON);
+  }
+
+  @Test
+  @DisplayName("a team change drops its season, so the leaderboard evicted for it reloads fresh")
+  void teamChangeThenCacheInvalidationReadsTheNewTeam() {
+    Team gammaTeam = buildTeam("GammaTeam", buildUser("newcomer"), buildPlayer("gamma"));
+    when(teamRepository.findBySeasonWithFetch(SEASON))
+        .thenReturn(List.of(alphaTeam, betaTeam))
+        .thenReturn(List.of(alphaTeam, betaTeam, gammaTeam));
+    when(scoreRepository.findSeasonPoints(SEASON))
+        .thenReturn(SeasonPoints.of(Map.of(alpha.getId(), 100, beta.getId(), 200)));
+    LeaderboardCacheService cache =
+        new LeaderboardCacheService(new LeaderboardCacheProperties(), new SimpleMeterRegistry());
+    Supplier<List<LeaderboardEntryDTO>> loader =
+        () -> engine.season(SEASON, teamRepository, scoreRepository).teamEntries();
+    cache.get(LeaderboardCacheService.TEAMS, SEASON, loader);
+
+    // After the commit the engine hears the event first, then CacheInvalidator evicts.
+    engine.onTeamsChanged(new CacheChangeEvent.TeamsChanged(SEASON, Set.of(gammaTeam.getId())));
+    cache.invalidateSeason(SEASON);
+
+    assertThat(cache.get(LeaderboardCacheService.TEAMS, SEASON, loader))
+        .extracting(LeaderboardEntryDTO::getTeamName)
+        .containsExactly("BetaTeam", "AlphaTeam", "GammaTeam");
+    verify(teamRepository, times(2)).findBySeasonWithFetch(SEASON);
+  }
+
+  private void stubGame(UUID gameId) {
+    when(teamRepository.findByGameIdWithFetch(gameId)).thenReturn(List.of(alphaTeam, betaTeam));
+    when(scoreRepository.findSeasonPointsOf(SEASON, Set.of(alpha.getId(), beta.getId())))
+        .thenReturn(SeasonPoints.of(Map.of(alpha.getId(), 100, beta.getId(), 200)));
+  }
+
+  private void stubSeason(Map<UUID, Integer> points) {
+    when(teamRepository.findBySeasonWithFetch(SEASON)).thenReturn(List.of(alphaTeam, betaTeam));
+    when(scoreRepository.findSeasonPoints(SEASON)).thenReturn(SeasonPoints.of(points));
+  }
+
+  private User buildUser(String username) {
+    User user = new User();
+    user.setId(UUID.randomUUID());
+    user.setUsername(username);
+    user.setEmail(username + "@example.com");
+    return user;
+  }
+
+  private Player buildPlayer(String nickname) {
+    Player player = new Player();
+    player.setId(UUID.randomUUID());
+    player.setUsername(nickname);
+    player.setNickname(nickname);
+    player.setRegion(Player.Region.EU);
+    player.setTranche("1");
+    return player;
+  }
+
+  private Team buildTeam(String name, User owner, Player player) {
+    Team team = new Team();
+    team.setId(UUID.randomUUID());
+    team.setName(name);
+    team.setOwner(owner);
+    team.setSeason(SEASON);
+    TeamPlayer teamPlayer = new TeamPlayer();
+    teamPlayer.setPlayer(player);
+    teamPlayer.setPosition(1);
+    List<TeamPlayer> players = new ArrayList<>();
+    players.add(teamPlayer);
+    team.setPlayers(players);
+    return team;
+  }
+}
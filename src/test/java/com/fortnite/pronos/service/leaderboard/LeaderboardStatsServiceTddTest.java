@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -52,7 +53,7 @@ class LeaderboardStatsServiceTddTest {
 
     when(teamRepository.findBySeason(season)).thenReturn(List.of(teamOne, teamTwo));
     when(playerRepository.findAll()).thenReturn(List.of(playerOne, playerTwo, playerThree));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(points);
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(SeasonPoints.of(points));
 
     LeaderboardStatsDTO stats = leaderboardStatsService.getLeaderboardStats(season);
 
@@ -113,7 +114,7 @@ class LeaderboardStatsServiceTddTest {
   void getLeaderboardStatsDefaultDelegatesToSeason2025() {
     when(teamRepository.findBySeason(2025)).thenReturn(List.of());
     when(playerRepository.findAll()).thenReturn(List.of());
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(2025)).thenReturn(Map.of());
+    when(scoreRepository.findSeasonPoints(2025)).thenReturn(List.of());
 
     LeaderboardStatsDTO stats = leaderboardStatsService.getLeaderboardStats();
 
@@ -141,7 +142,7 @@ class LeaderboardStatsServiceTddTest {
 
     when(teamRepository.findBySeason(season)).thenReturn(List.of());
     when(playerRepository.findAll()).thenReturn(List.of(player));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(points);
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(SeasonPoints.of(points));
 
     LeaderboardStatsDTO stats = leaderboardStatsService.getLeaderboardStats(season);
 
@@ -159,7 +160,7 @@ class LeaderboardStatsServiceTddTest {
 
     when(teamRepository.findBySeason(season)).thenReturn(List.of(buildTeam()));
     when(playerRepository.findAll()).thenReturn(List.of(player));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(Map.of());
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(List.of());
 
     LeaderboardStatsDTO stats = leaderboardStatsService.getLeaderboardStats(season);
 
@@ -182,7 +183,8 @@ class LeaderboardStatsServiceTddTest {
     Map<UUID, Integer> points = new HashMap<>();
     points.put(playerEU.getId(), 50);
     points.put(playerNA.getId(), 80);
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(2025)).thenReturn(points);
+    when(scoreRepository.findSeasonPointsOf(2025, Set.of(playerEU.getId(), playerNA.getId())))
+        .thenReturn(SeasonPoints.of(points));
 
     LeaderboardStatsDTO stats = leaderboardStatsService.getLeaderboardStatsByGame(gameId);
 
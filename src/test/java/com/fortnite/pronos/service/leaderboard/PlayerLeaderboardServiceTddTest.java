@@ -3,6 +3,8 @@ package com.fortnite.pronos.service.leaderboard;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fortnite.pronos.dto.PlayerLeaderboardEntryDTO;
@@ -35,6 +38,10 @@ class PlayerLeaderboardServiceTddTest {
   @Mock private ScoreRepository scoreRepository;
   @Mock private TeamRepository teamRepository;
 
+  @Spy
+  private LeaderboardEngine leaderboardEngine =
+      new LeaderboardEngine(Clock.systemUTC(), Duration.ofMinutes(10));
+
   @InjectMocks private PlayerLeaderboardService playerLeaderboardService;
 
   @Test
@@ -53,7 +60,7 @@ class PlayerLeaderboardServiceTddTest {
 
     when(playerRepository.findAll()).thenReturn(List.of(low, high));
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(lowTeam, highTeam));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(points);
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(SeasonPoints.of(points));
 
     List<PlayerLeaderboardEntryDTO> entries = playerLeaderboardService.getPlayerLeaderboard(season);
 
@@ -85,7 +92,6 @@ class PlayerLeaderboardServiceTddTest {
 
     when(teamRepository.findByGameIdWithFetch(gameId)).thenReturn(List.of(team));
     when(playerRepository.findAllById(Set.of())).thenReturn(List.of());
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(2025)).thenReturn(Map.of());
 
     List<PlayerLeaderboardEntryDTO> entries =
         playerLeaderboardService.getPlayerLeaderboardByGame(gameId);
@@ -102,7 +108,7 @@ class PlayerLeaderboardServiceTddTest {
 
     when(playerRepository.findAll()).thenReturn(List.of(player));
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(team));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(Map.of());
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(List.of());
 
     List<PlayerLeaderboardEntryDTO> entries = playerLeaderboardService.getPlayerLeaderboard(season);
 
@@ -119,8 +125,8 @@ class PlayerLeaderboardServiceTddTest {
 
     when(playerRepository.findAll()).thenReturn(List.of(player));
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(team));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season))
-        .thenReturn(Map.of(player.getId(), 2000));
+    when(scoreRepository.findSeasonPoints(season))
+        .thenReturn(SeasonPoints.of(Map.of(player.getId(), 2000)));
 
     List<PlayerLeaderboardEntryDTO> entries = playerLeaderboardService.getPlayerLeaderboard(season);
 
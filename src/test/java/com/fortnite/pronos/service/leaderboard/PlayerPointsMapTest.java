@@ -0,0 +1,81 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fortnite.pronos.model.PlayerSeasonPoints;
+
+@DisplayName("PlayerPointsMap")
+class PlayerPointsMapTest {
+
+  private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+  @Test
+  @DisplayName("reads the loaded rows and 0 for players without points")
+  void readsLoadedRows() {
+    PlayerPointsMap points =
+        PlayerPointsMap.of(
+            List.of(new PlayerSeasonPoints(FIRST, 120), new PlayerSeasonPoints(SECOND, 80)));
+
+    assertThat(points.size()).isEqualTo(2);
+    assertThat(points.get(FIRST)).isEqualTo(120);
+    assertThat(points.get(SECOND)).isEqualTo(80);
+    assertThat(points.get(UUID.randomUUID())).isZero();
+  }
+
+  @Test
+  @DisplayName("gives players dense indices in insertion order")
+  void indicesAreDense() {
+    PlayerPointsMap points = new PlayerPointsMap(0);
+    points.add(SECOND, 5);
+    points.add(FIRST, 7);
+
+    assertThat(points.indexOf(SECOND)).isZero();
+    assertThat(points.indexOf(FIRST)).isEqualTo(1);
+    assertThat(points.pointsAt(1)).isEqualTo(7);
+    assertThat(points.indexOf(UUID.randomUUID())).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("add accumulates and inserts missing players")
+  void addAccumulates() {
+    PlayerPointsMap points = PlayerPointsMap.of(List.of(new PlayerSeasonPoints(FIRST, 100)));
+
+    points.add(FIRST, -30);
+    points.add(SECOND, 12);
+
+    assertThat(points.get(FIRST)).isEqualTo(70);
+    assertThat(points.get(SECOND)).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("matches a HashMap across growth")
+  void matchesHashMapAcrossGrowth() {
+    Random random = new Random(42);
+    List<UUID> players = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      players.add(new UUID(random.nextLong(), random.nextLong()));
+    }
+    PlayerPointsMap points = new PlayerPointsMap(4);
+    Map<UUID, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 20_000; i++) {
+      UUID player = players.get(random.nextInt(players.size()));
+      int delta = random.nextInt(200) - 50;
+      points.add(player, delta);
+      expected.merge(player, delta, Integer::sum);
+    }
+
+    assertThat(points.size()).isEqualTo(expected.size());
+    expected.forEach((player, total) -> assertThat(points.get(player)).isEqualTo(total));
+  }
+}
@@ -3,6 +3,8 @@ package com.fortnite.pronos.service.leaderboard;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fortnite.pronos.dto.PronostiqueurLeaderboardEntryDTO;
@@ -30,6 +33,10 @@ class PronostiqueurLeaderboardServiceTddTest {
   @Mock private TeamRepository teamRepository;
   @Mock private ScoreRepository scoreRepository;
 
+  @Spy
+  private LeaderboardEngine leaderboardEngine =
+      new LeaderboardEngine(Clock.systemUTC(), Duration.ofMinutes(10));
+
   @InjectMocks private PronostiqueurLeaderboardService pronostiqueurLeaderboardService;
 
   @Test
@@ -44,8 +51,8 @@ class PronostiqueurLeaderboardServiceTddTest {
     Team teamTwo = buildTeam("TeamTwo", owner, season, activePlayer(playerB, 1));
 
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(teamOne, teamTwo));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season))
-        .thenReturn(Map.of(playerA.getId(), 100, playerB.getId(), 200));
+    when(scoreRepository.findSeasonPoints(season))
+        .thenReturn(SeasonPoints.of(Map.of(playerA.getId(), 100, playerB.getId(), 200)));
 
     List<PronostiqueurLeaderboardEntryDTO> entries =
         pronostiqueurLeaderboardService.getPronostiqueurLeaderboard(season);
@@ -77,7 +84,7 @@ class PronostiqueurLeaderboardServiceTddTest {
     Team team = buildTeam("Team", owner, season, activePlayer(player, 1));
 
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(team));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(Map.of());
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(List.of());
 
     List<PronostiqueurLeaderboardEntryDTO> entries =
         pronostiqueurLeaderboardService.getPronostiqueurLeaderboard(season);
@@ -0,0 +1,122 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RankedStandings")
+class RankedStandingsTest {
+
+  private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+  private static final UUID THIRD = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+  @Test
+  @DisplayName("ranks by descending score and breaks ties by id")
+  void ranksByDescendingScoreThenId() {
+    RankedStandings standings = new RankedStandings();
+    standings.put(THIRD, 10);
+    standings.put(SECOND, 50);
+    standings.put(FIRST, 10);
+
+    assertThat(standings.ids()).containsExactly(SECOND, FIRST, THIRD);
+    assertThat(standings.rank(SECOND)).isEqualTo(1);
+    assertThat(standings.rank(FIRST)).isEqualTo(2);
+    assertThat(standings.rank(THIRD)).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("add moves an entry and ranks unknown ids first")
+  void addMovesAnEntry() {
+    RankedStandings standings = new RankedStandings();
+    standings.put(FIRST, 100);
+    standings.put(SECOND, 50);
+
+    standings.add(SECOND, 60);
+    standings.add(THIRD, 5);
+
+    assertThat(standings.ids()).containsExactly(SECOND, FIRST, THIRD);
+    assertThat(standings.score(SECOND)).isEqualTo(110);
+    assertThat(standings.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("remove forgets the entry")
+  void removeForgetsTheEntry() {
+    RankedStandings standings = new RankedStandings();
+    standings.put(FIRST, 100);
+    standings.put(SECOND, 50);
+
+    standings.remove(FIRST);
+
+    assertThat(standings.contains(FIRST)).isFalse();
+    assertThat(standings.rank(FIRST)).isZero();
+    assertThat(standings.score(FIRST)).isZero();
+    assertThat(standings.ids()).containsExactly(SECOND);
+  }
+
+  @Test
+  @DisplayName("ids(fromRank, limit) returns the requested window")
+  void idsReturnsTheRequestedWindow() {
+    RankedStandings standings = new RankedStandings();
+    standings.put(FIRST, 30);
+    standings.put(SECOND, 20);
+    standings.put(THIRD, 10);
+
+    assertThat(standings.ids(2, 5)).containsExactly(SECOND, THIRD);
+    assertThat(standings.ids(1, 1)).containsExactly(FIRST);
+    assertThat(standings.ids(4, 2)).isEmpty();
+    assertThat(standings.ids(1, 0)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("stays consistent with a full sort under random updates")
+  void staysConsistentWithAFullSort() {
+    Random random = new Random(42);
+    RankedStandings standings = new RankedStandings();
+    Map<UUID, Long> scores = new HashMap<>();
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      ids.add(new UUID(0L, i));
+    }
+
+    for (int step = 0; step < 5_000; step++) {
+      UUID id = ids.get(random.nextInt(ids.size()));
+      int operation = random.nextInt(10);
+      if (operation == 0) {
+        standings.remove(id);
+        scores.remove(id);
+      } else if (operation < 4) {
+        long score = random.nextInt(50);
+        standings.put(id, score);
+        scores.put(id, score);
+      } else {
+        long delta = random.nextInt(21) - 10L;
+        standings.add(id, delta);
+        scores.merge(id, delta, Long::sum);
+      }
+    }
+
+    List<UUID> expected = new ArrayList<>(scores.keySet());
+    expected.sort(
+        Comparator.comparing((UUID id) -> scores.get(id))
+            .reversed()
+            .thenComparing(Comparator.naturalOrder()));
+    assertThat(standings.ids()).containsExactlyElementsOf(expected);
+    for (int rank = 1; rank <= expected.size(); rank++) {
+      UUID id = expected.get(rank - 1);
+      assertThat(standings.rank(id)).isEqualTo(rank);
+      assertThat(standings.score(id)).isEqualTo(scores.get(id));
+    }
+    assertThat(standings.ids(11, 7)).containsExactlyElementsOf(expected.subList(10, 17));
+  }
+}
@@ -0,0 +1,19 @@
+package com.fortnite.pronos.service.leaderboard;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fortnite.pronos.model.PlayerSeasonPoints;
+
+/** Builds the rows {@code ScoreRepository.findSeasonPoints} returns from a points-by-player map. */
+final class SeasonPoints {
+
+  private SeasonPoints() {}
+
+  static List<PlayerSeasonPoints> of(Map<UUID, Integer> points) {
+    return points.entrySet().stream()
+        .map(entry -> new PlayerSeasonPoints(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+}
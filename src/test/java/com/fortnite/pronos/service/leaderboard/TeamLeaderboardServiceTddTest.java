@@ -5,12 +5,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fortnite.pronos.dto.LeaderboardEntryDTO;
+import com.fortnite.pronos.dto.leaderboard.LeaderboardPageDto;
 import com.fortnite.pronos.model.Player;
 import com.fortnite.pronos.model.Team;
 import com.fortnite.pronos.model.TeamPlayer;
@@ -38,6 +44,10 @@ class TeamLeaderboardServiceTddTest {
   @Mock private ScoreRepository scoreRepository;
   @Mock private PlayerRepository playerRepository;
 
+  @Spy
+  private LeaderboardEngine leaderboardEngine =
+      new LeaderboardEngine(Clock.systemUTC(), Duration.ofMinutes(10));
+
   @InjectMocks private TeamLeaderboardService teamLeaderboardService;
 
   @Test
@@ -56,7 +66,7 @@ class TeamLeaderboardServiceTddTest {
     points.put(highPlayer.getId(), 200);
 
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(lowTeam, highTeam));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(points);
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(SeasonPoints.of(points));
 
     List<LeaderboardEntryDTO> entries = teamLeaderboardService.getLeaderboard(season);
 
@@ -86,7 +96,7 @@ class TeamLeaderboardServiceTddTest {
     points.put(inactive.getId(), 999);
 
     when(teamRepository.findBySeasonWithFetch(season)).thenReturn(List.of(team));
-    when(scoreRepository.findAllBySeasonGroupedByPlayer(season)).thenReturn(points);
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(SeasonPoints.of(points));
 
     List<LeaderboardEntryDTO> entries = teamLeaderboardService.getLeaderboard(season);
 
@@ -106,6 +116,21 @@ class TeamLeaderboardServiceTddTest {
     assertThat(entries).isEmpty();
   }
 
+  @Test
+  @DisplayName("getLeaderboardByGame scores the game with the season its teams play")
+  void getLeaderboardByGameUsesTheTeamsSeason() {
+    UUID gameId = UUID.randomUUID();
+    Player player = buildPlayer("past", Player.Region.EU);
+    Team team = buildTeam("PastTeam", buildUser("owner-past"), 2023, activePlayer(player, 1));
+    when(teamRepository.findByGameIdWithFetch(gameId)).thenReturn(List.of(team));
+    when(scoreRepository.findSeasonPointsOf(2023, Set.of(player.getId())))
+        .thenReturn(SeasonPoints.of(Map.of(player.getId(), 42)));
+
+    List<LeaderboardEntryDTO> entries = teamLeaderboardService.getLeaderboardByGame(gameId);
+
+    assertThat(entries).extracting(LeaderboardEntryDTO::getTotalPoints).containsExactly(42L);
+  }
+
   @Test
   @DisplayName("getTeamRanking throws when team is missing")
   void getTeamRankingThrowsWhenTeamIsMissing() {
@@ -116,6 +141,72 @@ class TeamLeaderboardServiceTddTest {
         .isInstanceOf(RuntimeException.class);
   }
 
+  @Test
+  @DisplayName("getLeaderboardPage returns only the requested window with its ranks")
+  void getLeaderboardPageReturnsTheRequestedWindow() {
+    int season = 2025;
+    List<Team> teams = new ArrayList<>();
+    Map<UUID, Integer> points = new HashMap<>();
+    for (int i = 1; i <= 5; i++) {
+      Player player = buildPlayer("p" + i, Player.Region.EU);
+      teams.add(buildTeam("Team" + i, buildUser("owner" + i), season, activePlayer(player, 1)));
+      points.put(player.getId(), i * 100);
+    }
+    when(teamRepository.findBySeasonWithFetch(season)).thenReturn(teams);
+    when(scoreRepository.findSeasonPoints(season)).thenReturn(SeasonPoints.of(points));
+
+    LeaderboardPageDto page = teamLeaderboardService.getLeaderboardPage(season, null, 1, 2, false);
+
+    assertThat(page.getFromRank()).isEqualTo(2);
+    assertThat(page.getTotalEntries()).isEqualTo(5);
+    assertThat(page.getEntries())
+        .extracting(LeaderboardEntryDTO::getTeamName)
+        .containsExactly("Team4", "Team3");
+    assertThat(page.getEntries()).extracting(LeaderboardEntryDTO::getRank).containsExactly(2, 3);
+    assertThat(page.getEntries().get(0).getPlayers()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("getLeaderboardPage rejects a limit above the maximum page size")
+  void getLeaderboardPageRejectsOversizedLimit() {
+    assertThatThrownBy(
+            () ->
+                teamLeaderboardService.getLeaderboardPage(
+                    2025, null, 0, TeamLeaderboardService.MAX_PAGE_SIZE + 1, true))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("getTeamNeighbours and getTeamRanking read around the team's rank")
+  void getTeamNeighboursReadsAroundTheTeamRank() {
+    int season = 2025;
+    Player first = buildPlayer("first", Player.Region.EU);
+    Player second = buildPlayer("second", Player.Region.EU);
+    Player third = buildPlayer("third", Player.Region.EU);
+    Team firstTeam = buildTeam("First", buildUser("o1"), season, activePlayer(first, 1));
+    Team secondTeam = buildTeam("Second", buildUser("o2"), season, activePlayer(second, 1));
+    Team thirdTeam = buildTeam("Third", buildUser("o3"), season, activePlayer(third, 1));
+
+    doReturn(Optional.of(firstTeam)).when(teamRepository).findById(firstTeam.getId());
+    when(teamRepository.findBySeasonWithFetch(season))
+        .thenReturn(List.of(thirdTeam, firstTeam, secondTeam));
+    when(scoreRepository.findSeasonPoints(season))
+        .thenReturn(
+            SeasonPoints.of(Map.of(first.getId(), 300, second.getId(), 200, third.getId(), 100)));
+
+    LeaderboardPageDto page =
+        teamLeaderboardService.getTeamNeighbours(firstTeam.getId().toString(), 1, true);
+    LeaderboardEntryDTO ranking =
+        teamLeaderboardService.getTeamRanking(firstTeam.getId().toString());
+
+    assertThat(page.getFromRank()).isEqualTo(1);
+    assertThat(page.getEntries())
+        .extracting(LeaderboardEntryDTO::getTeamName)
+        .containsExactly("First", "Second");
+    assertThat(ranking.getRank()).isEqualTo(1);
+    assertThat(ranking.getTotalPoints()).isEqualTo(300);
+  }
+
   private User buildUser(String username) {
     User user = new User();
     user.setId(UUID.randomUUID());
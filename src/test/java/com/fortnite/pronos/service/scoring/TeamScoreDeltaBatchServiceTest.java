@@ -1,16 +1,20 @@
 package com.fortnite.pronos.service.scoring;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,23 +23,24 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fortnite.pronos.domain.game.model.DraftMode;
 import com.fortnite.pronos.domain.game.model.Game;
 import com.fortnite.pronos.domain.game.model.GameStatus;
-import com.fortnite.pronos.domain.game.model.PlayerRegion;
-import com.fortnite.pronos.domain.player.model.Player;
-import com.fortnite.pronos.domain.player.model.RankSnapshot;
+import com.fortnite.pronos.domain.player.model.PrWindow;
 import com.fortnite.pronos.domain.port.out.DraftPickRepositoryPort;
 import com.fortnite.pronos.domain.port.out.GameDomainRepositoryPort;
 import com.fortnite.pronos.domain.port.out.GameParticipantRepositoryPort;
-import com.fortnite.pronos.domain.port.out.PlayerDomainRepositoryPort;
 import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
 import com.fortnite.pronos.domain.port.out.TeamScoreDeltaRepositoryPort;
 import com.fortnite.pronos.domain.team.model.TeamScoreDelta;
 import com.fortnite.pronos.model.GameParticipant;
+import com.fortnite.pronos.service.snapshot.RankSnapshotStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TeamScoreDeltaBatchService")
@@ -44,10 +49,14 @@ class TeamScoreDeltaBatchServiceTest {
   @Mock private GameDomainRepositoryPort gameDomainRepository;
   @Mock private GameParticipantRepositoryPort participantRepository;
   @Mock private DraftPickRepositoryPort draftPickRepository;
-  @Mock private PlayerDomainRepositoryPort playerRepository;
   @Mock private RankSnapshotRepositoryPort snapshotRepository;
   @Mock private TeamScoreDeltaRepositoryPort deltaRepository;
+  @Mock private RankSnapshotStore snapshotStore;
+
+  @Captor private ArgumentCaptor<List<TeamScoreDelta>> deltasCaptor;
 
+  private TeamScoreDeltaBatchProperties properties;
+  private SimpleMeterRegistry meterRegistry;
   private TeamScoreDeltaBatchService service;
 
   private static final UUID GAME_ID = UUID.randomUUID();
@@ -67,10 +76,20 @@ class TeamScoreDeltaBatchServiceTest {
         new TeamScoreDeltaGameService(
             participantRepository,
             draftPickRepository,
-            playerRepository,
             snapshotRepository,
-            deltaRepository);
-    service = new TeamScoreDeltaBatchService(gameDomainRepository, processor);
+            deltaRepository,
+            snapshotStore);
+    properties = new TeamScoreDeltaBatchProperties();
+    meterRegistry = new SimpleMeterRegistry();
+    service =
+        new TeamScoreDeltaBatchService(
+            gameDomainRepository,
+            processor,
+            snapshotRepository,
+            properties,
+            meterRegistry,
+            snapshotStore,
+            0);
   }
 
   private Game buildGame() {
@@ -107,8 +126,10 @@ class TeamScoreDeltaBatchServiceTest {
     return p;
   }
 
-  private RankSnapshot buildSnapshot(UUID playerId, int prValue, LocalDate date) {
-    return RankSnapshot.restore(UUID.randomUUID(), playerId, "EU", 100, prValue, date);
+  private List<TeamScoreDelta> capturedDeltas(UUID gameId) {
+    verify(deltaRepository)
+        .replaceForGame(eq(gameId), eq(PERIOD_START), eq(PERIOD_END), deltasCaptor.capture());
+    return deltasCaptor.getValue();
   }
 
   @Nested
@@ -124,63 +145,70 @@ class TeamScoreDeltaBatchServiceTest {
       when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game));
       when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
           .thenReturn(List.of(participant));
-      when(draftPickRepository.findPlayerIdsByDraftIdAndParticipantId(DRAFT_ID, PARTICIPANT_ID))
-          .thenReturn(List.of(PLAYER_1, PLAYER_2));
-
-      when(playerRepository.findById(PLAYER_1))
-          .thenReturn(Optional.of(new Player("player1", "Player One", PlayerRegion.EU, "EU")));
-      when(playerRepository.findById(PLAYER_2))
-          .thenReturn(Optional.of(new Player("player2", "Player Two", PlayerRegion.EU, "EU")));
-
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_1, PERIOD_START))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_1, 1000, PERIOD_START)));
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_1, PERIOD_END))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_1, 1200, PERIOD_END)));
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_2, PERIOD_START))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_2, 2000, PERIOD_START)));
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_2, PERIOD_END))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_2, 2300, PERIOD_END)));
-
-      when(deltaRepository.findByGameIdAndParticipantId(GAME_ID, PARTICIPANT_ID))
-          .thenReturn(Optional.empty());
-      when(deltaRepository.save(any(TeamScoreDelta.class))).thenAnswer(inv -> inv.getArgument(0));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(DRAFT_ID))
+          .thenReturn(Map.of(PARTICIPANT_ID, List.of(PLAYER_1, PLAYER_2)));
+      when(draftPickRepository.findPlayerIdsPickedInAnyOf(Set.of(DRAFT_ID)))
+          .thenReturn(Set.of(PLAYER_1, PLAYER_2));
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1, PLAYER_2), PERIOD_START))
+          .thenReturn(Map.of(PLAYER_1, 1000, PLAYER_2, 2000));
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1, PLAYER_2), PERIOD_END))
+          .thenReturn(Map.of(PLAYER_1, 1200, PLAYER_2, 2300));
 
       service.computeAllGameDeltas();
 
-      ArgumentCaptor<TeamScoreDelta> captor = ArgumentCaptor.forClass(TeamScoreDelta.class);
-      verify(deltaRepository).save(captor.capture());
-      TeamScoreDelta saved = captor.getValue();
+      List<TeamScoreDelta> saved = capturedDeltas(GAME_ID);
+      assertThat(saved).hasSize(1);
       // deltaPr = (1200-1000) + (2300-2000) = 200 + 300 = 500
-      assertThat(saved.getDeltaPr()).isEqualTo(500);
-      assertThat(saved.getGameId()).isEqualTo(GAME_ID);
-      assertThat(saved.getParticipantId()).isEqualTo(PARTICIPANT_ID);
+      assertThat(saved.get(0).getDeltaPr()).isEqualTo(500);
+      assertThat(saved.get(0).getGameId()).isEqualTo(GAME_ID);
+      assertThat(saved.get(0).getParticipantId()).isEqualTo(PARTICIPANT_ID);
     }
 
     @Test
-    @DisplayName("whenPlayerNotFoundInRepository_contributionIsZero")
-    void whenPlayerNotFoundInRepository_contributionIsZero() {
+    @DisplayName("whenSnapshotStoreCoversThePeriod_readsItInsteadOfTheDatabase")
+    void whenSnapshotStoreCoversThePeriod_readsItInsteadOfTheDatabase() {
       Game game = buildGame();
-      GameParticipant participant = buildParticipant(PARTICIPANT_ID);
 
       when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game));
+      when(snapshotStore.covers(PERIOD_START)).thenReturn(true);
       when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
-          .thenReturn(List.of(participant));
-      when(draftPickRepository.findPlayerIdsByDraftIdAndParticipantId(DRAFT_ID, PARTICIPANT_ID))
-          .thenReturn(List.of(PLAYER_1));
+          .thenReturn(List.of(buildParticipant(PARTICIPANT_ID)));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(DRAFT_ID))
+          .thenReturn(Map.of(PARTICIPANT_ID, List.of(PLAYER_1)));
+      when(snapshotStore.prWindows(anyCollection(), eq(PERIOD_START), eq(PERIOD_END)))
+          .thenReturn(Optional.of(List.of(new PrWindow(PLAYER_1, 1000, 1400))));
+
+      service.computeAllGameDeltas();
 
-      // Player not found in repository — AC #2: contribution = 0
-      when(playerRepository.findById(PLAYER_1)).thenReturn(Optional.empty());
+      assertThat(capturedDeltas(GAME_ID).get(0).getDeltaPr()).isEqualTo(400);
+      verify(snapshotRepository, never()).findPrByPlayerOnOrBefore(anyCollection(), any());
+      verify(snapshotRepository, never()).findPrWindows(anyCollection(), any(), any());
+    }
 
-      when(deltaRepository.findByGameIdAndParticipantId(GAME_ID, PARTICIPANT_ID))
-          .thenReturn(Optional.empty());
-      when(deltaRepository.save(any(TeamScoreDelta.class))).thenAnswer(inv -> inv.getArgument(0));
+    @Test
+    @DisplayName("whenParticipantHasNoPicks_deltaIsZero")
+    void whenParticipantHasNoPicks_deltaIsZero() {
+      Game game = buildGame();
+      UUID otherParticipantId = UUID.randomUUID();
+
+      when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game));
+      when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
+          .thenReturn(
+              List.of(buildParticipant(PARTICIPANT_ID), buildParticipant(otherParticipantId)));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(DRAFT_ID))
+          .thenReturn(Map.of(PARTICIPANT_ID, List.of(PLAYER_1)));
+      when(draftPickRepository.findPlayerIdsPickedInAnyOf(Set.of(DRAFT_ID)))
+          .thenReturn(Set.of(PLAYER_1));
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1), PERIOD_START))
+          .thenReturn(Map.of(PLAYER_1, 1000));
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1), PERIOD_END))
+          .thenReturn(Map.of(PLAYER_1, 1250));
 
       service.computeAllGameDeltas();
 
-      ArgumentCaptor<TeamScoreDelta> captor = ArgumentCaptor.forClass(TeamScoreDelta.class);
-      verify(deltaRepository).save(captor.capture());
-      assertThat(captor.getValue().getDeltaPr()).isEqualTo(0);
-      verify(snapshotRepository, never()).findLatestOnOrBefore(any(), any());
+      assertThat(capturedDeltas(GAME_ID))
+          .extracting(TeamScoreDelta::getParticipantId, TeamScoreDelta::getDeltaPr)
+          .containsExactly(tuple(PARTICIPANT_ID, 250), tuple(otherParticipantId, 0));
     }
 
     @Test
@@ -192,70 +220,36 @@ class TeamScoreDeltaBatchServiceTest {
       when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game));
       when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
           .thenReturn(List.of(participant));
-      when(draftPickRepository.findPlayerIdsByDraftIdAndParticipantId(DRAFT_ID, PARTICIPANT_ID))
-          .thenReturn(List.of(PLAYER_1));
-
-      when(playerRepository.findById(PLAYER_1))
-          .thenReturn(Optional.of(new Player("player1", "Player One", PlayerRegion.EU, "EU")));
-
-      // No snapshot for start date → contribution = 0 (AC #2)
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_1, PERIOD_START))
-          .thenReturn(Optional.empty());
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_1, PERIOD_END))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_1, 1500, PERIOD_END)));
-
-      when(deltaRepository.findByGameIdAndParticipantId(GAME_ID, PARTICIPANT_ID))
-          .thenReturn(Optional.empty());
-      when(deltaRepository.save(any(TeamScoreDelta.class))).thenAnswer(inv -> inv.getArgument(0));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(DRAFT_ID))
+          .thenReturn(Map.of(PARTICIPANT_ID, List.of(PLAYER_1, PLAYER_2)));
+      when(draftPickRepository.findPlayerIdsPickedInAnyOf(Set.of(DRAFT_ID)))
+          .thenReturn(Set.of(PLAYER_1, PLAYER_2));
+      // PLAYER_2 has no snapshot on or before the start of the period (AC #2)
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1, PLAYER_2), PERIOD_START))
+          .thenReturn(Map.of(PLAYER_1, 1000));
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1, PLAYER_2), PERIOD_END))
+          .thenReturn(Map.of(PLAYER_1, 1100, PLAYER_2, 2000));
 
       service.computeAllGameDeltas();
 
-      ArgumentCaptor<TeamScoreDelta> captor = ArgumentCaptor.forClass(TeamScoreDelta.class);
-      verify(deltaRepository).save(captor.capture());
-      assertThat(captor.getValue().getDeltaPr()).isEqualTo(0);
+      assertThat(capturedDeltas(GAME_ID).get(0).getDeltaPr()).isEqualTo(100);
     }
 
     @Test
-    @DisplayName("whenDeltaAlreadyExists_updatesExistingEntry")
-    void whenDeltaAlreadyExists_updatesExistingEntry() {
+    @DisplayName("whenNoPlayerDrafted_skipsSnapshotQuery")
+    void whenNoPlayerDrafted_skipsSnapshotQuery() {
       Game game = buildGame();
-      GameParticipant participant = buildParticipant(PARTICIPANT_ID);
-      UUID existingDeltaId = UUID.randomUUID();
-      TeamScoreDelta existing =
-          TeamScoreDelta.restore(
-              existingDeltaId,
-              GAME_ID,
-              PARTICIPANT_ID,
-              PERIOD_START,
-              PERIOD_END,
-              100,
-              LocalDateTime.now());
 
       when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game));
       when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
-          .thenReturn(List.of(participant));
-      when(draftPickRepository.findPlayerIdsByDraftIdAndParticipantId(DRAFT_ID, PARTICIPANT_ID))
-          .thenReturn(List.of(PLAYER_1));
-
-      when(playerRepository.findById(PLAYER_1))
-          .thenReturn(Optional.of(new Player("player1", "Player One", PlayerRegion.EU, "EU")));
-
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_1, PERIOD_START))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_1, 1000, PERIOD_START)));
-      when(snapshotRepository.findLatestOnOrBefore(PLAYER_1, PERIOD_END))
-          .thenReturn(Optional.of(buildSnapshot(PLAYER_1, 1400, PERIOD_END)));
-
-      when(deltaRepository.findByGameIdAndParticipantId(GAME_ID, PARTICIPANT_ID))
-          .thenReturn(Optional.of(existing));
-      when(deltaRepository.save(any(TeamScoreDelta.class))).thenAnswer(inv -> inv.getArgument(0));
+          .thenReturn(List.of(buildParticipant(PARTICIPANT_ID)));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(DRAFT_ID)).thenReturn(Map.of());
 
       service.computeAllGameDeltas();
 
-      ArgumentCaptor<TeamScoreDelta> captor = ArgumentCaptor.forClass(TeamScoreDelta.class);
-      verify(deltaRepository).save(captor.capture());
-      TeamScoreDelta updated = captor.getValue();
-      assertThat(updated.getId()).isEqualTo(existingDeltaId);
-      assertThat(updated.getDeltaPr()).isEqualTo(400); // 1400 - 1000
+      assertThat(capturedDeltas(GAME_ID).get(0).getDeltaPr()).isZero();
+      verify(snapshotRepository, never()).findPrByPlayerOnOrBefore(anyCollection(), any());
+      verify(snapshotRepository, never()).findPrWindows(anyCollection(), any(), any());
     }
 
     @Test
@@ -266,7 +260,7 @@ class TeamScoreDeltaBatchServiceTest {
       service.computeAllGameDeltas();
 
       verify(participantRepository, never()).findByGameIdOrderByJoinedAt(any());
-      verify(deltaRepository, never()).save(any());
+      verify(deltaRepository, never()).replaceForGame(any(), any(), any(), any());
     }
 
     @Test
@@ -304,7 +298,7 @@ class TeamScoreDeltaBatchServiceTest {
       service.computeAllGameDeltas();
 
       verify(participantRepository, never()).findByGameIdOrderByJoinedAt(any());
-      verify(deltaRepository, never()).save(any());
+      verify(deltaRepository, never()).replaceForGame(any(), any(), any(), any());
     }
 
     @Test
@@ -342,24 +336,92 @@ class TeamScoreDeltaBatchServiceTest {
               PERIOD_START,
               PERIOD_END);
 
-      GameParticipant participant2 = buildParticipant(participant2Id);
-
       when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game1, game2));
 
       when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
           .thenThrow(new RuntimeException("DB error for game1"));
 
       when(participantRepository.findByGameIdOrderByJoinedAt(game2Id))
-          .thenReturn(List.of(participant2));
-      when(draftPickRepository.findPlayerIdsByDraftIdAndParticipantId(draft2Id, participant2Id))
-          .thenReturn(List.of());
-      when(deltaRepository.findByGameIdAndParticipantId(game2Id, participant2Id))
-          .thenReturn(Optional.empty());
-      when(deltaRepository.save(any(TeamScoreDelta.class))).thenAnswer(inv -> inv.getArgument(0));
+          .thenReturn(List.of(buildParticipant(participant2Id)));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(draft2Id)).thenReturn(Map.of());
+
+      service.computeAllGameDeltas();
+
+      assertThat(capturedDeltas(game2Id)).hasSize(1);
+      verify(deltaRepository, never()).replaceForGame(eq(GAME_ID), any(), any(), any());
+      assertThat(meterRegistry.get("scoring.team.delta.game.failures").counter().count())
+          .isEqualTo(1.0);
+      assertThat(
+              meterRegistry
+                  .get("scoring.team.delta.game")
+                  .tag("outcome", "success")
+                  .timer()
+                  .count())
+          .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("whenPreloadFails_gameQueriesItsOwnWindows")
+    void whenPreloadFails_gameQueriesItsOwnWindows() {
+      Game game = buildGame();
+
+      when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(game));
+      when(draftPickRepository.findPlayerIdsPickedInAnyOf(Set.of(DRAFT_ID)))
+          .thenReturn(Set.of(PLAYER_1));
+      when(snapshotRepository.findPrByPlayerOnOrBefore(Set.of(PLAYER_1), PERIOD_START))
+          .thenThrow(new IllegalStateException("timeout"));
+      when(participantRepository.findByGameIdOrderByJoinedAt(GAME_ID))
+          .thenReturn(List.of(buildParticipant(PARTICIPANT_ID)));
+      when(draftPickRepository.findPlayerIdsByParticipantForDraft(DRAFT_ID))
+          .thenReturn(Map.of(PARTICIPANT_ID, List.of(PLAYER_1)));
+      when(snapshotRepository.findPrWindows(Set.of(PLAYER_1), PERIOD_START, PERIOD_END))
+          .thenReturn(List.of(new PrWindow(PLAYER_1, 1000, 1300)));
 
       service.computeAllGameDeltas();
 
-      verify(deltaRepository, times(1)).save(any(TeamScoreDelta.class));
+      assertThat(capturedDeltas(GAME_ID).get(0).getDeltaPr()).isEqualTo(300);
+    }
+  }
+
+  @Nested
+  @DisplayName("concurrency")
+  class Concurrency {
+
+    @Test
+    @DisplayName("isCappedToTheShareOfTheConnectionPool")
+    void isCappedToTheShareOfTheConnectionPool() {
+      properties.setParallelism(8);
+      properties.setMaxPoolShare(0.25);
+      TeamScoreDeltaBatchService pooled =
+          new TeamScoreDeltaBatchService(
+              gameDomainRepository,
+              null,
+              snapshotRepository,
+              properties,
+              meterRegistry,
+              snapshotStore,
+              12);
+
+      assertThat(pooled.concurrency(100)).isEqualTo(3);
+      assertThat(pooled.concurrency(2)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("neverDropsBelowOneThread")
+    void neverDropsBelowOneThread() {
+      properties.setMaxPoolShare(0.01);
+      TeamScoreDeltaBatchService pooled =
+          new TeamScoreDeltaBatchService(
+              gameDomainRepository,
+              null,
+              snapshotRepository,
+              properties,
+              meterRegistry,
+              snapshotStore,
+              10);
+
+      assertThat(pooled.concurrency(5)).isEqualTo(1);
+      assertThat(service.concurrency(10)).isEqualTo(4);
     }
   }
 }
@@ -0,0 +1,168 @@
+package com.fortnite.pronos.service.scoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fortnite.pronos.domain.game.model.DraftMode;
+import com.fortnite.pronos.domain.game.model.Game;
+import com.fortnite.pronos.domain.game.model.GameStatus;
+import com.fortnite.pronos.domain.port.out.DraftPickRepositoryPort;
+import com.fortnite.pronos.domain.port.out.GameDomainRepositoryPort;
+import com.fortnite.pronos.service.snapshot.RankSnapshotsRecordedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamScoreDeltaIncrementalService")
+class TeamScoreDeltaIncrementalServiceTest {
+
+  private static final UUID RUN_ID = UUID.randomUUID();
+  private static final UUID PLAYER_ID = UUID.randomUUID();
+  private static final UUID DRAFT_ID = UUID.randomUUID();
+  private static final UUID OTHER_DRAFT_ID = UUID.randomUUID();
+  private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2025, 6, 10);
+  private static final RankSnapshotsRecordedEvent EVENT =
+      new RankSnapshotsRecordedEvent(RUN_ID, Set.of(PLAYER_ID), SNAPSHOT_DATE);
+
+  @Mock private DraftPickRepositoryPort draftPickRepository;
+  @Mock private GameDomainRepositoryPort gameDomainRepository;
+  @Mock private TeamScoreDeltaGameService gameProcessor;
+  @Mock private ExecutorService executor;
+
+  private TeamScoreDeltaBatchProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private TeamScoreDeltaIncrementalService service;
+
+  @BeforeEach
+  void setUp() {
+    properties = new TeamScoreDeltaBatchProperties();
+    meterRegistry = new SimpleMeterRegistry();
+    service =
+        new TeamScoreDeltaIncrementalService(
+            draftPickRepository,
+            gameDomainRepository,
+            gameProcessor,
+            properties,
+            meterRegistry,
+            executor);
+  }
+
+  @Test
+  @DisplayName("recomputes only the running games whose draft picked a changed player")
+  void updatesAffectedGamesOnly() {
+    Game affected = buildGame(DRAFT_ID, LocalDate.of(2025, 12, 31));
+    Game otherDraft = buildGame(OTHER_DRAFT_ID, LocalDate.of(2025, 12, 31));
+    Game endedBeforeTheRun = buildGame(DRAFT_ID, LocalDate.of(2025, 5, 31));
+    stubRun(Set.of(DRAFT_ID));
+    when(gameDomainRepository.findAllWithCompetitionPeriod())
+        .thenReturn(List.of(affected, otherDraft, endedBeforeTheRun));
+
+    int updated = service.updateGamesAffectedBy(EVENT);
+
+    assertThat(updated).isEqualTo(1);
+    verify(gameProcessor).computeDeltasForGame(eq(affected), any(LocalDate.class));
+    verify(gameProcessor, never()).computeDeltasForGame(eq(otherDraft), any(LocalDate.class));
+    verify(gameProcessor, never())
+        .computeDeltasForGame(eq(endedBeforeTheRun), any(LocalDate.class));
+  }
+
+  @Test
+  @DisplayName("a failing game is counted and the other games still run")
+  void failingGameDoesNotStopTheOthers() {
+    Game failing = buildGame(DRAFT_ID, LocalDate.of(2025, 12, 31));
+    Game healthy = buildGame(DRAFT_ID, LocalDate.of(2025, 12, 31));
+    stubRun(Set.of(DRAFT_ID));
+    when(gameDomainRepository.findAllWithCompetitionPeriod()).thenReturn(List.of(failing, healthy));
+    lenient()
+        .doThrow(new IllegalStateException("db down"))
+        .when(gameProcessor)
+        .computeDeltasForGame(eq(failing), any(LocalDate.class));
+
+    int updated = service.updateGamesAffectedBy(EVENT);
+
+    assertThat(updated).isEqualTo(1);
+    verify(gameProcessor).computeDeltasForGame(eq(healthy), any(LocalDate.class));
+    assertThat(meterRegistry.get("scoring.team.delta.incremental.failures").counter().count())
+        .isEqualTo(1.0);
+    assertThat(
+            meterRegistry
+                .get("scoring.team.delta.incremental")
+                .tag("outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("snapshots of undrafted players touch no game")
+  void runWithoutDraftedPlayersIsANoOp() {
+    stubRun(Set.of());
+
+    int updated = service.updateGamesAffectedBy(EVENT);
+
+    assertThat(updated).isZero();
+    verifyNoInteractions(gameDomainRepository, gameProcessor);
+  }
+
+  @Test
+  @DisplayName("hands the snapshots to the background thread, or ignores it when disabled")
+  void schedulesOnlyWhenEnabled() {
+    service.onRankSnapshotsRecorded(EVENT);
+    properties.setIncremental(false);
+    service.onRankSnapshotsRecorded(EVENT);
+
+    verify(executor).execute(any(Runnable.class));
+  }
+
+  private void stubRun(Set<UUID> draftIds) {
+    when(draftPickRepository.findDraftIdsPickingAnyOf(Set.of(PLAYER_ID))).thenReturn(draftIds);
+  }
+
+  private Game buildGame(UUID draftId, LocalDate competitionEnd) {
+    return Game.restore(
+        UUID.randomUUID(),
+        "Test Game",
+        null,
+        UUID.randomUUID(),
+        8,
+        GameStatus.ACTIVE,
+        LocalDateTime.now(),
+        null,
+        null,
+        "CODE1234",
+        null,
+        List.of(),
+        List.of(),
+        draftId,
+        false,
+        5,
+        null,
+        2025,
+        DraftMode.SNAKE,
+        5,
+        10,
+        true,
+        LocalDate.of(2025, 1, 1),
+        competitionEnd);
+  }
+}
@@ -0,0 +1,149 @@
+package com.fortnite.pronos.service.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fortnite.pronos.domain.player.model.PrWindow;
+import com.fortnite.pronos.domain.player.model.RankSnapshot;
+import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort;
+import com.fortnite.pronos.domain.port.out.RankSnapshotRepositoryPort.SnapshotRowSink;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankSnapshotStore")
+class RankSnapshotStoreTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+  private static final LocalDate FIRST_DAY = TODAY.minusDays(RankSnapshotStore.WINDOW_DAYS);
+  private static final UUID PLAYER_ID = UUID.randomUUID();
+  private static final UUID OTHER_PLAYER_ID = UUID.randomUUID();
+
+  @Mock private RankSnapshotRepositoryPort repository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private RankSnapshotStore store;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    store =
+        new RankSnapshotStore(
+            repository,
+            new RankSnapshotStoreProperties(),
+            meterRegistry,
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("is not ready and refuses reads before the first load")
+  void notReadyBeforeLoad() {
+    assertThat(store.isReady()).isFalse();
+    assertThat(store.covers(TODAY)).isFalse();
+    assertThat(store.prWindows(List.of(PLAYER_ID), TODAY, TODAY)).isEmpty();
+    assertThatThrownBy(() -> store.sparkline(PLAYER_ID, "EU", 14))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("slices the requested days of one series, oldest first")
+  void sparklineSlicesTheSeries() {
+    load(
+        Map.of(),
+        row(PLAYER_ID, "EU", TODAY.minusDays(20), 60, 900),
+        row(PLAYER_ID, "EU", TODAY.minusDays(3), 50, 1000),
+        row(PLAYER_ID, "EU", TODAY, 45, 1100),
+        row(PLAYER_ID, "NAC", TODAY.minusDays(1), 10, 1100));
+
+    RankSparkline sparkline = store.sparkline(PLAYER_ID, "EU", 14);
+
+    assertThat(sparkline.dates()).containsExactly(TODAY.minusDays(3), TODAY);
+    assertThat(sparkline.ranks()).containsExactly(50, 45);
+    assertThat(sparkline.prValues()).containsExactly(1000, 1100);
+    assertThat(store.sparkline(OTHER_PLAYER_ID, "EU", 14).isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("reads PR windows like the database: latest day, first region, carry-in")
+  void prWindowsMatchTheDatabase() {
+    load(
+        Map.of(OTHER_PLAYER_ID, 700),
+        row(PLAYER_ID, "NAC", TODAY.minusDays(10), 1, 1500),
+        row(PLAYER_ID, "EU", TODAY.minusDays(10), 2, 1400),
+        row(PLAYER_ID, "EU", TODAY.minusDays(30), 3, 1000),
+        row(OTHER_PLAYER_ID, "EU", TODAY.minusDays(5), 4, 800));
+
+    assertThat(store.covers(FIRST_DAY.minusDays(1))).isTrue();
+    assertThat(store.covers(FIRST_DAY.minusDays(2))).isFalse();
+    assertThat(
+            store.prWindows(
+                List.of(PLAYER_ID, OTHER_PLAYER_ID, UUID.randomUUID()), TODAY.minusDays(20), TODAY))
+        .contains(
+            List.of(new PrWindow(PLAYER_ID, 1000, 1400), new PrWindow(OTHER_PLAYER_ID, 700, 800)));
+  }
+
+  @Test
+  @DisplayName("appends recorded snapshots and folds the days leaving the window into the carry")
+  void recordAppendsAndMovesTheWindow() {
+    load(Map.of(), row(PLAYER_ID, "EU", FIRST_DAY, 9, 900));
+
+    store.record(new RankSnapshot(PLAYER_ID, "EU", 8, 950, TODAY.plusDays(1)));
+
+    assertThat(store.sparkline(PLAYER_ID, "EU", 0).ranks()).containsExactly(8);
+    assertThat(store.prWindows(List.of(PLAYER_ID), FIRST_DAY, TODAY.plusDays(1)))
+        .contains(List.of(new PrWindow(PLAYER_ID, 900, 950)));
+  }
+
+  @Test
+  @DisplayName("publishes the number of series it holds once its gauge is registered")
+  void gaugeCountsTheSeries() {
+    store.registerGauge();
+    load(
+        Map.of(),
+        row(PLAYER_ID, "EU", TODAY, 45, 1100),
+        row(PLAYER_ID, "NAC", TODAY, 10, 1100),
+        row(OTHER_PLAYER_ID, "EU", TODAY, 4, 800));
+
+    assertThat(meterRegistry.get("rank.snapshot.store.series").gauge().value()).isEqualTo(3.0);
+  }
+
+  private void load(Map<UUID, Integer> carry, Row... rows) {
+    when(repository.findPrByPlayerOnOrBefore(FIRST_DAY.minusDays(1))).thenReturn(carry);
+    doAnswer(
+            invocation -> {
+              SnapshotRowSink sink = invocation.getArgument(1);
+              for (Row row : rows) {
+                sink.accept(row.playerId(), row.region(), row.date(), row.rank(), row.pr());
+              }
+              return null;
+            })
+        .when(repository)
+        .forEachSince(eq(FIRST_DAY), any());
+    store.reload();
+    assertThat(store.isReady()).isTrue();
+  }
+
+  private static Row row(UUID playerId, String region, LocalDate date, int rank, int pr) {
+    return new Row(playerId, region, date, rank, pr);
+  }
+
+  private record Row(UUID playerId, String region, LocalDate date, int rank, int pr) {}
+}